@@ -127,6 +127,8 @@ public interface Configs {
   // Scheduler
   WorkspaceRetentionConfig getWorkspaceRetentionConfig();
 
+  JobHistoryRetentionConfig getJobHistoryRetentionConfig();
+
   String getSubmitterNumThreads();
 
   enum TrackingStrategy {
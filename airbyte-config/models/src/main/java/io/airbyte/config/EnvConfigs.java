@@ -15,6 +15,7 @@ import io.airbyte.config.storage.CloudStorageConfigs.GcsConfig;
 import io.airbyte.config.storage.CloudStorageConfigs.MinioConfig;
 import io.airbyte.config.storage.CloudStorageConfigs.S3Config;
 import java.nio.file.Path;
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
@@ -65,6 +66,11 @@ public class EnvConfigs implements Configs {
   private static final String MINIMUM_WORKSPACE_RETENTION_DAYS = "MINIMUM_WORKSPACE_RETENTION_DAYS";
   private static final String MAXIMUM_WORKSPACE_RETENTION_DAYS = "MAXIMUM_WORKSPACE_RETENTION_DAYS";
   private static final String MAXIMUM_WORKSPACE_SIZE_MB = "MAXIMUM_WORKSPACE_SIZE_MB";
+  public static final String JOB_HISTORY_MINIMUM_AGE_DAYS = "JOB_HISTORY_MINIMUM_AGE_DAYS";
+  public static final String JOB_HISTORY_MINIMUM_JOBS_PER_CONNECTION = "JOB_HISTORY_MINIMUM_JOBS_PER_CONNECTION";
+  public static final String JOB_HISTORY_EXCESSIVE_JOBS_PER_CONNECTION = "JOB_HISTORY_EXCESSIVE_JOBS_PER_CONNECTION";
+  public static final String JOB_HISTORY_PURGE_BATCH_SIZE = "JOB_HISTORY_PURGE_BATCH_SIZE";
+  public static final String JOB_HISTORY_PURGE_MAX_DURATION_MINUTES = "JOB_HISTORY_PURGE_MAX_DURATION_MINUTES";
   public static final String MAX_SPEC_WORKERS = "MAX_SPEC_WORKERS";
   public static final String MAX_CHECK_WORKERS = "MAX_CHECK_WORKERS";
   public static final String MAX_DISCOVER_WORKERS = "MAX_DISCOVER_WORKERS";
@@ -110,6 +116,11 @@ public class EnvConfigs implements Configs {
   private static final long DEFAULT_MINIMUM_WORKSPACE_RETENTION_DAYS = 1;
   private static final long DEFAULT_MAXIMUM_WORKSPACE_RETENTION_DAYS = 60;
   private static final long DEFAULT_MAXIMUM_WORKSPACE_SIZE_MB = 5000;
+  private static final long DEFAULT_JOB_HISTORY_MINIMUM_AGE_DAYS = 30;
+  private static final long DEFAULT_JOB_HISTORY_MINIMUM_JOBS_PER_CONNECTION = 10;
+  private static final long DEFAULT_JOB_HISTORY_EXCESSIVE_JOBS_PER_CONNECTION = 500;
+  private static final long DEFAULT_JOB_HISTORY_PURGE_BATCH_SIZE = 100;
+  private static final long DEFAULT_JOB_HISTORY_PURGE_MAX_DURATION_MINUTES = 10;
   private static final int DEFAULT_DATABASE_INTILIZATION_TIMEOUT_MS = 60 * 1000;
 
   public static final long DEFAULT_MAX_SPEC_WORKERS = 5;
@@ -537,6 +548,27 @@ public class EnvConfigs implements Configs {
     return new WorkspaceRetentionConfig(minDays, maxDays, maxSizeMb);
   }
 
+  @Override
+  public JobHistoryRetentionConfig getJobHistoryRetentionConfig() {
+    final long minimumAgeDays = getEnvOrDefault(JOB_HISTORY_MINIMUM_AGE_DAYS, DEFAULT_JOB_HISTORY_MINIMUM_AGE_DAYS);
+    final long minimumJobs = getEnvOrDefault(JOB_HISTORY_MINIMUM_JOBS_PER_CONNECTION, DEFAULT_JOB_HISTORY_MINIMUM_JOBS_PER_CONNECTION);
+    final long excessiveJobs = getEnvOrDefault(JOB_HISTORY_EXCESSIVE_JOBS_PER_CONNECTION, DEFAULT_JOB_HISTORY_EXCESSIVE_JOBS_PER_CONNECTION);
+    final long batchSize = getEnvOrDefault(JOB_HISTORY_PURGE_BATCH_SIZE, DEFAULT_JOB_HISTORY_PURGE_BATCH_SIZE);
+    final long maxDurationMinutes = getEnvOrDefault(JOB_HISTORY_PURGE_MAX_DURATION_MINUTES, DEFAULT_JOB_HISTORY_PURGE_MAX_DURATION_MINUTES);
+    Preconditions.checkArgument(minimumAgeDays > 0, "'%s' must be greater than 0", JOB_HISTORY_MINIMUM_AGE_DAYS);
+    Preconditions.checkArgument(minimumJobs >= 0, "'%s' cannot be negative", JOB_HISTORY_MINIMUM_JOBS_PER_CONNECTION);
+    Preconditions.checkArgument(excessiveJobs >= 0, "'%s' cannot be negative", JOB_HISTORY_EXCESSIVE_JOBS_PER_CONNECTION);
+    Preconditions.checkArgument(batchSize > 0, "'%s' must be greater than 0", JOB_HISTORY_PURGE_BATCH_SIZE);
+    Preconditions.checkArgument(maxDurationMinutes > 0, "'%s' must be greater than 0", JOB_HISTORY_PURGE_MAX_DURATION_MINUTES);
+
+    return new JobHistoryRetentionConfig(
+        Math.toIntExact(minimumAgeDays),
+        Math.toIntExact(minimumJobs),
+        Math.toIntExact(excessiveJobs),
+        Math.toIntExact(batchSize),
+        Duration.ofMinutes(maxDurationMinutes));
+  }
+
   @Override
   public String getSubmitterNumThreads() {
     return getEnvOrDefault(SUBMITTER_NUM_THREADS, "5");
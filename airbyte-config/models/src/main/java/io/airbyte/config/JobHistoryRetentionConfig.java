@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2021 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.config;
+
+import java.time.Duration;
+
+public class JobHistoryRetentionConfig {
+
+  private final int minimumAgeInDays;
+  private final int minimumJobsPerConnection;
+  private final int excessiveJobsPerConnection;
+  private final int purgeBatchSize;
+  private final Duration maxPurgeDuration;
+
+  /**
+   * @param minimumAgeInDays jobs younger than this are kept, unless their connection has an excessive
+   *        number of jobs
+   * @param minimumJobsPerConnection number of most recent jobs always kept for each connection
+   * @param excessiveJobsPerConnection number of jobs above which a connection is purged regardless of
+   *        the age of its jobs
+   * @param purgeBatchSize number of jobs deleted in each transaction
+   * @param maxPurgeDuration time after which a purge stops, leaving the remaining jobs to the next one
+   */
+  public JobHistoryRetentionConfig(final int minimumAgeInDays,
+                                   final int minimumJobsPerConnection,
+                                   final int excessiveJobsPerConnection,
+                                   final int purgeBatchSize,
+                                   final Duration maxPurgeDuration) {
+    this.minimumAgeInDays = minimumAgeInDays;
+    this.minimumJobsPerConnection = minimumJobsPerConnection;
+    this.excessiveJobsPerConnection = excessiveJobsPerConnection;
+    this.purgeBatchSize = purgeBatchSize;
+    this.maxPurgeDuration = maxPurgeDuration;
+  }
+
+  public int getMinimumAgeInDays() {
+    return minimumAgeInDays;
+  }
+
+  public int getMinimumJobsPerConnection() {
+    return minimumJobsPerConnection;
+  }
+
+  public int getExcessiveJobsPerConnection() {
+    return excessiveJobsPerConnection;
+  }
+
+  public int getPurgeBatchSize() {
+    return purgeBatchSize;
+  }
+
+  public Duration getMaxPurgeDuration() {
+    return maxPurgeDuration;
+  }
+
+}
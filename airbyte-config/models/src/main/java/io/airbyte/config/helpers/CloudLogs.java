@@ -38,6 +38,14 @@ public interface CloudLogs {
 
   void deleteLogs(LogConfigs configs, String logPath);
 
+  /**
+   * Delete all the objects at each of the given paths. Clients that support deleting several objects
+   * in one request delete them in batches instead of one path at a time.
+   */
+  default void deleteLogs(final LogConfigs configs, final List<String> logPaths) {
+    logPaths.forEach(logPath -> deleteLogs(configs, logPath));
+  }
+
   static CloudLogs createCloudLogClient(final LogConfigs configs) {
     switch (configs.getStorageConfigs().getType()) {
       case S3 -> {
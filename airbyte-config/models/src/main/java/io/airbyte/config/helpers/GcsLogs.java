@@ -7,6 +7,7 @@ package io.airbyte.config.helpers;
 import com.google.api.gax.paging.Page;
 import com.google.cloud.storage.Blob;
 import com.google.cloud.storage.Blob.BlobSourceOption;
+import com.google.cloud.storage.BlobId;
 import com.google.cloud.storage.Storage;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.Lists;
@@ -25,6 +26,9 @@ public class GcsLogs implements CloudLogs {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(GcsLogs.class);
 
+  // limit of the GCS batch API
+  private static final int MAX_BLOBS_PER_DELETE = 100;
+
   private static Storage GCS;
   private final Supplier<Storage> gcsClientFactory;
 
@@ -118,6 +122,29 @@ public class GcsLogs implements CloudLogs {
     LOGGER.debug("Finished all deletes.");
   }
 
+  @Override
+  public void deleteLogs(final LogConfigs configs, final List<String> logPaths) {
+    LOGGER.debug("Deleting logs from {} GCS paths", logPaths.size());
+    final Storage gcsClient = getOrCreateGcsClient();
+
+    final String bucketName = configs.getStorageConfigs().getGcsConfig().getBucketName();
+    final List<BlobId> blobIds = new ArrayList<>();
+    for (final String logPath : logPaths) {
+      for (final Blob blob : gcsClient.list(bucketName, Storage.BlobListOption.prefix(logPath)).iterateAll()) {
+        blobIds.add(blob.getBlobId());
+      }
+    }
+
+    for (final List<BlobId> batch : Lists.partition(blobIds, MAX_BLOBS_PER_DELETE)) {
+      final List<Boolean> deleted = gcsClient.delete(batch);
+      final long failed = deleted.stream().filter(isDeleted -> !isDeleted).count();
+      if (failed > 0) {
+        throw new RuntimeException(String.format("Failed to delete %s of %s objects from GCS", failed, batch.size()));
+      }
+    }
+    LOGGER.debug("{} objects are deleted!", blobIds.size());
+  }
+
   private Storage getOrCreateGcsClient() {
     if (GCS == null) {
       GCS = gcsClientFactory.get();
@@ -13,6 +13,7 @@ import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Collections;
 import java.util.List;
+import java.util.stream.Collectors;
 import org.apache.commons.lang3.NotImplementedException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -128,6 +129,26 @@ public class LogClientSingleton {
     logClient.deleteLogs(logConfigs, cloudLogPath);
   }
 
+  /**
+   * Delete the cloud logs of the given job log paths, in as few requests as the storage allows. Local
+   * logs are not deleted here, they are cleaned up with the rest of the workspace.
+   */
+  public void deleteJobLogs(final WorkerEnvironment workerEnvironment, final LogConfigs logConfigs, final List<Path> logPaths) {
+    if (shouldUseLocalLogs(workerEnvironment)) {
+      return;
+    }
+
+    final List<String> cloudLogPaths = logPaths.stream()
+        .filter(logPath -> logPath != null && !logPath.equals(Path.of("")))
+        .map(logPath -> JOB_LOGGING_CLOUD_PREFIX + logPath)
+        .collect(Collectors.toList());
+    if (cloudLogPaths.isEmpty()) {
+      return;
+    }
+    createCloudClientIfNull(logConfigs);
+    logClient.deleteLogs(logConfigs, cloudLogPaths);
+  }
+
   public void setJobMdc(final WorkerEnvironment workerEnvironment, final LogConfigs logConfigs, final Path path) {
     if (shouldUseLocalLogs(workerEnvironment)) {
       LOGGER.debug("Setting docker job mdc");
@@ -19,12 +19,12 @@ import java.io.InputStreamReader;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Supplier;
-import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.model.Delete;
 import software.amazon.awssdk.services.s3.model.DeleteObjectsRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsResponse;
 import software.amazon.awssdk.services.s3.model.GetObjectRequest;
 import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
 import software.amazon.awssdk.services.s3.model.ObjectIdentifier;
@@ -33,6 +33,9 @@ public class S3Logs implements CloudLogs {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(S3Logs.class);
 
+  // limit of the S3 DeleteObjects API
+  private static final int MAX_KEYS_PER_DELETE = 1000;
+
   private static S3Client S3;
 
   private final Supplier<S3Client> s3ClientFactory;
@@ -124,23 +127,40 @@ public class S3Logs implements CloudLogs {
 
   @Override
   public void deleteLogs(final LogConfigs configs, final String logPath) {
-    LOGGER.debug("Deleting logs from S3 path: {}", logPath);
-    final S3Client s3Client = getOrCreateS3Client();
+    deleteLogs(configs, List.of(logPath));
+  }
+
+  @Override
+  public void deleteLogs(final LogConfigs configs, final List<String> logPaths) {
+    deleteLogs(getOrCreateS3Client(), configs, logPaths);
+  }
+
+  @VisibleForTesting
+  static void deleteLogs(final S3Client s3Client, final LogConfigs configs, final List<String> logPaths) {
+    LOGGER.debug("Deleting logs from {} S3 paths", logPaths.size());
 
     final var s3Bucket = getBucketName(configs.getStorageConfigs());
-    final var keys = getAscendingObjectKeys(s3Client, logPath, s3Bucket)
-        .stream().map(key -> ObjectIdentifier.builder().key(key).build())
-        .collect(Collectors.toList());
-    final Delete del = Delete.builder()
-        .objects(keys)
-        .build();
-    final DeleteObjectsRequest multiObjectDeleteRequest = DeleteObjectsRequest.builder()
-        .bucket(s3Bucket)
-        .delete(del)
-        .build();
+    final var keys = new ArrayList<ObjectIdentifier>();
+    for (final String logPath : logPaths) {
+      getAscendingObjectKeys(s3Client, logPath, s3Bucket).forEach(key -> keys.add(ObjectIdentifier.builder().key(key).build()));
+    }
 
-    s3Client.deleteObjects(multiObjectDeleteRequest);
-    LOGGER.debug("Multiple objects are deleted!");
+    for (final List<ObjectIdentifier> batch : Lists.partition(keys, MAX_KEYS_PER_DELETE)) {
+      final Delete del = Delete.builder()
+          .objects(batch)
+          .build();
+      final DeleteObjectsRequest multiObjectDeleteRequest = DeleteObjectsRequest.builder()
+          .bucket(s3Bucket)
+          .delete(del)
+          .build();
+
+      final DeleteObjectsResponse response = s3Client.deleteObjects(multiObjectDeleteRequest);
+      if (!response.errors().isEmpty()) {
+        throw new RuntimeException(String.format("Failed to delete %s of %s objects from S3, first error: %s",
+            response.errors().size(), batch.size(), response.errors().get(0).message()));
+      }
+    }
+    LOGGER.debug("{} objects are deleted!", keys.size());
   }
 
   private S3Client getOrCreateS3Client() {
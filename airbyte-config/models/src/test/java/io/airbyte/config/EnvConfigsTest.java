@@ -8,6 +8,7 @@ import static org.mockito.Mockito.when;
 
 import io.airbyte.commons.version.AirbyteVersion;
 import java.nio.file.Paths;
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
@@ -186,6 +187,28 @@ class EnvConfigsTest {
         new TolerationPOJO("airbyte-server", "NoSchedule", "true", "Equals")));
   }
 
+  @Test
+  void testJobHistoryRetentionConfig() {
+    final JobHistoryRetentionConfig defaults = config.getJobHistoryRetentionConfig();
+    Assertions.assertEquals(30, defaults.getMinimumAgeInDays());
+    Assertions.assertEquals(100, defaults.getPurgeBatchSize());
+    Assertions.assertEquals(Duration.ofMinutes(10), defaults.getMaxPurgeDuration());
+
+    when(function.apply(EnvConfigs.JOB_HISTORY_PURGE_BATCH_SIZE)).thenReturn("10");
+    Assertions.assertEquals(10, config.getJobHistoryRetentionConfig().getPurgeBatchSize());
+
+    when(function.apply(EnvConfigs.JOB_HISTORY_PURGE_BATCH_SIZE)).thenReturn("0");
+    Assertions.assertThrows(IllegalArgumentException.class, () -> config.getJobHistoryRetentionConfig());
+
+    when(function.apply(EnvConfigs.JOB_HISTORY_PURGE_BATCH_SIZE)).thenReturn(null);
+    when(function.apply(EnvConfigs.JOB_HISTORY_MINIMUM_AGE_DAYS)).thenReturn("0");
+    Assertions.assertThrows(IllegalArgumentException.class, () -> config.getJobHistoryRetentionConfig());
+
+    when(function.apply(EnvConfigs.JOB_HISTORY_MINIMUM_AGE_DAYS)).thenReturn(null);
+    when(function.apply(EnvConfigs.JOB_HISTORY_MINIMUM_JOBS_PER_CONNECTION)).thenReturn("-1");
+    Assertions.assertThrows(IllegalArgumentException.class, () -> config.getJobHistoryRetentionConfig());
+  }
+
   @Test
   void testWorkerPodNodeSelectors() {
     when(function.apply(EnvConfigs.JOB_POD_NODE_SELECTORS)).thenReturn(null);
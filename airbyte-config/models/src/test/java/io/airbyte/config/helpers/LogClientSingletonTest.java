@@ -17,6 +17,7 @@ import io.airbyte.config.Configs.WorkerEnvironment;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Collections;
+import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -54,4 +55,17 @@ class LogClientSingletonTest {
     verifyNoInteractions(mockLogClient);
   }
 
+  @Test
+  void testDeleteJobLogsK8s() {
+    LogClientSingleton.getInstance().deleteJobLogs(WorkerEnvironment.KUBERNETES, configs.getLogConfigs(),
+        List.of(Path.of("/job/1/0/logs.log"), Path.of(""), Path.of("/job/2/0/logs.log")));
+    verify(mockLogClient).deleteLogs(any(), eq(List.of("job-logging/job/1/0/logs.log", "job-logging/job/2/0/logs.log")));
+  }
+
+  @Test
+  void testDeleteJobLogsDocker() {
+    LogClientSingleton.getInstance().deleteJobLogs(WorkerEnvironment.DOCKER, configs.getLogConfigs(), List.of(Path.of("/job/1/0/logs.log")));
+    verifyNoInteractions(mockLogClient);
+  }
+
 }
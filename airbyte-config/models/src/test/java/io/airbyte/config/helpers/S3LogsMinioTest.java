@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2021 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.config.helpers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import io.airbyte.config.storage.CloudStorageConfigs;
+import io.airbyte.config.storage.CloudStorageConfigs.MinioConfig;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.wait.strategy.Wait;
+import org.testcontainers.utility.DockerImageName;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3Configuration;
+import software.amazon.awssdk.services.s3.model.CreateBucketRequest;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.S3Object;
+
+/**
+ * Runs the S3 log client against a local Minio container, which implements the same API.
+ */
+public class S3LogsMinioTest {
+
+  // pinned, so that a new release does not change the server the test runs against
+  private static final String DOCKER_IMAGE_NAME = "minio/minio:RELEASE.2021-10-13T00-23-17Z";
+  private static final String BUCKET_NAME = "airbyte-job-logs";
+  private static final String ACCESS_KEY = "minio";
+  private static final String SECRET_KEY = "minio123";
+  private static final int MINIO_PORT = 9000;
+
+  private static GenericContainer<?> minio;
+  private static S3Client s3Client;
+  private static LogConfigs logConfigs;
+
+  @BeforeAll
+  public static void setup() {
+    minio = new GenericContainer<>(DockerImageName.parse(DOCKER_IMAGE_NAME))
+        .withEnv("MINIO_ROOT_USER", ACCESS_KEY)
+        .withEnv("MINIO_ROOT_PASSWORD", SECRET_KEY)
+        .withCommand("server", "/storage")
+        .withExposedPorts(MINIO_PORT)
+        .waitingFor(Wait.forHttp("/minio/health/live"));
+    minio.start();
+
+    final String endpoint = String.format("http://%s:%s", minio.getHost(), minio.getMappedPort(MINIO_PORT));
+    logConfigs = new LogConfigs(CloudStorageConfigs.minio(new MinioConfig(BUCKET_NAME, ACCESS_KEY, SECRET_KEY, endpoint)));
+    s3Client = S3Client.builder()
+        .endpointOverride(URI.create(endpoint))
+        .region(Region.US_EAST_1)
+        .credentialsProvider(StaticCredentialsProvider.create(AwsBasicCredentials.create(ACCESS_KEY, SECRET_KEY)))
+        .serviceConfiguration(S3Configuration.builder().pathStyleAccessEnabled(true).build())
+        .build();
+    s3Client.createBucket(CreateBucketRequest.builder().bucket(BUCKET_NAME).build());
+  }
+
+  @AfterAll
+  public static void tearDown() {
+    s3Client.close();
+    minio.close();
+  }
+
+  /**
+   * Writes more objects than fit in one delete request, to check that they are all deleted, and that
+   * the objects of the other paths are left alone.
+   */
+  @Test
+  public void testDeleteLogsInBatches() {
+    final List<String> deletedPaths = List.of("job-logging/workspace/1/0/logs.log", "job-logging/workspace/2/0/logs.log");
+    final String keptPath = "job-logging/workspace/3/0/logs.log";
+    for (int i = 0; i < 600; i++) {
+      putLogFile(deletedPaths.get(0), i);
+      putLogFile(deletedPaths.get(1), i);
+    }
+    putLogFile(keptPath, 0);
+
+    S3Logs.deleteLogs(s3Client, logConfigs, deletedPaths);
+
+    assertEquals(Set.of(), listKeys(deletedPaths.get(0)));
+    assertEquals(Set.of(), listKeys(deletedPaths.get(1)));
+    assertEquals(Set.of(keptPath + "/0-file"), listKeys(keptPath));
+  }
+
+  @Test
+  public void testDeleteLogsWithoutObjects() {
+    // a single delete request with no keys is rejected by S3, so nothing should be sent.
+    S3Logs.deleteLogs(s3Client, logConfigs, List.of("job-logging/workspace/4/0/logs.log"));
+
+    assertEquals(Set.of(), listKeys("job-logging/workspace/4/0/logs.log"));
+  }
+
+  private static void putLogFile(final String logPath, final int index) {
+    final PutObjectRequest objectRequest = PutObjectRequest.builder()
+        .bucket(BUCKET_NAME)
+        .key(logPath + "/" + index + "-file")
+        .build();
+    s3Client.putObject(objectRequest, RequestBody.fromBytes(("Line " + index + "\n").getBytes(StandardCharsets.UTF_8)));
+  }
+
+  private static Set<String> listKeys(final String logPath) {
+    final var listObjReq = ListObjectsV2Request.builder().bucket(BUCKET_NAME).prefix(logPath).build();
+    return s3Client.listObjectsV2Paginator(listObjReq).contents().stream()
+        .map(S3Object::key)
+        .collect(Collectors.toSet());
+  }
+
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2021 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.db.instance.jobs.migrations;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+import org.jooq.DSLContext;
+import org.jooq.impl.DSL;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Index the jobs and attempts tables on the columns the job persistence filters and sorts by: the
+ * jobs of a connection, the jobs in a given status (e.g. the pending queue), and the attempts that
+ * ended after a given time.
+ * <p>
+ * The indexes are built with CREATE INDEX CONCURRENTLY, which does not block writes to the tables
+ * while a large jobs history is indexed. It cannot run in a transaction, so neither does this
+ * migration.
+ */
+public class V0_34_0_001__Add_job_and_attempt_indexes extends BaseJavaMigration {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(V0_34_0_001__Add_job_and_attempt_indexes.class);
+
+  @Override
+  public void migrate(final Context context) throws Exception {
+    LOGGER.info("Running migration: {}", this.getClass().getSimpleName());
+
+    final DSLContext ctx = DSL.using(context.getConnection());
+    createIndexConcurrently(ctx, "jobs_scope_config_type_created_at_idx", "jobs", "scope, config_type, created_at");
+    createIndexConcurrently(ctx, "jobs_status_created_at_idx", "jobs", "status, created_at");
+    createIndexConcurrently(ctx, "attempts_ended_at_idx", "attempts", "ended_at");
+  }
+
+  @Override
+  public boolean canExecuteInTransaction() {
+    return false;
+  }
+
+  private static void createIndexConcurrently(final DSLContext ctx, final String indexName, final String tableName, final String columns) {
+    // a concurrent build that failed, e.g. in an interrupted run of this migration, leaves an invalid
+    // index behind that IF NOT EXISTS would keep.
+    final boolean isInvalid = ctx.fetchExists(ctx.selectOne()
+        .from("pg_class")
+        .join("pg_index").on("pg_index.indexrelid = pg_class.oid")
+        .where("pg_class.relname = ?", indexName)
+        .and("NOT pg_index.indisvalid"));
+    if (isInvalid) {
+      LOGGER.warn("Dropping the invalid index {} before building it again", indexName);
+      ctx.execute(String.format("DROP INDEX CONCURRENTLY IF EXISTS %s", indexName));
+    }
+    ctx.execute(String.format("CREATE INDEX CONCURRENTLY IF NOT EXISTS %s ON %s(%s)", indexName, tableName, columns));
+  }
+
+}
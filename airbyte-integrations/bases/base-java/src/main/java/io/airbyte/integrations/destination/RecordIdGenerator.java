@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2021 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.destination;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Generates the values of the {@link io.airbyte.integrations.base.JavaBaseConstants#COLUMN_NAME_AB_ID}
+ * column.
+ *
+ * <p>
+ * {@link UUID#randomUUID()} draws from a shared {@link java.security.SecureRandom}, which is slow
+ * and contended when every record of a sync needs an id. Record ids only need to be unique, not
+ * unpredictable, so this class generates time-ordered UUIDs following the version 7 layout: a
+ * 48-bit unix timestamp in milliseconds, a 12-bit counter that keeps ids from the same thread
+ * monotonic within a millisecond, and 62 random bits from {@link ThreadLocalRandom}. Ids generated
+ * close in time are also close in value, which keeps inserts into the raw tables' primary key index
+ * local.
+ * </p>
+ */
+public final class RecordIdGenerator {
+
+  private static final int MAX_COUNTER = 0xFFF;
+
+  private static final ThreadLocal<State> STATE = ThreadLocal.withInitial(State::new);
+
+  private RecordIdGenerator() {}
+
+  /**
+   * @return a new time-ordered (version 7) UUID
+   */
+  public static UUID nextId() {
+    final State state = STATE.get();
+    final long now = System.currentTimeMillis();
+    if (now > state.lastMillis) {
+      state.lastMillis = now;
+      // start at a random point in the lower half so that ids of different threads rarely collide
+      // within the same millisecond, while leaving room to count up.
+      state.counter = ThreadLocalRandom.current().nextInt(MAX_COUNTER / 2);
+    } else if (state.counter < MAX_COUNTER) {
+      state.counter++;
+    } else {
+      // counter exhausted within this millisecond (or the clock moved backwards): borrow from the next
+      // millisecond to stay monotonic.
+      state.lastMillis++;
+      state.counter = 0;
+    }
+
+    final long mostSigBits = (state.lastMillis << 16) | 0x7000L | state.counter;
+    final long leastSigBits = (ThreadLocalRandom.current().nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+    return new UUID(mostSigBits, leastSigBits);
+  }
+
+  /**
+   * @return the canonical text form of a new time-ordered UUID
+   */
+  public static String nextIdString() {
+    return nextId().toString();
+  }
+
+  private static final class State {
+
+    private long lastMillis = -1;
+    private int counter = 0;
+
+  }
+
+}
@@ -0,0 +1,42 @@
+/*
+ * Copyright (c) 2021 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.destination;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class RecordIdGeneratorTest {
+
+  @Test
+  void testIdsAreUniqueTimeOrderedVersion7() {
+    final Set<UUID> ids = new HashSet<>();
+    UUID previous = RecordIdGenerator.nextId();
+    for (int i = 0; i < 100_000; i++) {
+      final UUID id = RecordIdGenerator.nextId();
+      assertEquals(7, id.version());
+      assertEquals(2, id.variant());
+      assertTrue(Long.compareUnsigned(previous.getMostSignificantBits(), id.getMostSignificantBits()) < 0);
+      assertTrue(ids.add(id));
+      previous = id;
+    }
+  }
+
+  @Test
+  void testIdEmbedsTimestamp() {
+    final long before = System.currentTimeMillis();
+    final UUID id = RecordIdGenerator.nextId();
+    final long after = System.currentTimeMillis();
+
+    final long timestamp = id.getMostSignificantBits() >>> 16;
+    // the counter may borrow from the next millisecond when it is exhausted.
+    assertTrue(timestamp >= before && timestamp <= after + 1);
+  }
+
+}
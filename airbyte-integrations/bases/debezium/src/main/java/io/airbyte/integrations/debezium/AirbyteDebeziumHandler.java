@@ -9,15 +9,17 @@ import io.airbyte.commons.util.AutoCloseableIterator;
 import io.airbyte.commons.util.AutoCloseableIterators;
 import io.airbyte.commons.util.CompositeIterator;
 import io.airbyte.commons.util.MoreIterators;
-import io.airbyte.integrations.debezium.internals.AirbyteFileOffsetBackingStore;
-import io.airbyte.integrations.debezium.internals.AirbyteSchemaHistoryStorage;
+import io.airbyte.integrations.debezium.internals.AirbyteMemoryDatabaseHistory;
+import io.airbyte.integrations.debezium.internals.AirbyteMemoryOffsetBackingStore;
+import io.airbyte.integrations.debezium.internals.ChangeEventWithMetadata;
+import io.airbyte.integrations.debezium.internals.DebeziumCheckpointingIterator;
+import io.airbyte.integrations.debezium.internals.DebeziumEventQueue;
 import io.airbyte.integrations.debezium.internals.DebeziumEventUtils;
 import io.airbyte.integrations.debezium.internals.DebeziumRecordIterator;
 import io.airbyte.integrations.debezium.internals.DebeziumRecordPublisher;
-import io.airbyte.integrations.debezium.internals.FilteredFileDatabaseHistory;
 import io.airbyte.protocol.models.AirbyteMessage;
 import io.airbyte.protocol.models.ConfiguredAirbyteCatalog;
-import io.debezium.engine.ChangeEvent;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.Collections;
 import java.util.Iterator;
@@ -25,7 +27,6 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Properties;
-import java.util.concurrent.LinkedBlockingQueue;
 import java.util.function.Supplier;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -37,32 +38,47 @@ import org.slf4j.LoggerFactory;
 public class AirbyteDebeziumHandler {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(AirbyteDebeziumHandler.class);
-  /**
-   * We use 10000 as capacity cause the default queue size and batch size of debezium is :
-   * {@link io.debezium.config.CommonConnectorConfig#DEFAULT_MAX_BATCH_SIZE}is 2048
-   * {@link io.debezium.config.CommonConnectorConfig#DEFAULT_MAX_QUEUE_SIZE} is 8192
-   */
-  private static final int QUEUE_CAPACITY = 10000;
+  private static final long DEFAULT_CHECKPOINT_RECORDS = 50_000;
+  private static final Duration DEFAULT_CHECKPOINT_INTERVAL = Duration.ofMinutes(5);
 
   private final Properties connectorProperties;
   private final JsonNode config;
   private final CdcTargetPosition targetPosition;
   private final ConfiguredAirbyteCatalog catalog;
   private final boolean trackSchemaHistory;
+  private final long checkpointRecords;
+  private final Duration checkpointInterval;
 
-  private final LinkedBlockingQueue<ChangeEvent<String, String>> queue;
+  private final DebeziumEventQueue queue;
 
   public AirbyteDebeziumHandler(final JsonNode config,
                                 final CdcTargetPosition targetPosition,
                                 final Properties connectorProperties,
                                 final ConfiguredAirbyteCatalog catalog,
                                 final boolean trackSchemaHistory) {
+    this(config, targetPosition, connectorProperties, catalog, trackSchemaHistory, DEFAULT_CHECKPOINT_RECORDS, DEFAULT_CHECKPOINT_INTERVAL);
+  }
+
+  /**
+   * @param checkpointRecords number of records after which a state message is emitted during the
+   *        sync
+   * @param checkpointInterval time after which a state message is emitted during the sync
+   */
+  public AirbyteDebeziumHandler(final JsonNode config,
+                                final CdcTargetPosition targetPosition,
+                                final Properties connectorProperties,
+                                final ConfiguredAirbyteCatalog catalog,
+                                final boolean trackSchemaHistory,
+                                final long checkpointRecords,
+                                final Duration checkpointInterval) {
     this.config = config;
     this.targetPosition = targetPosition;
     this.connectorProperties = connectorProperties;
     this.catalog = catalog;
     this.trackSchemaHistory = trackSchemaHistory;
-    this.queue = new LinkedBlockingQueue<>(QUEUE_CAPACITY);
+    this.checkpointRecords = checkpointRecords;
+    this.checkpointInterval = checkpointInterval;
+    this.queue = DebeziumEventQueue.fromProperties(connectorProperties);
   }
 
   public List<AutoCloseableIterator<AirbyteMessage>> getIncrementalIterators(final CdcSavedInfoFetcher cdcSavedInfoFetcher,
@@ -70,54 +86,67 @@ public class AirbyteDebeziumHandler {
                                                                              final CdcMetadataInjector cdcMetadataInjector,
                                                                              final Instant emittedAt) {
     LOGGER.info("using CDC: {}", true);
-    final AirbyteFileOffsetBackingStore offsetManager = AirbyteFileOffsetBackingStore.initializeState(cdcSavedInfoFetcher.getSavedOffset());
-    final Optional<AirbyteSchemaHistoryStorage> schemaHistoryManager = schemaHistoryManager(cdcSavedInfoFetcher);
-    final DebeziumRecordPublisher publisher = new DebeziumRecordPublisher(connectorProperties, config, catalog, offsetManager,
-        schemaHistoryManager);
+    AirbyteMemoryOffsetBackingStore.initializeState(cdcSavedInfoFetcher.getSavedOffset());
+    if (trackSchemaHistory) {
+      AirbyteMemoryDatabaseHistory.setDatabaseName(config.get("database").asText());
+      AirbyteMemoryDatabaseHistory.initializeState(cdcSavedInfoFetcher.getSavedSchemaHistory(),
+          cdcSavedInfoFetcher.getSavedOffset(),
+          Boolean.parseBoolean(connectorProperties.getProperty(AirbyteMemoryDatabaseHistory.COMPACT_HISTORY_PROPERTY, "false")));
+    }
+    final DebeziumRecordPublisher publisher = new DebeziumRecordPublisher(connectorProperties, config, catalog, trackSchemaHistory);
     publisher.start(queue);
 
     // handle state machine around pub/sub logic.
-    final AutoCloseableIterator<ChangeEvent<String, String>> eventIterator = new DebeziumRecordIterator(
+    final AutoCloseableIterator<ChangeEventWithMetadata> eventIterator = new DebeziumRecordIterator(
         queue,
         targetPosition,
         publisher::hasClosed,
         publisher::close);
 
-    // convert to airbyte message.
-    final AutoCloseableIterator<AirbyteMessage> messageIterator = AutoCloseableIterators
-        .transform(
-            eventIterator,
-            (event) -> DebeziumEventUtils.toAirbyteMessage(event, cdcMetadataInjector, emittedAt));
-
     // our goal is to get the state at the time this supplier is called (i.e. after all message records
     // have been produced)
     final Supplier<AirbyteMessage> stateMessageSupplier = () -> {
-      final Map<String, String> offset = offsetManager.read();
-      final String dbHistory = trackSchemaHistory ? schemaHistoryManager
-          .orElseThrow(() -> new RuntimeException("Schema History Tracking is true but manager is not initialised")).read() : null;
+      final Map<String, String> offset = AirbyteMemoryOffsetBackingStore.read();
+      final String dbHistory = trackSchemaHistory ? AirbyteMemoryDatabaseHistory.read() : null;
 
       return cdcStateHandler.saveState(offset, dbHistory);
     };
 
+    // the engine is still running while checkpoints are taken: a checkpoint is skipped until it has
+    // committed offsets, or when the state cannot be saved.
+    final Supplier<Optional<AirbyteMessage>> checkpointSupplier = () -> {
+      try {
+        final Map<String, String> offset = AirbyteMemoryOffsetBackingStore.read();
+        if (offset.isEmpty()) {
+          return Optional.empty();
+        }
+        final String dbHistory = trackSchemaHistory ? AirbyteMemoryDatabaseHistory.read() : null;
+        return Optional.of(cdcStateHandler.saveState(offset, dbHistory));
+      } catch (final RuntimeException e) {
+        LOGGER.warn("Skipping a state checkpoint, the debezium offset or schema history could not be saved.", e);
+        return Optional.empty();
+      }
+    };
+
+    // convert to airbyte message, with state checkpoints along the way.
+    final AutoCloseableIterator<AirbyteMessage> messageIterator = new DebeziumCheckpointingIterator(
+        eventIterator,
+        (event) -> DebeziumEventUtils.toAirbyteMessage(event, cdcMetadataInjector, emittedAt),
+        checkpointSupplier,
+        queue,
+        checkpointRecords,
+        checkpointInterval);
+
     // wrap the supplier in an iterator so that we can concat it to the message iterator.
     final Iterator<AirbyteMessage> stateMessageIterator = MoreIterators.singletonIteratorFromSupplier(stateMessageSupplier);
 
     // this structure guarantees that the debezium engine will be closed, before we attempt to emit the
-    // state file. we want this so that we have a guarantee that the debezium offset file (which we use
-    // to produce the state file) is up-to-date.
+    // state file. we want this so that we have a guarantee that the debezium offsets (which we use to
+    // produce the state file) are up-to-date.
     final CompositeIterator<AirbyteMessage> messageIteratorWithStateDecorator =
         AutoCloseableIterators.concatWithEagerClose(messageIterator, AutoCloseableIterators.fromIterator(stateMessageIterator));
 
     return Collections.singletonList(messageIteratorWithStateDecorator);
   }
 
-  private Optional<AirbyteSchemaHistoryStorage> schemaHistoryManager(final CdcSavedInfoFetcher cdcSavedInfoFetcher) {
-    if (trackSchemaHistory) {
-      FilteredFileDatabaseHistory.setDatabaseName(config.get("database").asText());
-      return Optional.of(AirbyteSchemaHistoryStorage.initializeDBHistory(cdcSavedInfoFetcher.getSavedSchemaHistory()));
-    }
-
-    return Optional.empty();
-  }
-
 }
@@ -0,0 +1,290 @@
+/*
+ * Copyright (c) 2021 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.debezium.internals;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.google.common.annotations.VisibleForTesting;
+import io.airbyte.commons.json.Jsons;
+import io.debezium.config.Configuration;
+import io.debezium.document.DocumentReader;
+import io.debezium.document.DocumentWriter;
+import io.debezium.relational.history.AbstractDatabaseHistory;
+import io.debezium.relational.history.DatabaseHistoryException;
+import io.debezium.relational.history.DatabaseHistoryListener;
+import io.debezium.relational.history.HistoryRecord;
+import io.debezium.relational.history.HistoryRecord.Fields;
+import io.debezium.relational.history.HistoryRecordComparator;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * MySQL Debezium connector monitors the database schema evolution over the time and stores the data
+ * in a database history. Without this history we can't fetch the records from binlog, so it is saved
+ * in state. This class keeps the history in memory instead of in a history file: it is seeded from
+ * the state saved by the previous sync, and {@link #read()} returns it in the same format, one json
+ * document per line, as the history file used to be saved in.
+ *
+ * <p>
+ * Debezium tracks the schema evolution of all the tables in all the databases, because of that the
+ * history can grow. In {@link #storeRecord(HistoryRecord)} only those records are kept whose
+ * database name matches the database Airbyte is syncing. When enabled with
+ * {@link #COMPACT_HISTORY_PROPERTY}, the saved history is also compacted when it is replayed: the
+ * records of a table that precede its last CREATE TABLE statement are dropped, since that statement
+ * redefines the table. Only a CREATE TABLE at or before the saved offset counts, since Debezium does
+ * not replay the records after the offset and would lose the table definition otherwise. Comparing
+ * positions needs the connector's comparator, which Debezium only hands over in
+ * {@link #configure}, so the compaction is deferred to {@link #recoverRecords(Consumer)}.
+ * </p>
+ *
+ * We tell debezium to use this class by passing it as property in debezium engine. Look for
+ * "database.history" property in
+ * {@link DebeziumRecordPublisher#getDebeziumProperties(DebeziumEventQueue)}
+ */
+public class AirbyteMemoryDatabaseHistory extends AbstractDatabaseHistory {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(AirbyteMemoryDatabaseHistory.class);
+
+  public static final String COMPACT_HISTORY_PROPERTY = "airbyte.database.history.compact";
+
+  // a statement on a single table, e.g. ALTER TABLE `db`.`table` ADD COLUMN ...
+  private static final Pattern SINGLE_TABLE_STATEMENT = Pattern.compile(
+      "^\\s*(CREATE|ALTER|DROP)\\s+TABLE\\s+(IF\\s+(?:NOT\\s+)?EXISTS\\s+)?([`\"]?[\\w$]+[`\"]?(?:\\.[`\"]?[\\w$]+[`\"]?)?)(?:[\\s(]|$)",
+      Pattern.CASE_INSENSITIVE);
+  // statements that make the definition of a table depend on another table, or move it to another
+  // name. the history is not compacted when it contains any of them.
+  private static final Pattern CROSS_TABLE_STATEMENT = Pattern.compile("\\b(RENAME|LIKE|SELECT)\\b", Pattern.CASE_INSENSITIVE);
+
+  private static String databaseName;
+  private static final List<HistoryRecord> records = new ArrayList<>();
+  // the offset saved with the history, the records after it are not replayed. guarded by records.
+  private static List<HistoryRecord> savedOffsets = List.of();
+  private static boolean compactOnRecovery;
+
+  private HistoryRecordComparator comparator = HistoryRecordComparator.INSTANCE;
+
+  /**
+   * Ideally the databaseName and the saved history should have been handed to the constructor of the
+   * class. But since we supply the class name to debezium and it uses reflection to construct the
+   * object of the class, we can't pass them in as parameters to the constructor. That's why we had to
+   * take the static approach.
+   *
+   * @param databaseName Name of the database that the connector is syncing
+   */
+  public static void setDatabaseName(final String databaseName) {
+    if (AirbyteMemoryDatabaseHistory.databaseName == null) {
+      AirbyteMemoryDatabaseHistory.databaseName = databaseName;
+    } else if (!AirbyteMemoryDatabaseHistory.databaseName.equals(databaseName)) {
+      throw new RuntimeException(
+          "Database name has already been set : " + AirbyteMemoryDatabaseHistory.databaseName
+              + " can't set to : " + databaseName);
+    }
+  }
+
+  /**
+   * @param schemaHistory the history saved in state by the previous sync
+   * @param savedOffset the debezium offset saved in state with the history, may be null
+   * @param compact whether to drop the records made obsolete by a later CREATE TABLE statement
+   */
+  public static void initializeState(final Optional<JsonNode> schemaHistory, final JsonNode savedOffset, final boolean compact) {
+    final List<HistoryRecord> savedRecords = new ArrayList<>();
+    final String historyAsString = schemaHistory.map(history -> Jsons.object(history, String.class)).orElse(null);
+    if (historyAsString != null && !historyAsString.isEmpty()) {
+      final DocumentReader reader = DocumentReader.defaultReader();
+      try {
+        for (final String line : historyAsString.split(System.lineSeparator())) {
+          if (!line.isEmpty()) {
+            savedRecords.add(new HistoryRecord(reader.read(line)));
+          }
+        }
+      } catch (final IOException e) {
+        throw new RuntimeException(e);
+      }
+    }
+
+    synchronized (records) {
+      records.clear();
+      records.addAll(savedRecords);
+      savedOffsets = compact ? offsetsAsHistoryRecords(savedOffset) : List.of();
+      compactOnRecovery = !savedOffsets.isEmpty();
+    }
+  }
+
+  /*
+   * Turns each saved offset into a record holding its partition and position, the same way
+   * AbstractDatabaseHistory#recover builds the point it stops replaying at. The offsets are saved as
+   * the json key, a list of the engine name and the partition, and the json value, the position.
+   */
+  @SuppressWarnings("unchecked")
+  private static List<HistoryRecord> offsetsAsHistoryRecords(final JsonNode savedOffset) {
+    if (savedOffset == null || savedOffset.isNull()) {
+      return List.of();
+    }
+    final List<HistoryRecord> offsets = new ArrayList<>();
+    final Map<String, String> offsetAsMap = Jsons.object(savedOffset, Map.class);
+    try {
+      for (final Map.Entry<String, String> entry : offsetAsMap.entrySet()) {
+        final JsonNode key = Jsons.deserialize(entry.getKey());
+        final Map<String, Object> partition = Jsons.object(key.get(key.size() - 1), Map.class);
+        final Map<String, Object> position = Jsons.object(Jsons.deserialize(entry.getValue()), Map.class);
+        offsets.add(new HistoryRecord(partition, position, null, null, null, null));
+      }
+    } catch (final RuntimeException e) {
+      LOGGER.warn("The saved offset could not be read, the schema history is not compacted.", e);
+      return List.of();
+    }
+    return offsets;
+  }
+
+  /**
+   * @return the history, one json document per line, so that it can be saved in state
+   */
+  public static String read() {
+    final DocumentWriter writer = DocumentWriter.defaultWriter();
+    final StringBuilder historyAsString = new StringBuilder();
+    synchronized (records) {
+      for (final HistoryRecord record : records) {
+        historyAsString.append(writer.write(record.document()));
+        historyAsString.append(System.lineSeparator());
+      }
+    }
+    return historyAsString.toString();
+  }
+
+  /**
+   * @param history the saved history
+   * @param isAtOrBeforeOffset whether a record is at or before the saved offset, only such CREATE
+   *        TABLE statements make the earlier records of their table obsolete
+   * @return the history without the obsolete records
+   */
+  @VisibleForTesting
+  static List<HistoryRecord> compact(final List<HistoryRecord> history, final Predicate<HistoryRecord> isAtOrBeforeOffset) {
+    final List<String> tables = new ArrayList<>(history.size());
+    final Map<String, Integer> lastCreateStatements = new HashMap<>();
+    for (final HistoryRecord record : history) {
+      final String ddl = record.document().getString(Fields.DDL_STATEMENTS);
+      if (ddl != null && CROSS_TABLE_STATEMENT.matcher(ddl).find()) {
+        return history;
+      }
+      final Matcher matcher = ddl != null && !isMultiStatement(ddl) ? SINGLE_TABLE_STATEMENT.matcher(ddl) : null;
+      if (matcher == null || !matcher.find()) {
+        tables.add(null);
+        continue;
+      }
+      final String table = qualifiedTableName(record, matcher.group(3));
+      tables.add(table);
+      // CREATE TABLE IF NOT EXISTS leaves an existing table as it is.
+      if (matcher.group(1).equalsIgnoreCase("CREATE") && matcher.group(2) == null && isAtOrBeforeOffset.test(record)) {
+        lastCreateStatements.put(table, tables.size() - 1);
+      }
+    }
+
+    final List<HistoryRecord> compacted = new ArrayList<>();
+    for (int i = 0; i < history.size(); i++) {
+      final String table = tables.get(i);
+      if (table == null || i >= lastCreateStatements.getOrDefault(table, 0)) {
+        compacted.add(history.get(i));
+      }
+    }
+    return compacted;
+  }
+
+  private static boolean isMultiStatement(final String ddl) {
+    final String statement = ddl.trim();
+    final int separator = statement.indexOf(';');
+    return separator >= 0 && separator < statement.length() - 1;
+  }
+
+  private static String qualifiedTableName(final HistoryRecord record, final String tableName) {
+    final String unquoted = tableName.replace("`", "").replace("\"", "");
+    if (unquoted.contains(".")) {
+      return unquoted;
+    }
+    return record.document().getString(Fields.DATABASE_NAME) + "." + unquoted;
+  }
+
+  @Override
+  public void configure(final Configuration config,
+                        final HistoryRecordComparator comparator,
+                        final DatabaseHistoryListener listener,
+                        final boolean useCatalogBeforeSchema) {
+    super.configure(config, comparator, listener, useCatalogBeforeSchema);
+    this.comparator = comparator != null ? comparator : HistoryRecordComparator.INSTANCE;
+  }
+
+  @Override
+  public void storeRecord(final HistoryRecord record) throws DatabaseHistoryException {
+    if (record == null) {
+      return;
+    }
+    final String dbNameInRecord = record.document().getString(Fields.DATABASE_NAME);
+    if (databaseName != null && dbNameInRecord != null && !dbNameInRecord.equals(databaseName)) {
+      return;
+    }
+    synchronized (records) {
+      records.add(record);
+    }
+  }
+
+  @Override
+  public void stop() {
+    super.stop();
+    // this is just for tests. the records are kept, they are read once the engine is closed.
+    databaseName = null;
+  }
+
+  @Override
+  protected void recoverRecords(final Consumer<HistoryRecord> consumer) {
+    final List<HistoryRecord> recovered;
+    synchronized (records) {
+      if (compactOnRecovery) {
+        final List<HistoryRecord> offsets = savedOffsets;
+        final List<HistoryRecord> compacted =
+            compact(records, record -> offsets.stream().anyMatch(offset -> comparator.isAtOrBefore(record, offset)));
+        if (compacted.size() < records.size()) {
+          LOGGER.info("Compacted the schema history from {} to {} records.", records.size(), compacted.size());
+        }
+        records.clear();
+        records.addAll(compacted);
+        compactOnRecovery = false;
+      }
+      recovered = new ArrayList<>(records);
+    }
+    recovered.forEach(consumer);
+  }
+
+  @Override
+  public boolean storageExists() {
+    return true;
+  }
+
+  @Override
+  public void initializeStorage() {
+    // nothing to create, the history lives in memory.
+  }
+
+  @Override
+  public boolean exists() {
+    // an empty history is recovered from the current schema, with snapshot.mode=schema_only_recovery.
+    synchronized (records) {
+      return !records.isEmpty();
+    }
+  }
+
+  @Override
+  public String toString() {
+    return "in-memory database history";
+  }
+
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2021 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.debezium.internals;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.google.common.base.Preconditions;
+import io.airbyte.commons.json.Jsons;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.stream.Collectors;
+import org.apache.kafka.connect.storage.MemoryOffsetBackingStore;
+
+/**
+ * Keeps the debezium offsets in memory instead of in an offset file. The offsets are seeded from
+ * the state saved by the previous sync and every set of offsets committed by the engine is
+ * published, so that {@link #read()} returns the latest committed offsets while the engine runs and
+ * once it is closed, without serializing them to disk and back.
+ *
+ * <p>
+ * We mostly treat the offsets like a black box. We know they are a Map&lt;ByteBuffer,
+ * Bytebuffer&gt;. We convert them to a Map&lt;String, String&gt; so that the state can be human
+ * readable, in the same format as the offset file used to be saved in.
+ * </p>
+ */
+public class AirbyteMemoryOffsetBackingStore extends MemoryOffsetBackingStore {
+
+  /**
+   * Ideally the offsets would be handed to the constructor. But since we supply the class name to
+   * debezium and it uses reflection to construct the object of the class, they are held statically,
+   * like the database name in {@link AirbyteMemoryDatabaseHistory}.
+   */
+  private static volatile Map<ByteBuffer, ByteBuffer> committedOffsets = Collections.emptyMap();
+
+  @SuppressWarnings("unchecked")
+  public static void initializeState(final JsonNode cdcState) {
+    final Map<String, String> mapAsString =
+        cdcState != null ? Jsons.object(cdcState, Map.class) : Collections.emptyMap();
+    committedOffsets = Collections.unmodifiableMap(mapAsString.entrySet().stream().collect(Collectors.toMap(
+        e -> stringToByteBuffer(e.getKey()),
+        e -> stringToByteBuffer(e.getValue()))));
+  }
+
+  /**
+   * @return the offsets last committed by the engine, or the initial state if none has been committed
+   */
+  public static Map<String, String> read() {
+    return committedOffsets.entrySet().stream().collect(Collectors.toMap(
+        e -> byteBufferToString(e.getKey()),
+        e -> byteBufferToString(e.getValue())));
+  }
+
+  @Override
+  public synchronized void start() {
+    super.start();
+    data.putAll(committedOffsets);
+  }
+
+  /**
+   * Called by {@link MemoryOffsetBackingStore} on its executor, after the offsets of a commit have
+   * been applied.
+   */
+  @Override
+  protected void save() {
+    committedOffsets = Collections.unmodifiableMap(new HashMap<>(data));
+  }
+
+  private static String byteBufferToString(final ByteBuffer byteBuffer) {
+    Preconditions.checkNotNull(byteBuffer);
+    return new String(byteBuffer.array(), StandardCharsets.UTF_8);
+  }
+
+  private static ByteBuffer stringToByteBuffer(final String s) {
+    Preconditions.checkNotNull(s);
+    return ByteBuffer.wrap(s.getBytes(StandardCharsets.UTF_8));
+  }
+
+}
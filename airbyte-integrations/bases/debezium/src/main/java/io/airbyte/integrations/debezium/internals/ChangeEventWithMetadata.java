@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2021 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.debezium.internals;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.airbyte.commons.json.Jsons;
+import io.debezium.engine.ChangeEvent;
+
+/**
+ * A debezium change event whose value is decoded once, when the event is taken from the queue, and
+ * then shared by the record iterator, to follow the snapshot and the target position, and by the
+ * conversion to an Airbyte message.
+ */
+public class ChangeEventWithMetadata {
+
+  private final ChangeEvent<String, String> event;
+  private final JsonNode eventValueAsJson;
+  private final SnapshotMetadata snapshotMetadata;
+
+  public ChangeEventWithMetadata(final ChangeEvent<String, String> event) {
+    this.event = event;
+    this.eventValueAsJson = Jsons.deserialize(event.value());
+    this.snapshotMetadata = SnapshotMetadata.valueOf(source().get("snapshot").asText().toUpperCase());
+  }
+
+  public ChangeEvent<String, String> event() {
+    return event;
+  }
+
+  public JsonNode eventValueAsJson() {
+    return eventValueAsJson;
+  }
+
+  /**
+   * @return the debezium operation: c (create), u (update), d (delete) or r (read during snapshot)
+   */
+  public String op() {
+    return eventValueAsJson.get("op").asText();
+  }
+
+  public JsonNode before() {
+    return eventValueAsJson.get("before");
+  }
+
+  public JsonNode after() {
+    return eventValueAsJson.get("after");
+  }
+
+  public JsonNode source() {
+    return eventValueAsJson.get("source");
+  }
+
+  public SnapshotMetadata snapshotMetadata() {
+    return snapshotMetadata;
+  }
+
+  public boolean isSnapshotEvent() {
+    return SnapshotMetadata.TRUE == snapshotMetadata;
+  }
+
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2021 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.debezium.internals;
+
+import com.google.common.collect.AbstractIterator;
+import io.airbyte.commons.util.AutoCloseableIterator;
+import io.airbyte.protocol.models.AirbyteMessage;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Converts the change events to Airbyte messages and emits a state message every
+ * {@link #checkpointRecords} records or {@link #checkpointInterval}, so that a sync that fails
+ * resumes close to where it stopped instead of replaying everything.
+ *
+ * <p>
+ * The offsets are committed by the debezium engine, asynchronously, for events that have been
+ * handed over to the {@link DebeziumEventQueue}. A checkpoint therefore reads the offset first and
+ * the number of events handed over so far second, and is only emitted once that many events have
+ * been taken from the queue and emitted, i.e. once every record the offset covers has been sent.
+ * No checkpoint is taken while the initial snapshot is running, since debezium restarts a snapshot
+ * that did not complete.
+ * </p>
+ */
+public class DebeziumCheckpointingIterator extends AbstractIterator<AirbyteMessage> implements AutoCloseableIterator<AirbyteMessage> {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(DebeziumCheckpointingIterator.class);
+
+  private final AutoCloseableIterator<ChangeEventWithMetadata> changeEventIterator;
+  private final Function<ChangeEventWithMetadata, AirbyteMessage> eventConverter;
+  private final Supplier<Optional<AirbyteMessage>> checkpointSupplier;
+  private final DebeziumEventQueue queue;
+  private final long checkpointRecords;
+  private final Duration checkpointInterval;
+
+  private long recordsSinceCheckpoint = 0;
+  private Instant lastCheckpoint = Instant.now();
+  private AirbyteMessage pendingCheckpoint = null;
+  private long pendingCheckpointEvents = 0;
+
+  /**
+   * @param checkpointSupplier reads the current offset and schema history into a state message, or
+   *        returns empty if they cannot be read consistently at the moment
+   */
+  public DebeziumCheckpointingIterator(final AutoCloseableIterator<ChangeEventWithMetadata> changeEventIterator,
+                                       final Function<ChangeEventWithMetadata, AirbyteMessage> eventConverter,
+                                       final Supplier<Optional<AirbyteMessage>> checkpointSupplier,
+                                       final DebeziumEventQueue queue,
+                                       final long checkpointRecords,
+                                       final Duration checkpointInterval) {
+    this.changeEventIterator = changeEventIterator;
+    this.eventConverter = eventConverter;
+    this.checkpointSupplier = checkpointSupplier;
+    this.queue = queue;
+    this.checkpointRecords = checkpointRecords;
+    this.checkpointInterval = checkpointInterval;
+  }
+
+  @Override
+  protected AirbyteMessage computeNext() {
+    // all the events taken from the queue so far have been emitted, and consumed by the caller.
+    if (pendingCheckpoint != null && queue.getTakenEvents() >= pendingCheckpointEvents) {
+      final AirbyteMessage checkpoint = pendingCheckpoint;
+      pendingCheckpoint = null;
+      return checkpoint;
+    }
+
+    if (!changeEventIterator.hasNext()) {
+      // the final state is emitted once the engine is closed.
+      return endOfData();
+    }
+
+    final ChangeEventWithMetadata event = changeEventIterator.next();
+    recordsSinceCheckpoint++;
+    if (pendingCheckpoint == null && !event.isSnapshotEvent() && isCheckpointDue()) {
+      takeCheckpoint();
+    }
+    return eventConverter.apply(event);
+  }
+
+  private boolean isCheckpointDue() {
+    return recordsSinceCheckpoint >= checkpointRecords
+        || Duration.between(lastCheckpoint, Instant.now()).compareTo(checkpointInterval) >= 0;
+  }
+
+  private void takeCheckpoint() {
+    final Optional<AirbyteMessage> checkpoint = checkpointSupplier.get();
+    // read after the offset, so that it counts at least every event the offset covers.
+    final long offeredEvents = queue.getOfferedEvents();
+    recordsSinceCheckpoint = 0;
+    lastCheckpoint = Instant.now();
+    if (checkpoint.isPresent()) {
+      LOGGER.info("Emitting a state checkpoint after {} change events are sent.", offeredEvents);
+      pendingCheckpoint = checkpoint.get();
+      pendingCheckpointEvents = offeredEvents;
+    }
+  }
+
+  @Override
+  public void close() throws Exception {
+    changeEventIterator.close();
+  }
+
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2021 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.debezium.internals;
+
+import io.debezium.engine.ChangeEvent;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Hands the batches of change events delivered by the debezium engine over to the record iterator.
+ * The publisher blocks while the queue is full and the iterator blocks while it is empty, and each
+ * handoff moves a whole batch instead of a single event.
+ *
+ * <p>
+ * The queue holds about as many events as the internal queue of the debezium engine, whose size,
+ * like the size of the batches, is taken from the connector properties when set there and is
+ * otherwise derived from the heap size.
+ * </p>
+ */
+public class DebeziumEventQueue {
+
+  public static final String MAX_BATCH_SIZE_PROPERTY = "max.batch.size";
+  public static final String MAX_QUEUE_SIZE_PROPERTY = "max.queue.size";
+
+  // default values from debezium CommonConnectorConfig
+  private static final int DEFAULT_MAX_BATCH_SIZE = 2048;
+  private static final int DEFAULT_MAX_QUEUE_SIZE = 8192;
+  private static final int MAX_QUEUE_SIZE_LIMIT = 65536;
+  // rough size of a change event held as a json string, including its key and the decoded record.
+  private static final long ESTIMATED_EVENT_BYTES = 16 * 1024;
+
+  private final int maxBatchSize;
+  private final int maxQueueSize;
+  private final BlockingQueue<List<ChangeEvent<String, String>>> batches;
+  private final AtomicLong offeredEvents = new AtomicLong();
+
+  // only used by the consumer thread
+  private Iterator<ChangeEvent<String, String>> currentBatch = Collections.emptyIterator();
+  private long takenEvents = 0;
+
+  public DebeziumEventQueue(final int maxBatchSize, final int maxQueueSize) {
+    this.maxBatchSize = maxBatchSize;
+    this.maxQueueSize = maxQueueSize;
+    this.batches = new ArrayBlockingQueue<>(Math.max(1, maxQueueSize / maxBatchSize));
+  }
+
+  /**
+   * Sizes the queue, and the debezium engine, from the connector properties, or from the heap size
+   * when they are not set: the events buffered by the engine and by this queue together take at most
+   * about a quarter of the heap.
+   */
+  public static DebeziumEventQueue fromProperties(final Properties properties) {
+    final int defaultMaxQueueSize = (int) Math.max(DEFAULT_MAX_QUEUE_SIZE,
+        Math.min(MAX_QUEUE_SIZE_LIMIT, Runtime.getRuntime().maxMemory() / 8 / ESTIMATED_EVENT_BYTES));
+    final int maxQueueSize = intProperty(properties, MAX_QUEUE_SIZE_PROPERTY, defaultMaxQueueSize);
+    // debezium requires the queue to be larger than a batch, also when only the queue size is set.
+    final int defaultMaxBatchSize = Math.max(1, Math.min(Math.max(DEFAULT_MAX_BATCH_SIZE, maxQueueSize / 4), maxQueueSize - 1));
+    final int maxBatchSize = intProperty(properties, MAX_BATCH_SIZE_PROPERTY, defaultMaxBatchSize);
+    return new DebeziumEventQueue(maxBatchSize, maxQueueSize);
+  }
+
+  private static int intProperty(final Properties properties, final String name, final int defaultValue) {
+    final String value = properties.getProperty(name);
+    return value == null ? defaultValue : Integer.parseInt(value);
+  }
+
+  public int getMaxBatchSize() {
+    return maxBatchSize;
+  }
+
+  public int getMaxQueueSize() {
+    return maxQueueSize;
+  }
+
+  /**
+   * Hands over a batch of events, waiting up to the given time while the queue is full.
+   *
+   * @return false if the queue stayed full
+   */
+  public boolean offer(final List<ChangeEvent<String, String>> batch, final long timeout, final TimeUnit unit) throws InterruptedException {
+    if (batch.isEmpty()) {
+      return true;
+    }
+    if (!batches.offer(batch, timeout, unit)) {
+      return false;
+    }
+    offeredEvents.addAndGet(batch.size());
+    return true;
+  }
+
+  /**
+   * Takes the next event, waiting up to the given time for a batch when none is left.
+   *
+   * @return the next event, or null if none was handed over in time
+   */
+  public ChangeEvent<String, String> poll(final long timeout, final TimeUnit unit) throws InterruptedException {
+    if (!currentBatch.hasNext()) {
+      final List<ChangeEvent<String, String>> batch = batches.poll(timeout, unit);
+      if (batch == null) {
+        return null;
+      }
+      currentBatch = batch.iterator();
+    }
+    takenEvents++;
+    return currentBatch.next();
+  }
+
+  /**
+   * @return number of events handed over by the publisher so far
+   */
+  public long getOfferedEvents() {
+    return offeredEvents.get();
+  }
+
+  /**
+   * @return number of events taken by the consumer so far. Only to be called by the consumer.
+   */
+  public long getTakenEvents() {
+    return takenEvents;
+  }
+
+  public boolean isEmpty() {
+    return !currentBatch.hasNext() && batches.isEmpty();
+  }
+
+}
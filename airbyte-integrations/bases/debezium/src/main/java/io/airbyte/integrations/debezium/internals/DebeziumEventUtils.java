@@ -6,11 +6,9 @@ package io.airbyte.integrations.debezium.internals;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
-import io.airbyte.commons.json.Jsons;
 import io.airbyte.integrations.debezium.CdcMetadataInjector;
 import io.airbyte.protocol.models.AirbyteMessage;
 import io.airbyte.protocol.models.AirbyteRecordMessage;
-import io.debezium.engine.ChangeEvent;
 import java.sql.Timestamp;
 import java.time.Instant;
 
@@ -19,13 +17,16 @@ public class DebeziumEventUtils {
   public static final String CDC_UPDATED_AT = "_ab_cdc_updated_at";
   public static final String CDC_DELETED_AT = "_ab_cdc_deleted_at";
 
-  public static AirbyteMessage toAirbyteMessage(final ChangeEvent<String, String> event,
+  /**
+   * Uses the value of the event that was decoded by the record iterator. Warning: the data of the
+   * message is built in place from the before or after image of the event.
+   */
+  public static AirbyteMessage toAirbyteMessage(final ChangeEventWithMetadata event,
                                                 final CdcMetadataInjector cdcMetadataInjector,
                                                 final Instant emittedAt) {
-    final JsonNode debeziumRecord = Jsons.deserialize(event.value());
-    final JsonNode before = debeziumRecord.get("before");
-    final JsonNode after = debeziumRecord.get("after");
-    final JsonNode source = debeziumRecord.get("source");
+    final JsonNode before = event.before();
+    final JsonNode after = event.after();
+    final JsonNode source = event.source();
 
     final JsonNode data = formatDebeziumData(before, after, source, cdcMetadataInjector);
     final String schemaName = cdcMetadataInjector.namespace(source);
@@ -42,6 +43,22 @@ public class DebeziumEventUtils {
         .withRecord(airbyteRecordMessage);
   }
 
+  /**
+   * Adds the CDC metadata columns to a row read by a snapshot taken outside of debezium, as of the
+   * given log position. The changes streamed afterwards are all at or after that position, so that
+   * they supersede the row when the records are deduplicated by primary key.
+   *
+   * @param source the log position of the snapshot, in the format of the source of a debezium event
+   */
+  public static void addSnapshotMetadata(final ObjectNode data,
+                                         final JsonNode source,
+                                         final CdcMetadataInjector cdcMetadataInjector,
+                                         final Instant snapshotTime) {
+    data.put(CDC_UPDATED_AT, snapshotTime.toString());
+    cdcMetadataInjector.addMetaData(data, source);
+    data.put(CDC_DELETED_AT, (String) null);
+  }
+
   // warning mutates input args.
   private static JsonNode formatDebeziumData(final JsonNode before,
                                              final JsonNode after,
@@ -13,9 +13,9 @@ import io.debezium.engine.ChangeEvent;
 import io.debezium.engine.DebeziumEngine;
 import io.debezium.engine.format.Json;
 import io.debezium.engine.spi.OffsetCommitPolicy;
-import java.util.Optional;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Properties;
-import java.util.Queue;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -34,12 +34,13 @@ import org.slf4j.LoggerFactory;
 public class DebeziumRecordPublisher implements AutoCloseable {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(DebeziumRecordPublisher.class);
+  private static final long OFFER_TIMEOUT_SECONDS = 1;
+
   private final ExecutorService executor;
   private DebeziumEngine<ChangeEvent<String, String>> engine;
 
   private final JsonNode config;
-  private final AirbyteFileOffsetBackingStore offsetManager;
-  private final Optional<AirbyteSchemaHistoryStorage> schemaHistoryManager;
+  private final boolean trackSchemaHistory;
 
   private final AtomicBoolean hasClosed;
   private final AtomicBoolean isClosing;
@@ -47,17 +48,17 @@ public class DebeziumRecordPublisher implements AutoCloseable {
   private final CountDownLatch engineLatch;
   private final Properties properties;
   private final ConfiguredAirbyteCatalog catalog;
+  // only used by the engine thread
+  private boolean droppingBatches = false;
 
   public DebeziumRecordPublisher(final Properties properties,
                                  final JsonNode config,
                                  final ConfiguredAirbyteCatalog catalog,
-                                 final AirbyteFileOffsetBackingStore offsetManager,
-                                 final Optional<AirbyteSchemaHistoryStorage> schemaHistoryManager) {
+                                 final boolean trackSchemaHistory) {
     this.properties = properties;
     this.config = config;
     this.catalog = catalog;
-    this.offsetManager = offsetManager;
-    this.schemaHistoryManager = schemaHistoryManager;
+    this.trackSchemaHistory = trackSchemaHistory;
     this.hasClosed = new AtomicBoolean(false);
     this.isClosing = new AtomicBoolean(false);
     this.thrownError = new AtomicReference<>();
@@ -65,21 +66,39 @@ public class DebeziumRecordPublisher implements AutoCloseable {
     this.engineLatch = new CountDownLatch(1);
   }
 
-  public void start(final Queue<ChangeEvent<String, String>> queue) {
+  public void start(final DebeziumEventQueue queue) {
     engine = DebeziumEngine.create(Json.class)
-        .using(getDebeziumProperties())
+        .using(getDebeziumProperties(queue))
         .using(new OffsetCommitPolicy.AlwaysCommitOffsetPolicy())
-        .notifying(e -> {
-          // debezium outputs a tombstone event that has a value of null. this is an artifact of how it
-          // interacts with kafka. we want to ignore it.
-          // more on the tombstone:
-          // https://debezium.io/documentation/reference/configuration/event-flattening.html
-          if (e.value() != null) {
-            boolean inserted = false;
-            while (!inserted) {
-              inserted = queue.offer(e);
+        .notifying((records, committer) -> {
+          if (droppingBatches) {
+            return;
+          }
+          final List<ChangeEvent<String, String>> batch = new ArrayList<>(records.size());
+          for (final ChangeEvent<String, String> record : records) {
+            // debezium outputs a tombstone event that has a value of null. this is an artifact of how it
+            // interacts with kafka. we want to ignore it.
+            // more on the tombstone:
+            // https://debezium.io/documentation/reference/configuration/event-flattening.html
+            if (record.value() != null) {
+              batch.add(record);
             }
           }
+          // blocks while the iterator is behind, which holds the engine back. once the publisher is
+          // closing, the iterator may no longer drain the queue: the batch, and any later one, is then
+          // dropped without committing its offsets, so that it is read again by the next sync.
+          while (!queue.offer(batch, OFFER_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+            if (isClosing.get()) {
+              LOGGER.info("Dropping change events while closing, they will be read again by the next sync.");
+              droppingBatches = true;
+              return;
+            }
+          }
+          // the offsets of the batch are committed once it is handed over, as with a single event consumer.
+          for (final ChangeEvent<String, String> record : records) {
+            committer.markProcessed(record);
+          }
+          committer.markBatchFinished();
         })
         .using((success, message, error) -> {
           LOGGER.info("Debezium engine shutdown.");
@@ -119,28 +138,26 @@ public class DebeziumRecordPublisher implements AutoCloseable {
     }
   }
 
-  protected Properties getDebeziumProperties() {
+  protected Properties getDebeziumProperties(final DebeziumEventQueue queue) {
     final Properties props = new Properties();
     props.putAll(properties);
 
     // debezium engine configuration
     props.setProperty("name", "engine");
-    props.setProperty("offset.storage", "org.apache.kafka.connect.storage.FileOffsetBackingStore");
-    props.setProperty("offset.storage.file.filename", offsetManager.getOffsetFilePath().toString());
+    // the offsets are kept in memory, seeded from and read back into state by AirbyteDebeziumHandler
+    props.setProperty("offset.storage", AirbyteMemoryOffsetBackingStore.class.getName());
     props.setProperty("offset.flush.interval.ms", "1000"); // todo: make this longer
-    // default values from debezium CommonConnectorConfig
-    props.setProperty("max.batch.size", "2048");
-    props.setProperty("max.queue.size", "8192");
+    props.setProperty(DebeziumEventQueue.MAX_BATCH_SIZE_PROPERTY, String.valueOf(queue.getMaxBatchSize()));
+    props.setProperty(DebeziumEventQueue.MAX_QUEUE_SIZE_PROPERTY, String.valueOf(queue.getMaxQueueSize()));
 
-    if (schemaHistoryManager.isPresent()) {
+    if (trackSchemaHistory) {
       // https://debezium.io/documentation/reference/1.4/operations/debezium-server.html#debezium-source-database-history-file-filename
       // https://debezium.io/documentation/reference/development/engine.html#_in_the_code
       // As mentioned in the documents above, debezium connector for MySQL needs to track the schema
       // changes. If we don't do this, we can't fetch records for the table
-      // We have implemented our own implementation to filter out the schema information from other
-      // databases that the connector is not syncing
-      props.setProperty("database.history", "io.airbyte.integrations.debezium.internals.FilteredFileDatabaseHistory");
-      props.setProperty("database.history.file.filename", schemaHistoryManager.get().getPath().toString());
+      // We have implemented our own implementation to keep it in memory and to filter out the schema
+      // information from other databases that the connector is not syncing
+      props.setProperty("database.history", AirbyteMemoryDatabaseHistory.class.getName());
     }
 
     // https://debezium.io/documentation/reference/configuration/avro.html
@@ -5,14 +5,20 @@
 package io.airbyte.integrations.debezium;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import io.airbyte.commons.json.Jsons;
 import io.airbyte.commons.resources.MoreResources;
+import io.airbyte.integrations.debezium.internals.ChangeEventWithMetadata;
 import io.airbyte.integrations.debezium.internals.DebeziumEventUtils;
+import io.airbyte.integrations.debezium.internals.SnapshotMetadata;
 import io.airbyte.protocol.models.AirbyteMessage;
 import io.airbyte.protocol.models.AirbyteRecordMessage;
 import io.debezium.engine.ChangeEvent;
@@ -27,9 +33,9 @@ class DebeziumEventUtilsTest {
     final String stream = "names";
     final Instant emittedAt = Instant.now();
     final CdcMetadataInjector cdcMetadataInjector = new DummyMetadataInjector();
-    final ChangeEvent<String, String> insertChangeEvent = mockChangeEvent("insert_change_event.json");
-    final ChangeEvent<String, String> updateChangeEvent = mockChangeEvent("update_change_event.json");
-    final ChangeEvent<String, String> deleteChangeEvent = mockChangeEvent("delete_change_event.json");
+    final ChangeEventWithMetadata insertChangeEvent = mockChangeEvent("insert_change_event.json");
+    final ChangeEventWithMetadata updateChangeEvent = mockChangeEvent("update_change_event.json");
+    final ChangeEventWithMetadata deleteChangeEvent = mockChangeEvent("delete_change_event.json");
 
     final AirbyteMessage actualInsert = DebeziumEventUtils.toAirbyteMessage(insertChangeEvent, cdcMetadataInjector, emittedAt);
     final AirbyteMessage actualUpdate = DebeziumEventUtils.toAirbyteMessage(updateChangeEvent, cdcMetadataInjector, emittedAt);
@@ -44,12 +50,32 @@ class DebeziumEventUtilsTest {
     deepCompare(expectedDelete, actualDelete);
   }
 
-  private static ChangeEvent<String, String> mockChangeEvent(final String resourceName) throws IOException {
+  @Test
+  public void testChangeEventIsDecodedOnce() throws IOException {
+    final ChangeEventWithMetadata insertChangeEvent = mockChangeEvent("insert_change_event.json");
+    final ChangeEventWithMetadata deleteChangeEvent = mockChangeEvent("delete_change_event.json");
+
+    assertEquals("r", insertChangeEvent.op());
+    assertEquals(SnapshotMetadata.TRUE, insertChangeEvent.snapshotMetadata());
+    assertTrue(insertChangeEvent.isSnapshotEvent());
+    assertTrue(insertChangeEvent.before().isNull());
+    assertEquals("names", insertChangeEvent.source().get("table").asText());
+
+    assertEquals("d", deleteChangeEvent.op());
+    assertFalse(deleteChangeEvent.isSnapshotEvent());
+    assertTrue(deleteChangeEvent.after().isNull());
+
+    verify(insertChangeEvent.event(), times(1)).value();
+    DebeziumEventUtils.toAirbyteMessage(insertChangeEvent, new DummyMetadataInjector(), Instant.now());
+    verify(insertChangeEvent.event(), times(1)).value();
+  }
+
+  private static ChangeEventWithMetadata mockChangeEvent(final String resourceName) throws IOException {
     final ChangeEvent<String, String> mocked = mock(ChangeEvent.class);
     final String resource = MoreResources.readResource(resourceName);
     when(mocked.value()).thenReturn(resource);
 
-    return mocked;
+    return new ChangeEventWithMetadata(mocked);
   }
 
   private static AirbyteMessage createAirbyteMessage(final String stream, final Instant emittedAt, final String resourceName) throws IOException {
@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2021 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.debezium.internals;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import io.airbyte.commons.json.Jsons;
+import io.debezium.document.DocumentReader;
+import io.debezium.relational.history.HistoryRecord;
+import io.debezium.relational.history.HistoryRecord.Fields;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+
+class AirbyteMemoryDatabaseHistoryTest {
+
+  @Test
+  public void testHistoryIsReadInTheSavedFormat() throws IOException {
+    final String history = line("SET character_set_server=utf8") + line("CREATE TABLE models (id INT)");
+    AirbyteMemoryDatabaseHistory.initializeState(Optional.of(Jsons.jsonNode(history)), null, false);
+
+    assertEquals(history, AirbyteMemoryDatabaseHistory.read());
+  }
+
+  @Test
+  public void testRecordsOfOtherDatabasesAreNotStored() throws IOException {
+    AirbyteMemoryDatabaseHistory.initializeState(Optional.empty(), null, false);
+    AirbyteMemoryDatabaseHistory.setDatabaseName("db");
+    final AirbyteMemoryDatabaseHistory databaseHistory = new AirbyteMemoryDatabaseHistory();
+    databaseHistory.storeRecord(record("db", "CREATE TABLE models (id INT)"));
+    databaseHistory.storeRecord(record("other_db", "CREATE TABLE models (id INT)"));
+
+    assertEquals(line("CREATE TABLE models (id INT)"), AirbyteMemoryDatabaseHistory.read());
+  }
+
+  @Test
+  public void testCompactionKeepsRecordsFromTheLastCreateTable() throws IOException {
+    final List<HistoryRecord> history = List.of(
+        record("db", "SET character_set_server=utf8"),
+        record("db", "CREATE TABLE models (id INT)"),
+        record("db", "CREATE TABLE `db`.`makes` (id INT)"),
+        record("db", "ALTER TABLE models ADD COLUMN name VARCHAR(200)"),
+        record("db", "DROP TABLE IF EXISTS `db`.`models`"),
+        record("db", "CREATE TABLE `models` (id INT, name VARCHAR(200))"),
+        record("db", "ALTER TABLE db.models ADD COLUMN make_id INT"),
+        record("db", "ALTER TABLE makes ADD COLUMN name VARCHAR(200)"));
+
+    assertEquals(List.of(
+        "SET character_set_server=utf8",
+        "CREATE TABLE `db`.`makes` (id INT)",
+        "CREATE TABLE `models` (id INT, name VARCHAR(200))",
+        "ALTER TABLE db.models ADD COLUMN make_id INT",
+        "ALTER TABLE makes ADD COLUMN name VARCHAR(200)"), ddl(AirbyteMemoryDatabaseHistory.compact(history, record -> true)));
+  }
+
+  @Test
+  public void testHistoryWithRenamesIsNotCompacted() throws IOException {
+    final List<HistoryRecord> history = List.of(
+        record("db", "CREATE TABLE models (id INT)"),
+        record("db", "RENAME TABLE models TO old_models"),
+        record("db", "CREATE TABLE models (id INT)"));
+
+    assertEquals(ddl(history), ddl(AirbyteMemoryDatabaseHistory.compact(history, record -> true)));
+  }
+
+  @Test
+  public void testCreateTableAfterTheOffsetDoesNotCompact() throws IOException {
+    final HistoryRecord createAfterOffset = record("db", "CREATE TABLE models (id INT, name VARCHAR(200))");
+    final List<HistoryRecord> history = List.of(
+        record("db", "CREATE TABLE models (id INT)"),
+        record("db", "ALTER TABLE models ADD COLUMN name VARCHAR(200)"),
+        record("db", "DROP TABLE models"),
+        createAfterOffset);
+
+    // the records after the offset are not replayed, the table is defined by the ones before it.
+    assertEquals(ddl(history), ddl(AirbyteMemoryDatabaseHistory.compact(history, record -> record != createAfterOffset)));
+  }
+
+  private static String line(final String ddl) {
+    return "{\"databaseName\":\"db\",\"ddl\":\"" + ddl + "\"}" + System.lineSeparator();
+  }
+
+  private static HistoryRecord record(final String databaseName, final String ddl) throws IOException {
+    return new HistoryRecord(DocumentReader.defaultReader().read(Jsons.serialize(
+        Jsons.jsonNode(Map.of(Fields.DATABASE_NAME, databaseName, Fields.DDL_STATEMENTS, ddl)))));
+  }
+
+  private static List<String> ddl(final List<HistoryRecord> history) {
+    return history.stream().map(record -> record.document().getString(Fields.DDL_STATEMENTS)).collect(Collectors.toList());
+  }
+
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2021 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.debezium.internals;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import io.airbyte.commons.json.Jsons;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class AirbyteMemoryOffsetBackingStoreTest {
+
+  private static final String KEY = "[\"test\",{\"server\":\"test\"}]";
+
+  @Test
+  public void testOffsetsAreSeededFromState() throws Exception {
+    AirbyteMemoryOffsetBackingStore.initializeState(Jsons.jsonNode(Map.of(KEY, "{\"file\":\"binlog.000002\",\"pos\":4}")));
+
+    final AirbyteMemoryOffsetBackingStore store = new AirbyteMemoryOffsetBackingStore();
+    store.start();
+    try {
+      final Map<ByteBuffer, ByteBuffer> offsets = store.get(List.of(toByteBuffer(KEY))).get();
+      assertEquals(toByteBuffer("{\"file\":\"binlog.000002\",\"pos\":4}"), offsets.get(toByteBuffer(KEY)));
+    } finally {
+      store.stop();
+    }
+  }
+
+  @Test
+  public void testCommittedOffsetsAreRead() throws Exception {
+    AirbyteMemoryOffsetBackingStore.initializeState(null);
+    assertEquals(Map.of(), AirbyteMemoryOffsetBackingStore.read());
+
+    final AirbyteMemoryOffsetBackingStore store = new AirbyteMemoryOffsetBackingStore();
+    store.start();
+    try {
+      store.set(Map.of(toByteBuffer(KEY), toByteBuffer("{\"file\":\"binlog.000003\",\"pos\":154}")), (error, result) -> {}).get();
+    } finally {
+      store.stop();
+    }
+
+    // the offsets are still read once the store is stopped, as they are when the engine is closed.
+    assertEquals(Map.of(KEY, "{\"file\":\"binlog.000003\",\"pos\":154}"), AirbyteMemoryOffsetBackingStore.read());
+  }
+
+  private static ByteBuffer toByteBuffer(final String s) {
+    return ByteBuffer.wrap(s.getBytes(StandardCharsets.UTF_8));
+  }
+
+}
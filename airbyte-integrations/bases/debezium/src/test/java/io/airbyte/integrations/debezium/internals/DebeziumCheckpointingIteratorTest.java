@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2021 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.debezium.internals;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.google.common.collect.AbstractIterator;
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.commons.util.AutoCloseableIterator;
+import io.airbyte.commons.util.AutoCloseableIterators;
+import io.airbyte.protocol.models.AirbyteMessage;
+import io.airbyte.protocol.models.AirbyteMessage.Type;
+import io.airbyte.protocol.models.AirbyteRecordMessage;
+import io.airbyte.protocol.models.AirbyteStateMessage;
+import io.debezium.engine.ChangeEvent;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+
+class DebeziumCheckpointingIteratorTest {
+
+  private static final AirbyteMessage STATE_MESSAGE = new AirbyteMessage().withType(Type.STATE)
+      .withState(new AirbyteStateMessage().withData(Jsons.jsonNode(Map.of("offset", "1"))));
+
+  @Test
+  public void testCheckpointIsEmittedAfterAllRecordsItCovers() throws Exception {
+    final DebeziumEventQueue queue = new DebeziumEventQueue(10, 100);
+    queue.offer(List.of(changeEvent(1, false), changeEvent(2, false), changeEvent(3, false)), 0, TimeUnit.SECONDS);
+    queue.offer(List.of(changeEvent(4, false)), 0, TimeUnit.SECONDS);
+
+    final List<String> emitted = readAll(checkpointingIterator(queue, 2));
+
+    // the checkpoint is taken at the second record, when the fourth one is already handed over.
+    assertEquals(List.of("1", "2", "3", "4", "state"), emitted);
+  }
+
+  @Test
+  public void testNoCheckpointDuringSnapshot() throws Exception {
+    final DebeziumEventQueue queue = new DebeziumEventQueue(10, 100);
+    queue.offer(List.of(changeEvent(1, true), changeEvent(2, true), changeEvent(3, true)), 0, TimeUnit.SECONDS);
+    queue.offer(List.of(changeEvent(4, false)), 0, TimeUnit.SECONDS);
+
+    final List<String> emitted = readAll(checkpointingIterator(queue, 1));
+
+    assertEquals(List.of("1", "2", "3", "4", "state"), emitted);
+  }
+
+  @Test
+  public void testCheckpointIsSkippedWhenStateCannotBeRead() throws Exception {
+    final DebeziumEventQueue queue = new DebeziumEventQueue(10, 100);
+    queue.offer(List.of(changeEvent(1, false), changeEvent(2, false)), 0, TimeUnit.SECONDS);
+
+    final DebeziumCheckpointingIterator iterator = new DebeziumCheckpointingIterator(
+        changeEventIterator(queue), DebeziumCheckpointingIteratorTest::toRecordMessage, Optional::empty, queue, 1, Duration.ofHours(1));
+
+    assertEquals(List.of("1", "2"), readAll(iterator));
+  }
+
+  private static DebeziumCheckpointingIterator checkpointingIterator(final DebeziumEventQueue queue, final long checkpointRecords) {
+    return new DebeziumCheckpointingIterator(
+        changeEventIterator(queue),
+        DebeziumCheckpointingIteratorTest::toRecordMessage,
+        () -> Optional.of(STATE_MESSAGE),
+        queue,
+        checkpointRecords,
+        Duration.ofHours(1));
+  }
+
+  private static AutoCloseableIterator<ChangeEventWithMetadata> changeEventIterator(final DebeziumEventQueue queue) {
+    return AutoCloseableIterators.fromIterator(new AbstractIterator<>() {
+
+      @Override
+      protected ChangeEventWithMetadata computeNext() {
+        try {
+          final ChangeEvent<String, String> next = queue.poll(0, TimeUnit.SECONDS);
+          return next == null ? endOfData() : new ChangeEventWithMetadata(next);
+        } catch (final InterruptedException e) {
+          throw new RuntimeException(e);
+        }
+      }
+
+    });
+  }
+
+  private static AirbyteMessage toRecordMessage(final ChangeEventWithMetadata event) {
+    return new AirbyteMessage().withType(Type.RECORD).withRecord(new AirbyteRecordMessage().withData(event.after()));
+  }
+
+  private static List<String> readAll(final DebeziumCheckpointingIterator iterator) {
+    final List<AirbyteMessage> messages = new ArrayList<>();
+    iterator.forEachRemaining(messages::add);
+    return messages.stream()
+        .map(message -> message.getType() == Type.STATE ? "state" : message.getRecord().getData().get("id").asText())
+        .collect(Collectors.toList());
+  }
+
+  @SuppressWarnings("unchecked")
+  private static ChangeEvent<String, String> changeEvent(final int id, final boolean snapshot) {
+    final ChangeEvent<String, String> event = mock(ChangeEvent.class);
+    when(event.value()).thenReturn(String.format(
+        "{\"before\": null, \"after\": {\"id\": %d}, \"source\": {\"snapshot\": \"%s\", \"ts_ms\": 1}, \"op\": \"c\"}", id, snapshot));
+    return event;
+  }
+
+}
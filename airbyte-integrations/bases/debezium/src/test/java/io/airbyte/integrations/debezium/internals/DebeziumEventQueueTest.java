@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2021 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.debezium.internals;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+import io.debezium.engine.ChangeEvent;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class DebeziumEventQueueTest {
+
+  @Test
+  public void testEventsAreTakenInOrderAcrossBatches() throws InterruptedException {
+    final DebeziumEventQueue queue = new DebeziumEventQueue(2, 4);
+    final ChangeEvent<String, String> event1 = mockChangeEvent();
+    final ChangeEvent<String, String> event2 = mockChangeEvent();
+    final ChangeEvent<String, String> event3 = mockChangeEvent();
+
+    assertTrue(queue.isEmpty());
+    assertTrue(queue.offer(List.of(event1, event2), 0, TimeUnit.SECONDS));
+    assertTrue(queue.offer(List.of(), 0, TimeUnit.SECONDS));
+    assertTrue(queue.offer(List.of(event3), 0, TimeUnit.SECONDS));
+    // the queue holds maxQueueSize / maxBatchSize batches.
+    assertFalse(queue.offer(List.of(mockChangeEvent()), 0, TimeUnit.SECONDS));
+
+    assertSame(event1, queue.poll(0, TimeUnit.SECONDS));
+    assertFalse(queue.isEmpty());
+    assertSame(event2, queue.poll(0, TimeUnit.SECONDS));
+    assertSame(event3, queue.poll(0, TimeUnit.SECONDS));
+    assertTrue(queue.isEmpty());
+    assertNull(queue.poll(10, TimeUnit.MILLISECONDS));
+  }
+
+  @Test
+  public void testSizesAreTakenFromProperties() {
+    final Properties properties = new Properties();
+    properties.setProperty(DebeziumEventQueue.MAX_BATCH_SIZE_PROPERTY, "100");
+    properties.setProperty(DebeziumEventQueue.MAX_QUEUE_SIZE_PROPERTY, "1000");
+
+    final DebeziumEventQueue queue = DebeziumEventQueue.fromProperties(properties);
+
+    assertEquals(100, queue.getMaxBatchSize());
+    assertEquals(1000, queue.getMaxQueueSize());
+  }
+
+  @Test
+  public void testDefaultBatchSizeIsSmallerThanSmallQueue() {
+    final Properties properties = new Properties();
+    properties.setProperty(DebeziumEventQueue.MAX_QUEUE_SIZE_PROPERTY, "1000");
+
+    final DebeziumEventQueue queue = DebeziumEventQueue.fromProperties(properties);
+
+    assertEquals(1000, queue.getMaxQueueSize());
+    assertEquals(999, queue.getMaxBatchSize());
+  }
+
+  @Test
+  public void testDefaultSizesKeepBatchesSmallerThanQueue() {
+    final DebeziumEventQueue queue = DebeziumEventQueue.fromProperties(new Properties());
+
+    assertTrue(queue.getMaxQueueSize() >= 8192);
+    assertTrue(queue.getMaxBatchSize() >= 2048);
+    assertTrue(queue.getMaxBatchSize() < queue.getMaxQueueSize());
+  }
+
+  @SuppressWarnings("unchecked")
+  private static ChangeEvent<String, String> mockChangeEvent() {
+    return mock(ChangeEvent.class);
+  }
+
+}
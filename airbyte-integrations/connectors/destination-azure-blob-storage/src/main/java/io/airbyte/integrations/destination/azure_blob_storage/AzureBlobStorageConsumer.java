@@ -11,6 +11,7 @@ import com.azure.storage.common.StorageSharedKeyCredential;
 import io.airbyte.commons.json.Jsons;
 import io.airbyte.integrations.base.AirbyteStreamNameNamespacePair;
 import io.airbyte.integrations.base.FailureTrackingAirbyteMessageConsumer;
+import io.airbyte.integrations.destination.RecordIdGenerator;
 import io.airbyte.integrations.destination.azure_blob_storage.writer.AzureBlobStorageWriter;
 import io.airbyte.integrations.destination.azure_blob_storage.writer.AzureBlobStorageWriterFactory;
 import io.airbyte.protocol.models.AirbyteMessage;
@@ -22,7 +23,6 @@ import io.airbyte.protocol.models.ConfiguredAirbyteStream;
 import io.airbyte.protocol.models.SyncMode;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.UUID;
 import java.util.function.Consumer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -141,7 +141,7 @@ public class AzureBlobStorageConsumer extends FailureTrackingAirbyteMessageConsu
     }
 
     try {
-      streamNameAndNamespaceToWriters.get(pair).write(UUID.randomUUID(), recordMessage);
+      streamNameAndNamespaceToWriters.get(pair).write(RecordIdGenerator.nextId(), recordMessage);
 
     } catch (final Exception e) {
       LOGGER.error(String.format("Failed to write messagefor stream %s, details: %s",
@@ -16,6 +16,7 @@ import com.google.common.collect.ImmutableMap;
 import io.airbyte.commons.json.Jsons;
 import io.airbyte.commons.util.MoreIterators;
 import io.airbyte.integrations.base.JavaBaseConstants;
+import io.airbyte.integrations.destination.RecordIdGenerator;
 import io.airbyte.integrations.destination.StandardNameTransformer;
 import io.airbyte.integrations.destination.bigquery.BigQueryDenormalizedDestination;
 import io.airbyte.integrations.destination.bigquery.BigQueryUtils;
@@ -24,7 +25,6 @@ import io.airbyte.protocol.models.AirbyteRecordMessage;
 import io.airbyte.protocol.models.ConfiguredAirbyteCatalog;
 import java.util.List;
 import java.util.Set;
-import java.util.UUID;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
@@ -68,7 +68,7 @@ public class BigQueryDenormalizedUploadStandardStrategy extends BigQueryUploadSt
         }
       });
     }
-    data.put(JavaBaseConstants.COLUMN_NAME_AB_ID, UUID.randomUUID().toString());
+    data.put(JavaBaseConstants.COLUMN_NAME_AB_ID, RecordIdGenerator.nextIdString());
     data.put(JavaBaseConstants.COLUMN_NAME_EMITTED_AT, formattedEmittedAt);
 
     return data;
@@ -18,6 +18,7 @@ import com.google.cloud.bigquery.QueryParameterValue;
 import com.google.cloud.bigquery.Schema;
 import com.google.cloud.bigquery.TableId;
 import io.airbyte.commons.json.Jsons;
+import io.airbyte.integrations.destination.RecordIdGenerator;
 import io.airbyte.integrations.destination.StandardNameTransformer;
 import io.airbyte.integrations.destination.bigquery.BigQueryWriteConfig;
 import io.airbyte.integrations.destination.gcs.csv.GcsCsvWriter;
@@ -25,7 +26,6 @@ import io.airbyte.protocol.models.AirbyteMessage;
 import io.airbyte.protocol.models.ConfiguredAirbyteCatalog;
 import java.io.IOException;
 import java.util.List;
-import java.util.UUID;
 import java.util.concurrent.TimeUnit;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -51,7 +51,7 @@ public class BigQueryUploadGCSStrategy implements BigQueryUploadStrategy {
     final JsonNode formattedData = StandardNameTransformer.formatJsonPath(airbyteRecordMessage.getData());
     try {
       gcsCsvWriter.getCsvPrinter().printRecord(
-          UUID.randomUUID().toString(),
+          RecordIdGenerator.nextIdString(),
           formattedEmittedAt,
           Jsons.serialize(formattedData));
     } catch (IOException e) {
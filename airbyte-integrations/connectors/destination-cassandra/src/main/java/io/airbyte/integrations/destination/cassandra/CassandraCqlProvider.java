@@ -13,18 +13,23 @@ import com.datastax.oss.driver.api.core.cql.BoundStatement;
 import com.datastax.oss.driver.api.core.cql.PreparedStatement;
 import com.datastax.oss.driver.api.core.metadata.TokenMap;
 import com.datastax.oss.driver.api.core.type.DataTypes;
-import com.datastax.oss.driver.api.core.uuid.Uuids;
 import com.datastax.oss.driver.api.querybuilder.QueryBuilder;
 import com.datastax.oss.driver.api.querybuilder.SchemaBuilder;
 import io.airbyte.integrations.base.JavaBaseConstants;
+import io.airbyte.integrations.destination.RecordIdGenerator;
 import java.io.Closeable;
 import java.time.Instant;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -35,6 +40,9 @@ class CassandraCqlProvider implements Closeable {
 
   private static final int N_THREADS = Runtime.getRuntime().availableProcessors();
 
+  // maximum number of asynchronous inserts waiting for a response, writers block once it is reached
+  private static final int MAX_IN_FLIGHT_WRITES = 256;
+
   private final ExecutorService executorService;
 
   private final CqlSession cqlSession;
@@ -47,6 +55,14 @@ class CassandraCqlProvider implements Closeable {
 
   private final String columnTimestamp;
 
+  private final Map<String, PreparedStatement> insertStatements;
+
+  private final Semaphore inFlightWrites;
+
+  private final AtomicReference<Throwable> writeFailure;
+
+  private final AtomicBoolean closed;
+
   public CassandraCqlProvider(CassandraConfig cassandraConfig) {
     this.cassandraConfig = cassandraConfig;
     this.cqlSession = SessionManager.initSession(cassandraConfig);
@@ -55,6 +71,10 @@ class CassandraCqlProvider implements Closeable {
     this.columnData = nameTransformer.outputColumn(JavaBaseConstants.COLUMN_NAME_DATA);
     this.columnTimestamp = nameTransformer.outputColumn(JavaBaseConstants.COLUMN_NAME_EMITTED_AT);
     this.executorService = Executors.newFixedThreadPool(N_THREADS);
+    this.insertStatements = new ConcurrentHashMap<>();
+    this.inFlightWrites = new Semaphore(MAX_IN_FLIGHT_WRITES);
+    this.writeFailure = new AtomicReference<>();
+    this.closed = new AtomicBoolean(false);
   }
 
   public void createKeySpaceIfNotExists(String keyspace, int replicationFactor) {
@@ -83,12 +103,57 @@ class CassandraCqlProvider implements Closeable {
   }
 
   public void insert(String keyspace, String tableName, String jsonData) {
-    var query = QueryBuilder.insertInto(keyspace, tableName)
-        .value(columnId, QueryBuilder.literal(Uuids.random()))
-        .value(columnData, QueryBuilder.literal(jsonData))
-        .value(columnTimestamp, QueryBuilder.toTimestamp(now()))
-        .build();
-    cqlSession.execute(query);
+    cqlSession.execute(prepareInsert(keyspace, tableName).bind(RecordIdGenerator.nextId(), jsonData));
+  }
+
+  /*
+   * Sends the insert without waiting for its response. At most MAX_IN_FLIGHT_WRITES inserts are
+   * pending at any time, after that the caller blocks until one of them completes. A failed insert is
+   * rethrown by the next call to insertAsync or flush.
+   *
+   * Records are not grouped into batches: every record has its own partition key, and batches that
+   * span partitions only add load on the coordinator.
+   */
+  public void insertAsync(String keyspace, String tableName, String jsonData) throws InterruptedException {
+    rethrowWriteFailure();
+    var statement = prepareInsert(keyspace, tableName).bind(RecordIdGenerator.nextId(), jsonData);
+    inFlightWrites.acquire();
+    try {
+      cqlSession.executeAsync(statement).whenComplete((result, error) -> {
+        if (error != null) {
+          writeFailure.compareAndSet(null, error);
+        }
+        inFlightWrites.release();
+      });
+    } catch (RuntimeException e) {
+      inFlightWrites.release();
+      throw e;
+    }
+  }
+
+  /*
+   * Waits until all inserts sent with insertAsync have completed and rethrows the first failure.
+   */
+  public void flush() throws InterruptedException {
+    inFlightWrites.acquire(MAX_IN_FLIGHT_WRITES);
+    inFlightWrites.release(MAX_IN_FLIGHT_WRITES);
+    rethrowWriteFailure();
+  }
+
+  private void rethrowWriteFailure() {
+    var failure = writeFailure.get();
+    if (failure != null) {
+      throw new IllegalStateException("Error while inserting data", failure);
+    }
+  }
+
+  private PreparedStatement prepareInsert(String keyspace, String tableName) {
+    return insertStatements.computeIfAbsent(keyspace + "." + tableName, k -> cqlSession.prepare(
+        QueryBuilder.insertInto(keyspace, tableName)
+            .value(columnId, QueryBuilder.bindMarker())
+            .value(columnData, QueryBuilder.bindMarker())
+            .value(columnTimestamp, QueryBuilder.toTimestamp(now()))
+            .build()));
   }
 
   public void truncate(String keyspace, String tableName) {
@@ -170,6 +235,13 @@ class CassandraCqlProvider implements Closeable {
 
   @Override
   public void close() {
+    // closing again would wait forever on the write permits taken below, and release the shared,
+    // reference counted session a second time
+    if (!closed.compareAndSet(false, true)) {
+      return;
+    }
+    // let pending inserts complete before the session is closed, their failures no longer matter here
+    inFlightWrites.acquireUninterruptibly(MAX_IN_FLIGHT_WRITES);
     // wait for tasks completion and terminate executor gracefully
     executorService.shutdown();
     // close cassandra session for the given config
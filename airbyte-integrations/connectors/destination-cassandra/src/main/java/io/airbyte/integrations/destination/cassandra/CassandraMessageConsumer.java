@@ -55,7 +55,7 @@ class CassandraMessageConsumer extends FailureTrackingAirbyteMessageConsumer {
   }
 
   @Override
-  protected void acceptTracked(AirbyteMessage message) {
+  protected void acceptTracked(AirbyteMessage message) throws Exception {
     if (message.getType() == AirbyteMessage.Type.RECORD) {
       var messageRecord = message.getRecord();
       var streamConfig =
@@ -64,7 +64,7 @@ class CassandraMessageConsumer extends FailureTrackingAirbyteMessageConsumer {
         throw new IllegalArgumentException("Unrecognized destination stream");
       }
       var data = Jsons.serialize(messageRecord.getData());
-      cassandraCqlProvider.insert(streamConfig.getKeyspace(), streamConfig.getTempTableName(), data);
+      cassandraCqlProvider.insertAsync(streamConfig.getKeyspace(), streamConfig.getTempTableName(), data);
     } else if (message.getType() == AirbyteMessage.Type.STATE) {
       this.lastMessage = message;
     } else {
@@ -73,37 +73,40 @@ class CassandraMessageConsumer extends FailureTrackingAirbyteMessageConsumer {
   }
 
   @Override
-  protected void close(boolean hasFailed) {
-    if (!hasFailed) {
-      cassandraStreams.forEach((k, v) -> {
-        try {
-          cassandraCqlProvider.createTableIfNotExists(v.getKeyspace(), v.getTableName());
-          switch (v.getDestinationSyncMode()) {
-            case APPEND -> {
-              cassandraCqlProvider.copy(v.getKeyspace(), v.getTempTableName(), v.getTableName());
-            }
-            case OVERWRITE -> {
-              cassandraCqlProvider.truncate(v.getKeyspace(), v.getTableName());
-              cassandraCqlProvider.copy(v.getKeyspace(), v.getTempTableName(), v.getTableName());
+  protected void close(boolean hasFailed) throws Exception {
+    try {
+      if (!hasFailed) {
+        // the state message may only be emitted once every insert before it is acknowledged
+        cassandraCqlProvider.flush();
+        cassandraStreams.forEach((k, v) -> {
+          try {
+            cassandraCqlProvider.createTableIfNotExists(v.getKeyspace(), v.getTableName());
+            switch (v.getDestinationSyncMode()) {
+              case APPEND -> {
+                cassandraCqlProvider.copy(v.getKeyspace(), v.getTempTableName(), v.getTableName());
+              }
+              case OVERWRITE -> {
+                cassandraCqlProvider.truncate(v.getKeyspace(), v.getTableName());
+                cassandraCqlProvider.copy(v.getKeyspace(), v.getTempTableName(), v.getTableName());
+              }
+              default -> throw new UnsupportedOperationException();
             }
-            default -> throw new UnsupportedOperationException();
+          } catch (Exception e) {
+            LOGGER.error("Error while copying data to table {}: : ", v.getTableName(), e);
           }
+        });
+        outputRecordCollector.accept(lastMessage);
+      }
+    } finally {
+      cassandraStreams.forEach((k, v) -> {
+        try {
+          cassandraCqlProvider.dropTableIfExists(v.getKeyspace(), v.getTempTableName());
         } catch (Exception e) {
-          LOGGER.error("Error while copying data to table {}: : ", v.getTableName(), e);
+          LOGGER.error("Error while deleting temp table {} with reason: ", v.getTempTableName(), e);
         }
       });
-      outputRecordCollector.accept(lastMessage);
+      cassandraCqlProvider.close();
     }
-
-    cassandraStreams.forEach((k, v) -> {
-      try {
-        cassandraCqlProvider.dropTableIfExists(v.getKeyspace(), v.getTempTableName());
-      } catch (Exception e) {
-        LOGGER.error("Error while deleting temp table {} with reason: ", v.getTempTableName(), e);
-      }
-    });
-    cassandraCqlProvider.close();
-
   }
 
 }
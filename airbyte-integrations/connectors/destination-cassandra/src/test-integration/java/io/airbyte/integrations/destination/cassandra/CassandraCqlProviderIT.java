@@ -7,8 +7,10 @@ package io.airbyte.integrations.destination.cassandra;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
 
 import com.datastax.oss.driver.api.core.servererrors.InvalidQueryException;
+import java.time.Duration;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
@@ -23,12 +25,14 @@ class CassandraCqlProviderIT {
 
   private CassandraCqlProvider cassandraCqlProvider;
 
+  private CassandraConfig cassandraConfig;
+
   private CassandraNameTransformer nameTransformer;
 
   @BeforeAll
   void setup() {
     var cassandraContainer = CassandraContainerInitializr.initContainer();
-    var cassandraConfig = TestDataFactory.createCassandraConfig(
+    this.cassandraConfig = TestDataFactory.createCassandraConfig(
         cassandraContainer.getUsername(),
         cassandraContainer.getPassword(),
         cassandraContainer.getHost(),
@@ -76,6 +80,26 @@ class CassandraCqlProviderIT {
 
   }
 
+  @Test
+  void testInsertAsync() throws InterruptedException {
+    // given
+    for (int i = 0; i < 1000; i++) {
+      cassandraCqlProvider.insertAsync(CASSANDRA_KEYSPACE, CASSANDRA_TABLE, "{\"property\":\"data" + i + "\"}");
+    }
+    cassandraCqlProvider.flush();
+
+    // when
+    var resultSet = cassandraCqlProvider.select(CASSANDRA_KEYSPACE, CASSANDRA_TABLE);
+
+    // then
+    assertThat(resultSet)
+        .isNotNull()
+        .hasSize(1000)
+        .anyMatch(r -> r.getData().equals("{\"property\":\"data0\"}"))
+        .anyMatch(r -> r.getData().equals("{\"property\":\"data999\"}"));
+
+  }
+
   @Test
   void testTruncate() {
     // given
@@ -106,6 +130,21 @@ class CassandraCqlProviderIT {
     assertThrows(InvalidQueryException.class, () -> cassandraCqlProvider.select(CASSANDRA_KEYSPACE, table));
   }
 
+  @Test
+  void testCloseTwice() {
+    // given
+    var otherCqlProvider = new CassandraCqlProvider(cassandraConfig);
+
+    // when
+    assertTimeoutPreemptively(Duration.ofSeconds(10), () -> {
+      otherCqlProvider.close();
+      otherCqlProvider.close();
+    });
+
+    // then the session shared with the other provider is still open
+    assertDoesNotThrow(() -> cassandraCqlProvider.select(CASSANDRA_KEYSPACE, CASSANDRA_TABLE));
+  }
+
   @Test
   void testCopy() {
     // given
@@ -13,6 +13,7 @@ import io.airbyte.integrations.base.CommitOnStateAirbyteMessageConsumer;
 import io.airbyte.integrations.base.Destination;
 import io.airbyte.integrations.base.IntegrationRunner;
 import io.airbyte.integrations.base.JavaBaseConstants;
+import io.airbyte.integrations.destination.RecordIdGenerator;
 import io.airbyte.integrations.destination.StandardNameTransformer;
 import io.airbyte.protocol.models.AirbyteConnectionStatus;
 import io.airbyte.protocol.models.AirbyteConnectionStatus.Status;
@@ -30,7 +31,6 @@ import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.UUID;
 import java.util.function.Consumer;
 import org.apache.commons.csv.CSVFormat;
 import org.apache.commons.csv.CSVPrinter;
@@ -161,7 +161,7 @@ public class CsvDestination extends BaseConnector implements Destination {
       }
 
       writeConfigs.get(recordMessage.getStream()).getWriter().printRecord(
-          UUID.randomUUID(),
+          RecordIdGenerator.nextId(),
           recordMessage.getEmittedAt(),
           Jsons.serialize(recordMessage.getData()));
     }
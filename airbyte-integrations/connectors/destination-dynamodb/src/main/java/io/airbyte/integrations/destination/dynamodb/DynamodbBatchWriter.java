@@ -0,0 +1,215 @@
+/*
+ * Copyright (c) 2021 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.destination.dynamodb;
+
+import com.amazonaws.AmazonServiceException;
+import com.amazonaws.retry.RetryUtils;
+import com.amazonaws.services.dynamodbv2.AmazonDynamoDB;
+import com.amazonaws.services.dynamodbv2.model.BatchWriteItemRequest;
+import com.amazonaws.services.dynamodbv2.model.BatchWriteItemResult;
+import com.amazonaws.services.dynamodbv2.model.ConsumedCapacity;
+import com.amazonaws.services.dynamodbv2.model.ReturnConsumedCapacity;
+import com.amazonaws.services.dynamodbv2.model.WriteRequest;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.atomic.LongAdder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Sends BatchWriteItem requests for all streams of a sync from a pool of threads.
+ *
+ * <p>
+ * The number of batches in flight follows an additive-increase/multiplicative-decrease limit: it
+ * grows by one after a full window of batches is written without throttling, and halves when a
+ * request is throttled or returns unprocessed items. A batch keeps its slot until all of its items
+ * are written, so the items left unprocessed by throttling are retried, with exponential backoff and
+ * full jitter, before new batches are admitted. The first batch that cannot be written fails the
+ * writer, and the failure is rethrown on the consumer thread.
+ * </p>
+ */
+class DynamodbBatchWriter {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(DynamodbBatchWriter.class);
+
+  static final int MAX_ITEMS_PER_BATCH = 25;
+  static final int MAX_CONCURRENCY = 64;
+  private static final int MIN_CONCURRENCY = 4;
+  private static final int INITIAL_CONCURRENCY = 16;
+  private static final int MAX_ATTEMPTS = 10;
+  private static final long BASE_BACKOFF_MS = 50;
+  private static final long MAX_BACKOFF_MS = 5_000;
+  // concurrent requests are usually throttled together, only one of them halves the limit.
+  private static final long DECREASE_COOLDOWN_NANOS = TimeUnit.MILLISECONDS.toNanos(500);
+
+  private final AmazonDynamoDB amazonDynamodb;
+  private final ExecutorService executorService;
+  private final AtomicReference<Exception> writeFailure = new AtomicReference<>();
+  private final DoubleAdder consumedCapacityUnits = new DoubleAdder();
+  private final LongAdder throttledRequests = new LongAdder();
+
+  // guarded by this
+  private int concurrencyLimit = INITIAL_CONCURRENCY;
+  private int inFlightBatches = 0;
+  private int batchesSinceIncrease = 0;
+  private long lastDecreaseNanos = System.nanoTime() - DECREASE_COOLDOWN_NANOS;
+
+  DynamodbBatchWriter(final AmazonDynamoDB amazonDynamodb) {
+    this.amazonDynamodb = amazonDynamodb;
+    this.executorService = Executors.newFixedThreadPool(MAX_CONCURRENCY,
+        new ThreadFactoryBuilder().setNameFormat("dynamodb-batch-writer-%d").setDaemon(true).build());
+  }
+
+  /**
+   * Submits up to {@link #MAX_ITEMS_PER_BATCH} write requests for one table, blocking while the
+   * concurrency limit is reached.
+   */
+  void submit(final String tableName, final List<WriteRequest> writeRequests) throws Exception {
+    rethrowWriteFailure();
+    acquireSlot();
+    try {
+      executorService.execute(() -> writeBatch(Map.of(tableName, writeRequests), 0));
+    } catch (final RuntimeException e) {
+      releaseSlot();
+      throw e;
+    }
+  }
+
+  /**
+   * Waits until all submitted batches are written and rethrows the first write failure.
+   */
+  void flush() throws Exception {
+    awaitNoBatchesInFlight();
+    LOGGER.info("Consumed {} write capacity units, {} requests throttled, final concurrency limit {}.",
+        consumedCapacityUnits.sum(), throttledRequests.sum(), getConcurrencyLimit());
+    rethrowWriteFailure();
+  }
+
+  /**
+   * Waits for the batches in flight and stops the writer threads. Does not rethrow write failures.
+   */
+  void close() throws InterruptedException {
+    try {
+      awaitNoBatchesInFlight();
+    } finally {
+      executorService.shutdownNow();
+    }
+  }
+
+  @VisibleForTesting
+  synchronized int getConcurrencyLimit() {
+    return concurrencyLimit;
+  }
+
+  private void writeBatch(final Map<String, List<WriteRequest>> requestItems, final int attempt) {
+    Map<String, List<WriteRequest>> unprocessedItems;
+    try {
+      final BatchWriteItemResult result = amazonDynamodb.batchWriteItem(new BatchWriteItemRequest()
+          .withRequestItems(requestItems)
+          .withReturnConsumedCapacity(ReturnConsumedCapacity.TOTAL));
+      if (result.getConsumedCapacity() != null) {
+        for (final ConsumedCapacity consumedCapacity : result.getConsumedCapacity()) {
+          if (consumedCapacity.getCapacityUnits() != null) {
+            consumedCapacityUnits.add(consumedCapacity.getCapacityUnits());
+          }
+        }
+      }
+      unprocessedItems = result.getUnprocessedItems();
+    } catch (final AmazonServiceException e) {
+      if (!RetryUtils.isThrottlingException(e) && e.getStatusCode() < 500) {
+        fail(e);
+        return;
+      }
+      LOGGER.debug("BatchWriteItem request failed, retrying.", e);
+      unprocessedItems = requestItems;
+    } catch (final RuntimeException e) {
+      fail(e);
+      return;
+    }
+
+    if (unprocessedItems == null || unprocessedItems.isEmpty()) {
+      onBatchWritten();
+      releaseSlot();
+      return;
+    }
+
+    onThrottled();
+    if (attempt + 1 >= MAX_ATTEMPTS) {
+      fail(new IllegalStateException(String.format("%d items were still unprocessed after %d attempts.",
+          unprocessedItems.values().stream().mapToInt(List::size).sum(), MAX_ATTEMPTS)));
+      return;
+    }
+    final Map<String, List<WriteRequest>> retryItems = unprocessedItems;
+    try {
+      CompletableFuture.delayedExecutor(backoffMillis(attempt), TimeUnit.MILLISECONDS, executorService)
+          .execute(() -> writeBatch(retryItems, attempt + 1));
+    } catch (final RuntimeException e) {
+      fail(e);
+    }
+  }
+
+  private static long backoffMillis(final int attempt) {
+    final long ceiling = Math.min(MAX_BACKOFF_MS, BASE_BACKOFF_MS << Math.min(attempt, 16));
+    return ThreadLocalRandom.current().nextLong(ceiling + 1);
+  }
+
+  private void fail(final Exception e) {
+    LOGGER.error("Failed to write batch to DynamoDB.", e);
+    writeFailure.compareAndSet(null, e);
+    releaseSlot();
+  }
+
+  private void rethrowWriteFailure() throws Exception {
+    final Exception failure = writeFailure.get();
+    if (failure != null) {
+      throw failure;
+    }
+  }
+
+  private synchronized void acquireSlot() throws InterruptedException {
+    while (inFlightBatches >= concurrencyLimit) {
+      wait();
+    }
+    inFlightBatches++;
+  }
+
+  private synchronized void releaseSlot() {
+    inFlightBatches--;
+    notifyAll();
+  }
+
+  private synchronized void awaitNoBatchesInFlight() throws InterruptedException {
+    while (inFlightBatches > 0) {
+      wait();
+    }
+  }
+
+  private synchronized void onBatchWritten() {
+    if (++batchesSinceIncrease >= concurrencyLimit && concurrencyLimit < MAX_CONCURRENCY) {
+      batchesSinceIncrease = 0;
+      concurrencyLimit++;
+    }
+  }
+
+  private synchronized void onThrottled() {
+    throttledRequests.increment();
+    batchesSinceIncrease = 0;
+    final long now = System.nanoTime();
+    if (now - lastDecreaseNanos >= DECREASE_COOLDOWN_NANOS) {
+      lastDecreaseNanos = now;
+      concurrencyLimit = Math.max(MIN_CONCURRENCY, concurrencyLimit / 2);
+    }
+  }
+
+}
@@ -14,6 +14,7 @@ import com.amazonaws.services.dynamodbv2.AmazonDynamoDBClientBuilder;
 import io.airbyte.commons.json.Jsons;
 import io.airbyte.integrations.base.AirbyteStreamNameNamespacePair;
 import io.airbyte.integrations.base.FailureTrackingAirbyteMessageConsumer;
+import io.airbyte.integrations.destination.RecordIdGenerator;
 import io.airbyte.protocol.models.*;
 import java.util.*;
 import java.util.function.Consumer;
@@ -28,6 +29,7 @@ public class DynamodbConsumer extends FailureTrackingAirbyteMessageConsumer {
   private final ConfiguredAirbyteCatalog configuredCatalog;
   private final Consumer<AirbyteMessage> outputRecordCollector;
   private final Map<AirbyteStreamNameNamespacePair, DynamodbWriter> streamNameAndNamespaceToWriters;
+  private DynamodbBatchWriter batchWriter;
 
   private AirbyteMessage lastStateMessage = null;
 
@@ -47,14 +49,17 @@ public class DynamodbConsumer extends FailureTrackingAirbyteMessageConsumer {
     final AWSCredentials awsCreds =
         new BasicAWSCredentials(dynamodbDestinationConfig.getAccessKeyId(), dynamodbDestinationConfig.getSecretAccessKey());
     AmazonDynamoDB amazonDynamodb = null;
+    // one connection per concurrent batch request
+    final ClientConfiguration clientConfiguration = new ClientConfiguration()
+        .withMaxConnections(DynamodbBatchWriter.MAX_CONCURRENCY);
 
     if (endpoint.isEmpty()) {
       amazonDynamodb = AmazonDynamoDBClientBuilder.standard()
+          .withClientConfiguration(clientConfiguration)
           .withCredentials(new AWSStaticCredentialsProvider(awsCreds))
           .withRegion(dynamodbDestinationConfig.getRegion())
           .build();
     } else {
-      final ClientConfiguration clientConfiguration = new ClientConfiguration();
       clientConfiguration.setSignerOverride("AWSDynamodbSignerType");
 
       amazonDynamodb = AmazonDynamoDBClientBuilder
@@ -66,9 +71,10 @@ public class DynamodbConsumer extends FailureTrackingAirbyteMessageConsumer {
     }
 
     final var uploadTimestamp = System.currentTimeMillis();
+    batchWriter = new DynamodbBatchWriter(amazonDynamodb);
 
     for (final ConfiguredAirbyteStream configuredStream : configuredCatalog.getStreams()) {
-      final var writer = new DynamodbWriter(dynamodbDestinationConfig, amazonDynamodb, configuredStream, uploadTimestamp);
+      final var writer = new DynamodbWriter(dynamodbDestinationConfig, amazonDynamodb, batchWriter, configuredStream, uploadTimestamp);
 
       final AirbyteStream stream = configuredStream.getStream();
       final AirbyteStreamNameNamespacePair streamNamePair = AirbyteStreamNameNamespacePair
@@ -97,13 +103,24 @@ public class DynamodbConsumer extends FailureTrackingAirbyteMessageConsumer {
               Jsons.serialize(configuredCatalog), Jsons.serialize(recordMessage)));
     }
 
-    streamNameAndNamespaceToWriters.get(pair).write(UUID.randomUUID(), recordMessage);
+    streamNameAndNamespaceToWriters.get(pair).write(RecordIdGenerator.nextId(), recordMessage);
   }
 
   @Override
   protected void close(final boolean hasFailed) throws Exception {
-    for (final DynamodbWriter handler : streamNameAndNamespaceToWriters.values()) {
-      handler.close(hasFailed);
+    if (batchWriter == null) {
+      return;
+    }
+    try {
+      for (final DynamodbWriter handler : streamNameAndNamespaceToWriters.values()) {
+        handler.close(hasFailed);
+      }
+      if (!hasFailed) {
+        batchWriter.flush();
+        LOGGER.info("Data writing completed for DynamoDB.");
+      }
+    } finally {
+      batchWriter.close();
     }
     // DynamoDB stream uploader is all or nothing if a failure happens in the destination.
     if (!hasFailed) {
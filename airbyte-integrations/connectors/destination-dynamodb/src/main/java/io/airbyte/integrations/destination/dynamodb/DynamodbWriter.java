@@ -10,13 +10,13 @@ import com.amazonaws.services.dynamodbv2.model.*;
 import com.amazonaws.services.dynamodbv2.util.TableUtils;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.ObjectWriter;
 import io.airbyte.commons.jackson.MoreMappers;
 import io.airbyte.integrations.base.JavaBaseConstants;
 import io.airbyte.protocol.models.AirbyteRecordMessage;
 import io.airbyte.protocol.models.ConfiguredAirbyteStream;
 import io.airbyte.protocol.models.DestinationSyncMode;
-import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import org.slf4j.Logger;
@@ -27,18 +27,18 @@ public class DynamodbWriter {
   protected static final Logger LOGGER = LoggerFactory.getLogger(DynamodbWriter.class);
 
   private static final ObjectMapper MAPPER = MoreMappers.initMapper();
-  private static final ObjectWriter WRITER = MAPPER.writer();
 
   private final DynamodbDestinationConfig config;
   private final DynamoDB dynamodb;
   private final ConfiguredAirbyteStream configuredStream;
   private final long uploadTimestamp;
-  private TableWriteItems tableWriteItems;
+  private final DynamodbBatchWriter batchWriter;
   private final String outputTableName;
-  private final int batchSize = 25;
+  private List<WriteRequest> pendingWriteRequests;
 
   public DynamodbWriter(final DynamodbDestinationConfig config,
                         final AmazonDynamoDB amazonDynamodb,
+                        final DynamodbBatchWriter batchWriter,
                         final ConfiguredAirbyteStream configuredStream,
                         final long uploadTimestamp) {
 
@@ -46,6 +46,7 @@ public class DynamodbWriter {
     this.dynamodb = new DynamoDB(amazonDynamodb);
     this.configuredStream = configuredStream;
     this.uploadTimestamp = uploadTimestamp;
+    this.batchWriter = batchWriter;
     this.outputTableName = DynamodbOutputTableHelper.getOutputTableName(config.getTableName(), configuredStream.getStream());
 
     final DestinationSyncMode syncMode = configuredStream.getDestinationSyncMode();
@@ -72,7 +73,7 @@ public class DynamodbWriter {
       LOGGER.error(e.getMessage());
     }
 
-    this.tableWriteItems = new TableWriteItems(outputTableName);
+    this.pendingWriteRequests = new ArrayList<>(DynamodbBatchWriter.MAX_ITEMS_PER_BATCH);
   }
 
   private static boolean isTableExist(final Table table) {
@@ -108,58 +109,39 @@ public class DynamodbWriter {
     return new DynamoDB(amazonDynamodb).getTable(tableName);
   }
 
-  public void write(final UUID id, final AirbyteRecordMessage recordMessage) {
-
-    final ObjectMapper mapper = new ObjectMapper();
-    final Map<String, Object> dataMap = mapper.convertValue(recordMessage.getData(), new TypeReference<Map<String, Object>>() {});
+  public void write(final UUID id, final AirbyteRecordMessage recordMessage) throws Exception {
+    final Map<String, Object> dataMap = MAPPER.convertValue(recordMessage.getData(), new TypeReference<Map<String, Object>>() {});
 
     final var item = new Item()
-        .withPrimaryKey(JavaBaseConstants.COLUMN_NAME_AB_ID, UUID.randomUUID().toString(), "sync_time", uploadTimestamp)
+        .withPrimaryKey(JavaBaseConstants.COLUMN_NAME_AB_ID, id.toString(), "sync_time", uploadTimestamp)
         .withMap(JavaBaseConstants.COLUMN_NAME_DATA, dataMap)
         .withLong(JavaBaseConstants.COLUMN_NAME_EMITTED_AT, recordMessage.getEmittedAt());
-    tableWriteItems.addItemToPut(item);
-    BatchWriteItemOutcome outcome;
-    if (tableWriteItems.getItemsToPut().size() >= batchSize) {
-      try {
-        int maxRetries = 5;
-        outcome = dynamodb.batchWriteItem(tableWriteItems);
-        tableWriteItems = new TableWriteItems(this.outputTableName);
-
-        while (outcome.getUnprocessedItems().size() > 0 && maxRetries > 0) {
-          outcome = dynamodb.batchWriteItemUnprocessed(outcome.getUnprocessedItems());
-          maxRetries--;
-        }
-
-        if (maxRetries == 0) {
-          LOGGER.warn(String.format("Unprocessed items count after retry %d times: %s", 5, Integer.toString(outcome.getUnprocessedItems().size())));
-        }
-      } catch (final Exception e) {
-        LOGGER.error(e.getMessage());
-      }
+    pendingWriteRequests.add(new WriteRequest(new PutRequest(ItemUtils.toAttributeValues(item))));
+    if (pendingWriteRequests.size() >= DynamodbBatchWriter.MAX_ITEMS_PER_BATCH) {
+      submitPendingWriteRequests();
     }
   }
 
-  public void close(final boolean hasFailed) throws IOException {
+  /**
+   * Hands the remaining items over to the batch writer. The caller waits for them with
+   * {@link DynamodbBatchWriter#flush()}.
+   */
+  public void close(final boolean hasFailed) throws Exception {
     if (hasFailed) {
       LOGGER.warn("Failure in writing data to DynamoDB. Aborting...");
+      pendingWriteRequests.clear();
     } else {
-      try {
-        int maxRetries = 5;
-        if (tableWriteItems.getItemsToPut().size() > 0) {
-          var outcome = dynamodb.batchWriteItem(tableWriteItems);
-          while (outcome.getUnprocessedItems().size() > 0 && maxRetries > 0) {
-            outcome = dynamodb.batchWriteItemUnprocessed(outcome.getUnprocessedItems());
-            maxRetries--;
-          }
-          if (maxRetries == 0) {
-            LOGGER.warn(String.format("Unprocessed items count after retry %d times: %s", 5, Integer.toString(outcome.getUnprocessedItems().size())));
-          }
-        }
-      } catch (final Exception e) {
-        LOGGER.error(e.getMessage());
-      }
-      LOGGER.info("Data writing completed for DynamoDB.");
+      submitPendingWriteRequests();
+    }
+  }
+
+  private void submitPendingWriteRequests() throws Exception {
+    if (pendingWriteRequests.isEmpty()) {
+      return;
     }
+    final List<WriteRequest> batch = pendingWriteRequests;
+    pendingWriteRequests = new ArrayList<>(DynamodbBatchWriter.MAX_ITEMS_PER_BATCH);
+    batchWriter.submit(outputTableName, batch);
   }
 
 }
@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2021 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.destination.dynamodb;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.amazonaws.AmazonServiceException;
+import com.amazonaws.services.dynamodbv2.AmazonDynamoDB;
+import com.amazonaws.services.dynamodbv2.model.AttributeValue;
+import com.amazonaws.services.dynamodbv2.model.BatchWriteItemRequest;
+import com.amazonaws.services.dynamodbv2.model.BatchWriteItemResult;
+import com.amazonaws.services.dynamodbv2.model.PutRequest;
+import com.amazonaws.services.dynamodbv2.model.WriteRequest;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+class DynamodbBatchWriterTest {
+
+  private static final String TABLE_NAME = "test_table";
+
+  private AmazonDynamoDB amazonDynamodb;
+  private DynamodbBatchWriter batchWriter;
+
+  @BeforeEach
+  void setup() {
+    amazonDynamodb = mock(AmazonDynamoDB.class);
+    batchWriter = new DynamodbBatchWriter(amazonDynamodb);
+  }
+
+  @AfterEach
+  void tearDown() throws Exception {
+    batchWriter.close();
+  }
+
+  @Test
+  void testUnprocessedItemsAreRetried() throws Exception {
+    final List<WriteRequest> batch = List.of(writeRequest("1"), writeRequest("2"));
+    final List<WriteRequest> unprocessed = List.of(writeRequest("2"));
+    when(amazonDynamodb.batchWriteItem(any(BatchWriteItemRequest.class)))
+        .thenReturn(new BatchWriteItemResult().withUnprocessedItems(Map.of(TABLE_NAME, unprocessed)))
+        .thenReturn(new BatchWriteItemResult().withUnprocessedItems(Map.of()));
+    final int initialConcurrencyLimit = batchWriter.getConcurrencyLimit();
+
+    batchWriter.submit(TABLE_NAME, batch);
+    batchWriter.flush();
+
+    final ArgumentCaptor<BatchWriteItemRequest> requests = ArgumentCaptor.forClass(BatchWriteItemRequest.class);
+    verify(amazonDynamodb, times(2)).batchWriteItem(requests.capture());
+    assertEquals(batch, requests.getAllValues().get(0).getRequestItems().get(TABLE_NAME));
+    assertEquals(unprocessed, requests.getAllValues().get(1).getRequestItems().get(TABLE_NAME));
+    assertTrue(batchWriter.getConcurrencyLimit() < initialConcurrencyLimit);
+  }
+
+  @Test
+  void testThrottledRequestIsRetried() throws Exception {
+    final AmazonServiceException throttled = new AmazonServiceException("Rate exceeded");
+    throttled.setErrorCode("ProvisionedThroughputExceededException");
+    throttled.setStatusCode(400);
+    when(amazonDynamodb.batchWriteItem(any(BatchWriteItemRequest.class)))
+        .thenThrow(throttled)
+        .thenReturn(new BatchWriteItemResult().withUnprocessedItems(Map.of()));
+
+    batchWriter.submit(TABLE_NAME, List.of(writeRequest("1")));
+    batchWriter.flush();
+
+    verify(amazonDynamodb, times(2)).batchWriteItem(any(BatchWriteItemRequest.class));
+  }
+
+  @Test
+  void testNonRetryableFailureIsRethrown() throws Exception {
+    final AmazonServiceException validationError = new AmazonServiceException("Item size has exceeded the maximum allowed size");
+    validationError.setErrorCode("ValidationException");
+    validationError.setStatusCode(400);
+    when(amazonDynamodb.batchWriteItem(any(BatchWriteItemRequest.class))).thenThrow(validationError);
+
+    batchWriter.submit(TABLE_NAME, List.of(writeRequest("1")));
+
+    assertSame(validationError, assertThrows(AmazonServiceException.class, () -> batchWriter.flush()));
+    verify(amazonDynamodb, times(1)).batchWriteItem(any(BatchWriteItemRequest.class));
+  }
+
+  private static WriteRequest writeRequest(final String id) {
+    return new WriteRequest(new PutRequest(Map.of("_airbyte_ab_id", new AttributeValue(id))));
+  }
+
+}
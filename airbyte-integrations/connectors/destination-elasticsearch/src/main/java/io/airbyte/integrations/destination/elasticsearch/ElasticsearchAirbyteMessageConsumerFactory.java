@@ -4,13 +4,12 @@
 
 package io.airbyte.integrations.destination.elasticsearch;
 
-import co.elastic.clients.elasticsearch._core.BulkResponse;
 import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import io.airbyte.commons.concurrency.VoidCallable;
 import io.airbyte.commons.functional.CheckedConsumer;
 import io.airbyte.commons.functional.CheckedFunction;
 import io.airbyte.integrations.base.AirbyteMessageConsumer;
+import io.airbyte.integrations.base.AirbyteStreamNameNamespacePair;
 import io.airbyte.integrations.destination.buffered_stream_consumer.BufferedStreamConsumer;
 import io.airbyte.integrations.destination.buffered_stream_consumer.RecordWriter;
 import io.airbyte.protocol.models.AirbyteMessage;
@@ -18,9 +17,10 @@ import io.airbyte.protocol.models.ConfiguredAirbyteCatalog;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -28,7 +28,6 @@ public class ElasticsearchAirbyteMessageConsumerFactory {
 
   private static final Logger log = LoggerFactory.getLogger(ElasticsearchAirbyteMessageConsumerFactory.class);
   private static final int MAX_BATCH_SIZE_BYTES = 1024 * 1024 * 1024 / 4; // 256mib
-  private static final ObjectMapper mapper = new ObjectMapper();
 
   private static AtomicLong recordsWritten = new AtomicLong(0);
 
@@ -47,7 +46,7 @@ public class ElasticsearchAirbyteMessageConsumerFactory {
         outputRecordCollector,
         onStartFunction(connection, writeConfigs),
         recordWriterFunction(connection, writeConfigs),
-        onCloseFunction(connection),
+        onCloseFunction(connection, writeConfigs),
         catalog,
         isValidFunction(connection),
         MAX_BATCH_SIZE_BYTES);
@@ -58,9 +57,16 @@ public class ElasticsearchAirbyteMessageConsumerFactory {
     return jsonNode -> true;
   }
 
-  private static CheckedConsumer<Boolean, Exception> onCloseFunction(ElasticsearchConnection connection) {
+  private static CheckedConsumer<Boolean, Exception> onCloseFunction(ElasticsearchConnection connection,
+                                                                    List<ElasticsearchWriteConfig> writeConfigs) {
 
     return (hasFailed) -> {
+      if (!hasFailed) {
+        // documents are no longer refreshed on every bulk request, make them searchable once at the end
+        writeConfigs.stream()
+            .filter(config -> !config.useTempIndex())
+            .forEach(config -> connection.refreshIndex(config.getIndexName()));
+      }
       if (!tempIndices.isEmpty() && !hasFailed) {
         tempIndices.forEach(connection::replaceIndex);
       }
@@ -72,27 +78,19 @@ public class ElasticsearchAirbyteMessageConsumerFactory {
                                                    ElasticsearchConnection connection,
                                                    List<ElasticsearchWriteConfig> writeConfigs) {
 
+    final Map<AirbyteStreamNameNamespacePair, ElasticsearchWriteConfig> pairToWriteConfig = writeConfigs.stream()
+        .collect(Collectors.toMap(c -> new AirbyteStreamNameNamespacePair(c.getStreamName(), c.getNamespace()), Function.identity()));
+
     return (pair, records) -> {
       log.info("writing {} records in bulk operation", records.size());
-      var optConfig = writeConfigs.stream()
-          .filter(c -> Objects.equals(c.getStreamName(), pair.getName()) &&
-              Objects.equals(c.getNamespace(), pair.getNamespace()))
-          .findFirst();
-      if (optConfig.isEmpty()) {
+      final var config = pairToWriteConfig.get(pair);
+      if (config == null) {
         throw new Exception(String.format("missing write config: %s", pair));
       }
-      final var config = optConfig.get();
-      BulkResponse response;
       if (config.useTempIndex()) {
-        response = connection.indexDocuments(config.getTempIndexName(), records, config);
-      } else {
-        response = connection.indexDocuments(config.getIndexName(), records, config);
-      }
-      if (Objects.nonNull(response) && response.errors()) {
-        String msg = String.format("failed to write bulk records: %s", mapper.valueToTree(response));
-        throw new Exception(msg);
+        connection.indexDocuments(config.getTempIndexName(), records, config);
       } else {
-        log.info("bulk write took: {}ms", response.took());
+        connection.indexDocuments(config.getIndexName(), records, config);
       }
     };
   }
@@ -104,6 +102,8 @@ public class ElasticsearchAirbyteMessageConsumerFactory {
           tempIndices.put(config.getTempIndexName(), config.getIndexName());
           connection.deleteIndexIfPresent(config.getTempIndexName());
           connection.createIndexIfMissing(config.getTempIndexName());
+          // the temp index is not searched until it replaces the target index
+          connection.disableRefreshAndReplicas(config.getTempIndexName(), config.getIndexName());
         } else {
           connection.createIndexIfMissing(config.getIndexName());
         }
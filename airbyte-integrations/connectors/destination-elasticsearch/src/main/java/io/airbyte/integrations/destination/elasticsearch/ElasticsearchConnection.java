@@ -6,8 +6,6 @@ package io.airbyte.integrations.destination.elasticsearch;
 
 import co.elastic.clients.base.*;
 import co.elastic.clients.elasticsearch.ElasticsearchClient;
-import co.elastic.clients.elasticsearch._core.BulkRequest;
-import co.elastic.clients.elasticsearch._core.BulkResponse;
 import co.elastic.clients.elasticsearch._core.CreateResponse;
 import co.elastic.clients.elasticsearch._core.SearchResponse;
 import co.elastic.clients.elasticsearch._core.search.Hit;
@@ -17,16 +15,29 @@ import co.elastic.clients.json.jackson.JacksonJsonpMapper;
 import com.fasterxml.jackson.core.JsonPointer;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.annotations.VisibleForTesting;
+import io.airbyte.integrations.destination.RecordIdGenerator;
 import io.airbyte.protocol.models.AirbyteRecordMessage;
-import jakarta.json.JsonValue;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 import org.apache.http.Header;
 import org.apache.http.HttpHost;
+import org.apache.http.entity.ByteArrayEntity;
+import org.apache.http.entity.ContentType;
 import org.apache.http.message.BasicHeader;
 import org.elasticsearch.client.Node;
+import org.elasticsearch.client.Request;
+import org.elasticsearch.client.Response;
+import org.elasticsearch.client.ResponseException;
+import org.elasticsearch.client.ResponseListener;
 import org.elasticsearch.client.RestClient;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -38,12 +49,21 @@ public class ElasticsearchConnection {
 
   // this is the max number of hits we can query without paging
   private static final int MAX_HITS = 10000;
+  // Elasticsearch recommends bulk requests of a few to a few tens of megabytes
+  private static final long MAX_BULK_REQUEST_BYTES = 10L * 1024 * 1024;
+  private static final int MAX_CONCURRENT_BULK_REQUESTS = 4;
+  private static final int MAX_BULK_ATTEMPTS = 6;
+  private static final long BASE_BACKOFF_MILLIS = 250;
+  private static final int TOO_MANY_REQUESTS = 429;
+  private static final ContentType NDJSON = ContentType.create("application/x-ndjson", StandardCharsets.UTF_8);
   private static Logger log = LoggerFactory.getLogger(ElasticsearchConnection.class);
 
   private final ElasticsearchClient client;
   private final RestClient restClient;
-  private final HttpHost httpHost;
+  private final long maxBulkRequestBytes;
   private final ObjectMapper mapper = new ObjectMapper();
+  // number of replicas of indices prepared for a bulk load, by index name
+  private final Map<String, String> replicasBeforeBulkLoad = new ConcurrentHashMap<>();
 
   /**
    * Creates a new ElasticsearchConnection that can be used to read/write records to indices
@@ -51,19 +71,28 @@ public class ElasticsearchConnection {
    * @param config Configuration parameters for connecting to the Elasticsearch host
    */
   public ElasticsearchConnection(ConnectorConfiguration config) {
+    this(createRestClient(config), MAX_BULK_REQUEST_BYTES);
+  }
+
+  @VisibleForTesting
+  ElasticsearchConnection(RestClient restClient, long maxBulkRequestBytes) {
+    this.restClient = restClient;
+    this.maxBulkRequestBytes = maxBulkRequestBytes;
+    // Create the transport that provides JSON and http services to API clients
+    Transport transport = new RestClientTransport(restClient, new JacksonJsonpMapper());
+    // And create our API client
+    client = new ElasticsearchClient(transport);
+  }
+
+  private static RestClient createRestClient(ConnectorConfiguration config) {
     log.info(String.format(
         "creating ElasticsearchConnection: %s", config.getEndpoint()));
 
     // Create the low-level client
-    httpHost = HttpHost.create(config.getEndpoint());
-    restClient = RestClient.builder(httpHost)
+    return RestClient.builder(HttpHost.create(config.getEndpoint()))
         .setDefaultHeaders(configureHeaders(config))
         .setFailureListener(new FailureListener())
         .build();
-    // Create the transport that provides JSON and http services to API clients
-    Transport transport = new RestClientTransport(restClient, new JacksonJsonpMapper());
-    // And create our API client
-    client = new ElasticsearchClient(transport);
   }
 
   static class FailureListener extends RestClient.FailureListener {
@@ -81,7 +110,7 @@ public class ElasticsearchConnection {
    * @param config connection information
    * @return the default headers
    */
-  protected Header[] configureHeaders(ConnectorConfiguration config) {
+  protected static Header[] configureHeaders(ConnectorConfiguration config) {
     final var headerList = new ArrayList<Header>();
     // add Authorization header if credentials are present
     final var auth = config.getAuthenticationMethod();
@@ -136,35 +165,146 @@ public class ElasticsearchConnection {
   }
 
   /**
-   * Bulk operation to append multiple documents to an Elasticsearch server
+   * Bulk operation to append multiple documents to an Elasticsearch server. The documents are split
+   * into bulk requests of at most {@link #MAX_BULK_REQUEST_BYTES}, of which up to
+   * {@link #MAX_CONCURRENT_BULK_REQUESTS} are in flight at once. Documents rejected because the
+   * cluster is overloaded (status 429) are retried with backoff, any other rejection fails the write.
+   * Once a bulk request has failed, no further requests are sent.
    *
    * @param index The index to add the documents to
    * @param records The collection of records to create documents from
-   * @return the response of the bulk operation
-   * @throws IOException if there is server connection problem, or a non-successful operation on the
+   * @throws Exception if there is server connection problem, or a non-successful operation on the
    *         server
    */
-  public BulkResponse indexDocuments(String index, List<AirbyteRecordMessage> records, ElasticsearchWriteConfig config) throws IOException {
-    var bulkRequest = new BulkRequest.Builder<>();
+  public void indexDocuments(String index, List<AirbyteRecordMessage> records, ElasticsearchWriteConfig config) throws Exception {
+    final var window = new Semaphore(MAX_CONCURRENT_BULK_REQUESTS);
+    final var failure = new AtomicReference<Exception>();
+    var operations = new ArrayList<byte[]>();
+    long size = 0;
     for (var doc : records) {
       log.debug("adding record to bulk create: {}", doc.getData());
-      bulkRequest.addOperation(
-          b -> b.index(
-              c -> c.index(index).id(extractPrimaryKey(doc, config))))
-          .addDocument(doc.getData()).refresh(JsonValue.TRUE);
+      final byte[] operation = bulkIndexOperation(index, extractPrimaryKey(doc, config), doc.getData());
+      if (!operations.isEmpty() && size + operation.length > maxBulkRequestBytes) {
+        if (!acquireUnlessFailed(window, failure)) {
+          break;
+        }
+        sendBulkRequest(operations, 1, window, failure);
+        operations = new ArrayList<>();
+        size = 0;
+      }
+      operations.add(operation);
+      size += operation.length;
+    }
+    if (!operations.isEmpty() && acquireUnlessFailed(window, failure)) {
+      sendBulkRequest(operations, 1, window, failure);
     }
 
-    try {
-      return client.bulk(b -> bulkRequest);
-    } catch (ApiException e) {
-      throw unwrappedApiException("failed write operation", e);
+    // wait for all bulk requests, including their retries, to complete
+    window.acquire(MAX_CONCURRENT_BULK_REQUESTS);
+    window.release(MAX_CONCURRENT_BULK_REQUESTS);
+    if (failure.get() != null) {
+      throw failure.get();
     }
   }
 
+  /**
+   * Waits for a free slot in the window of in-flight bulk requests.
+   *
+   * @return false, without holding a permit, if a bulk request has failed in the meantime
+   */
+  private static boolean acquireUnlessFailed(Semaphore window, AtomicReference<Exception> failure) throws InterruptedException {
+    if (failure.get() != null) {
+      return false;
+    }
+    window.acquire();
+    // the failed request may be the one whose permit was just handed over
+    if (failure.get() != null) {
+      window.release();
+      return false;
+    }
+    return true;
+  }
+
+  private byte[] bulkIndexOperation(String index, String id, JsonNode document) throws IOException {
+    final var action = mapper.createObjectNode();
+    action.putObject("index").put("_index", index).put("_id", id);
+    final var operation = new ByteArrayOutputStream();
+    mapper.writeValue(operation, action);
+    operation.write('\n');
+    mapper.writeValue(operation, document);
+    operation.write('\n');
+    return operation.toByteArray();
+  }
+
+  /**
+   * Sends the operations as one bulk request without waiting for the response. The permit of the
+   * request in the window is released once all of its operations are written, or the request failed.
+   */
+  private void sendBulkRequest(List<byte[]> operations, int attempt, Semaphore window, AtomicReference<Exception> failure) {
+    final var body = new ByteArrayOutputStream();
+    operations.forEach(body::writeBytes);
+    final var request = new Request("POST", "/_bulk");
+    request.setEntity(new ByteArrayEntity(body.toByteArray(), NDJSON));
+    restClient.performRequestAsync(request, new ResponseListener() {
+
+      @Override
+      public void onSuccess(Response response) {
+        try {
+          final JsonNode result = mapper.readTree(response.getEntity().getContent());
+          log.info("bulk write of {} documents took: {}ms", operations.size(), result.path("took").asLong());
+          final var rejectedOperations = new ArrayList<byte[]>();
+          if (result.path("errors").asBoolean()) {
+            final JsonNode items = result.path("items");
+            for (int i = 0; i < items.size(); i++) {
+              // each item holds a single entry, keyed by the operation type
+              final JsonNode item = items.get(i).elements().next();
+              if (item.path("status").asInt() == TOO_MANY_REQUESTS) {
+                rejectedOperations.add(operations.get(i));
+              } else if (item.has("error")) {
+                throw new RuntimeException(String.format("failed to write bulk records: %s", item));
+              }
+            }
+          }
+          if (rejectedOperations.isEmpty()) {
+            window.release();
+          } else {
+            retryBulkRequest(rejectedOperations, attempt, window, failure);
+          }
+        } catch (Exception e) {
+          onFailure(e);
+        }
+      }
+
+      @Override
+      public void onFailure(Exception e) {
+        if (e instanceof ResponseException && ((ResponseException) e).getResponse().getStatusLine().getStatusCode() == TOO_MANY_REQUESTS) {
+          retryBulkRequest(operations, attempt, window, failure);
+        } else {
+          failure.compareAndSet(null, e);
+          window.release();
+        }
+      }
+
+    });
+  }
+
+  private void retryBulkRequest(List<byte[]> operations, int attempt, Semaphore window, AtomicReference<Exception> failure) {
+    if (attempt >= MAX_BULK_ATTEMPTS) {
+      failure.compareAndSet(null, new RuntimeException(
+          String.format("failed to write %d bulk records, still rejected after %d attempts", operations.size(), attempt)));
+      window.release();
+      return;
+    }
+    final long backoff = BASE_BACKOFF_MILLIS << (attempt - 1);
+    log.warn("{} bulk records were rejected, retrying in {}ms", operations.size(), backoff);
+    CompletableFuture.delayedExecutor(backoff, TimeUnit.MILLISECONDS)
+        .execute(() -> sendBulkRequest(operations, attempt + 1, window, failure));
+  }
+
   // TODO: Can we do something like this?
   private String extractPrimaryKey(AirbyteRecordMessage doc, ElasticsearchWriteConfig config) {
     if (!config.hasPrimaryKey()) {
-      return UUID.randomUUID().toString();
+      return RecordIdGenerator.nextIdString();
     }
     var optFirst = config.getPrimaryKey().stream().findFirst();
     StringBuilder sb = new StringBuilder();
@@ -180,7 +320,7 @@ public class ElasticsearchConnection {
       }
     }
     log.warn("unable to extract primary key");
-    return UUID.randomUUID().toString();
+    return RecordIdGenerator.nextIdString();
   }
 
   /**
@@ -261,6 +401,57 @@ public class ElasticsearchConnection {
     }
   }
 
+  /**
+   * Prepares an index for a bulk load: disables periodic refreshes and removes replicas, which
+   * otherwise index every document a second time. {@link #replaceIndex(String, String)} gives the
+   * index replacing the target the number of replicas the target had, or the default number of
+   * replicas of the loaded index if there was no target yet.
+   *
+   * @param index the index that is about to be loaded
+   * @param replacedIndex the index that the loaded index will replace
+   */
+  public void disableRefreshAndReplicas(String index, String replacedIndex) {
+    try {
+      replicasBeforeBulkLoad.put(index, replicasToRestore(index, replacedIndex));
+      putSettings(index, Map.of("index.refresh_interval", "-1", "index.number_of_replicas", "0"));
+    } catch (IOException e) {
+      throw new RuntimeException("unknown exception while updating index settings", e);
+    }
+  }
+
+  @VisibleForTesting
+  String replicasToRestore(String index, String replacedIndex) throws IOException {
+    final var getSettings = new Request("GET", "/" + replacedIndex + "," + index + "/_settings");
+    getSettings.addParameter("flat_settings", "true");
+    // the replaced index does not exist on the first sync
+    getSettings.addParameter("ignore_unavailable", "true");
+    final JsonNode settings = mapper.readTree(restClient.performRequest(getSettings).getEntity().getContent());
+    final JsonNode replaced = settings.path(replacedIndex).path("settings").path("index.number_of_replicas");
+    if (!replaced.isMissingNode()) {
+      return replaced.asText();
+    }
+    return settings.path(index).path("settings").path("index.number_of_replicas").asText("1");
+  }
+
+  /**
+   * Makes all documents written to the index so far visible to searches.
+   *
+   * @param index the index to refresh
+   */
+  public void refreshIndex(String index) {
+    try {
+      restClient.performRequest(new Request("POST", "/" + index + "/_refresh"));
+    } catch (IOException e) {
+      throw new RuntimeException("unknown exception while refreshing index", e);
+    }
+  }
+
+  private void putSettings(String index, Map<String, String> settings) throws IOException {
+    final var request = new Request("PUT", "/" + index + "/_settings");
+    request.setJsonEntity(mapper.writeValueAsString(Map.of("index", settings)));
+    restClient.performRequest(request);
+  }
+
   /**
    * Clones a source index to a destination index. If the destination index already exists, it deletes
    * it before cloning
@@ -285,6 +476,9 @@ public class ElasticsearchConnection {
         deleteIndexIfPresent(destinationIndexName);
       }
 
+      // make all documents of the source index searchable, as it may have been loaded without refreshes
+      refreshIndex(sourceIndexName);
+
       // make the source index read-only before cloning
       // I think theres a bug in the client
       // https://github.com/elastic/elasticsearch-java/issues/37
@@ -297,6 +491,15 @@ public class ElasticsearchConnection {
 
       // enable writing on new index
       client.indices().putSettings(b -> b.index(destinationIndexName).settings(s -> s.blocks(w -> w.write(false))));
+
+      // the clone inherits the bulk load settings of the source index, restore the defaults
+      final var replicas = replicasBeforeBulkLoad.remove(sourceIndexName);
+      if (replicas != null) {
+        final var settings = new HashMap<String, String>();
+        settings.put("index.refresh_interval", null);
+        settings.put("index.number_of_replicas", replicas);
+        putSettings(destinationIndexName, settings);
+      }
     } catch (ApiException e) {
       throw unwrappedApiException("failed to delete index", e);
     } catch (IOException e) {
@@ -4,9 +4,31 @@
 
 package io.airbyte.integrations.destination.elasticsearch;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.airbyte.protocol.models.AirbyteRecordMessage;
+import io.airbyte.protocol.models.DestinationSyncMode;
+import java.io.IOException;
 import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.apache.http.entity.ContentType;
+import org.apache.http.entity.StringEntity;
+import org.elasticsearch.client.Request;
+import org.elasticsearch.client.Response;
+import org.elasticsearch.client.ResponseListener;
+import org.elasticsearch.client.RestClient;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 
 public class ElasticsearchConnectionTest {
 
@@ -56,4 +78,56 @@ public class ElasticsearchConnectionTest {
     Assertions.assertTrue("id:secret".contentEquals(new String(decoded)));
   }
 
+  @Test
+  public void testIndexDocumentsStopsAfterFailedBulkRequest() {
+    var restClient = mock(RestClient.class);
+    var failure = new IOException("connection reset");
+    doAnswer(invocation -> {
+      invocation.<ResponseListener>getArgument(1).onFailure(failure);
+      return null;
+    }).when(restClient).performRequestAsync(any(Request.class), any(ResponseListener.class));
+    // every document is sent in a bulk request of its own
+    var connection = new ElasticsearchConnection(restClient, 1);
+    var mapper = new ObjectMapper();
+    var records = IntStream.range(0, 5)
+        .mapToObj(i -> new AirbyteRecordMessage().withStream("users").withData(mapper.valueToTree(Map.of("id", i))))
+        .collect(Collectors.toList());
+    var writeConfig = new ElasticsearchWriteConfig(null, "users", DestinationSyncMode.APPEND, List.of(), false);
+
+    var thrown = Assertions.assertThrows(IOException.class, () -> connection.indexDocuments("users", records, writeConfig));
+
+    Assertions.assertEquals(failure, thrown);
+    verify(restClient, times(1)).performRequestAsync(any(Request.class), any(ResponseListener.class));
+  }
+
+  @Test
+  public void testReplicasAreTakenFromReplacedIndex() throws IOException {
+    var restClient = mockSettingsResponse(
+        "{\"users\":{\"settings\":{\"index.number_of_replicas\":\"2\"}},\"users_tmp\":{\"settings\":{\"index.number_of_replicas\":\"1\"}}}");
+    var connection = new ElasticsearchConnection(restClient, 1);
+
+    Assertions.assertEquals("2", connection.replicasToRestore("users_tmp", "users"));
+
+    var request = ArgumentCaptor.forClass(Request.class);
+    verify(restClient).performRequest(request.capture());
+    Assertions.assertEquals("/users,users_tmp/_settings", request.getValue().getEndpoint());
+    Assertions.assertEquals("true", request.getValue().getParameters().get("ignore_unavailable"));
+  }
+
+  @Test
+  public void testReplicasDefaultToLoadedIndexWithoutReplacedIndex() throws IOException {
+    var restClient = mockSettingsResponse("{\"users_tmp\":{\"settings\":{\"index.number_of_replicas\":\"1\"}}}");
+    var connection = new ElasticsearchConnection(restClient, 1);
+
+    Assertions.assertEquals("1", connection.replicasToRestore("users_tmp", "users"));
+  }
+
+  private static RestClient mockSettingsResponse(String settings) throws IOException {
+    var restClient = mock(RestClient.class);
+    var response = mock(Response.class);
+    when(response.getEntity()).thenReturn(new StringEntity(settings, ContentType.APPLICATION_JSON));
+    when(restClient.performRequest(any(Request.class))).thenReturn(response);
+    return restClient;
+  }
+
 }
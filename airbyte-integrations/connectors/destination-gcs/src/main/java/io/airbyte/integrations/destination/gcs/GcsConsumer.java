@@ -8,8 +8,10 @@ import com.amazonaws.services.s3.AmazonS3;
 import io.airbyte.commons.json.Jsons;
 import io.airbyte.integrations.base.AirbyteStreamNameNamespacePair;
 import io.airbyte.integrations.base.FailureTrackingAirbyteMessageConsumer;
+import io.airbyte.integrations.destination.RecordIdGenerator;
 import io.airbyte.integrations.destination.gcs.writer.GcsWriterFactory;
 import io.airbyte.integrations.destination.s3.writer.S3Writer;
+import io.airbyte.integrations.destination.s3.writer.S3WriterPool;
 import io.airbyte.protocol.models.AirbyteMessage;
 import io.airbyte.protocol.models.AirbyteMessage.Type;
 import io.airbyte.protocol.models.AirbyteRecordMessage;
@@ -17,8 +19,6 @@ import io.airbyte.protocol.models.AirbyteStream;
 import io.airbyte.protocol.models.ConfiguredAirbyteCatalog;
 import io.airbyte.protocol.models.ConfiguredAirbyteStream;
 import java.sql.Timestamp;
-import java.util.HashMap;
-import java.util.Map;
 import java.util.UUID;
 import java.util.function.Consumer;
 
@@ -28,7 +28,7 @@ public class GcsConsumer extends FailureTrackingAirbyteMessageConsumer {
   private final ConfiguredAirbyteCatalog configuredCatalog;
   private final GcsWriterFactory writerFactory;
   private final Consumer<AirbyteMessage> outputRecordCollector;
-  private final Map<AirbyteStreamNameNamespacePair, S3Writer> streamNameAndNamespaceToWriters;
+  private final S3WriterPool writerPool;
 
   private AirbyteMessage lastStateMessage = null;
 
@@ -40,7 +40,7 @@ public class GcsConsumer extends FailureTrackingAirbyteMessageConsumer {
     this.configuredCatalog = configuredCatalog;
     this.writerFactory = writerFactory;
     this.outputRecordCollector = outputRecordCollector;
-    this.streamNameAndNamespaceToWriters = new HashMap<>(configuredCatalog.getStreams().size());
+    this.writerPool = new S3WriterPool(configuredCatalog.getStreams().size());
   }
 
   @Override
@@ -57,7 +57,7 @@ public class GcsConsumer extends FailureTrackingAirbyteMessageConsumer {
       final AirbyteStream stream = configuredStream.getStream();
       final AirbyteStreamNameNamespacePair streamNamePair = AirbyteStreamNameNamespacePair
           .fromAirbyteSteam(stream);
-      streamNameAndNamespaceToWriters.put(streamNamePair, writer);
+      writerPool.add(streamNamePair, writer);
     }
   }
 
@@ -74,23 +74,22 @@ public class GcsConsumer extends FailureTrackingAirbyteMessageConsumer {
     final AirbyteStreamNameNamespacePair pair = AirbyteStreamNameNamespacePair
         .fromRecordMessage(recordMessage);
 
-    if (!streamNameAndNamespaceToWriters.containsKey(pair)) {
+    if (!writerPool.contains(pair)) {
       throw new IllegalArgumentException(
           String.format(
               "Message contained record from a stream that was not in the catalog. \ncatalog: %s , \nmessage: %s",
               Jsons.serialize(configuredCatalog), Jsons.serialize(recordMessage)));
     }
 
-    final UUID id = UUID.randomUUID();
-    streamNameAndNamespaceToWriters.get(pair).write(id, recordMessage);
+    final UUID id = RecordIdGenerator.nextId();
+    writerPool.write(pair, id, recordMessage);
   }
 
   @Override
   protected void close(final boolean hasFailed) throws Exception {
-    for (final S3Writer handler : streamNameAndNamespaceToWriters.values()) {
-      handler.close(hasFailed);
-    }
-    // Gcs stream uploader is all or nothing if a failure happens in the destination.
+    writerPool.close(hasFailed);
+    // Gcs stream uploader is all or nothing if a failure happens in the destination. The state is
+    // emitted once all records before it are uploaded, i.e. all writers are closed.
     if (!hasFailed) {
       outputRecordCollector.accept(lastStateMessage);
     }
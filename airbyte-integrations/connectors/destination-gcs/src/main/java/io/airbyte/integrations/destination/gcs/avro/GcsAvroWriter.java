@@ -7,6 +7,7 @@ package io.airbyte.integrations.destination.gcs.avro;
 import alex.mojaki.s3upload.MultiPartOutputStream;
 import alex.mojaki.s3upload.StreamTransferManager;
 import com.amazonaws.services.s3.AmazonS3;
+import com.google.common.io.CountingOutputStream;
 import io.airbyte.integrations.destination.gcs.GcsDestinationConfig;
 import io.airbyte.integrations.destination.gcs.writer.BaseGcsWriter;
 import io.airbyte.integrations.destination.s3.S3Format;
@@ -35,6 +36,7 @@ public class GcsAvroWriter extends BaseGcsWriter implements S3Writer {
   private final AvroRecordFactory avroRecordFactory;
   private final StreamTransferManager uploadManager;
   private final MultiPartOutputStream outputStream;
+  private final CountingOutputStream countingOutputStream;
   private final DataFileWriter<GenericData.Record> dataFileWriter;
 
   public GcsAvroWriter(final GcsDestinationConfig config,
@@ -44,9 +46,20 @@ public class GcsAvroWriter extends BaseGcsWriter implements S3Writer {
                        final Schema schema,
                        final JsonAvroConverter converter)
       throws IOException {
+    this(config, s3Client, configuredStream, uploadTimestamp, schema, converter, 0);
+  }
+
+  public GcsAvroWriter(final GcsDestinationConfig config,
+                       final AmazonS3 s3Client,
+                       final ConfiguredAirbyteStream configuredStream,
+                       final Timestamp uploadTimestamp,
+                       final Schema schema,
+                       final JsonAvroConverter converter,
+                       final int partId)
+      throws IOException {
     super(config, s3Client, configuredStream);
 
-    final String outputFilename = BaseGcsWriter.getOutputFilename(uploadTimestamp, S3Format.AVRO);
+    final String outputFilename = BaseGcsWriter.getOutputFilename(uploadTimestamp, partId, S3Format.AVRO);
     final String objectKey = String.join("/", outputPrefix, outputFilename);
 
     LOGGER.info("Full GCS path for stream '{}': {}/{}", stream.getName(), config.getBucketName(),
@@ -57,13 +70,14 @@ public class GcsAvroWriter extends BaseGcsWriter implements S3Writer {
         config.getBucketName(), objectKey, s3Client, config.getFormatConfig().getPartSize());
     // We only need one output stream as we only have one input stream. This is reasonably performant.
     this.outputStream = uploadManager.getMultiPartOutputStreams().get(0);
+    this.countingOutputStream = new CountingOutputStream(outputStream);
 
     final S3AvroFormatConfig formatConfig = (S3AvroFormatConfig) config.getFormatConfig();
     // The DataFileWriter always uses binary encoding.
     // If json encoding is needed in the future, use the GenericDatumWriter directly.
     this.dataFileWriter = new DataFileWriter<>(new GenericDatumWriter<Record>())
         .setCodec(formatConfig.getCodecFactory())
-        .create(schema, outputStream);
+        .create(schema, countingOutputStream);
   }
 
   @Override
@@ -71,6 +85,11 @@ public class GcsAvroWriter extends BaseGcsWriter implements S3Writer {
     dataFileWriter.append(avroRecordFactory.getAvroRecord(id, recordMessage));
   }
 
+  @Override
+  public long getOutputBytes() {
+    return countingOutputStream.getCount();
+  }
+
   @Override
   protected void closeWhenSucceed() throws IOException {
     dataFileWriter.close();
@@ -9,6 +9,7 @@ import alex.mojaki.s3upload.StreamTransferManager;
 import com.amazonaws.services.s3.AmazonS3;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.google.common.io.CountingOutputStream;
 import io.airbyte.commons.jackson.MoreMappers;
 import io.airbyte.commons.json.Jsons;
 import io.airbyte.integrations.base.JavaBaseConstants;
@@ -34,15 +35,24 @@ public class GcsJsonlWriter extends BaseGcsWriter implements S3Writer {
 
   private final StreamTransferManager uploadManager;
   private final MultiPartOutputStream outputStream;
+  private final CountingOutputStream countingOutputStream;
   private final PrintWriter printWriter;
 
   public GcsJsonlWriter(final GcsDestinationConfig config,
                         final AmazonS3 s3Client,
                         final ConfiguredAirbyteStream configuredStream,
                         final Timestamp uploadTimestamp) {
+    this(config, s3Client, configuredStream, uploadTimestamp, 0);
+  }
+
+  public GcsJsonlWriter(final GcsDestinationConfig config,
+                        final AmazonS3 s3Client,
+                        final ConfiguredAirbyteStream configuredStream,
+                        final Timestamp uploadTimestamp,
+                        final int partId) {
     super(config, s3Client, configuredStream);
 
-    final String outputFilename = BaseGcsWriter.getOutputFilename(uploadTimestamp, S3Format.JSONL);
+    final String outputFilename = BaseGcsWriter.getOutputFilename(uploadTimestamp, partId, S3Format.JSONL);
     final String objectKey = String.join("/", outputPrefix, outputFilename);
 
     LOGGER.info("Full GCS path for stream '{}': {}/{}", stream.getName(), config.getBucketName(), objectKey);
@@ -52,7 +62,8 @@ public class GcsJsonlWriter extends BaseGcsWriter implements S3Writer {
 
     // We only need one output stream as we only have one input stream. This is reasonably performant.
     this.outputStream = uploadManager.getMultiPartOutputStreams().get(0);
-    this.printWriter = new PrintWriter(outputStream, true, StandardCharsets.UTF_8);
+    this.countingOutputStream = new CountingOutputStream(outputStream);
+    this.printWriter = new PrintWriter(countingOutputStream, true, StandardCharsets.UTF_8);
   }
 
   @Override
@@ -64,6 +75,11 @@ public class GcsJsonlWriter extends BaseGcsWriter implements S3Writer {
     printWriter.println(Jsons.serialize(json));
   }
 
+  @Override
+  public long getOutputBytes() {
+    return countingOutputStream.getCount();
+  }
+
   @Override
   protected void closeWhenSucceed() {
     printWriter.close();
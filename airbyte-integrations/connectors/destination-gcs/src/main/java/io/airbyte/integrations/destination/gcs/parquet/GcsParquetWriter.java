@@ -12,6 +12,7 @@ import io.airbyte.integrations.destination.gcs.credential.GcsHmacKeyCredentialCo
 import io.airbyte.integrations.destination.gcs.writer.BaseGcsWriter;
 import io.airbyte.integrations.destination.s3.S3Format;
 import io.airbyte.integrations.destination.s3.avro.AvroRecordFactory;
+import io.airbyte.integrations.destination.s3.parquet.PositionTrackingOutputFile;
 import io.airbyte.integrations.destination.s3.parquet.S3ParquetFormatConfig;
 import io.airbyte.integrations.destination.s3.writer.S3Writer;
 import io.airbyte.protocol.models.AirbyteRecordMessage;
@@ -39,6 +40,7 @@ public class GcsParquetWriter extends BaseGcsWriter implements S3Writer {
   private static final ObjectMapper MAPPER = new ObjectMapper();
   private static final ObjectWriter WRITER = MAPPER.writer();
 
+  private final PositionTrackingOutputFile outputFile;
   private final ParquetWriter<Record> parquetWriter;
   private final AvroRecordFactory avroRecordFactory;
 
@@ -49,9 +51,20 @@ public class GcsParquetWriter extends BaseGcsWriter implements S3Writer {
                           final Schema schema,
                           final JsonAvroConverter converter)
       throws URISyntaxException, IOException {
+    this(config, s3Client, configuredStream, uploadTimestamp, schema, converter, 0);
+  }
+
+  public GcsParquetWriter(final GcsDestinationConfig config,
+                          final AmazonS3 s3Client,
+                          final ConfiguredAirbyteStream configuredStream,
+                          final Timestamp uploadTimestamp,
+                          final Schema schema,
+                          final JsonAvroConverter converter,
+                          final int partId)
+      throws URISyntaxException, IOException {
     super(config, s3Client, configuredStream);
 
-    final String outputFilename = BaseGcsWriter.getOutputFilename(uploadTimestamp, S3Format.PARQUET);
+    final String outputFilename = BaseGcsWriter.getOutputFilename(uploadTimestamp, partId, S3Format.PARQUET);
     final String objectKey = String.join("/", outputPrefix, outputFilename);
     LOGGER.info("Storage path for stream '{}': {}/{}", stream.getName(), config.getBucketName(), objectKey);
 
@@ -62,7 +75,8 @@ public class GcsParquetWriter extends BaseGcsWriter implements S3Writer {
 
     final S3ParquetFormatConfig formatConfig = (S3ParquetFormatConfig) config.getFormatConfig();
     final Configuration hadoopConfig = getHadoopConfig(config);
-    this.parquetWriter = AvroParquetWriter.<GenericData.Record>builder(HadoopOutputFile.fromPath(path, hadoopConfig))
+    this.outputFile = new PositionTrackingOutputFile(HadoopOutputFile.fromPath(path, hadoopConfig));
+    this.parquetWriter = AvroParquetWriter.<GenericData.Record>builder(outputFile)
         .withSchema(schema)
         .withCompressionCodec(formatConfig.getCompressionCodec())
         .withRowGroupSize(formatConfig.getBlockSize())
@@ -96,6 +110,26 @@ public class GcsParquetWriter extends BaseGcsWriter implements S3Writer {
     parquetWriter.write(avroRecordFactory.getAvroRecord(id, recordMessage));
   }
 
+  /**
+   * Includes the row group that is buffered in memory.
+   */
+  @Override
+  public long getOutputBytes() {
+    return parquetWriter.getDataSize();
+  }
+
+  /**
+   * The row group that has not been written to the output file yet.
+   */
+  @Override
+  public long getBufferedBytes() {
+    try {
+      return Math.max(0, parquetWriter.getDataSize() - outputFile.getPos());
+    } catch (final IOException e) {
+      return 0;
+    }
+  }
+
   @Override
   public void close(final boolean hasFailed) throws IOException {
     if (hasFailed) {
@@ -132,12 +132,18 @@ public abstract class BaseGcsWriter implements S3Writer {
 
   // Filename: <upload-date>_<upload-millis>_0.<format-extension>
   public static String getOutputFilename(final Timestamp timestamp, final S3Format format) {
+    return getOutputFilename(timestamp, 0, format);
+  }
+
+  // Filename: <upload-date>_<upload-millis>_<part-id>.<format-extension>
+  public static String getOutputFilename(final Timestamp timestamp, final int partId, final S3Format format) {
     final DateFormat formatter = new SimpleDateFormat(S3DestinationConstants.YYYY_MM_DD_FORMAT_STRING);
     formatter.setTimeZone(TimeZone.getTimeZone("UTC"));
     return String.format(
-        "%s_%d_0.%s",
+        "%s_%d_%d.%s",
         formatter.format(timestamp),
         timestamp.getTime(),
+        partId,
         format.getFileExtension());
   }
 
@@ -92,11 +92,21 @@ public abstract class AbstractJdbcDestination extends BaseConnector implements D
 
   public abstract JsonNode toJdbcConfig(JsonNode config);
 
+  /**
+   * Number of pooled connections used concurrently to insert records into the tmp tables. Only
+   * destinations whose {@link SqlOperations} are safe to call from several threads should raise this
+   * above 1.
+   */
+  protected int getRecordLoaderParallelism(final JsonNode config) {
+    return 1;
+  }
+
   @Override
   public AirbyteMessageConsumer getConsumer(final JsonNode config,
                                             final ConfiguredAirbyteCatalog catalog,
                                             final Consumer<AirbyteMessage> outputRecordCollector) {
-    return JdbcBufferedConsumerFactory.create(outputRecordCollector, getDatabase(config), sqlOperations, namingResolver, config, catalog);
+    return JdbcBufferedConsumerFactory.create(outputRecordCollector, getDatabase(config), sqlOperations, namingResolver, config, catalog,
+        getRecordLoaderParallelism(config));
   }
 
 }
@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2021 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.destination.jdbc;
+
+import com.google.common.base.Preconditions;
+
+/**
+ * Destination-specific limits on the size of a single multi-row INSERT statement. Used by
+ * {@link SqlOperationsUtils} to decide how many records go into each statement.
+ */
+public class InsertStatementLimits {
+
+  public static final int DEFAULT_MAX_RECORDS_PER_STATEMENT = 10_000;
+
+  public static final InsertStatementLimits DEFAULT = new InsertStatementLimits(DEFAULT_MAX_RECORDS_PER_STATEMENT, Long.MAX_VALUE);
+
+  private final int maxRecordsPerStatement;
+  private final long maxStatementBytes;
+
+  /**
+   * @param maxRecordsPerStatement maximum number of records bound into one statement
+   * @param maxStatementBytes approximate upper bound on the serialized record data bound into one
+   *        statement, e.g. to stay below a server's maximum packet or statement size. A statement
+   *        always holds at least one record.
+   */
+  public InsertStatementLimits(final int maxRecordsPerStatement, final long maxStatementBytes) {
+    Preconditions.checkArgument(maxRecordsPerStatement > 0, "maxRecordsPerStatement must be positive");
+    Preconditions.checkArgument(maxStatementBytes > 0, "maxStatementBytes must be positive");
+    this.maxRecordsPerStatement = maxRecordsPerStatement;
+    this.maxStatementBytes = maxStatementBytes;
+  }
+
+  /**
+   * Limits for a database that caps the number of bind parameters per statement.
+   *
+   * @param maxParameters maximum number of bind parameters the database accepts in one statement
+   * @param parametersPerRecord number of bind parameters used by each record
+   * @param maxRecordsPerStatement any additional cap on the number of rows per statement
+   * @param maxStatementBytes approximate upper bound on the record data bound into one statement
+   */
+  public static InsertStatementLimits forParameterLimit(final int maxParameters,
+                                                        final int parametersPerRecord,
+                                                        final int maxRecordsPerStatement,
+                                                        final long maxStatementBytes) {
+    return new InsertStatementLimits(Math.min(maxParameters / parametersPerRecord, maxRecordsPerStatement), maxStatementBytes);
+  }
+
+  public int getMaxRecordsPerStatement() {
+    return maxRecordsPerStatement;
+  }
+
+  public long getMaxStatementBytes() {
+    return maxStatementBytes;
+  }
+
+  @Override
+  public String toString() {
+    return "InsertStatementLimits{" +
+        "maxRecordsPerStatement=" + maxRecordsPerStatement +
+        ", maxStatementBytes=" + maxStatementBytes +
+        '}';
+  }
+
+}
@@ -34,7 +34,8 @@ import org.slf4j.LoggerFactory;
 // 1. Create a temporary table for each stream
 // 2. Accumulate records in a buffer. One buffer per stream.
 // 3. As records accumulate write them in batch to the database. We set a minimum numbers of records
-// before writing to avoid wasteful record-wise writes.
+// before writing to avoid wasteful record-wise writes. Batches may be spread across several pooled
+// connections (see ParallelRecordLoader).
 // 4. Once all records have been written to buffer, flush the buffer and write any remaining records
 // to the database (regardless of how few are left).
 // 5. In a single transaction, delete the target tables if they exist and rename the temp tables to
@@ -51,13 +52,28 @@ public class JdbcBufferedConsumerFactory {
                                               final NamingConventionTransformer namingResolver,
                                               final JsonNode config,
                                               final ConfiguredAirbyteCatalog catalog) {
+    return create(outputRecordCollector, database, sqlOperations, namingResolver, config, catalog, 1);
+  }
+
+  /**
+   * @param loaderParallelism number of connections used concurrently to insert records into the tmp
+   *        tables. 1 inserts records inline on the consumer thread.
+   */
+  public static AirbyteMessageConsumer create(final Consumer<AirbyteMessage> outputRecordCollector,
+                                              final JdbcDatabase database,
+                                              final SqlOperations sqlOperations,
+                                              final NamingConventionTransformer namingResolver,
+                                              final JsonNode config,
+                                              final ConfiguredAirbyteCatalog catalog,
+                                              final int loaderParallelism) {
     final List<WriteConfig> writeConfigs = createWriteConfigs(namingResolver, config, catalog, sqlOperations.isSchemaRequired());
+    final ParallelRecordLoader recordLoader = new ParallelRecordLoader(database, sqlOperations, loaderParallelism);
 
     return new BufferedStreamConsumer(
         outputRecordCollector,
         onStartFunction(database, sqlOperations, writeConfigs),
-        recordWriterFunction(database, sqlOperations, writeConfigs, catalog),
-        onCloseFunction(database, sqlOperations, writeConfigs),
+        recordWriterFunction(recordLoader, writeConfigs, catalog),
+        onCloseFunction(database, sqlOperations, writeConfigs, recordLoader),
         catalog,
         sqlOperations::isValidData,
         MAX_BATCH_SIZE_BYTES);
@@ -132,8 +148,7 @@ public class JdbcBufferedConsumerFactory {
     };
   }
 
-  private static RecordWriter recordWriterFunction(final JdbcDatabase database,
-                                                   final SqlOperations sqlOperations,
+  private static RecordWriter recordWriterFunction(final ParallelRecordLoader recordLoader,
                                                    final List<WriteConfig> writeConfigs,
                                                    final ConfiguredAirbyteCatalog catalog) {
     final Map<AirbyteStreamNameNamespacePair, WriteConfig> pairToWriteConfig = writeConfigs.stream()
@@ -146,16 +161,28 @@ public class JdbcBufferedConsumerFactory {
       }
 
       final WriteConfig writeConfig = pairToWriteConfig.get(pair);
-      sqlOperations.insertRecords(database, records, writeConfig.getOutputSchemaName(), writeConfig.getTmpTableName());
+      recordLoader.submit(records, writeConfig.getOutputSchemaName(), writeConfig.getTmpTableName());
     };
   }
 
   private static OnCloseFunction onCloseFunction(final JdbcDatabase database,
                                                  final SqlOperations sqlOperations,
-                                                 final List<WriteConfig> writeConfigs) {
+                                                 final List<WriteConfig> writeConfigs,
+                                                 final ParallelRecordLoader recordLoader) {
     return (hasFailed) -> {
+      // wait for in-flight inserts before touching the tmp tables
+      Exception loadFailure = null;
+      try {
+        recordLoader.awaitCompletion();
+      } catch (final Exception e) {
+        LOGGER.error("Loading records into tmp tables failed.", e);
+        loadFailure = e;
+      } finally {
+        recordLoader.close();
+      }
+
       // copy data
-      if (!hasFailed) {
+      if (!hasFailed && loadFailure == null) {
         final List<String> queryList = new ArrayList<>();
         LOGGER.info("Finalizing tables in destination started for {} streams", writeConfigs.size());
         for (final WriteConfig writeConfig : writeConfigs) {
@@ -190,6 +217,10 @@ public class JdbcBufferedConsumerFactory {
         sqlOperations.dropTableIfExists(database, schemaName, tmpTableName);
       }
       LOGGER.info("Cleaning tmp tables in destination completed.");
+
+      if (loadFailure != null) {
+        throw loadFailure;
+      }
     };
   }
 
@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2021 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.destination.jdbc;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.Lists;
+import io.airbyte.db.jdbc.JdbcDatabase;
+import io.airbyte.protocol.models.AirbyteRecordMessage;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Loads batches of records into tmp tables over several pooled connections at once.
+ *
+ * <p>
+ * Each batch handed to {@link #submit} is split into at most {@code parallelism} disjoint
+ * partitions, and every partition is inserted with {@link SqlOperations#insertRecords} on its own
+ * worker thread (and therefore its own connection from the {@link JdbcDatabase} pool). Submitting
+ * does not wait for the inserts, so batches of different streams from the same flush are loaded
+ * concurrently. The number of partitions in flight is bounded by {@code parallelism}; once the
+ * window is full, {@link #submit} blocks, which keeps memory bounded to roughly one flush.
+ * </p>
+ *
+ * <p>
+ * The first failure is kept and rethrown from the next call to {@link #submit} or
+ * {@link #awaitCompletion()}; partitions that have not started yet are skipped. Callers must call
+ * {@link #awaitCompletion()} before finalizing tmp tables so that all-or-nothing semantics are
+ * preserved.
+ * </p>
+ *
+ * <p>
+ * With a parallelism of 1, records are inserted inline on the calling thread, which is the
+ * historical behavior.
+ * </p>
+ */
+public class ParallelRecordLoader implements AutoCloseable {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(ParallelRecordLoader.class);
+
+  // maximum size of the connection pool set up by Databases#createBasicDataSource.
+  private static final int CONNECTION_POOL_SIZE = 5;
+
+  // leaves one pooled connection free so that setup and finalization queries issued from the
+  // consumer thread never wait on a connection.
+  public static final int DEFAULT_PARALLELISM = CONNECTION_POOL_SIZE - 1;
+
+  // below this many records per partition, the per-statement overhead outweighs the concurrency gain.
+  private static final int MIN_RECORDS_PER_PARTITION = 1_000;
+
+  private final JdbcDatabase database;
+  private final SqlOperations sqlOperations;
+  private final int parallelism;
+  private final Semaphore inFlightPartitions;
+  private final AtomicReference<Exception> firstFailure;
+  private final ExecutorService executorService;
+
+  public ParallelRecordLoader(final JdbcDatabase database, final SqlOperations sqlOperations, final int parallelism) {
+    Preconditions.checkArgument(parallelism > 0, "parallelism must be positive");
+    this.database = database;
+    this.sqlOperations = sqlOperations;
+    this.parallelism = parallelism;
+    this.inFlightPartitions = new Semaphore(parallelism);
+    this.firstFailure = new AtomicReference<>();
+    this.executorService = parallelism > 1 ? Executors.newFixedThreadPool(parallelism) : null;
+  }
+
+  /**
+   * Schedule records to be inserted into a table. Assumes the table exists.
+   *
+   * @param records records to insert
+   * @param schemaName name of schema
+   * @param tableName name of table
+   * @throws Exception if a previously submitted partition failed, or the inline insert failed
+   */
+  public void submit(final List<AirbyteRecordMessage> records, final String schemaName, final String tableName) throws Exception {
+    rethrowIfFailed();
+    if (records.isEmpty()) {
+      return;
+    }
+    if (executorService == null) {
+      sqlOperations.insertRecords(database, records, schemaName, tableName);
+      return;
+    }
+
+    final int partitionSize = Math.max(MIN_RECORDS_PER_PARTITION, (records.size() + parallelism - 1) / parallelism);
+    for (final List<AirbyteRecordMessage> partition : Lists.partition(records, partitionSize)) {
+      inFlightPartitions.acquire();
+      if (firstFailure.get() != null) {
+        inFlightPartitions.release();
+        rethrowIfFailed();
+      }
+      executorService.submit(() -> {
+        try {
+          if (firstFailure.get() == null) {
+            sqlOperations.insertRecords(database, partition, schemaName, tableName);
+          }
+        } catch (final Exception e) {
+          LOGGER.error("Failed to insert {} records into {}.{}", partition.size(), schemaName, tableName, e);
+          firstFailure.compareAndSet(null, e);
+        } finally {
+          inFlightPartitions.release();
+        }
+      });
+    }
+  }
+
+  /**
+   * Block until every submitted partition has been inserted.
+   *
+   * @throws Exception the first failure encountered by any partition
+   */
+  public void awaitCompletion() throws Exception {
+    inFlightPartitions.acquire(parallelism);
+    inFlightPartitions.release(parallelism);
+    rethrowIfFailed();
+  }
+
+  @Override
+  public void close() throws Exception {
+    if (executorService != null) {
+      executorService.shutdownNow();
+      executorService.awaitTermination(1, TimeUnit.MINUTES);
+    }
+  }
+
+  private void rethrowIfFailed() throws Exception {
+    final Exception failure = firstFailure.get();
+    if (failure != null) {
+      throw failure;
+    }
+  }
+
+}
@@ -4,17 +4,22 @@
 
 package io.airbyte.integrations.destination.jdbc;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.google.common.annotations.VisibleForTesting;
-import com.google.common.collect.Iterables;
+import com.google.common.base.Utf8;
+import com.google.common.collect.Lists;
 import io.airbyte.commons.json.Jsons;
 import io.airbyte.db.jdbc.JdbcDatabase;
+import io.airbyte.integrations.destination.RecordIdGenerator;
 import io.airbyte.protocol.models.AirbyteRecordMessage;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.sql.Timestamp;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Function;
 import java.util.function.Supplier;
 
 public class SqlOperationsUtils {
@@ -35,7 +40,7 @@ public class SqlOperationsUtils {
                                                    final JdbcDatabase jdbcDatabase,
                                                    final List<AirbyteRecordMessage> records)
       throws SQLException {
-    insertRawRecordsInSingleQuery(insertQueryComponent, recordQueryComponent, jdbcDatabase, records, UUID::randomUUID, true);
+    insertRawRecordsInSingleQuery(insertQueryComponent, recordQueryComponent, jdbcDatabase, records, RecordIdGenerator::nextId, true);
   }
 
   /**
@@ -56,7 +61,63 @@ public class SqlOperationsUtils {
                                                         final JdbcDatabase jdbcDatabase,
                                                         final List<AirbyteRecordMessage> records)
       throws SQLException {
-    insertRawRecordsInSingleQuery(insertQueryComponent, recordQueryComponent, jdbcDatabase, records, UUID::randomUUID, false);
+    insertRawRecordsInSingleQuery(insertQueryComponent, recordQueryComponent, jdbcDatabase, records, RecordIdGenerator::nextId, false);
+  }
+
+  /**
+   * Inserts "raw" records with multi-row INSERT statements whose size respects the destination's
+   * limits.
+   *
+   * @param insertQueryComponent the first line of the query e.g. INSERT INTO public.users (ab_id,
+   *        data, emitted_at)
+   * @param recordQueryComponent query template for a full record e.g. (?, ?::jsonb ?)
+   * @param jdbcDatabase jdbc database
+   * @param records records to write
+   * @param limits destination-specific limits on the size of each statement
+   * @throws SQLException exception
+   */
+  public static void insertRawRecordsInSingleQuery(final String insertQueryComponent,
+                                                   final String recordQueryComponent,
+                                                   final JdbcDatabase jdbcDatabase,
+                                                   final List<AirbyteRecordMessage> records,
+                                                   final InsertStatementLimits limits)
+      throws SQLException {
+    insertRawRecordsInSingleQuery(insertQueryComponent, recordQueryComponent, jdbcDatabase, records, RecordIdGenerator::nextId, true, limits);
+  }
+
+  /**
+   * Inserts "raw" records one row per statement execution, using JDBC batching. This is faster than
+   * multi-row INSERT statements for drivers that either rewrite batches into multi-row statements
+   * themselves (e.g. MySQL with rewriteBatchedStatements=true, Postgres with
+   * reWriteBatchedInserts=true) or send batches as array binds (e.g. Oracle), because the statement
+   * is parsed once and only parameters travel with each batch.
+   *
+   * @param singleRecordInsertQuery full query for a single record e.g. INSERT INTO public.users
+   *        (ab_id, data, emitted_at) VALUES (?, ?::jsonb, ?)
+   * @param jdbcDatabase jdbc database
+   * @param records records to write
+   * @param batchSize number of records sent per executeBatch call
+   * @throws SQLException exception
+   */
+  public static void insertRawRecordsInBatches(final String singleRecordInsertQuery,
+                                               final JdbcDatabase jdbcDatabase,
+                                               final List<AirbyteRecordMessage> records,
+                                               final int batchSize)
+      throws SQLException {
+    insertRawRecordsInBatches(singleRecordInsertQuery, jdbcDatabase, records, batchSize, AirbyteRecordMessage::getData);
+  }
+
+  /**
+   * Same as {@link #insertRawRecordsInBatches(String, JdbcDatabase, List, int)}, applying a
+   * destination-specific transformation to each record's data before it is serialized.
+   */
+  public static void insertRawRecordsInBatches(final String singleRecordInsertQuery,
+                                               final JdbcDatabase jdbcDatabase,
+                                               final List<AirbyteRecordMessage> records,
+                                               final int batchSize,
+                                               final Function<AirbyteRecordMessage, JsonNode> dataFormatter)
+      throws SQLException {
+    insertRawRecordsInBatches(singleRecordInsertQuery, jdbcDatabase, records, batchSize, dataFormatter, RecordIdGenerator::nextId);
   }
 
   @VisibleForTesting
@@ -67,6 +128,19 @@ public class SqlOperationsUtils {
                                             final Supplier<UUID> uuidSupplier,
                                             final boolean sem)
       throws SQLException {
+    insertRawRecordsInSingleQuery(insertQueryComponent, recordQueryComponent, jdbcDatabase, records, uuidSupplier, sem,
+        InsertStatementLimits.DEFAULT);
+  }
+
+  @VisibleForTesting
+  static void insertRawRecordsInSingleQuery(final String insertQueryComponent,
+                                            final String recordQueryComponent,
+                                            final JdbcDatabase jdbcDatabase,
+                                            final List<AirbyteRecordMessage> records,
+                                            final Supplier<UUID> uuidSupplier,
+                                            final boolean sem,
+                                            final InsertStatementLimits limits)
+      throws SQLException {
     if (records.isEmpty()) {
       return;
     }
@@ -76,34 +150,115 @@ public class SqlOperationsUtils {
       // Strategy: We want to use PreparedStatement because it handles binding values to the SQL query
       // (e.g. handling formatting timestamps). A PreparedStatement statement is created by supplying the
       // full SQL string at creation time. Then subsequently specifying which values are bound to the
-      // string. Thus there will be two loops below.
-      // 1) Loop over records to build the full string.
-      // 2) Loop over the records and bind the appropriate values to the string.
-      // We also partition the query to run on 10k records at a time, since some DBs set a max limit on
-      // how many records can be inserted at once
-      // TODO(sherif) this should use a smarter, destination-aware partitioning scheme instead of 10k by
-      // default
-      for (List<AirbyteRecordMessage> partition : Iterables.partition(records, 10_000)) {
-        final StringBuilder sql = new StringBuilder(insertQueryComponent);
-        partition.forEach(r -> sql.append(recordQueryComponent));
-        final String s = sql.toString();
-        final String s1 = s.substring(0, s.length() - 2) + (sem ? ";" : "");
-
-        try (final PreparedStatement statement = connection.prepareStatement(s1)) {
-          // second loop: bind values to the SQL string.
-          int i = 1;
-          for (final AirbyteRecordMessage message : partition) {
-            // 1-indexed
-            statement.setString(i, uuidSupplier.get().toString());
-            statement.setString(i + 1, Jsons.serialize(message.getData()));
-            statement.setTimestamp(i + 2, Timestamp.from(Instant.ofEpochMilli(message.getEmittedAt())));
-            i += 3;
+      // string.
+      // We partition the records so that each statement stays within the destination's limits on
+      // parameters and statement size. Within a call every full-size partition shares one
+      // PreparedStatement, so the statement is built and prepared once per call rather than once per
+      // partition; only a trailing or byte-bounded partition needs its own statement.
+      final int maxRecords = limits.getMaxRecordsPerStatement();
+      final List<String> serializedData = new ArrayList<>(Math.min(maxRecords, records.size()));
+      PreparedStatement fullStatement = null;
+      try {
+        int start = 0;
+        String carriedData = null;
+        while (start < records.size()) {
+          serializedData.clear();
+          long statementBytes = 0;
+          int end = start;
+          while (end < records.size() && end - start < maxRecords) {
+            final String data = carriedData != null ? carriedData : Jsons.serialize(records.get(end).getData());
+            carriedData = null;
+            final int dataBytes = Utf8.encodedLength(data);
+            if (end > start && statementBytes + dataBytes > limits.getMaxStatementBytes()) {
+              carriedData = data;
+              break;
+            }
+            serializedData.add(data);
+            statementBytes += dataBytes;
+            end++;
+          }
+
+          final List<AirbyteRecordMessage> partition = records.subList(start, end);
+          if (partition.size() == maxRecords) {
+            if (fullStatement == null) {
+              fullStatement = connection.prepareStatement(buildMultiRowInsert(insertQueryComponent, recordQueryComponent, maxRecords, sem));
+            }
+            bindAndExecute(fullStatement, partition, serializedData, uuidSupplier);
+          } else {
+            try (final PreparedStatement statement =
+                connection.prepareStatement(buildMultiRowInsert(insertQueryComponent, recordQueryComponent, partition.size(), sem))) {
+              bindAndExecute(statement, partition, serializedData, uuidSupplier);
+            }
           }
+          start = end;
+        }
+      } finally {
+        if (fullStatement != null) {
+          fullStatement.close();
+        }
+      }
+    });
+  }
+
+  @VisibleForTesting
+  static void insertRawRecordsInBatches(final String singleRecordInsertQuery,
+                                        final JdbcDatabase jdbcDatabase,
+                                        final List<AirbyteRecordMessage> records,
+                                        final int batchSize,
+                                        final Function<AirbyteRecordMessage, JsonNode> dataFormatter,
+                                        final Supplier<UUID> uuidSupplier)
+      throws SQLException {
+    if (records.isEmpty()) {
+      return;
+    }
 
-          statement.execute();
+    jdbcDatabase.execute(connection -> {
+      try (final PreparedStatement statement = connection.prepareStatement(singleRecordInsertQuery)) {
+        for (final List<AirbyteRecordMessage> partition : Lists.partition(records, batchSize)) {
+          for (final AirbyteRecordMessage message : partition) {
+            statement.setString(1, uuidSupplier.get().toString());
+            statement.setString(2, Jsons.serialize(dataFormatter.apply(message)));
+            statement.setTimestamp(3, Timestamp.from(Instant.ofEpochMilli(message.getEmittedAt())));
+            statement.addBatch();
+          }
+          statement.executeBatch();
         }
       }
     });
   }
 
+  private static String buildMultiRowInsert(final String insertQueryComponent,
+                                            final String recordQueryComponent,
+                                            final int recordCount,
+                                            final boolean sem) {
+    final StringBuilder sql = new StringBuilder(insertQueryComponent.length() + recordQueryComponent.length() * recordCount);
+    sql.append(insertQueryComponent);
+    for (int i = 0; i < recordCount; i++) {
+      sql.append(recordQueryComponent);
+    }
+    // drop the trailing ",\n" of the last record
+    sql.setLength(sql.length() - 2);
+    if (sem) {
+      sql.append(';');
+    }
+    return sql.toString();
+  }
+
+  private static void bindAndExecute(final PreparedStatement statement,
+                                     final List<AirbyteRecordMessage> partition,
+                                     final List<String> serializedData,
+                                     final Supplier<UUID> uuidSupplier)
+      throws SQLException {
+    statement.clearParameters();
+    int i = 1;
+    for (int r = 0; r < partition.size(); r++) {
+      // 1-indexed
+      statement.setString(i, uuidSupplier.get().toString());
+      statement.setString(i + 1, serializedData.get(r));
+      statement.setTimestamp(i + 2, Timestamp.from(Instant.ofEpochMilli(partition.get(r).getEmittedAt())));
+      i += 3;
+    }
+    statement.execute();
+  }
+
 }
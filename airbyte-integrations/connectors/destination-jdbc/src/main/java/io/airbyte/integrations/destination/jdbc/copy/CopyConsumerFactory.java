@@ -4,10 +4,13 @@
 
 package io.airbyte.integrations.destination.jdbc.copy;
 
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import io.airbyte.db.jdbc.JdbcDatabase;
 import io.airbyte.integrations.base.AirbyteMessageConsumer;
 import io.airbyte.integrations.base.AirbyteStreamNameNamespacePair;
 import io.airbyte.integrations.destination.ExtendedNameTransformer;
+import io.airbyte.integrations.destination.RecordIdGenerator;
 import io.airbyte.integrations.destination.buffered_stream_consumer.BufferedStreamConsumer;
 import io.airbyte.integrations.destination.buffered_stream_consumer.OnCloseFunction;
 import io.airbyte.integrations.destination.buffered_stream_consumer.OnStartFunction;
@@ -21,6 +24,11 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Consumer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -30,6 +38,9 @@ public class CopyConsumerFactory {
   private static final Logger LOGGER = LoggerFactory.getLogger(CopyConsumerFactory.class);
 
   private static final int MAX_BATCH_SIZE_BYTES = 1024 * 1024 * 1024 / 4; // 256 mib
+  // number of streams whose staging files are uploaded and copied into their tmp tables concurrently
+  // when closing. Kept below the default size of the connection pool.
+  public static final int FINALIZATION_PARALLELISM = 4;
 
   public static <T> AirbyteMessageConsumer create(final Consumer<AirbyteMessage> outputRecordCollector,
                                                   final JdbcDatabase database,
@@ -89,7 +100,7 @@ public class CopyConsumerFactory {
     return (AirbyteStreamNameNamespacePair pair, List<AirbyteRecordMessage> records) -> {
       final var fileName = pairToCopier.get(pair).prepareStagingFile();
       for (final AirbyteRecordMessage recordMessage : records) {
-        final var id = UUID.randomUUID();
+        final var id = RecordIdGenerator.nextId();
         if (sqlOperations.isValidData(recordMessage.getData())) {
           // TODO Truncate json data instead of throwing whole record away?
           // or should we upload it into a special rejected record folder in s3 instead?
@@ -112,41 +123,94 @@ public class CopyConsumerFactory {
     };
   }
 
-  private static void closeAsOneTransaction(final List<StreamCopier> streamCopiers,
-                                            boolean hasFailed,
-                                            final JdbcDatabase db,
-                                            final SqlOperations sqlOperations)
+  /**
+   * Completes the staging uploads and copies them into the tmp tables of up to
+   * {@link #FINALIZATION_PARALLELISM} streams at a time, each over its own connection, then merges all
+   * tmp tables into their destination tables in a single transaction. Once any stream fails, the
+   * streams that have not started finalizing yet abort their uploads instead, and no merge is run.
+   * The exception of the first failed stream, in the order of the given copiers, is rethrown.
+   */
+  @VisibleForTesting
+  static void closeAsOneTransaction(final List<StreamCopier> streamCopiers,
+                                    final boolean hasFailed,
+                                    final JdbcDatabase db,
+                                    final SqlOperations sqlOperations)
       throws Exception {
+    final ExecutorService executorService = Executors.newFixedThreadPool(Math.max(1, Math.min(FINALIZATION_PARALLELISM, streamCopiers.size())),
+        new ThreadFactoryBuilder().setNameFormat("copy-finalizer-%d").build());
     Exception firstException = null;
     try {
-      final List<String> queries = new ArrayList<>();
+      final AtomicBoolean anyFailed = new AtomicBoolean(hasFailed);
+      final List<Future<String>> mergeQueries = new ArrayList<>();
       for (final var copier : streamCopiers) {
+        mergeQueries.add(executorService.submit(() -> {
+          try {
+            return finalizeStream(copier, anyFailed.get());
+          } catch (final Exception e) {
+            LOGGER.error(String.format("Failed to finalize copy to temp table due to: %s", e));
+            anyFailed.set(true);
+            throw e;
+          }
+        }));
+      }
+
+      final List<String> queries = new ArrayList<>();
+      for (final Future<String> mergeQuery : mergeQueries) {
         try {
-          copier.closeStagingUploader(hasFailed);
-
-          if (!hasFailed) {
-            copier.createDestinationSchema();
-            copier.createTemporaryTable();
-            copier.copyStagingFileToTemporaryTable();
-            final var destTableName = copier.createDestinationTable();
-            final var mergeQuery = copier.generateMergeStatement(destTableName);
-            queries.add(mergeQuery);
+          final String query = mergeQuery.get();
+          if (query != null) {
+            queries.add(query);
           }
-        } catch (final Exception e) {
-          final String message = String.format("Failed to finalize copy to temp table due to: %s", e);
-          LOGGER.error(message);
-          hasFailed = true;
+        } catch (final ExecutionException e) {
           if (firstException == null) {
-            firstException = e;
+            firstException = e.getCause() instanceof Exception ? (Exception) e.getCause() : e;
           }
         }
       }
-      if (!hasFailed) {
+      if (!anyFailed.get()) {
         sqlOperations.executeTransaction(db, queries);
       }
     } finally {
-      for (final var copier : streamCopiers) {
+      removeFilesAndDropTmpTables(streamCopiers, executorService);
+      executorService.shutdown();
+    }
+    if (firstException != null) {
+      throw firstException;
+    }
+  }
+
+  /**
+   * @return the merge statement of the stream, or null if the sync has failed
+   */
+  private static String finalizeStream(final StreamCopier copier, final boolean hasFailed) throws Exception {
+    copier.closeStagingUploader(hasFailed);
+    if (hasFailed) {
+      return null;
+    }
+    copier.createDestinationSchema();
+    copier.createTemporaryTable();
+    copier.copyStagingFileToTemporaryTable();
+    final var destTableName = copier.createDestinationTable();
+    return copier.generateMergeStatement(destTableName);
+  }
+
+  private static void removeFilesAndDropTmpTables(final List<StreamCopier> streamCopiers, final ExecutorService executorService)
+      throws Exception {
+    final List<Future<?>> cleanups = new ArrayList<>();
+    for (final var copier : streamCopiers) {
+      cleanups.add(executorService.submit(() -> {
         copier.removeFileAndDropTmpTable();
+        return null;
+      }));
+    }
+    Exception firstException = null;
+    for (final Future<?> cleanup : cleanups) {
+      try {
+        cleanup.get();
+      } catch (final ExecutionException e) {
+        if (firstException == null) {
+          firstException = e.getCause() instanceof Exception ? (Exception) e.getCause() : e;
+        }
       }
     }
     if (firstException != null) {
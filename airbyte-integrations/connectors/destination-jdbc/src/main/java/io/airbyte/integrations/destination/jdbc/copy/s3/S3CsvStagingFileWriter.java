@@ -0,0 +1,197 @@
+/*
+ * Copyright (c) 2021 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.destination.jdbc.copy.s3;
+
+import alex.mojaki.s3upload.MultiPartOutputStream;
+import alex.mojaki.s3upload.StreamTransferManager;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.protocol.models.AirbyteRecordMessage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.zip.GZIPOutputStream;
+import org.apache.commons.csv.CSVFormat;
+import org.apache.commons.csv.CSVPrinter;
+
+/**
+ * Writes one CSV staging file to S3 as a streaming multipart upload.
+ *
+ * <p>
+ * Records are collected into chunks on the calling thread. Each chunk is CSV-encoded (and
+ * optionally gzip-compressed as its own gzip member, which concatenate into a valid gzip file) on a
+ * pool of encoder threads, then appended to the multipart output stream. Row order within a file is
+ * not preserved, which does not matter for COPY. The encoder pool and the bound on the chunks
+ * waiting to be encoded are shared by the staging files of one copier, which creates them with
+ * {@link #newEncoderService()} and {@link #newChunksInFlight()} and shuts the pool down once it is
+ * closed. A slow upload or encoder pool pushes back on the consumer instead of buffering without
+ * limit.
+ * </p>
+ */
+class S3CsvStagingFileWriter {
+
+  private static final int ENCODER_THREADS = Math.max(2, Runtime.getRuntime().availableProcessors());
+  private static final int RECORDS_PER_CHUNK = 1_000;
+
+  private final ExecutorService encoderService;
+  private final Semaphore chunksInFlight;
+  private final StreamTransferManager uploadManager;
+  private final MultiPartOutputStream outputStream;
+  private final boolean compress;
+  private final List<Future<?>> encodingChunks = new ArrayList<>();
+  private final AtomicReference<Exception> encodingFailure = new AtomicReference<>();
+  private List<Record> pendingChunk = new ArrayList<>(RECORDS_PER_CHUNK);
+
+  /**
+   * @param encoderService pool encoding the chunks, see {@link #newEncoderService()}
+   * @param chunksInFlight slots of the chunks submitted to the pool and not appended yet, see
+   *        {@link #newChunksInFlight()}
+   */
+  S3CsvStagingFileWriter(final StreamTransferManager uploadManager,
+                         final boolean compress,
+                         final ExecutorService encoderService,
+                         final Semaphore chunksInFlight) {
+    this.encoderService = encoderService;
+    this.chunksInFlight = chunksInFlight;
+    this.uploadManager = uploadManager;
+    // We only need one output stream as we only have one input stream. This is reasonably performant.
+    this.outputStream = uploadManager.getMultiPartOutputStreams().get(0);
+    this.compress = compress;
+  }
+
+  static ExecutorService newEncoderService() {
+    return Executors.newFixedThreadPool(ENCODER_THREADS,
+        new ThreadFactoryBuilder().setNameFormat("s3-csv-encoder-%d").setDaemon(true).build());
+  }
+
+  static Semaphore newChunksInFlight() {
+    return new Semaphore(ENCODER_THREADS * 2);
+  }
+
+  void write(final UUID id, final AirbyteRecordMessage recordMessage) throws Exception {
+    rethrowIfFailed();
+    pendingChunk.add(new Record(id, recordMessage));
+    if (pendingChunk.size() >= RECORDS_PER_CHUNK) {
+      submitPendingChunk();
+    }
+  }
+
+  /**
+   * Encodes the remaining records, waits for all chunks to be appended and completes the multipart
+   * upload.
+   */
+  void close() throws Exception {
+    submitPendingChunk();
+    awaitEncodingChunks();
+    rethrowIfFailed();
+    outputStream.close();
+    uploadManager.complete();
+  }
+
+  /**
+   * Drops the pending records and cancels the chunks still being encoded or appended, which could
+   * otherwise block on the aborted upload forever. The slots of the chunks cancelled before they ran
+   * are not returned, the copier drops the in-flight window along with its encoder pool.
+   */
+  void abort() throws InterruptedException {
+    pendingChunk.clear();
+    encodingChunks.forEach(chunk -> chunk.cancel(true));
+    uploadManager.abort();
+    awaitEncodingChunks();
+  }
+
+  private void awaitEncodingChunks() throws InterruptedException {
+    for (final Future<?> chunk : encodingChunks) {
+      try {
+        chunk.get();
+      } catch (final CancellationException e) {
+        // only aborted chunks are cancelled, their records are dropped anyway.
+      } catch (final ExecutionException e) {
+        // the chunk has already recorded its own failure; this only catches errors it could not record.
+        encodingFailure.compareAndSet(null, e);
+      }
+    }
+    encodingChunks.clear();
+  }
+
+  private void submitPendingChunk() throws InterruptedException {
+    if (pendingChunk.isEmpty()) {
+      return;
+    }
+    final List<Record> chunk = pendingChunk;
+    pendingChunk = new ArrayList<>(RECORDS_PER_CHUNK);
+
+    chunksInFlight.acquire();
+    try {
+      encodingChunks.add(encoderService.submit(() -> {
+        try {
+          final byte[] encoded = encode(chunk);
+          synchronized (outputStream) {
+            outputStream.write(encoded);
+          }
+        } catch (final Exception e) {
+          encodingFailure.compareAndSet(null, e);
+          throw e;
+        } finally {
+          chunksInFlight.release();
+        }
+        return null;
+      }));
+    } catch (final RuntimeException e) {
+      chunksInFlight.release();
+      throw e;
+    }
+    encodingChunks.removeIf(Future::isDone);
+  }
+
+  private byte[] encode(final List<Record> chunk) throws IOException {
+    final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    final OutputStream target = compress ? new GZIPOutputStream(bytes) : bytes;
+    try (final Writer writer = new OutputStreamWriter(target, StandardCharsets.UTF_8);
+        final CSVPrinter csvPrinter = new CSVPrinter(writer, CSVFormat.DEFAULT)) {
+      for (final Record record : chunk) {
+        csvPrinter.printRecord(record.id,
+            Jsons.serialize(record.message.getData()),
+            Timestamp.from(Instant.ofEpochMilli(record.message.getEmittedAt())));
+      }
+    }
+    return bytes.toByteArray();
+  }
+
+  private void rethrowIfFailed() throws Exception {
+    final Exception failure = encodingFailure.get();
+    if (failure != null) {
+      throw failure;
+    }
+  }
+
+  private static final class Record {
+
+    private final UUID id;
+    private final AirbyteRecordMessage message;
+
+    private Record(final UUID id, final AirbyteRecordMessage message) {
+      this.id = id;
+      this.message = message;
+    }
+
+  }
+
+}
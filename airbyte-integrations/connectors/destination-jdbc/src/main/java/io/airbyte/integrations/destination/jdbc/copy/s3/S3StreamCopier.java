@@ -4,32 +4,33 @@
 
 package io.airbyte.integrations.destination.jdbc.copy.s3;
 
-import alex.mojaki.s3upload.MultiPartOutputStream;
 import alex.mojaki.s3upload.StreamTransferManager;
 import com.amazonaws.services.s3.AmazonS3;
-import io.airbyte.commons.json.Jsons;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import io.airbyte.commons.lang.Exceptions;
 import io.airbyte.db.jdbc.JdbcDatabase;
 import io.airbyte.integrations.destination.ExtendedNameTransformer;
 import io.airbyte.integrations.destination.jdbc.SqlOperations;
 import io.airbyte.integrations.destination.jdbc.StagingFilenameGenerator;
+import io.airbyte.integrations.destination.jdbc.copy.CopyConsumerFactory;
 import io.airbyte.integrations.destination.jdbc.copy.StreamCopier;
 import io.airbyte.integrations.destination.s3.S3DestinationConfig;
 import io.airbyte.protocol.models.AirbyteRecordMessage;
 import io.airbyte.protocol.models.DestinationSyncMode;
-import java.io.IOException;
-import java.io.PrintWriter;
-import java.nio.charset.StandardCharsets;
 import java.sql.SQLException;
-import java.sql.Timestamp;
-import java.time.Instant;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
-import org.apache.commons.csv.CSVFormat;
-import org.apache.commons.csv.CSVPrinter;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -47,6 +48,12 @@ public abstract class S3StreamCopier implements StreamCopier {
   // QUERY_TIMEOUT when
   // the records from the file are copied to the staging table.
   public static final int MAX_PARTS_PER_FILE = 1000;
+  // maximum size of the connection pool set up by Databases#createBasicDataSource.
+  private static final int CONNECTION_POOL_SIZE = 5;
+  // completed staging files of a stream are uploaded and copied in the background with the pooled
+  // connections that the finalization of the streams leaves free. COPY commands into the same tmp
+  // table serialize on its lock anyway.
+  private static final int COPY_PARALLELISM = Math.max(1, CONNECTION_POOL_SIZE - CopyConsumerFactory.FINALIZATION_PARALLELISM);
 
   protected final AmazonS3 s3Client;
   protected final S3DestinationConfig s3Config;
@@ -58,9 +65,19 @@ public abstract class S3StreamCopier implements StreamCopier {
   private final ExtendedNameTransformer nameTransformer;
   private final SqlOperations sqlOperations;
   protected final Set<String> s3StagingFiles = new HashSet<>();
-  private final Map<String, StreamTransferManager> multipartUploadManagers = new HashMap<>();
-  private final Map<String, MultiPartOutputStream> outputStreams = new HashMap<>();
-  private final Map<String, CSVPrinter> csvPrinters = new HashMap<>();
+  // staging files that are still being written, by name.
+  private final Map<String, S3CsvStagingFileWriter> stagingWriters = new HashMap<>();
+  // staging files that are complete, and are being uploaded and copied into the tmp table in the
+  // background.
+  private final Map<String, Future<?>> stagingFilesInFlight = new HashMap<>();
+  private final Set<String> copiedStagingFiles = ConcurrentHashMap.newKeySet();
+  // created on the first completed staging file, so that streams with a single file start no threads.
+  private ExecutorService copyService;
+  // encode the chunks of all staging files of the stream, created with the first one.
+  private ExecutorService encoderService;
+  private Semaphore chunksInFlight;
+  private boolean isTmpTablePrepared = false;
+  private String currentStagingFile;
   private final String s3FileName;
   protected final String stagingFolder;
   private final StagingFilenameGenerator filenameGenerator;
@@ -97,6 +114,10 @@ public abstract class S3StreamCopier implements StreamCopier {
   public String prepareStagingFile() {
     final var name = prepareS3StagingFile();
     if (!s3StagingFiles.contains(name)) {
+      if (currentStagingFile != null) {
+        finishStagingFileInBackground(currentStagingFile);
+      }
+      currentStagingFile = name;
       s3StagingFiles.add(name);
       LOGGER.info("S3 upload part size: {} MB", s3Config.getPartSize());
       // The stream transfer manager lets us greedily stream into S3. The native AWS SDK does not
@@ -110,38 +131,51 @@ public abstract class S3StreamCopier implements StreamCopier {
           .numUploadThreads(DEFAULT_UPLOAD_THREADS)
           .queueCapacity(DEFAULT_QUEUE_CAPACITY)
           .partSize(s3Config.getPartSize());
-      multipartUploadManagers.put(name, manager);
-      final var outputStream = manager.getMultiPartOutputStreams().get(0);
-      // We only need one output stream as we only have one input stream. This is reasonably performant.
-      // See the above comment.
-      outputStreams.put(name, outputStream);
-      final var writer = new PrintWriter(outputStream, true, StandardCharsets.UTF_8);
-      try {
-        csvPrinters.put(name, new CSVPrinter(writer, CSVFormat.DEFAULT));
-      } catch (final IOException e) {
-        throw new RuntimeException(e);
-      }
+      stagingWriters.put(name, createStagingFileWriter(manager));
     }
     return name;
   }
 
+  @VisibleForTesting
+  S3CsvStagingFileWriter createStagingFileWriter(final StreamTransferManager manager) {
+    if (encoderService == null) {
+      encoderService = S3CsvStagingFileWriter.newEncoderService();
+      chunksInFlight = S3CsvStagingFileWriter.newChunksInFlight();
+    }
+    return new S3CsvStagingFileWriter(manager, isStagingFileCompressed(), encoderService, chunksInFlight);
+  }
+
   @Override
   public void write(final UUID id, final AirbyteRecordMessage recordMessage, final String s3FileName) throws Exception {
-    if (csvPrinters.containsKey(s3FileName)) {
-      csvPrinters.get(s3FileName).printRecord(id,
-          Jsons.serialize(recordMessage.getData()),
-          Timestamp.from(Instant.ofEpochMilli(recordMessage.getEmittedAt())));
+    final S3CsvStagingFileWriter writer = stagingWriters.get(s3FileName);
+    if (writer != null) {
+      writer.write(id, recordMessage);
     }
   }
 
   @Override
   public void closeStagingUploader(final boolean hasFailed) throws Exception {
-    if (hasFailed) {
-      for (final var multipartUploadManager : multipartUploadManagers.values()) {
-        multipartUploadManager.abort();
+    try {
+      if (hasFailed) {
+        // the tmp table is about to be dropped, so copies still running in the background are not
+        // waited for.
+        stagingFilesInFlight.values().forEach(stagingFileInFlight -> stagingFileInFlight.cancel(true));
+        stagingFilesInFlight.clear();
+        for (final var writer : stagingWriters.values()) {
+          writer.abort();
+        }
+        stagingWriters.clear();
+      }
+      closeAndWaitForUpload();
+    } finally {
+      if (copyService != null) {
+        copyService.shutdownNow();
+      }
+      // every writer has been closed or aborted, or has failed.
+      if (encoderService != null) {
+        encoderService.shutdownNow();
       }
     }
-    closeAndWaitForUpload();
   }
 
   @Override
@@ -159,8 +193,9 @@ public abstract class S3StreamCopier implements StreamCopier {
   @Override
   public void copyStagingFileToTemporaryTable() throws Exception {
     LOGGER.info("Starting copy to tmp table: {} in destination for stream: {}, schema: {}, .", tmpTableName, streamName, schemaName);
-    s3StagingFiles.forEach(s3StagingFile -> Exceptions.toRuntime(() -> {
+    getStagingFilesPendingCopy().forEach(s3StagingFile -> Exceptions.toRuntime(() -> {
       copyS3CsvFileIntoTable(db, getFullS3Path(s3Config.getBucketName(), s3StagingFile), schemaName, tmpTableName, s3Config);
+      copiedStagingFiles.add(s3StagingFile);
     }));
     LOGGER.info("Copy to tmp table {} in destination for stream {} complete.", tmpTableName, streamName);
   }
@@ -207,18 +242,75 @@ public abstract class S3StreamCopier implements StreamCopier {
   }
 
   /**
-   * Closes the printers/outputstreams and waits for any buffered uploads to complete.
+   * @return staging files that have been uploaded but not yet copied into the tmp table.
    */
-  private void closeAndWaitForUpload() throws IOException {
+  protected Set<String> getStagingFilesPendingCopy() {
+    return s3StagingFiles.stream().filter(file -> !copiedStagingFiles.contains(file)).collect(Collectors.toSet());
+  }
+
+  /**
+   * Whether staging files are written as gzip-compressed CSV. Copiers that enable this must also
+   * tell their COPY command that the files are compressed.
+   */
+  protected boolean isStagingFileCompressed() {
+    return false;
+  }
+
+  /**
+   * A staging file receives no more records once the filename generator moves on to the next one.
+   * Complete its upload and copy it into the tmp table in the background, so that COPY overlaps with
+   * the upload of later files instead of waiting for {@link #closeStagingUploader(boolean)}.
+   */
+  private void finishStagingFileInBackground(final String stagingFile) {
+    final S3CsvStagingFileWriter writer = stagingWriters.remove(stagingFile);
+    if (copyService == null) {
+      copyService = Executors.newFixedThreadPool(COPY_PARALLELISM,
+          new ThreadFactoryBuilder().setNameFormat("s3-staging-copy-%d").setDaemon(true).build());
+    }
+    stagingFilesInFlight.put(stagingFile, copyService.submit(() -> {
+      writer.close();
+      LOGGER.info("Staging file {} for stream {} uploaded.", stagingFile, streamName);
+      prepareTmpTableOnce();
+      copyS3CsvFileIntoTable(db, getFullS3Path(s3Config.getBucketName(), stagingFile), schemaName, tmpTableName, s3Config);
+      copiedStagingFiles.add(stagingFile);
+      LOGGER.info("Staging file {} copied to tmp table {}.", stagingFile, tmpTableName);
+      return null;
+    }));
+  }
+
+  private synchronized void prepareTmpTableOnce() throws Exception {
+    if (!isTmpTablePrepared) {
+      createDestinationSchema();
+      createTemporaryTable();
+      isTmpTablePrepared = true;
+    }
+  }
+
+  /**
+   * Closes the staging file writers and waits for any buffered uploads, as well as copies started in
+   * the background, to complete.
+   */
+  private void closeAndWaitForUpload() throws Exception {
     LOGGER.info("Uploading remaining data for {} stream.", streamName);
-    for (final var csvPrinter : csvPrinters.values()) {
-      csvPrinter.close();
+    Exception firstException = null;
+    for (final var writer : stagingWriters.values()) {
+      try {
+        writer.close();
+      } catch (final Exception e) {
+        firstException = firstException == null ? e : firstException;
+      }
     }
-    for (final var outputStream : outputStreams.values()) {
-      outputStream.close();
+    stagingWriters.clear();
+    for (final var stagingFileInFlight : stagingFilesInFlight.values()) {
+      try {
+        stagingFileInFlight.get();
+      } catch (final ExecutionException e) {
+        firstException = firstException == null ? (e.getCause() instanceof Exception ? (Exception) e.getCause() : e) : firstException;
+      }
     }
-    for (final var multipartUploadManager : multipartUploadManagers.values()) {
-      multipartUploadManager.complete();
+    stagingFilesInFlight.clear();
+    if (firstException != null) {
+      throw firstException;
     }
     LOGGER.info("All data for {} stream uploaded.", streamName);
   }
@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2021 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.destination.jdbc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import com.google.common.collect.ImmutableMap;
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.db.jdbc.JdbcDatabase;
+import io.airbyte.protocol.models.AirbyteRecordMessage;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ParallelRecordLoaderTest {
+
+  private static final String SCHEMA_NAME = "public";
+  private static final String TABLE_NAME = "_airbyte_tmp_users";
+
+  private JdbcDatabase database;
+  private SqlOperations sqlOperations;
+
+  @BeforeEach
+  void setup() {
+    database = mock(JdbcDatabase.class);
+    sqlOperations = mock(SqlOperations.class);
+  }
+
+  @Test
+  void testInlineInsertWithParallelismOfOne() throws Exception {
+    final List<AirbyteRecordMessage> records = generateRecords(10);
+    try (final ParallelRecordLoader loader = new ParallelRecordLoader(database, sqlOperations, 1)) {
+      loader.submit(records, SCHEMA_NAME, TABLE_NAME);
+      verify(sqlOperations).insertRecords(database, records, SCHEMA_NAME, TABLE_NAME);
+      loader.awaitCompletion();
+    }
+  }
+
+  @Test
+  void testPartitionsAreLoadedConcurrently() throws Exception {
+    final AtomicInteger insertedRecords = new AtomicInteger();
+    // 10,000 records are split into 4 partitions, and each one waits for all the others to start.
+    final CountDownLatch startedPartitions = new CountDownLatch(4);
+    doAnswer(invocation -> {
+      startedPartitions.countDown();
+      if (!startedPartitions.await(10, TimeUnit.SECONDS)) {
+        throw new IllegalStateException("partitions were not loaded concurrently");
+      }
+      final List<AirbyteRecordMessage> partition = invocation.getArgument(1);
+      insertedRecords.addAndGet(partition.size());
+      return null;
+    }).when(sqlOperations).insertRecords(eq(database), anyList(), eq(SCHEMA_NAME), eq(TABLE_NAME));
+
+    try (final ParallelRecordLoader loader = new ParallelRecordLoader(database, sqlOperations, 4)) {
+      loader.submit(generateRecords(10_000), SCHEMA_NAME, TABLE_NAME);
+      loader.awaitCompletion();
+    }
+
+    assertEquals(10_000, insertedRecords.get());
+  }
+
+  @Test
+  void testFailureIsRethrown() throws Exception {
+    final SQLException failure = new SQLException("insert failed");
+    doThrow(failure).when(sqlOperations).insertRecords(any(), anyList(), any(), any());
+
+    try (final ParallelRecordLoader loader = new ParallelRecordLoader(database, sqlOperations, 4)) {
+      loader.submit(generateRecords(10_000), SCHEMA_NAME, TABLE_NAME);
+      assertEquals(failure, assertThrows(SQLException.class, loader::awaitCompletion));
+      assertThrows(SQLException.class, () -> loader.submit(generateRecords(1), SCHEMA_NAME, TABLE_NAME));
+    }
+  }
+
+  private static List<AirbyteRecordMessage> generateRecords(final int n) {
+    return IntStream.range(0, n)
+        .boxed()
+        .map(i -> new AirbyteRecordMessage()
+            .withStream("users")
+            .withData(Jsons.jsonNode(ImmutableMap.of("id", i)))
+            .withEmittedAt(1602637589000L))
+        .collect(Collectors.toList());
+  }
+
+}
@@ -24,6 +24,8 @@ import java.time.Instant;
 import java.util.List;
 import java.util.UUID;
 import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.testcontainers.containers.PostgreSQLContainer;
@@ -108,6 +110,64 @@ class SqlOperationsUtilsTest {
     assertEquals(expectedRecords, actualRecords);
   }
 
+  @Test
+  void testInsertRawRecordsRespectsStatementLimits() throws SQLException {
+    when(uuidSupplier.get()).thenAnswer(invocation -> UUID.randomUUID());
+
+    new TestJdbcSqlOperations().createTableIfNotExists(database, SCHEMA_NAME, STREAM_NAME);
+
+    final String insertQueryComponent = String.format(
+        "INSERT INTO %s.%s (%s, %s, %s) VALUES\n",
+        SCHEMA_NAME,
+        STREAM_NAME,
+        JavaBaseConstants.COLUMN_NAME_AB_ID,
+        JavaBaseConstants.COLUMN_NAME_DATA,
+        JavaBaseConstants.COLUMN_NAME_EMITTED_AT);
+    final String recordQueryComponent = "(?, ?::jsonb, ?),\n";
+    final List<AirbyteRecordMessage> records = generateRecords(7);
+
+    // two records per statement, and a byte budget that splits some statements further.
+    SqlOperationsUtils.insertRawRecordsInSingleQuery(insertQueryComponent, recordQueryComponent, database, records, uuidSupplier, true,
+        new InsertStatementLimits(2, 40));
+    // same table, same statement size: reuses the cached statement text.
+    SqlOperationsUtils.insertRawRecordsInSingleQuery(insertQueryComponent, recordQueryComponent, database, records, uuidSupplier, true,
+        new InsertStatementLimits(2, Long.MAX_VALUE));
+
+    assertEquals(14, countRecords());
+  }
+
+  @Test
+  void testInsertRawRecordsInBatches() throws SQLException {
+    when(uuidSupplier.get()).thenAnswer(invocation -> UUID.randomUUID());
+
+    new TestJdbcSqlOperations().createTableIfNotExists(database, SCHEMA_NAME, STREAM_NAME);
+
+    final String insertQuery = String.format(
+        "INSERT INTO %s.%s (%s, %s, %s) VALUES (?, ?::jsonb, ?)",
+        SCHEMA_NAME,
+        STREAM_NAME,
+        JavaBaseConstants.COLUMN_NAME_AB_ID,
+        JavaBaseConstants.COLUMN_NAME_DATA,
+        JavaBaseConstants.COLUMN_NAME_EMITTED_AT);
+
+    SqlOperationsUtils.insertRawRecordsInBatches(insertQuery, database, generateRecords(7), 3, AirbyteRecordMessage::getData, uuidSupplier);
+
+    assertEquals(7, countRecords());
+  }
+
+  private List<AirbyteRecordMessage> generateRecords(final int n) {
+    return IntStream.range(0, n)
+        .mapToObj(i -> new AirbyteRecordMessage()
+            .withStream(STREAM_NAME)
+            .withEmittedAt(NOW.toEpochMilli())
+            .withData(Jsons.jsonNode(ImmutableMap.of("name", "river " + i, "width", i))))
+        .collect(Collectors.toList());
+  }
+
+  private int countRecords() throws SQLException {
+    return database.queryInt(String.format("SELECT COUNT(*) FROM %s.%s", SCHEMA_NAME, STREAM_NAME));
+  }
+
   private JsonNode createConfig() {
     return Jsons.jsonNode(ImmutableMap.builder()
         .put("username", container.getUsername())
@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2021 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.destination.jdbc.copy;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.airbyte.db.jdbc.JdbcDatabase;
+import io.airbyte.integrations.destination.jdbc.SqlOperations;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class CopyConsumerFactoryTest {
+
+  private JdbcDatabase database;
+  private SqlOperations sqlOperations;
+
+  @BeforeEach
+  void setup() {
+    database = mock(JdbcDatabase.class);
+    sqlOperations = mock(SqlOperations.class);
+  }
+
+  @Test
+  void testStreamsAreMergedInOneTransaction() throws Exception {
+    final List<StreamCopier> copiers = createCopiers(10);
+
+    CopyConsumerFactory.closeAsOneTransaction(copiers, false, database, sqlOperations);
+
+    final List<String> expectedQueries = IntStream.range(0, 10).mapToObj(i -> "merge " + i + ";").collect(Collectors.toList());
+    verify(sqlOperations).executeTransaction(database, expectedQueries);
+    for (final StreamCopier copier : copiers) {
+      verify(copier).closeStagingUploader(false);
+      verify(copier).copyStagingFileToTemporaryTable();
+      verify(copier).removeFileAndDropTmpTable();
+    }
+  }
+
+  @Test
+  void testFirstFailureIsRethrownAndNothingIsMerged() throws Exception {
+    final List<StreamCopier> copiers = createCopiers(10);
+    final Exception firstFailure = new RuntimeException("copy of stream 3 failed");
+    doThrow(firstFailure).when(copiers.get(3)).copyStagingFileToTemporaryTable();
+    doThrow(new RuntimeException("copy of stream 7 failed")).when(copiers.get(7)).copyStagingFileToTemporaryTable();
+
+    assertEquals(firstFailure,
+        assertThrows(RuntimeException.class, () -> CopyConsumerFactory.closeAsOneTransaction(copiers, false, database, sqlOperations)));
+
+    verify(sqlOperations, never()).executeTransaction(any(), any());
+    for (final StreamCopier copier : copiers) {
+      verify(copier).closeStagingUploader(anyBoolean());
+      verify(copier).removeFileAndDropTmpTable();
+    }
+  }
+
+  @Test
+  void testFailedSyncAbortsUploads() throws Exception {
+    final List<StreamCopier> copiers = createCopiers(3);
+
+    CopyConsumerFactory.closeAsOneTransaction(copiers, true, database, sqlOperations);
+
+    verify(sqlOperations, never()).executeTransaction(any(), any());
+    for (final StreamCopier copier : copiers) {
+      verify(copier).closeStagingUploader(true);
+      verify(copier, never()).copyStagingFileToTemporaryTable();
+      verify(copier).removeFileAndDropTmpTable();
+    }
+  }
+
+  private static List<StreamCopier> createCopiers(final int n) throws Exception {
+    final List<StreamCopier> copiers = new ArrayList<>();
+    for (int i = 0; i < n; i++) {
+      final StreamCopier copier = mock(StreamCopier.class);
+      when(copier.createDestinationTable()).thenReturn("table_" + i);
+      when(copier.generateMergeStatement("table_" + i)).thenReturn("merge " + i + ";");
+      copiers.add(copier);
+    }
+    return copiers;
+  }
+
+}
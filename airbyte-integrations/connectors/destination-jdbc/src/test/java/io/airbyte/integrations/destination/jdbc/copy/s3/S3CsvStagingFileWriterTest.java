@@ -0,0 +1,170 @@
+/*
+ * Copyright (c) 2021 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.destination.jdbc.copy.s3;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import alex.mojaki.s3upload.MultiPartOutputStream;
+import alex.mojaki.s3upload.StreamTransferManager;
+import com.google.common.collect.ImmutableMap;
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.protocol.models.AirbyteRecordMessage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.zip.GZIPInputStream;
+import org.apache.commons.csv.CSVFormat;
+import org.apache.commons.csv.CSVParser;
+import org.apache.commons.csv.CSVRecord;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class S3CsvStagingFileWriterTest {
+
+  // spans several chunks, the last one partial.
+  private static final int RECORD_COUNT = 2_500;
+
+  private ExecutorService encoderService;
+  private StreamTransferManager uploadManager;
+  private MultiPartOutputStream outputStream;
+  private ByteArrayOutputStream uploadedBytes;
+
+  @BeforeEach
+  void setup() throws IOException {
+    encoderService = S3CsvStagingFileWriter.newEncoderService();
+    uploadManager = mock(StreamTransferManager.class);
+    outputStream = mock(MultiPartOutputStream.class);
+    uploadedBytes = new ByteArrayOutputStream();
+    when(uploadManager.getMultiPartOutputStreams()).thenReturn(List.of(outputStream));
+    doAnswer(invocation -> {
+      uploadedBytes.write(invocation.<byte[]>getArgument(0));
+      return null;
+    }).when(outputStream).write(any(byte[].class));
+  }
+
+  @AfterEach
+  void tearDown() {
+    encoderService.shutdownNow();
+  }
+
+  @Test
+  void testWritesEveryRecordAsCsv() throws Exception {
+    final S3CsvStagingFileWriter writer = newWriter(false);
+    final Map<String, Integer> expectedRecords = writeRecords(writer);
+
+    writer.close();
+
+    assertEquals(expectedRecords, readRecords(new ByteArrayInputStream(uploadedBytes.toByteArray())));
+    verify(outputStream).close();
+    verify(uploadManager).complete();
+  }
+
+  @Test
+  void testCompressedChunksFormOneGzipFile() throws Exception {
+    final S3CsvStagingFileWriter writer = newWriter(true);
+    final Map<String, Integer> expectedRecords = writeRecords(writer);
+
+    writer.close();
+
+    assertEquals(expectedRecords, readRecords(new GZIPInputStream(new ByteArrayInputStream(uploadedBytes.toByteArray()))));
+    verify(uploadManager).complete();
+  }
+
+  @Test
+  void testUploadFailureIsRethrownWithoutCompleting() throws Exception {
+    final IOException failure = new IOException("upload failed");
+    doThrow(failure).when(outputStream).write(any(byte[].class));
+    final S3CsvStagingFileWriter writer = newWriter(false);
+    // fewer records than a chunk, so that the failure surfaces on close rather than on a later write.
+    writer.write(UUID.randomUUID(), record(0));
+
+    assertEquals(failure, assertThrows(IOException.class, writer::close));
+    verify(uploadManager, never()).complete();
+  }
+
+  @Test
+  void testAbortDropsPendingRecords() throws Exception {
+    final S3CsvStagingFileWriter writer = newWriter(false);
+    writer.write(UUID.randomUUID(), record(0));
+
+    writer.abort();
+
+    verify(uploadManager).abort();
+    verify(outputStream, never()).write(any(byte[].class));
+    verify(uploadManager, never()).complete();
+  }
+
+  @Test
+  void testAbortDoesNotWaitForBlockedChunks() throws Exception {
+    final CountDownLatch uploadUnblocked = new CountDownLatch(1);
+    doAnswer(invocation -> {
+      uploadUnblocked.await();
+      return null;
+    }).when(outputStream).write(any(byte[].class));
+    final S3CsvStagingFileWriter writer = newWriter(false);
+    writeRecords(writer);
+
+    assertTimeoutPreemptively(Duration.ofSeconds(10), writer::abort);
+    verify(uploadManager).abort();
+    verify(uploadManager, never()).complete();
+  }
+
+  private S3CsvStagingFileWriter newWriter(final boolean compress) {
+    return new S3CsvStagingFileWriter(uploadManager, compress, encoderService, S3CsvStagingFileWriter.newChunksInFlight());
+  }
+
+  private static Map<String, Integer> writeRecords(final S3CsvStagingFileWriter writer) throws Exception {
+    final Map<String, Integer> records = new HashMap<>();
+    for (int i = 0; i < RECORD_COUNT; i++) {
+      final UUID id = UUID.randomUUID();
+      writer.write(id, record(i));
+      records.put(id.toString(), i);
+    }
+    return records;
+  }
+
+  private static AirbyteRecordMessage record(final int index) {
+    return new AirbyteRecordMessage()
+        .withStream("users")
+        .withData(Jsons.jsonNode(ImmutableMap.of("index", index, "name", "user, \"" + index + "\"")))
+        .withEmittedAt(1_600_000_000_000L);
+  }
+
+  /**
+   * @return the index of each record by id. Row order across chunks is not preserved.
+   */
+  private static Map<String, Integer> readRecords(final InputStream csv) throws IOException {
+    final Map<String, Integer> records = new HashMap<>();
+    try (final CSVParser parser = CSVParser.parse(new String(csv.readAllBytes(), StandardCharsets.UTF_8), CSVFormat.DEFAULT)) {
+      for (final CSVRecord csvRecord : parser) {
+        final int index = Jsons.deserialize(csvRecord.get(1)).get("index").asInt();
+        assertEquals(3, csvRecord.size());
+        assertEquals("user, \"" + index + "\"", Jsons.deserialize(csvRecord.get(1)).get("name").asText());
+        records.put(csvRecord.get(0), index);
+      }
+    }
+    return records;
+  }
+
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2021 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.destination.jdbc.copy.s3;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import alex.mojaki.s3upload.StreamTransferManager;
+import com.amazonaws.services.s3.AmazonS3;
+import io.airbyte.db.jdbc.JdbcDatabase;
+import io.airbyte.integrations.destination.ExtendedNameTransformer;
+import io.airbyte.integrations.destination.jdbc.SqlOperations;
+import io.airbyte.integrations.destination.s3.S3DestinationConfig;
+import io.airbyte.protocol.models.DestinationSyncMode;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class S3StreamCopierTest {
+
+  private static final String BUCKET = "bucket";
+  private static final String FIRST_STAGING_FILE = "staging/public/users_00000";
+  private static final String SECOND_STAGING_FILE = "staging/public/users_00001";
+
+  private SqlOperations sqlOperations;
+  private TestS3StreamCopier copier;
+
+  @BeforeEach
+  void setup() {
+    sqlOperations = mock(SqlOperations.class);
+    copier = new TestS3StreamCopier(sqlOperations);
+  }
+
+  @Test
+  void testCompletedStagingFileIsCopiedInBackground() throws Exception {
+    assertEquals(FIRST_STAGING_FILE, rollOverFirstStagingFile());
+
+    copier.closeStagingUploader(false);
+
+    verify(copier.writers.get(0)).close();
+    verify(copier.writers.get(1)).close();
+    assertEquals(List.of(fullPath(FIRST_STAGING_FILE)), copier.copiedFiles);
+    verify(sqlOperations).createTableIfNotExists(copier.db, "public", copier.tmpTableName);
+
+    // only the file that was still being written is left to the copy at close.
+    copier.copyStagingFileToTemporaryTable();
+
+    assertEquals(List.of(fullPath(FIRST_STAGING_FILE), fullPath(SECOND_STAGING_FILE)), copier.copiedFiles);
+  }
+
+  @Test
+  void testFailedSyncCancelsBackgroundCopies() throws Exception {
+    copier.blockCopies();
+    rollOverFirstStagingFile();
+    assertTrue(copier.copyStarted.await(10, TimeUnit.SECONDS));
+
+    copier.closeStagingUploader(true);
+
+    assertTrue(copier.copyInterrupted.await(10, TimeUnit.SECONDS));
+    verify(copier.writers.get(1)).abort();
+    verify(copier.writers.get(1), never()).close();
+    assertEquals(List.of(), copier.copiedFiles);
+  }
+
+  /**
+   * Fills the first staging file with parts until the filename generator moves on to the next one.
+   *
+   * @return the name of the first staging file
+   */
+  private String rollOverFirstStagingFile() {
+    final String firstStagingFile = copier.prepareStagingFile();
+    for (int i = 1; i < S3StreamCopier.MAX_PARTS_PER_FILE; i++) {
+      assertEquals(firstStagingFile, copier.prepareStagingFile());
+    }
+    assertEquals(SECOND_STAGING_FILE, copier.prepareStagingFile());
+    return firstStagingFile;
+  }
+
+  private static String fullPath(final String stagingFile) {
+    return "s3://" + BUCKET + "/" + stagingFile;
+  }
+
+  private static class TestS3StreamCopier extends S3StreamCopier {
+
+    private final List<S3CsvStagingFileWriter> writers = new ArrayList<>();
+    private final List<String> copiedFiles = Collections.synchronizedList(new ArrayList<>());
+    private final CountDownLatch copyStarted = new CountDownLatch(1);
+    private final CountDownLatch copyInterrupted = new CountDownLatch(1);
+    private boolean blockCopies = false;
+
+    private TestS3StreamCopier(final SqlOperations sqlOperations) {
+      super("staging", DestinationSyncMode.APPEND, "public", "users", "users", mock(AmazonS3.class), mock(JdbcDatabase.class),
+          new S3DestinationConfig("", BUCKET, "", "", "", "", null), new ExtendedNameTransformer(), sqlOperations);
+    }
+
+    private void blockCopies() {
+      blockCopies = true;
+    }
+
+    @Override
+    S3CsvStagingFileWriter createStagingFileWriter(final StreamTransferManager manager) {
+      final S3CsvStagingFileWriter writer = mock(S3CsvStagingFileWriter.class);
+      writers.add(writer);
+      return writer;
+    }
+
+    @Override
+    public void copyS3CsvFileIntoTable(final JdbcDatabase database,
+                                       final String s3FileLocation,
+                                       final String schema,
+                                       final String tableName,
+                                       final S3DestinationConfig s3Config) {
+      copyStarted.countDown();
+      if (blockCopies) {
+        try {
+          new CountDownLatch(1).await();
+        } catch (final InterruptedException e) {
+          copyInterrupted.countDown();
+          return;
+        }
+      }
+      copiedFiles.add(s3FileLocation);
+    }
+
+  }
+
+}
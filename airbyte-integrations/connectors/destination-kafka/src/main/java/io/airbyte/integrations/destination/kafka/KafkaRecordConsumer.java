@@ -5,22 +5,28 @@
 package io.airbyte.integrations.destination.kafka;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.ImmutableMap;
 import io.airbyte.commons.json.Jsons;
 import io.airbyte.integrations.base.AirbyteStreamNameNamespacePair;
 import io.airbyte.integrations.base.FailureTrackingAirbyteMessageConsumer;
 import io.airbyte.integrations.destination.NamingConventionTransformer;
+import io.airbyte.integrations.destination.RecordIdGenerator;
 import io.airbyte.protocol.models.AirbyteMessage;
 import io.airbyte.protocol.models.AirbyteRecordMessage;
 import io.airbyte.protocol.models.ConfiguredAirbyteCatalog;
+import java.util.ArrayDeque;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.NavigableSet;
 import java.util.Optional;
-import java.util.UUID;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Collectors;
-import org.apache.kafka.clients.producer.KafkaProducer;
+import org.apache.kafka.clients.producer.Producer;
 import org.apache.kafka.clients.producer.ProducerRecord;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -31,25 +37,42 @@ public class KafkaRecordConsumer extends FailureTrackingAirbyteMessageConsumer {
 
   private final String topicPattern;
   private final Map<AirbyteStreamNameNamespacePair, String> topicMap;
-  private final KafkaProducer<String, JsonNode> producer;
+  private final Producer<String, JsonNode> producer;
   private final boolean sync;
   private final ConfiguredAirbyteCatalog catalog;
   private final Consumer<AirbyteMessage> outputRecordCollector;
   private final NamingConventionTransformer nameTransformer;
 
-  private AirbyteMessage lastStateMessage = null;
+  // sequence numbers of the records that have been sent but not acknowledged yet
+  private final NavigableSet<Long> inFlightSends;
+  // state messages in the order they were received, waiting for the records before them to be acknowledged
+  private final Queue<PendingState> pendingStates;
+  private final AtomicReference<Exception> sendFailure;
+  private long lastSequence = 0;
 
   public KafkaRecordConsumer(final KafkaDestinationConfig kafkaDestinationConfig,
                              final ConfiguredAirbyteCatalog catalog,
                              final Consumer<AirbyteMessage> outputRecordCollector,
                              final NamingConventionTransformer nameTransformer) {
+    this(kafkaDestinationConfig, kafkaDestinationConfig.getProducer(), catalog, outputRecordCollector, nameTransformer);
+  }
+
+  @VisibleForTesting
+  KafkaRecordConsumer(final KafkaDestinationConfig kafkaDestinationConfig,
+                      final Producer<String, JsonNode> producer,
+                      final ConfiguredAirbyteCatalog catalog,
+                      final Consumer<AirbyteMessage> outputRecordCollector,
+                      final NamingConventionTransformer nameTransformer) {
     this.topicPattern = kafkaDestinationConfig.getTopicPattern();
     this.topicMap = new HashMap<>();
-    this.producer = kafkaDestinationConfig.getProducer();
+    this.producer = producer;
     this.sync = kafkaDestinationConfig.isSync();
     this.catalog = catalog;
     this.outputRecordCollector = outputRecordCollector;
     this.nameTransformer = nameTransformer;
+    this.inFlightSends = new ConcurrentSkipListSet<>();
+    this.pendingStates = new ArrayDeque<>();
+    this.sendFailure = new AtomicReference<>();
   }
 
   @Override
@@ -60,14 +83,15 @@ public class KafkaRecordConsumer extends FailureTrackingAirbyteMessageConsumer {
   @Override
   protected void acceptTracked(final AirbyteMessage airbyteMessage) {
     if (airbyteMessage.getType() == AirbyteMessage.Type.STATE) {
-      lastStateMessage = airbyteMessage;
+      pendingStates.add(new PendingState(lastSequence, airbyteMessage));
+      emitAcknowledgedStates();
     } else if (airbyteMessage.getType() == AirbyteMessage.Type.RECORD) {
       final AirbyteRecordMessage recordMessage = airbyteMessage.getRecord();
 
       // if brokers have the property "auto.create.topics.enable" enabled then topics will be auto-created
       // otherwise these topics need to have been pre-created.
       final String topic = topicMap.get(AirbyteStreamNameNamespacePair.fromRecordMessage(recordMessage));
-      final String key = UUID.randomUUID().toString();
+      final String key = RecordIdGenerator.nextIdString();
       final JsonNode value = Jsons.jsonNode(ImmutableMap.of(
           KafkaDestination.COLUMN_NAME_AB_ID, key,
           KafkaDestination.COLUMN_NAME_STREAM, recordMessage.getStream(),
@@ -90,23 +114,70 @@ public class KafkaRecordConsumer extends FailureTrackingAirbyteMessageConsumer {
   }
 
   private void sendRecord(final ProducerRecord<String, JsonNode> record) {
+    final long sequence = ++lastSequence;
+    // registered before sending, as the callback may run on this thread before send returns
+    inFlightSends.add(sequence);
     producer.send(record, (recordMetadata, exception) -> {
+      // runs on the producer I/O thread, the failure is rethrown on the consumer thread
       if (exception != null) {
         LOGGER.error("Error sending message to topic.", exception);
-        throw new RuntimeException("Cannot send message to Kafka. Error: " + exception.getMessage(), exception);
+        sendFailure.compareAndSet(null, exception);
       }
+      inFlightSends.remove(sequence);
     });
     if (sync) {
       producer.flush();
-      outputRecordCollector.accept(lastStateMessage);
+    }
+    rethrowSendFailure();
+    emitAcknowledgedStates();
+  }
+
+  /**
+   * Emits the state messages for which every record received before them has been acknowledged by
+   * the brokers. Once a send has failed no further state is emitted.
+   */
+  private void emitAcknowledgedStates() {
+    if (sendFailure.get() != null) {
+      return;
+    }
+    final Long oldestInFlight = inFlightSends.ceiling(Long.MIN_VALUE);
+    final long acknowledgedSequence = oldestInFlight == null ? lastSequence : oldestInFlight - 1;
+    while (!pendingStates.isEmpty() && pendingStates.peek().sequence <= acknowledgedSequence) {
+      outputRecordCollector.accept(pendingStates.poll().message);
+    }
+  }
+
+  private void rethrowSendFailure() {
+    final Exception exception = sendFailure.get();
+    if (exception != null) {
+      throw new RuntimeException("Cannot send message to Kafka. Error: " + exception.getMessage(), exception);
     }
   }
 
   @Override
   protected void close(final boolean hasFailed) {
-    producer.flush();
-    producer.close();
-    outputRecordCollector.accept(lastStateMessage);
+    try {
+      producer.flush();
+      emitAcknowledgedStates();
+      if (!hasFailed) {
+        rethrowSendFailure();
+      }
+    } finally {
+      producer.close();
+    }
+  }
+
+  private static final class PendingState {
+
+    // sequence number of the last record received before the state message
+    private final long sequence;
+    private final AirbyteMessage message;
+
+    private PendingState(final long sequence, final AirbyteMessage message) {
+      this.sequence = sequence;
+      this.message = message;
+    }
+
   }
 
 }
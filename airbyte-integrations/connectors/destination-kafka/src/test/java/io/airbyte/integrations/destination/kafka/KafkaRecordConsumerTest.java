@@ -6,7 +6,10 @@ package io.airbyte.integrations.destination.kafka;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -30,6 +33,9 @@ import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
+import org.apache.kafka.clients.producer.MockProducer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.apache.kafka.connect.json.JsonSerializer;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtensionContext;
@@ -86,14 +92,55 @@ public class KafkaRecordConsumerTest {
     consumer.close();
   }
 
+  @Test
+  @SuppressWarnings("unchecked")
+  void testStateIsEmittedOnceRecordsBeforeItAreAcknowledged() throws Exception {
+    final KafkaDestinationConfig config = KafkaDestinationConfig.getKafkaDestinationConfig(getConfig(TOPIC_NAME, false));
+    config.getProducer().close();
+    final MockProducer<String, JsonNode> producer = new MockProducer<>(false, new StringSerializer(), new JsonSerializer());
+    final Consumer<AirbyteMessage> outputRecordCollector = mock(Consumer.class);
+    final KafkaRecordConsumer consumer = new KafkaRecordConsumer(config, producer, CATALOG, outputRecordCollector, NAMING_RESOLVER);
+    final List<AirbyteMessage> records = getNRecords(3);
+    final AirbyteMessage firstState = getState(1);
+    final AirbyteMessage secondState = getState(2);
+
+    consumer.start();
+    consumer.accept(records.get(0));
+    consumer.accept(records.get(1));
+    consumer.accept(firstState);
+    consumer.accept(records.get(2));
+    verify(outputRecordCollector, never()).accept(any());
+
+    producer.completeNext();
+    producer.completeNext();
+    consumer.accept(secondState);
+    verify(outputRecordCollector).accept(firstState);
+    verify(outputRecordCollector, never()).accept(secondState);
+
+    producer.errorNext(new RuntimeException("broker unavailable"));
+    assertThrows(RuntimeException.class, () -> consumer.accept(getNRecords(1).get(0)));
+    consumer.close();
+    verify(outputRecordCollector, never()).accept(secondState);
+  }
+
+  private AirbyteMessage getState(final int position) {
+    return new AirbyteMessage()
+        .withType(AirbyteMessage.Type.STATE)
+        .withState(new AirbyteStateMessage().withData(Jsons.jsonNode(ImmutableMap.of(SCHEMA_NAME + "." + STREAM_NAME, position))));
+  }
+
   private JsonNode getConfig(final String topicPattern) {
+    return getConfig(topicPattern, true);
+  }
+
+  private JsonNode getConfig(final String topicPattern, final boolean syncProducer) {
     final ObjectNode stubProtocolConfig = mapper.createObjectNode();
     stubProtocolConfig.put("security_protocol", KafkaProtocol.PLAINTEXT.toString());
 
     return Jsons.jsonNode(ImmutableMap.builder()
         .put("bootstrap_servers", "localhost:9092")
         .put("topic_pattern", topicPattern)
-        .put("sync_producer", true)
+        .put("sync_producer", syncProducer)
         .put("protocol", stubProtocolConfig)
         .put("sasl_jaas_config", "")
         .put("sasl_mechanism", "PLAIN")
@@ -10,6 +10,8 @@ import io.airbyte.integrations.base.FailureTrackingAirbyteMessageConsumer;
 import io.airbyte.protocol.models.AirbyteMessage;
 import io.airbyte.protocol.models.ConfiguredAirbyteCatalog;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
@@ -29,6 +31,9 @@ public class KinesisMessageConsumer extends FailureTrackingAirbyteMessageConsume
 
   private final Map<AirbyteStreamNameNamespacePair, KinesisStreamConfig> kinesisStreams;
 
+  // failures to send records, reported by the kinesis stream on the consumer thread
+  private final List<Exception> sendFailures = new ArrayList<>();
+
   private AirbyteMessage lastMessage = null;
 
   public KinesisMessageConsumer(KinesisConfig kinesisConfig,
@@ -79,10 +84,7 @@ public class KinesisMessageConsumer extends FailureTrackingAirbyteMessageConsume
           KinesisRecord.COLUMN_NAME_EMITTED_AT, Instant.now()));
 
       var streamName = streamConfig.getStreamName();
-      kinesisStream.putRecord(streamName, partitionKey, Jsons.serialize(data), e -> {
-        LOGGER.error("Error while streaming data to Kinesis", e);
-        // throw exception and end sync?
-      });
+      kinesisStream.putRecord(streamName, partitionKey, Jsons.serialize(data), this::collectSendFailure);
     } else if (message.getType() == AirbyteMessage.Type.STATE) {
       this.lastMessage = message;
     } else {
@@ -92,7 +94,7 @@ public class KinesisMessageConsumer extends FailureTrackingAirbyteMessageConsume
 
   /**
    * Flush the Kinesis stream if there are any remaining messages to be sent and close the client as a
-   * terminal operation.
+   * terminal operation. The state is only emitted if every record was sent, otherwise the sync fails.
    *
    * @param hasFailed flag for indicating if the operation has failed.
    */
@@ -100,9 +102,13 @@ public class KinesisMessageConsumer extends FailureTrackingAirbyteMessageConsume
   protected void close(boolean hasFailed) {
     try {
       if (!hasFailed) {
-        kinesisStream.flush(e -> {
-          LOGGER.error("Error while streaming data to Kinesis", e);
-        });
+        kinesisStream.flush(this::collectSendFailure);
+        if (!sendFailures.isEmpty()) {
+          var exception = KinesisUtils.buildKinesisException(
+              String.format("Failed to send records to Kinesis, %d request(s) failed", sendFailures.size()), sendFailures.get(0));
+          sendFailures.stream().skip(1).forEach(exception::addSuppressed);
+          throw exception;
+        }
         this.outputRecordCollector.accept(lastMessage);
       }
     } finally {
@@ -110,4 +116,9 @@ public class KinesisMessageConsumer extends FailureTrackingAirbyteMessageConsume
     }
   }
 
+  private void collectSendFailure(Exception e) {
+    LOGGER.error("Error while streaming data to Kinesis", e);
+    sendFailures.add(e);
+  }
+
 }
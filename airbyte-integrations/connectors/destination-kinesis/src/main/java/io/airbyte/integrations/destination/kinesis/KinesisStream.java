@@ -4,18 +4,34 @@
 
 package io.airbyte.integrations.destination.kinesis;
 
+import com.google.common.annotations.VisibleForTesting;
 import io.airbyte.commons.json.Jsons;
 import java.io.Closeable;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Consumer;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import software.amazon.awssdk.core.BytesWrapper;
 import software.amazon.awssdk.core.SdkBytes;
+import software.amazon.awssdk.services.kinesis.KinesisAsyncClient;
 import software.amazon.awssdk.services.kinesis.KinesisClient;
 import software.amazon.awssdk.services.kinesis.model.DescribeStreamResponse;
+import software.amazon.awssdk.services.kinesis.model.PutRecordsRequest;
 import software.amazon.awssdk.services.kinesis.model.PutRecordsRequestEntry;
 import software.amazon.awssdk.services.kinesis.model.Record;
 import software.amazon.awssdk.services.kinesis.model.ResourceInUseException;
@@ -31,20 +47,60 @@ public class KinesisStream implements Closeable {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(KinesisStream.class);
 
+  // limits of a single PutRecords request
+  private static final int MAX_RECORDS_PER_REQUEST = 500;
+
+  private static final long MAX_BYTES_PER_REQUEST = 5L * 1024 * 1024;
+
+  private static final int MAX_ATTEMPTS = 8;
+
+  private static final long BASE_BACKOFF_MILLIS = 100;
+
+  private static final long MAX_BACKOFF_MILLIS = 5_000;
+
+  private static final String THROTTLED_ERROR_CODE = "ProvisionedThroughputExceededException";
+
+  // failed entries are not assigned a shard id, it only appears in the error message
+  private static final Pattern SHARD_ID = Pattern.compile("shardId-\\d+");
+
   private final KinesisClient kinesisClient;
 
+  private final KinesisAsyncClient kinesisAsyncClient;
+
   private final KinesisConfig kinesisConfig;
 
-  private final int bufferSize;
+  private final int recordsPerRequest;
+
+  private final int maxInFlightRequests;
+
+  private final Semaphore inFlightRequests;
 
-  // k:v tuples of <streamName:<partitionKey,data>>
-  private final List<Tuple<String, Tuple<String, String>>> buffer;
+  // records waiting to be sent, by stream name
+  private final Map<String, Batch> batches;
+
+  // failures of requests sent in the background, reported on the calling thread
+  private final Queue<Exception> failures;
+
+  // number of records rejected because of exceeded shard throughput, by stream name and shard id.
+  // Connectors have no channel to report metrics through, so the counts are only logged on flush.
+  private final Map<String, Map<String, LongAdder>> throttledRecords;
 
   public KinesisStream(KinesisConfig kinesisConfig) {
+    this(kinesisConfig, KinesisClientPool.initClient(kinesisConfig), KinesisUtils.buildKinesisAsyncClient(kinesisConfig));
+  }
+
+  @VisibleForTesting
+  KinesisStream(KinesisConfig kinesisConfig, KinesisClient kinesisClient, KinesisAsyncClient kinesisAsyncClient) {
     this.kinesisConfig = kinesisConfig;
-    this.kinesisClient = KinesisClientPool.initClient(kinesisConfig);
-    this.bufferSize = kinesisConfig.getBufferSize();
-    this.buffer = new ArrayList<>(bufferSize);
+    this.kinesisClient = kinesisClient;
+    this.kinesisAsyncClient = kinesisAsyncClient;
+    this.recordsPerRequest = Math.min(kinesisConfig.getBufferSize(), MAX_RECORDS_PER_REQUEST);
+    // a couple of requests per shard keep every shard busy while responses are in transit
+    this.maxInFlightRequests = Math.max(4, Math.min(64, 2 * kinesisConfig.getShardCount()));
+    this.inFlightRequests = new Semaphore(maxInFlightRequests);
+    this.batches = new HashMap<>();
+    this.failures = new ConcurrentLinkedQueue<>();
+    this.throttledRecords = new ConcurrentHashMap<>();
   }
 
   /**
@@ -106,18 +162,35 @@ public class KinesisStream implements Closeable {
 
   /**
    * Sends a record to the Kinesis stream specified via its name. To improve performance the records
-   * are buffered until the buffer limit is reached after which they are flushed to its destination
-   * stream.
+   * are buffered per stream until a PutRecords request is full, either by the configured buffer size
+   * or by the 5 MB request size limit, after which the request is sent asynchronously. Records
+   * rejected by Kinesis are retried with backoff.
    *
    * @param streamName name of the stream where the record should be sent
    * @param partitionKey to determine the destination shard
    * @param data actual data to be streamed
-   * @param exceptionConsumer for handling errors related to flushing data per stream
+   * @param exceptionConsumer for handling errors related to sending data per stream
    */
   public void putRecord(String streamName, String partitionKey, String data, Consumer<Exception> exceptionConsumer) {
-    buffer.add(Tuple.of(streamName, Tuple.of(partitionKey, data)));
-    if (buffer.size() == bufferSize) {
-      flush(exceptionConsumer);
+    reportFailures(exceptionConsumer);
+    var bytes = data.getBytes(StandardCharsets.UTF_8);
+    var entry = PutRecordsRequestEntry.builder()
+        // partition key used to determine stream shard.
+        .partitionKey(partitionKey)
+        .data(SdkBytes.fromByteArrayUnsafe(bytes))
+        .build();
+    // the partition key counts towards the request size limit as well
+    var entrySize = bytes.length + partitionKey.getBytes(StandardCharsets.UTF_8).length;
+
+    var batch = batches.get(streamName);
+    if (batch != null && batch.size + entrySize > MAX_BYTES_PER_REQUEST) {
+      sendBatch(streamName);
+    }
+    batch = batches.computeIfAbsent(streamName, k -> new Batch());
+    batch.entries.add(entry);
+    batch.size += entrySize;
+    if (batch.entries.size() >= recordsPerRequest) {
+      sendBatch(streamName);
     }
   }
 
@@ -154,32 +227,21 @@ public class KinesisStream implements Closeable {
   }
 
   /**
-   * Flush all records previously buffered to increase throughput and performance. Records are grouped
-   * by stream name and are sent for each stream separately.
+   * Flush all records previously buffered to increase throughput and performance, and wait until
+   * every request sent so far has completed.
    *
-   * @param exceptionConsumer for handling errors related to flushing data per stream, rethrowing an
+   * @param exceptionConsumer for handling errors related to sending data per stream, rethrowing an
    *        exception in the consumer will stop the sync and clear the cache
    */
   public void flush(Consumer<Exception> exceptionConsumer) {
     try {
-      buffer.stream()
-          .collect(Collectors.groupingBy(Tuple::value1, Collectors.mapping(Tuple::value2, Collectors.toList())))
-          .forEach((k, v) -> {
-            var records = v.stream().map(entry -> PutRecordsRequestEntry.builder()
-                // partition key used to determine stream shard.
-                .partitionKey(entry.value1())
-                .data(SdkBytes.fromUtf8String(entry.value2()))
-                .build())
-                .collect(Collectors.toList());
-            try {
-              kinesisClient.putRecords(b -> b.streamName(k).records(records));
-            } catch (Exception e) {
-              exceptionConsumer.accept(e);
-            }
-          });
+      List.copyOf(batches.keySet()).forEach(this::sendBatch);
     } finally {
-      buffer.clear();
+      batches.clear();
+      awaitInFlightRequests();
     }
+    logThrottledRecords();
+    reportFailures(exceptionConsumer);
   }
 
   /**
@@ -187,7 +249,109 @@ public class KinesisStream implements Closeable {
    */
   @Override
   public void close() {
+    awaitInFlightRequests();
+    kinesisAsyncClient.close();
     KinesisClientPool.closeClient(kinesisConfig);
   }
 
+  private void sendBatch(String streamName) {
+    var batch = batches.remove(streamName);
+    if (batch == null || batch.entries.isEmpty()) {
+      return;
+    }
+    try {
+      inFlightRequests.acquire();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw KinesisUtils.buildKinesisException("Thread interrupted while waiting to send records", e);
+    }
+    send(streamName, batch.entries, 1);
+  }
+
+  /**
+   * Sends the entries in one PutRecords request and resends only the entries that Kinesis rejected.
+   * The in-flight permit of the batch is released once all of its entries are sent or given up on.
+   */
+  private void send(String streamName, List<PutRecordsRequestEntry> entries, int attempt) {
+    try {
+      kinesisAsyncClient.putRecords(PutRecordsRequest.builder().streamName(streamName).records(entries).build())
+          .whenComplete((response, error) -> {
+            if (error != null) {
+              completeWithFailure(error instanceof CompletionException && error.getCause() != null ? error.getCause() : error);
+              return;
+            }
+            if (response.failedRecordCount() == null || response.failedRecordCount() == 0) {
+              inFlightRequests.release();
+              return;
+            }
+            var failedEntries = new ArrayList<PutRecordsRequestEntry>();
+            String lastErrorMessage = null;
+            for (int i = 0; i < response.records().size(); i++) {
+              var result = response.records().get(i);
+              if (result.errorCode() != null) {
+                failedEntries.add(entries.get(i));
+                lastErrorMessage = result.errorCode() + ": " + result.errorMessage();
+                if (THROTTLED_ERROR_CODE.equals(result.errorCode())) {
+                  countThrottledRecord(streamName, result.errorMessage());
+                }
+              }
+            }
+            if (attempt >= MAX_ATTEMPTS) {
+              completeWithFailure(KinesisUtils.buildKinesisException(String.format(
+                  "Failed to send %d record(s) to stream %s after %d attempts, last error: %s",
+                  failedEntries.size(), streamName, attempt, lastErrorMessage), null));
+              return;
+            }
+            CompletableFuture.delayedExecutor(backoffMillis(attempt), TimeUnit.MILLISECONDS)
+                .execute(() -> send(streamName, failedEntries, attempt + 1));
+          });
+    } catch (RuntimeException e) {
+      completeWithFailure(e);
+    }
+  }
+
+  private void completeWithFailure(Throwable error) {
+    failures.add(error instanceof Exception ? (Exception) error : new RuntimeException(error));
+    inFlightRequests.release();
+  }
+
+  private static long backoffMillis(int attempt) {
+    var backoff = Math.min(MAX_BACKOFF_MILLIS, BASE_BACKOFF_MILLIS << (attempt - 1));
+    // jitter spreads out the retries of requests that were throttled at the same time
+    return backoff / 2 + ThreadLocalRandom.current().nextLong(backoff / 2 + 1);
+  }
+
+  private void countThrottledRecord(String streamName, String errorMessage) {
+    var matcher = errorMessage == null ? null : SHARD_ID.matcher(errorMessage);
+    var shardId = matcher != null && matcher.find() ? matcher.group() : "unknown";
+    throttledRecords.computeIfAbsent(streamName, k -> new ConcurrentHashMap<>())
+        .computeIfAbsent(shardId, k -> new LongAdder())
+        .increment();
+  }
+
+  private void logThrottledRecords() {
+    throttledRecords.forEach((streamName, shards) -> shards.forEach((shardId, count) -> LOGGER.info(
+        "Stream {} shard {}: {} record(s) were throttled and retried", streamName, shardId, count.sum())));
+  }
+
+  private void awaitInFlightRequests() {
+    inFlightRequests.acquireUninterruptibly(maxInFlightRequests);
+    inFlightRequests.release(maxInFlightRequests);
+  }
+
+  private void reportFailures(Consumer<Exception> exceptionConsumer) {
+    Exception failure;
+    while ((failure = failures.poll()) != null) {
+      exceptionConsumer.accept(failure);
+    }
+  }
+
+  private static class Batch {
+
+    private final List<PutRecordsRequestEntry> entries = new ArrayList<>();
+
+    private long size = 0;
+
+  }
+
 }
@@ -4,10 +4,11 @@
 
 package io.airbyte.integrations.destination.kinesis;
 
-import java.util.UUID;
+import io.airbyte.integrations.destination.RecordIdGenerator;
 import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
 import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
 import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.kinesis.KinesisAsyncClient;
 import software.amazon.awssdk.services.kinesis.KinesisClient;
 import software.amazon.awssdk.services.kinesis.model.KinesisException;
 
@@ -46,6 +47,32 @@ public class KinesisUtils {
     return kinesisClientBuilder.build();
   }
 
+  /**
+   * Configures and returns an asynchronous Kinesis client with the provided configuration.
+   *
+   * @param kinesisConfig used to configure the Kinesis client.
+   * @return KinesisAsyncClient which can be used to send data to Kinesis without blocking.
+   */
+  static KinesisAsyncClient buildKinesisAsyncClient(KinesisConfig kinesisConfig) {
+    var kinesisClientBuilder = KinesisAsyncClient.builder();
+
+    // configure access credentials
+    kinesisClientBuilder.credentialsProvider(StaticCredentialsProvider.create(
+        AwsBasicCredentials.create(kinesisConfig.getAccessKey(), kinesisConfig.getPrivateKey())));
+
+    if (kinesisConfig.getRegion() != null && !kinesisConfig.getRegion().isBlank()) {
+      // configure access region
+      kinesisClientBuilder.region(Region.of(kinesisConfig.getRegion()));
+    }
+
+    if (kinesisConfig.getEndpoint() != null) {
+      // configure access endpoint
+      kinesisClientBuilder.endpointOverride(kinesisConfig.getEndpoint());
+    }
+
+    return kinesisClientBuilder.build();
+  }
+
   /**
    * Build a Kinesis exception with the provided message and cause.
    *
@@ -61,12 +88,12 @@ public class KinesisUtils {
   }
 
   /**
-   * Create random UUID which can be used as a partition key for streaming data.
+   * Create a unique id which can be used as a partition key for streaming data.
    *
    * @return String partition key for distributing data across shards.
    */
   static String buildPartitionKey() {
-    return UUID.randomUUID().toString();
+    return RecordIdGenerator.nextIdString();
   }
 
 }
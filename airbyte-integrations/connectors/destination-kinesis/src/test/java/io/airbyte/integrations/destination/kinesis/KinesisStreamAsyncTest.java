@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) 2021 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.destination.kinesis;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import software.amazon.awssdk.services.kinesis.KinesisAsyncClient;
+import software.amazon.awssdk.services.kinesis.KinesisClient;
+import software.amazon.awssdk.services.kinesis.model.PutRecordsRequest;
+import software.amazon.awssdk.services.kinesis.model.PutRecordsRequestEntry;
+import software.amazon.awssdk.services.kinesis.model.PutRecordsResponse;
+import software.amazon.awssdk.services.kinesis.model.PutRecordsResultEntry;
+
+class KinesisStreamAsyncTest {
+
+  private static final String STREAM_NAME = "test_stream";
+
+  private KinesisAsyncClient kinesisAsyncClient;
+
+  private List<Exception> exceptions;
+
+  @BeforeEach
+  void setup() {
+    kinesisAsyncClient = mock(KinesisAsyncClient.class);
+    exceptions = new CopyOnWriteArrayList<>();
+  }
+
+  @Test
+  void testOnlyFailedEntriesAreResent() {
+    // given
+    when(kinesisAsyncClient.putRecords(any(PutRecordsRequest.class)))
+        .thenReturn(CompletableFuture.completedFuture(PutRecordsResponse.builder()
+            .failedRecordCount(1)
+            .records(
+                successfulEntry(),
+                PutRecordsResultEntry.builder()
+                    .errorCode("ProvisionedThroughputExceededException")
+                    .errorMessage("Rate exceeded for shard shardId-000000000001 in stream test_stream")
+                    .build(),
+                successfulEntry())
+            .build()))
+        .thenReturn(CompletableFuture.completedFuture(PutRecordsResponse.builder()
+            .failedRecordCount(0)
+            .records(successfulEntry())
+            .build()));
+    var kinesisStream = createKinesisStream(1, 3);
+
+    // when
+    kinesisStream.putRecord(STREAM_NAME, "key1", "data1", exceptions::add);
+    kinesisStream.putRecord(STREAM_NAME, "key2", "data2", exceptions::add);
+    kinesisStream.putRecord(STREAM_NAME, "key3", "data3", exceptions::add);
+    kinesisStream.flush(exceptions::add);
+
+    // then
+    var requests = ArgumentCaptor.forClass(PutRecordsRequest.class);
+    verify(kinesisAsyncClient, times(2)).putRecords(requests.capture());
+    assertThat(partitionKeys(requests.getAllValues().get(0))).containsExactly("key1", "key2", "key3");
+    assertThat(partitionKeys(requests.getAllValues().get(1))).containsExactly("key2");
+    assertThat(requests.getAllValues().get(1).records().get(0).data().asUtf8String()).isEqualTo("data2");
+    assertThat(exceptions).isEmpty();
+  }
+
+  @Test
+  void testFailedRequestIsReported() {
+    // given
+    var failure = KinesisUtils.buildKinesisException("stream unavailable", null);
+    when(kinesisAsyncClient.putRecords(any(PutRecordsRequest.class))).thenReturn(CompletableFuture.failedFuture(failure));
+    var kinesisStream = createKinesisStream(1, 2);
+
+    // when
+    kinesisStream.putRecord(STREAM_NAME, "key1", "data1", exceptions::add);
+    kinesisStream.putRecord(STREAM_NAME, "key2", "data2", exceptions::add);
+    kinesisStream.flush(exceptions::add);
+
+    // then
+    assertThat(exceptions).containsExactly(failure);
+  }
+
+  @Test
+  void testInFlightRequestsAreBounded() throws InterruptedException {
+    // given a stream with one shard, which allows four requests in flight
+    var responses = new CopyOnWriteArrayList<CompletableFuture<PutRecordsResponse>>();
+    when(kinesisAsyncClient.putRecords(any(PutRecordsRequest.class))).thenAnswer(invocation -> {
+      var response = new CompletableFuture<PutRecordsResponse>();
+      responses.add(response);
+      return response;
+    });
+    var kinesisStream = createKinesisStream(1, 1);
+    var allRecordsPut = new CountDownLatch(1);
+
+    // when
+    var producer = new Thread(() -> {
+      for (int i = 0; i < 5; i++) {
+        kinesisStream.putRecord(STREAM_NAME, "key" + i, "data" + i, exceptions::add);
+      }
+      allRecordsPut.countDown();
+    });
+    producer.start();
+
+    // then the fifth request waits for one of the first four to complete
+    verify(kinesisAsyncClient, timeout(10_000).times(4)).putRecords(any(PutRecordsRequest.class));
+    assertThat(allRecordsPut.await(500, TimeUnit.MILLISECONDS)).isFalse();
+    assertThat(responses).hasSize(4);
+
+    responses.get(0).complete(PutRecordsResponse.builder().failedRecordCount(0).records(successfulEntry()).build());
+
+    assertThat(allRecordsPut.await(10, TimeUnit.SECONDS)).isTrue();
+    assertThat(responses).hasSize(5);
+    new ArrayList<>(responses).forEach(response -> response.complete(
+        PutRecordsResponse.builder().failedRecordCount(0).records(successfulEntry()).build()));
+    kinesisStream.flush(exceptions::add);
+    producer.join();
+    assertThat(exceptions).isEmpty();
+  }
+
+  private KinesisStream createKinesisStream(int shardCount, int bufferSize) {
+    var kinesisConfig = new KinesisConfig(null, "us-east-1", shardCount, "accessKey", "privateKey", bufferSize);
+    return new KinesisStream(kinesisConfig, mock(KinesisClient.class), kinesisAsyncClient);
+  }
+
+  private static PutRecordsResultEntry successfulEntry() {
+    return PutRecordsResultEntry.builder().sequenceNumber("1").shardId("shardId-000000000000").build();
+  }
+
+  private static List<String> partitionKeys(PutRecordsRequest request) {
+    return request.records().stream().map(PutRecordsRequestEntry::partitionKey).collect(Collectors.toList());
+  }
+
+}
@@ -14,6 +14,7 @@ import io.airbyte.integrations.base.CommitOnStateAirbyteMessageConsumer;
 import io.airbyte.integrations.base.Destination;
 import io.airbyte.integrations.base.IntegrationRunner;
 import io.airbyte.integrations.base.JavaBaseConstants;
+import io.airbyte.integrations.destination.RecordIdGenerator;
 import io.airbyte.integrations.destination.StandardNameTransformer;
 import io.airbyte.protocol.models.AirbyteConnectionStatus;
 import io.airbyte.protocol.models.AirbyteConnectionStatus.Status;
@@ -32,7 +33,6 @@ import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.UUID;
 import java.util.function.Consumer;
 import org.apache.commons.io.FileUtils;
 import org.slf4j.Logger;
@@ -156,7 +156,7 @@ public class LocalJsonDestination extends BaseConnector implements Destination {
 
       final Writer writer = writeConfigs.get(recordMessage.getStream()).getWriter();
       writer.write(Jsons.serialize(ImmutableMap.of(
-          JavaBaseConstants.COLUMN_NAME_AB_ID, UUID.randomUUID(),
+          JavaBaseConstants.COLUMN_NAME_AB_ID, RecordIdGenerator.nextId(),
           JavaBaseConstants.COLUMN_NAME_EMITTED_AT, recordMessage.getEmittedAt(),
           JavaBaseConstants.COLUMN_NAME_DATA, recordMessage.getData())));
       writer.write(System.lineSeparator());
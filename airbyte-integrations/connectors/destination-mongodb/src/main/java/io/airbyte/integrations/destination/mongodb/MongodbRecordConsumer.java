@@ -8,7 +8,10 @@ import static com.mongodb.client.model.Projections.excludeId;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mongodb.ErrorCategory;
+import com.mongodb.MongoBulkWriteException;
 import com.mongodb.client.MongoCursor;
+import com.mongodb.client.model.InsertManyOptions;
 import io.airbyte.commons.json.Jsons;
 import io.airbyte.commons.lang.Exceptions;
 import io.airbyte.db.mongodb.MongoDatabase;
@@ -19,6 +22,7 @@ import io.airbyte.protocol.models.AirbyteMessage;
 import io.airbyte.protocol.models.AirbyteRecordMessage;
 import io.airbyte.protocol.models.ConfiguredAirbyteCatalog;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
@@ -36,12 +40,16 @@ public class MongodbRecordConsumer extends FailureTrackingAirbyteMessageConsumer
   private static final String AIRBYTE_DATA = "_airbyte_data";
   private static final String AIRBYTE_DATA_HASH = "_airbyte_data_hash";
   private static final String AIRBYTE_EMITTED_AT = "_airbyte_emitted_at";
+  private static final int BATCH_SIZE = 1000;
+  // an unordered insert keeps going past documents rejected by the unique index on the data hash
+  private static final InsertManyOptions UNORDERED_INSERT = new InsertManyOptions().ordered(false);
 
   private final Map<AirbyteStreamNameNamespacePair, MongodbWriteConfig> writeConfigs;
   private final MongoDatabase mongoDatabase;
   private final ConfiguredAirbyteCatalog catalog;
   private final Consumer<AirbyteMessage> outputRecordCollector;
   private final ObjectMapper objectMapper;
+  private final Map<AirbyteStreamNameNamespacePair, List<Document>> pendingDocuments;
 
   private AirbyteMessage lastStateMessage = null;
 
@@ -54,6 +62,7 @@ public class MongodbRecordConsumer extends FailureTrackingAirbyteMessageConsumer
     this.catalog = catalog;
     this.outputRecordCollector = outputRecordCollector;
     this.objectMapper = new ObjectMapper();
+    this.pendingDocuments = new HashMap<>();
   }
 
   @Override
@@ -77,7 +86,11 @@ public class MongodbRecordConsumer extends FailureTrackingAirbyteMessageConsumer
                 Jsons.serialize(catalog), Jsons.serialize(recordMessage)));
       }
       final var writeConfig = writeConfigs.get(pair);
-      insertRecordToTmpCollection(writeConfig, message);
+      final List<Document> documents = pendingDocuments.computeIfAbsent(pair, k -> new ArrayList<>(BATCH_SIZE));
+      documents.add(toDocument(writeConfig, message));
+      if (documents.size() >= BATCH_SIZE) {
+        insertDocumentsToTmpCollection(writeConfig, documents);
+      }
     }
   }
 
@@ -85,6 +98,7 @@ public class MongodbRecordConsumer extends FailureTrackingAirbyteMessageConsumer
   protected void close(final boolean hasFailed) {
     try {
       if (!hasFailed) {
+        pendingDocuments.forEach((pair, documents) -> insertDocumentsToTmpCollection(writeConfigs.get(pair), documents));
         LOGGER.info("Migration finished with no explicit errors. Copying data from tmp tables to permanent");
         writeConfigs.values().forEach(mongodbWriteConfig -> Exceptions.toRuntime(() -> {
           try {
@@ -111,8 +125,8 @@ public class MongodbRecordConsumer extends FailureTrackingAirbyteMessageConsumer
 
   /* Helpers */
 
-  private void insertRecordToTmpCollection(final MongodbWriteConfig writeConfig,
-                                           final AirbyteMessage message) {
+  private Document toDocument(final MongodbWriteConfig writeConfig,
+                              final AirbyteMessage message) {
     try {
       final AirbyteRecordMessage recordMessage = message.getRecord();
       final Map<String, Object> result = objectMapper.convertValue(recordMessage.getData(), new TypeReference<>() {});
@@ -121,16 +135,7 @@ public class MongodbRecordConsumer extends FailureTrackingAirbyteMessageConsumer
       newDocument.put(AIRBYTE_DATA, new Document(result));
       newDocument.put(AIRBYTE_DATA_HASH, newDocumentDataHashCode);
       newDocument.put(AIRBYTE_EMITTED_AT, new LocalDateTime().toString());
-
-      final var collection = writeConfig.getCollection();
-
-      final var documentsHash = writeConfig.getDocumentsHash();
-      if (!documentsHash.contains(newDocumentDataHashCode)) {
-        collection.insertOne(newDocument);
-        documentsHash.add(newDocumentDataHashCode);
-      } else {
-        LOGGER.info("Object with hashCode = {} already exist in table {}.", newDocumentDataHashCode, writeConfig.getCollectionName());
-      }
+      return newDocument;
     } catch (final RuntimeException e) {
       LOGGER.error("Got an error while writing message:" + e.getMessage());
       LOGGER.error(String.format(
@@ -140,18 +145,49 @@ public class MongodbRecordConsumer extends FailureTrackingAirbyteMessageConsumer
     }
   }
 
+  /**
+   * Inserts the documents in a single unordered batch and clears the list. Documents whose data hash
+   * already exists in the tmp collection are rejected by its unique index and skipped.
+   */
+  private void insertDocumentsToTmpCollection(final MongodbWriteConfig writeConfig, final List<Document> documents) {
+    if (documents.isEmpty()) {
+      return;
+    }
+    try {
+      writeConfig.getCollection().insertMany(documents, UNORDERED_INSERT);
+    } catch (final MongoBulkWriteException e) {
+      final boolean onlyDuplicates = e.getWriteConcernError() == null && e.getWriteErrors().stream()
+          .allMatch(error -> ErrorCategory.fromErrorCode(error.getCode()) == ErrorCategory.DUPLICATE_KEY);
+      if (!onlyDuplicates) {
+        LOGGER.error("Failed to insert a batch for Streams numbers: {}, SyncMode: {}, CollectionName: {}, TmpCollectionName: {}",
+            catalog.getStreams().size(), writeConfig.getSyncMode(), writeConfig.getCollectionName(), writeConfig.getTmpCollectionName());
+        throw e;
+      }
+      LOGGER.info("{} object(s) already exist in table {}.", e.getWriteErrors().size(), writeConfig.getCollectionName());
+    }
+    documents.clear();
+  }
+
+  /**
+   * Streams the tmp collection into the destination collection in batches, so only one batch is held
+   * in memory at a time.
+   */
   private static void copyTable(final MongoDatabase mongoDatabase, final String collectionName, final String tmpCollectionName) {
 
     final var tempCollection = mongoDatabase.getOrCreateNewCollection(tmpCollectionName);
     final var collection = mongoDatabase.getOrCreateNewCollection(collectionName);
-    final List<Document> documents = new ArrayList<>();
-    try (final MongoCursor<Document> cursor = tempCollection.find().projection(excludeId()).iterator()) {
+    final List<Document> documents = new ArrayList<>(BATCH_SIZE);
+    try (final MongoCursor<Document> cursor = tempCollection.find().projection(excludeId()).batchSize(BATCH_SIZE).iterator()) {
       while (cursor.hasNext()) {
         documents.add(cursor.next());
+        if (documents.size() >= BATCH_SIZE) {
+          collection.insertMany(documents, UNORDERED_INSERT);
+          documents.clear();
+        }
       }
     }
     if (!documents.isEmpty()) {
-      collection.insertMany(documents);
+      collection.insertMany(documents, UNORDERED_INSERT);
     }
   }
 
@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2021 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.destination.mongodb;
+
+import static com.mongodb.client.model.Projections.excludeId;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.google.common.collect.ImmutableMap;
+import com.mongodb.client.MongoCursor;
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.db.mongodb.MongoDatabase;
+import io.airbyte.integrations.base.AirbyteMessageConsumer;
+import io.airbyte.protocol.models.AirbyteMessage;
+import io.airbyte.protocol.models.AirbyteRecordMessage;
+import io.airbyte.protocol.models.AirbyteStateMessage;
+import io.airbyte.protocol.models.CatalogHelpers;
+import io.airbyte.protocol.models.ConfiguredAirbyteCatalog;
+import io.airbyte.protocol.models.Field;
+import io.airbyte.protocol.models.JsonSchemaPrimitive;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.bson.Document;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.containers.MongoDBContainer;
+
+/**
+ * Checks that records with the same data are written once, whether the duplicates end up in the
+ * same insert batch or in different ones.
+ */
+class MongodbRecordConsumerTest {
+
+  private static final String DOCKER_IMAGE_NAME = "mongo:4.0.10";
+  private static final String DATABASE_NAME = "admin";
+  private static final String STREAM_NAME = "users";
+  // records are inserted into the tmp collection in batches of this size
+  private static final int BATCH_SIZE = 1000;
+
+  private static MongoDBContainer container;
+  private static MongoDatabase database;
+
+  private final MongodbNameTransformer namingResolver = new MongodbNameTransformer();
+  private ConfiguredAirbyteCatalog catalog;
+  private List<AirbyteMessage> outputMessages;
+
+  @BeforeAll
+  static void init() {
+    container = new MongoDBContainer(DOCKER_IMAGE_NAME);
+    container.start();
+    database = new MongoDatabase(String.format("mongodb://%s:%s/", container.getHost(), container.getFirstMappedPort()), DATABASE_NAME);
+  }
+
+  @AfterAll
+  static void cleanUp() throws Exception {
+    database.close();
+    container.close();
+  }
+
+  @BeforeEach
+  void setup() {
+    catalog = CatalogHelpers.createConfiguredAirbyteCatalog(STREAM_NAME, null, Field.of("id", JsonSchemaPrimitive.NUMBER));
+    outputMessages = new ArrayList<>();
+  }
+
+  @Test
+  void testDuplicatesWithinBatchAreWrittenOnce() throws Exception {
+    final AirbyteMessageConsumer consumer = createConsumer();
+    consumer.start();
+    consumer.accept(recordMessage(1));
+    consumer.accept(recordMessage(2));
+    consumer.accept(recordMessage(1));
+    consumer.accept(recordMessage(2));
+    consumer.accept(stateMessage());
+    consumer.close();
+
+    assertEquals(List.of(1, 2), readIds());
+    assertEquals(List.of(stateMessage()), outputMessages);
+  }
+
+  @Test
+  void testDuplicatesAcrossBatchesAreWrittenOnce() throws Exception {
+    final AirbyteMessageConsumer consumer = createConsumer();
+    consumer.start();
+    // fills the first batch, which is inserted right away
+    for (int i = 0; i < BATCH_SIZE; i++) {
+      consumer.accept(recordMessage(i));
+    }
+    // the second batch repeats the first ten records of the first one between new records
+    for (int i = 0; i < 10; i++) {
+      consumer.accept(recordMessage(i));
+      consumer.accept(recordMessage(BATCH_SIZE + i));
+    }
+    consumer.accept(stateMessage());
+    consumer.close();
+
+    assertEquals(IntStream.range(0, BATCH_SIZE + 10).boxed().collect(Collectors.toList()), readIds());
+    assertEquals(List.of(stateMessage()), outputMessages);
+  }
+
+  private AirbyteMessageConsumer createConsumer() {
+    final JsonNode config = Jsons.jsonNode(ImmutableMap.builder()
+        .put("host", container.getHost())
+        .put("port", container.getFirstMappedPort())
+        .put("database", DATABASE_NAME)
+        .put("auth_type", Jsons.jsonNode(ImmutableMap.of("authorization", "none")))
+        .build());
+    return new MongodbDestination().getConsumer(config, catalog, outputMessages::add);
+  }
+
+  private List<Integer> readIds() {
+    final List<Integer> ids = new ArrayList<>();
+    final var collection = database.getCollection(namingResolver.getRawTableName(STREAM_NAME));
+    try (final MongoCursor<Document> cursor = collection.find().projection(excludeId()).iterator()) {
+      while (cursor.hasNext()) {
+        ids.add(cursor.next().get("_airbyte_data", Document.class).getInteger("id"));
+      }
+    }
+    ids.sort(Integer::compareTo);
+    return ids;
+  }
+
+  private static AirbyteMessage recordMessage(final int id) {
+    return new AirbyteMessage()
+        .withType(AirbyteMessage.Type.RECORD)
+        .withRecord(new AirbyteRecordMessage()
+            .withStream(STREAM_NAME)
+            .withData(Jsons.jsonNode(ImmutableMap.of("id", id)))
+            .withEmittedAt(Instant.now().toEpochMilli()));
+  }
+
+  private static AirbyteMessage stateMessage() {
+    return new AirbyteMessage()
+        .withType(AirbyteMessage.Type.STATE)
+        .withState(new AirbyteStateMessage().withData(Jsons.jsonNode(ImmutableMap.of("checkpoint", 1))));
+  }
+
+}
@@ -10,13 +10,13 @@ import io.airbyte.commons.json.Jsons;
 import io.airbyte.commons.lang.Exceptions;
 import io.airbyte.integrations.base.AirbyteStreamNameNamespacePair;
 import io.airbyte.integrations.base.FailureTrackingAirbyteMessageConsumer;
+import io.airbyte.integrations.destination.RecordIdGenerator;
 import io.airbyte.protocol.models.AirbyteMessage;
 import io.airbyte.protocol.models.AirbyteRecordMessage;
 import io.airbyte.protocol.models.ConfiguredAirbyteCatalog;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
-import java.util.UUID;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -79,7 +79,7 @@ public class MqttRecordConsumer extends FailureTrackingAirbyteMessageConsumer {
       final AirbyteRecordMessage recordMessage = airbyteMessage.getRecord();
       final String topic = topicMap.get(AirbyteStreamNameNamespacePair.fromRecordMessage(recordMessage));
 
-      final String key = UUID.randomUUID().toString();
+      final String key = RecordIdGenerator.nextIdString();
       final JsonNode payload = Jsons.jsonNode(ImmutableMap.of(
           MqttDestination.COLUMN_NAME_AB_ID, key,
           MqttDestination.COLUMN_NAME_STREAM, recordMessage.getStream(),
@@ -11,6 +11,7 @@ import io.airbyte.integrations.base.Destination;
 import io.airbyte.integrations.base.IntegrationRunner;
 import io.airbyte.integrations.base.ssh.SshWrappedDestination;
 import io.airbyte.integrations.destination.jdbc.AbstractJdbcDestination;
+import io.airbyte.integrations.destination.jdbc.ParallelRecordLoader;
 import java.io.File;
 import java.util.ArrayList;
 import java.util.List;
@@ -58,6 +59,11 @@ public class MSSQLDestination extends AbstractJdbcDestination implements Destina
     return Jsons.jsonNode(configBuilder.build());
   }
 
+  @Override
+  protected int getRecordLoaderParallelism(final JsonNode config) {
+    return ParallelRecordLoader.DEFAULT_PARALLELISM;
+  }
+
   private void readSsl(final JsonNode config, final List<String> additionalParameters) {
     switch (config.get("ssl_method").asText()) {
       case "unencrypted":
@@ -5,9 +5,9 @@
 package io.airbyte.integrations.destination.mssql;
 
 import com.fasterxml.jackson.databind.JsonNode;
-import com.google.common.collect.Lists;
 import io.airbyte.db.jdbc.JdbcDatabase;
 import io.airbyte.integrations.base.JavaBaseConstants;
+import io.airbyte.integrations.destination.jdbc.InsertStatementLimits;
 import io.airbyte.integrations.destination.jdbc.SqlOperations;
 import io.airbyte.integrations.destination.jdbc.SqlOperationsUtils;
 import io.airbyte.protocol.models.AirbyteRecordMessage;
@@ -16,6 +16,11 @@ import java.util.List;
 
 public class SqlServerOperations implements SqlOperations {
 
+  // MSSQL has a limitation of 2100 parameters used in a query (we keep a few in reserve for the
+  // driver), and a table value constructor may hold at most 1000 rows. Airbyte inserts data with 3
+  // columns (raw table), which limits a statement to 666 records.
+  private static final InsertStatementLimits INSERT_STATEMENT_LIMITS = InsertStatementLimits.forParameterLimit(2000, 3, 1000, Long.MAX_VALUE);
+
   @Override
   public void createSchemaIfNotExists(final JdbcDatabase database, final String schemaName) throws Exception {
     final String query = String.format("IF NOT EXISTS ( SELECT * FROM sys.schemas WHERE name = '%s') EXEC('CREATE SCHEMA [%s]')",
@@ -64,10 +69,6 @@ public class SqlServerOperations implements SqlOperations {
                             final String schemaName,
                             final String tempTableName)
       throws SQLException {
-    // MSSQL has a limitation of 2100 parameters used in a query
-    // Airbyte inserts data with 3 columns (raw table) this limits to 700 records.
-    // Limited the variable to 500 records to
-    final int MAX_BATCH_SIZE = 500;
     final String insertQueryComponent = String.format(
         "INSERT INTO %s.%s (%s, %s, %s) VALUES\n",
         schemaName,
@@ -76,14 +77,8 @@ public class SqlServerOperations implements SqlOperations {
         JavaBaseConstants.COLUMN_NAME_DATA,
         JavaBaseConstants.COLUMN_NAME_EMITTED_AT);
     final String recordQueryComponent = "(?, ?, ?),\n";
-    final List<List<AirbyteRecordMessage>> batches = Lists.partition(records, MAX_BATCH_SIZE);
-    batches.forEach(record -> {
-      try {
-        SqlOperationsUtils.insertRawRecordsInSingleQuery(insertQueryComponent, recordQueryComponent, database, record);
-      } catch (final SQLException e) {
-        e.printStackTrace();
-      }
-    });
+    // failures must propagate so that the sync is finalized all-or-nothing.
+    SqlOperationsUtils.insertRawRecordsInSingleQuery(insertQueryComponent, recordQueryComponent, database, records, INSERT_STATEMENT_LIMITS);
   }
 
   @Override
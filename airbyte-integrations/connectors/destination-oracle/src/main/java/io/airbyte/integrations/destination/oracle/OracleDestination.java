@@ -12,6 +12,7 @@ import io.airbyte.integrations.base.IntegrationRunner;
 import io.airbyte.integrations.base.JavaBaseConstants;
 import io.airbyte.integrations.base.ssh.SshWrappedDestination;
 import io.airbyte.integrations.destination.jdbc.AbstractJdbcDestination;
+import io.airbyte.integrations.destination.jdbc.ParallelRecordLoader;
 import java.io.IOException;
 import java.io.PrintWriter;
 import java.util.ArrayList;
@@ -83,6 +84,11 @@ public class OracleDestination extends AbstractJdbcDestination implements Destin
     return Jsons.jsonNode(configBuilder.build());
   }
 
+  @Override
+  protected int getRecordLoaderParallelism(final JsonNode config) {
+    return ParallelRecordLoader.DEFAULT_PARALLELISM;
+  }
+
   private Protocol obtainConnectionProtocol(final JsonNode encryption,
                                             final List<String> additionalParameters) {
     final String encryptionMethod = encryption.get("encryption_method").asText();
@@ -8,13 +8,13 @@ import io.airbyte.commons.lang.Exceptions;
 import io.airbyte.integrations.base.AirbyteStreamNameNamespacePair;
 import io.airbyte.integrations.base.FailureTrackingAirbyteMessageConsumer;
 import io.airbyte.integrations.destination.NamingConventionTransformer;
+import io.airbyte.integrations.destination.RecordIdGenerator;
 import io.airbyte.protocol.models.AirbyteMessage;
 import io.airbyte.protocol.models.AirbyteRecordMessage;
 import io.airbyte.protocol.models.ConfiguredAirbyteCatalog;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
-import java.util.UUID;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -63,7 +63,7 @@ public class PulsarRecordConsumer extends FailureTrackingAirbyteMessageConsumer
     } else if (airbyteMessage.getType() == AirbyteMessage.Type.RECORD) {
       final AirbyteRecordMessage recordMessage = airbyteMessage.getRecord();
       final Producer<GenericRecord> producer = producerMap.get(AirbyteStreamNameNamespacePair.fromRecordMessage(recordMessage));
-      final String key = UUID.randomUUID().toString();
+      final String key = RecordIdGenerator.nextIdString();
       final GenericRecord value = Schema.generic(PulsarDestinationConfig.getSchemaInfo())
           .newRecordBuilder()
           .set(PulsarDestination.COLUMN_NAME_AB_ID, key)
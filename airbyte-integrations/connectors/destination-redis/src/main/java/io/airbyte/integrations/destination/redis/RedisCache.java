@@ -32,6 +32,12 @@ public interface RedisCache extends Closeable {
    */
   void insert(String key, Instant timestamp, String data);
 
+  /**
+   * Write all buffered inserts to Redis. Implementations may buffer inserts to write them in bulk,
+   * every other operation sees the buffered data. Fails if any of the writes fails.
+   */
+  void flush();
+
   /**
    * Copy data from one key to another with the option to replace.
    *
@@ -42,7 +48,7 @@ public interface RedisCache extends Closeable {
   void copy(String sourceKey, String destinationKey, boolean replace);
 
   /**
-   * Delete all data with the provided key.
+   * Delete all data with the provided key, including the buffered inserts that are not written yet.
    *
    * @param key to delete data for
    */
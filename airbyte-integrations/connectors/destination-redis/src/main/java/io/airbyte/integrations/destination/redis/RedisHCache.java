@@ -5,10 +5,19 @@
 package io.airbyte.integrations.destination.redis;
 
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import redis.clients.jedis.Jedis;
+import redis.clients.jedis.Response;
+import redis.clients.jedis.ScanParams;
+import redis.clients.jedis.ScanResult;
+import redis.clients.jedis.exceptions.JedisDataException;
 
 public class RedisHCache implements RedisCache {
 
@@ -16,8 +25,21 @@ public class RedisHCache implements RedisCache {
 
   private final Jedis jedis;
 
+  private final int batchSize;
+
+  // records waiting to be written, grouped by key in insertion order
+  private final Map<String, List<Map<String, String>>> pendingRecords;
+
+  private int pendingRecordCount;
+
+  private boolean unlinkSupported;
+
   public RedisHCache(RedisConfig redisConfig) {
     this.jedis = RedisPoolManager.initConnection(redisConfig);
+    this.batchSize = redisConfig.getBatchSize();
+    this.pendingRecords = new LinkedHashMap<>();
+    this.pendingRecordCount = 0;
+    this.unlinkSupported = true;
   }
 
   @Override
@@ -27,35 +49,110 @@ public class RedisHCache implements RedisCache {
 
   @Override
   public void insert(String key, Instant timestamp, String data) {
-    var index = jedis.incr(key);
-    var indexKey = generateIndexKey(key, index);
-    var hash = Map.of(
-        RedisRecord.ID_PROPERTY, String.valueOf(index),
-        RedisRecord.DATA_PROPERTY, data,
-        RedisRecord.TIMESTAMP_PROPERTY, String.valueOf(timestamp.toEpochMilli()));
-    jedis.hmset(indexKey, hash);
+    var hash = new HashMap<String, String>();
+    hash.put(RedisRecord.DATA_PROPERTY, data);
+    hash.put(RedisRecord.TIMESTAMP_PROPERTY, String.valueOf(timestamp.toEpochMilli()));
+    pendingRecords.computeIfAbsent(key, k -> new ArrayList<>()).add(hash);
+    if (++pendingRecordCount >= batchSize) {
+      flush();
+    }
+  }
+
+  /*
+   * Reserves the indexes of all pending records with one INCRBY per key, then writes their hashes, all
+   * in two pipelined round trips. A pipeline does not raise the errors of its commands, so each reply
+   * is read back and the first failed write fails the flush.
+   */
+  @Override
+  public void flush() {
+    if (pendingRecordCount == 0) {
+      return;
+    }
+    var reservePipeline = jedis.pipelined();
+    var lastIndexes = new HashMap<String, Response<Long>>();
+    pendingRecords.forEach((key, hashes) -> lastIndexes.put(key, reservePipeline.incrBy(key, hashes.size())));
+    reservePipeline.sync();
+
+    var writePipeline = jedis.pipelined();
+    var writes = new ArrayList<Response<String>>(pendingRecordCount);
+    pendingRecords.forEach((key, hashes) -> {
+      long index = lastIndexes.get(key).get() - hashes.size();
+      for (var hash : hashes) {
+        index++;
+        hash.put(RedisRecord.ID_PROPERTY, String.valueOf(index));
+        writes.add(writePipeline.hmset(generateIndexKey(key, index), hash));
+      }
+    });
+    writePipeline.sync();
+    // throws the JedisDataException of the first failed HMSET
+    writes.forEach(Response::get);
+
+    pendingRecords.clear();
+    pendingRecordCount = 0;
   }
 
+  /*
+   * Renames the source keys one SCAN page at a time, reserving the destination indexes of each page
+   * with a single INCRBY. A key that SCAN returns again has already been renamed, so its RENAME fails
+   * with "no such key" and only leaves a gap in the destination indexes. Any other failed RENAME fails
+   * the copy.
+   */
   @Override
   public void copy(String sourceKey, String destinationKey, boolean replace) {
+    flush();
     if (replace) {
       delete(destinationKey);
     }
-    jedis.keys(sourceKey + PATTERN).forEach(k -> {
-      var index = jedis.incr(destinationKey);
-      jedis.rename(k, generateIndexKey(destinationKey, index));
+    forEachScanPage(sourceKey + PATTERN, keys -> {
+      long index = jedis.incrBy(destinationKey, keys.size()) - keys.size();
+      var pipeline = jedis.pipelined();
+      var renames = new ArrayList<Response<String>>(keys.size());
+      for (var key : keys) {
+        index++;
+        renames.add(pipeline.rename(key, generateIndexKey(destinationKey, index)));
+      }
+      pipeline.sync();
+      for (var rename : renames) {
+        try {
+          rename.get();
+        } catch (JedisDataException e) {
+          if (e.getMessage() == null || !e.getMessage().startsWith("ERR no such key")) {
+            throw e;
+          }
+        }
+      }
     });
   }
 
+  /*
+   * Drops the records of the key that are still buffered instead of flushing them, so that deleting
+   * the temporary keys after a failed sync never writes anything.
+   */
   @Override
   public void delete(String key) {
-    jedis.keys(key + PATTERN).forEach(jedis::del);
+    var discarded = pendingRecords.remove(key);
+    if (discarded != null) {
+      pendingRecordCount -= discarded.size();
+    }
+    forEachScanPage(key + PATTERN, this::unlink);
   }
 
   @Override
   public List<RedisRecord> getAll(String key) {
-    return jedis.keys(key + PATTERN).stream()
-        .map(jedis::hgetAll)
+    flush();
+    // the records are all returned anyway, so the keys seen so far, kept to skip the ones SCAN returns
+    // again, add no more than a constant factor to the memory used
+    var seenKeys = new HashSet<String>();
+    var hashes = new ArrayList<Response<Map<String, String>>>();
+    forEachScanPage(key + PATTERN, keys -> {
+      var pipeline = jedis.pipelined();
+      keys.stream()
+          .filter(seenKeys::add)
+          .forEach(k -> hashes.add(pipeline.hgetAll(k)));
+      pipeline.sync();
+    });
+    return hashes.stream()
+        .map(Response::get)
         .map(h -> objectMapper.convertValue(h, RedisRecord.class))
         .collect(Collectors.toList());
   }
@@ -79,4 +176,41 @@ public class RedisHCache implements RedisCache {
     return key + ":" + id;
   }
 
+  /*
+   * Iterates over the matching keys with SCAN, which unlike KEYS does not block the server for the
+   * whole keyspace. Each page is handed over as soon as it arrives, so that the keys are never all
+   * held in memory. A key can be returned more than once by SCAN.
+   */
+  private void forEachScanPage(String pattern, Consumer<List<String>> pageConsumer) {
+    var params = new ScanParams().match(pattern).count(batchSize);
+    var cursor = ScanParams.SCAN_POINTER_START;
+    do {
+      ScanResult<String> result = jedis.scan(cursor, params);
+      if (!result.getResult().isEmpty()) {
+        pageConsumer.accept(result.getResult());
+      }
+      cursor = result.getCursor();
+    } while (!cursor.equals(ScanParams.SCAN_POINTER_START));
+  }
+
+  /*
+   * Deletes the keys with UNLINK, which frees their memory in the background, or with DEL on servers
+   * older than Redis 4.0 that do not know UNLINK.
+   */
+  private void unlink(List<String> keys) {
+    var keyArray = keys.toArray(String[]::new);
+    if (unlinkSupported) {
+      try {
+        jedis.unlink(keyArray);
+        return;
+      } catch (JedisDataException e) {
+        if (e.getMessage() == null || !e.getMessage().startsWith("ERR unknown command")) {
+          throw e;
+        }
+        unlinkSupported = false;
+      }
+    }
+    jedis.del(keyArray);
+  }
+
 }
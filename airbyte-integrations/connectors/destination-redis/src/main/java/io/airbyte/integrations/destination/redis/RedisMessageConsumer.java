@@ -71,31 +71,33 @@ class RedisMessageConsumer extends FailureTrackingAirbyteMessageConsumer {
     }
   }
 
+  /*
+   * The state is only emitted once every record has been written and copied to its final key, a
+   * failed write or copy fails the sync instead.
+   */
   @Override
   protected void close(boolean hasFailed) {
-    if (!hasFailed) {
-      redisStreams.forEach((k, v) -> {
-        try {
+    try {
+      if (!hasFailed) {
+        redisCache.flush();
+        redisStreams.forEach((k, v) -> {
           switch (v.getDestinationSyncMode()) {
             case APPEND -> redisCache.copy(v.getTmpKey(), v.getKey(), false);
             case OVERWRITE -> redisCache.copy(v.getTmpKey(), v.getKey(), true);
             default -> throw new UnsupportedOperationException("Unsupported destination sync mode");
           }
-        } catch (Exception e) {
-          LOGGER.error("Error while synchronizing keys: ", e);
-        }
-      });
-      outputRecordCollector.accept(lastMessage);
-    }
+        });
+        outputRecordCollector.accept(lastMessage);
+      }
+    } finally {
+      try {
+        redisStreams.forEach((k, v) -> redisCache.delete(v.getTmpKey()));
+      } catch (Exception e) {
+        LOGGER.error("Error while deleting tmp keys: ", e);
+      }
 
-    try {
-      redisStreams.forEach((k, v) -> redisCache.delete(v.getTmpKey()));
-    } catch (Exception e) {
-      LOGGER.error("Error while deleting tmp keys: ", e);
+      redisCache.close();
     }
-
-    redisCache.close();
-
   }
 
 }
@@ -5,17 +5,21 @@
 package io.airbyte.integrations.destination.redis;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import java.time.Instant;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import redis.clients.jedis.exceptions.JedisDataException;
 
 class RedisHCacheTest {
 
   private static RedisContainerInitializr.RedisContainer redisContainer;
 
+  private RedisConfig redisConfig;
+
   private RedisCache redisCache;
 
   @BeforeAll
@@ -28,7 +32,8 @@ class RedisHCacheTest {
     var jsonConfig = RedisDataFactory.jsonConfig(
         redisContainer.getHost(),
         redisContainer.getFirstMappedPort());
-    redisCache = new RedisHCache(new RedisConfig(jsonConfig));
+    redisConfig = new RedisConfig(jsonConfig);
+    redisCache = new RedisHCache(redisConfig);
   }
 
   @AfterEach
@@ -56,6 +61,28 @@ class RedisHCacheTest {
         .anyMatch(r -> r.getData().equals("{\"property\":\"data3\"}"));
   }
 
+  @Test
+  void testInsertAndCopyMultipleBatches() {
+    var key1 = "test_key_batches1";
+    var key2 = "test_key_batches2";
+    // given
+    for (int i = 0; i < 2500; i++) {
+      redisCache.insert(key1, Instant.now(), "{\"property\":\"data" + i + "\"}");
+    }
+
+    // when
+    redisCache.copy(key1, key2, false);
+    var redisRecords = redisCache.getAll(key2);
+
+    // then
+    assertThat(redisRecords)
+        .isNotNull()
+        .hasSize(2500)
+        .anyMatch(r -> r.getData().equals("{\"property\":\"data0\"}"))
+        .anyMatch(r -> r.getData().equals("{\"property\":\"data2499\"}"));
+    assertThat(redisCache.getAll(key1)).isEmpty();
+  }
+
   @Test
   void testCopyWithoutReplace() {
     var key1 = "test_key_copy1";
@@ -117,4 +144,33 @@ class RedisHCacheTest {
     assertThat(redisRecords).isEmpty();
   }
 
+  @Test
+  void testDeleteDiscardsBufferedInserts() {
+    var key = "test_key_delete_buffered";
+    // given
+    redisCache.insert(key, Instant.now(), "{\"property\":\"data1\"}");
+
+    // when
+    redisCache.delete(key);
+    redisCache.flush();
+
+    // then
+    assertThat(redisCache.getAll(key)).isEmpty();
+  }
+
+  @Test
+  void testFlushFailsOnFailedWrite() {
+    var key = "test_key_failed_write";
+    // given
+    try (var jedis = RedisPoolManager.initConnection(redisConfig)) {
+      jedis.set(key + ":1", "not a hash");
+    }
+    redisCache.insert(key, Instant.now(), "{\"property\":\"data1\"}");
+
+    // then
+    assertThatThrownBy(() -> redisCache.flush())
+        .isInstanceOf(JedisDataException.class)
+        .hasMessageStartingWith("WRONGTYPE");
+  }
+
 }
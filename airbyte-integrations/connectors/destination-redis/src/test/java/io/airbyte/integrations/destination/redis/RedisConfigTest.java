@@ -26,7 +26,8 @@ class RedisConfigTest {
         .hasFieldOrPropertyWithValue("password", "pw")
         .hasFieldOrPropertyWithValue("host", "127.0.0.1")
         .hasFieldOrPropertyWithValue("port", 6379)
-        .hasFieldOrPropertyWithValue("cacheType", RedisCache.CacheType.HASH);
+        .hasFieldOrPropertyWithValue("cacheType", RedisCache.CacheType.HASH)
+        .hasFieldOrPropertyWithValue("batchSize", RedisConfig.DEFAULT_BATCH_SIZE);
 
   }
 
@@ -8,6 +8,7 @@ import com.fasterxml.jackson.databind.JsonNode;
 import io.airbyte.commons.json.Jsons;
 import io.airbyte.db.jdbc.JdbcDatabase;
 import io.airbyte.integrations.base.JavaBaseConstants;
+import io.airbyte.integrations.destination.jdbc.InsertStatementLimits;
 import io.airbyte.integrations.destination.jdbc.JdbcSqlOperations;
 import io.airbyte.integrations.destination.jdbc.SqlOperations;
 import io.airbyte.integrations.destination.jdbc.SqlOperationsUtils;
@@ -21,6 +22,9 @@ public class RedshiftSqlOperations extends JdbcSqlOperations implements SqlOpera
 
   private static final Logger LOGGER = LoggerFactory.getLogger(RedshiftSqlOperations.class);
   protected static final int REDSHIFT_VARCHAR_MAX_BYTE_SIZE = 65535;
+  // Redshift rejects statements larger than 16MB. Leave headroom for the statement text itself.
+  private static final InsertStatementLimits INSERT_STATEMENT_LIMITS =
+      new InsertStatementLimits(InsertStatementLimits.DEFAULT_MAX_RECORDS_PER_STATEMENT, 12L * 1024 * 1024);
 
   @Override
   public String createTableQuery(final JdbcDatabase database, final String schemaName, final String tableName) {
@@ -53,7 +57,7 @@ public class RedshiftSqlOperations extends JdbcSqlOperations implements SqlOpera
         JavaBaseConstants.COLUMN_NAME_DATA,
         JavaBaseConstants.COLUMN_NAME_EMITTED_AT);
     final String recordQueryComponent = "(?, ?, ?),\n";
-    SqlOperationsUtils.insertRawRecordsInSingleQuery(insertQueryComponent, recordQueryComponent, database, records);
+    SqlOperationsUtils.insertRawRecordsInSingleQuery(insertQueryComponent, recordQueryComponent, database, records, INSERT_STATEMENT_LIMITS);
   }
 
   @Override
@@ -16,8 +16,10 @@ import io.airbyte.integrations.destination.redshift.manifest.Entry;
 import io.airbyte.integrations.destination.redshift.manifest.Manifest;
 import io.airbyte.integrations.destination.s3.S3DestinationConfig;
 import io.airbyte.protocol.models.DestinationSyncMode;
-import java.util.Optional;
+import java.util.List;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -28,7 +30,8 @@ public class RedshiftStreamCopier extends S3StreamCopier {
   private static final int FILE_PREFIX_LENGTH = 5;
 
   private final ObjectMapper objectMapper;
-  private String manifestFilePath = null;
+  // manifests are put by the background copies of completed staging files as well as at close.
+  private final Set<String> manifestFilePaths = ConcurrentHashMap.newKeySet();
 
   public RedshiftStreamCopier(final String stagingFolder,
                               final DestinationSyncMode destSyncMode,
@@ -46,14 +49,24 @@ public class RedshiftStreamCopier extends S3StreamCopier {
 
   @Override
   public void copyStagingFileToTemporaryTable() {
-    final var possibleManifest = Optional.ofNullable(createManifest());
+    final var pendingStagingFiles = getStagingFilesPendingCopy();
     LOGGER.info("Starting copy to tmp table: {} in destination for stream: {}, schema: {}, .", tmpTableName, streamName, schemaName);
-    possibleManifest.stream()
-        .map(this::putManifest)
-        .forEach(this::executeCopy);
+    // There must be at least one entry in a manifest file otherwise it is not considered valid for the
+    // COPY command.
+    if (!pendingStagingFiles.isEmpty()) {
+      executeCopy(putManifest(createManifest(pendingStagingFiles.stream()
+          .map(filePath -> getFullS3Path(s3Config.getBucketName(), filePath))
+          .collect(Collectors.toList()))));
+    }
     LOGGER.info("Copy to tmp table {} in destination for stream {} complete.", tmpTableName, streamName);
   }
 
+  /**
+   * Used for staging files that are complete before the end of the sync. All remaining files are
+   * copied at once in {@link #copyStagingFileToTemporaryTable()}. COPY treats a plain S3 path as a
+   * key prefix, which would also match the later staging files of this stream, so the file is listed
+   * in a manifest of its own.
+   */
   @Override
   public void copyS3CsvFileIntoTable(
                                      final JdbcDatabase database,
@@ -61,34 +74,30 @@ public class RedshiftStreamCopier extends S3StreamCopier {
                                      final String schema,
                                      final String tableName,
                                      final S3DestinationConfig s3Config) {
-    throw new RuntimeException("Redshift Stream Copier should not copy individual files without use of a manifest");
+    executeCopy(putManifest(createManifest(List.of(s3FileLocation))));
   }
 
   @Override
   public void removeFileAndDropTmpTable() throws Exception {
     super.removeFileAndDropTmpTable();
-    if (manifestFilePath != null) {
+    manifestFilePaths.forEach(manifestFilePath -> {
       LOGGER.info("Begin cleaning s3 manifest file {}.", manifestFilePath);
       if (s3Client.doesObjectExist(s3Config.getBucketName(), manifestFilePath)) {
         s3Client.deleteObject(s3Config.getBucketName(), manifestFilePath);
       }
       LOGGER.info("S3 manifest file {} cleaned.", manifestFilePath);
-    }
+    });
   }
 
   /**
-   * Creates the contents of a manifest file given the `s3StagingFiles`. There must be at least one
-   * entry in a manifest file otherwise it is not considered valid for the COPY command.
+   * Creates the contents of a manifest file listing the given staging files.
    *
-   * @return null if no stagingFiles exist otherwise the manifest body String
+   * @param s3Paths the full S3 paths of the staging files, never empty
+   * @return the manifest body String
    */
-  private String createManifest() {
-    if (s3StagingFiles.isEmpty()) {
-      return null;
-    }
-
-    final var s3FileEntries = s3StagingFiles.stream()
-        .map(filePath -> new Entry(getFullS3Path(s3Config.getBucketName(), filePath)))
+  private String createManifest(final List<String> s3Paths) {
+    final var s3FileEntries = s3Paths.stream()
+        .map(Entry::new)
         .collect(Collectors.toList());
     final var manifest = new Manifest(s3FileEntries);
 
@@ -99,34 +108,36 @@ public class RedshiftStreamCopier extends S3StreamCopier {
    * Upload the supplied manifest file to S3
    *
    * @param manifestContents the manifest contents, never null
-   * @return the path where the manifest file was placed in S3
+   * @return the full S3 path where the manifest file was placed
    */
   private String putManifest(final String manifestContents) {
-    manifestFilePath =
+    final String manifestFilePath =
         String.join("/", stagingFolder, schemaName, String.format("%s.manifest", UUID.randomUUID()));
+    manifestFilePaths.add(manifestFilePath);
 
     s3Client.putObject(s3Config.getBucketName(), manifestFilePath, manifestContents);
 
-    return manifestFilePath;
+    return getFullS3Path(s3Config.getBucketName(), manifestFilePath);
   }
 
   /**
    * Run Redshift COPY command with the given manifest file
    *
-   * @param manifestPath the path in S3 to the manifest file
+   * @param manifestS3Path the full S3 path to the manifest file listing the staging files
    */
-  private void executeCopy(final String manifestPath) {
+  private void executeCopy(final String manifestS3Path) {
     final var copyQuery = String.format(
         "COPY %s.%s FROM '%s'\n"
             + "CREDENTIALS 'aws_access_key_id=%s;aws_secret_access_key=%s'\n"
-            + "CSV REGION '%s' TIMEFORMAT 'auto'\n"
+            + "CSV %sREGION '%s' TIMEFORMAT 'auto'\n"
             + "STATUPDATE OFF\n"
             + "MANIFEST;",
         schemaName,
         tmpTableName,
-        getFullS3Path(s3Config.getBucketName(), manifestPath),
+        manifestS3Path,
         s3Config.getAccessKeyId(),
         s3Config.getSecretAccessKey(),
+        isStagingFileCompressed() ? "GZIP " : "",
         s3Config.getBucketRegion());
 
     Exceptions.toRuntime(() -> db.execute(copyQuery));
@@ -8,7 +8,9 @@ import com.amazonaws.services.s3.AmazonS3;
 import io.airbyte.commons.json.Jsons;
 import io.airbyte.integrations.base.AirbyteStreamNameNamespacePair;
 import io.airbyte.integrations.base.FailureTrackingAirbyteMessageConsumer;
+import io.airbyte.integrations.destination.RecordIdGenerator;
 import io.airbyte.integrations.destination.s3.writer.S3Writer;
+import io.airbyte.integrations.destination.s3.writer.S3WriterPool;
 import io.airbyte.integrations.destination.s3.writer.S3WriterFactory;
 import io.airbyte.protocol.models.AirbyteMessage;
 import io.airbyte.protocol.models.AirbyteMessage.Type;
@@ -17,9 +19,6 @@ import io.airbyte.protocol.models.AirbyteStream;
 import io.airbyte.protocol.models.ConfiguredAirbyteCatalog;
 import io.airbyte.protocol.models.ConfiguredAirbyteStream;
 import java.sql.Timestamp;
-import java.util.HashMap;
-import java.util.Map;
-import java.util.UUID;
 import java.util.function.Consumer;
 
 public class S3Consumer extends FailureTrackingAirbyteMessageConsumer {
@@ -28,7 +27,7 @@ public class S3Consumer extends FailureTrackingAirbyteMessageConsumer {
   private final ConfiguredAirbyteCatalog configuredCatalog;
   private final S3WriterFactory writerFactory;
   private final Consumer<AirbyteMessage> outputRecordCollector;
-  private final Map<AirbyteStreamNameNamespacePair, S3Writer> streamNameAndNamespaceToWriters;
+  private final S3WriterPool writerPool;
 
   private AirbyteMessage lastStateMessage = null;
 
@@ -40,7 +39,7 @@ public class S3Consumer extends FailureTrackingAirbyteMessageConsumer {
     this.configuredCatalog = configuredCatalog;
     this.writerFactory = writerFactory;
     this.outputRecordCollector = outputRecordCollector;
-    this.streamNameAndNamespaceToWriters = new HashMap<>(configuredCatalog.getStreams().size());
+    this.writerPool = new S3WriterPool(configuredCatalog.getStreams().size());
   }
 
   @Override
@@ -56,7 +55,7 @@ public class S3Consumer extends FailureTrackingAirbyteMessageConsumer {
       final AirbyteStream stream = configuredStream.getStream();
       final AirbyteStreamNameNamespacePair streamNamePair = AirbyteStreamNameNamespacePair
           .fromAirbyteSteam(stream);
-      streamNameAndNamespaceToWriters.put(streamNamePair, writer);
+      writerPool.add(streamNamePair, writer);
     }
   }
 
@@ -73,22 +72,21 @@ public class S3Consumer extends FailureTrackingAirbyteMessageConsumer {
     final AirbyteStreamNameNamespacePair pair = AirbyteStreamNameNamespacePair
         .fromRecordMessage(recordMessage);
 
-    if (!streamNameAndNamespaceToWriters.containsKey(pair)) {
+    if (!writerPool.contains(pair)) {
       throw new IllegalArgumentException(
           String.format(
               "Message contained record from a stream that was not in the catalog. \ncatalog: %s , \nmessage: %s",
               Jsons.serialize(configuredCatalog), Jsons.serialize(recordMessage)));
     }
 
-    streamNameAndNamespaceToWriters.get(pair).write(UUID.randomUUID(), recordMessage);
+    writerPool.write(pair, RecordIdGenerator.nextId(), recordMessage);
   }
 
   @Override
   protected void close(final boolean hasFailed) throws Exception {
-    for (final S3Writer handler : streamNameAndNamespaceToWriters.values()) {
-      handler.close(hasFailed);
-    }
-    // S3 stream uploader is all or nothing if a failure happens in the destination.
+    writerPool.close(hasFailed);
+    // S3 stream uploader is all or nothing if a failure happens in the destination. The state is
+    // emitted once all records before it are uploaded, i.e. all writers are closed.
     if (!hasFailed) {
       outputRecordCollector.accept(lastStateMessage);
     }
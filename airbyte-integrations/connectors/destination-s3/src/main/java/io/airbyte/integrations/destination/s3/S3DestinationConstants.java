@@ -11,6 +11,8 @@ public final class S3DestinationConstants {
   public static final String YYYY_MM_DD_FORMAT_STRING = "yyyy_MM_dd";
   public static final ExtendedNameTransformer NAME_TRANSFORMER = new ExtendedNameTransformer();
   public static final String PART_SIZE_MB_ARG_NAME = "part_size_mb";
+  public static final String MAX_FILE_SIZE_MB_ARG_NAME = "max_file_size_mb";
+  public static final String MAX_RECORDS_PER_FILE_ARG_NAME = "max_records_per_file";
 
   private S3DestinationConstants() {}
 
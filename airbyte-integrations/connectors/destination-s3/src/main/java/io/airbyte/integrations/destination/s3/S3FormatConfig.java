@@ -12,6 +12,25 @@ public interface S3FormatConfig {
 
   Long getPartSize();
 
+  /**
+   * @return size in bytes after which a stream continues in a new output file, or 0 to not limit
+   *         the file size
+   */
+  long getMaxFileSize();
+
+  /**
+   * @return number of records after which a stream continues in a new output file, or 0 to not limit
+   *         the number of records per file
+   */
+  long getMaxRecordsPerFile();
+
+  /**
+   * @return whether a stream may be split into several output files
+   */
+  default boolean isRollingEnabled() {
+    return getMaxFileSize() > 0 || getMaxRecordsPerFile() > 0;
+  }
+
   static String withDefault(final JsonNode config, final String property, final String defaultValue) {
     final JsonNode value = config.get(property);
     if (value == null || value.isNull()) {
@@ -28,6 +47,14 @@ public interface S3FormatConfig {
     return value.asInt();
   }
 
+  static long withDefault(final JsonNode config, final String property, final long defaultValue) {
+    final JsonNode value = config.get(property);
+    if (value == null || value.isNull()) {
+      return defaultValue;
+    }
+    return value.asLong();
+  }
+
   static boolean withDefault(final JsonNode config, final String property, final boolean defaultValue) {
     final JsonNode value = config.get(property);
     if (value == null || value.isNull()) {
@@ -10,6 +10,7 @@ import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import io.airbyte.commons.jackson.MoreMappers;
 import io.airbyte.integrations.base.JavaBaseConstants;
+import io.airbyte.integrations.destination.s3.avro.JsonToAvroRecordConverter.UnsupportedValueException;
 import io.airbyte.protocol.models.AirbyteRecordMessage;
 import java.util.UUID;
 import org.apache.avro.Schema;
@@ -23,13 +24,32 @@ public class AvroRecordFactory {
 
   private final Schema schema;
   private final JsonAvroConverter converter;
+  private final JsonToAvroRecordConverter recordConverter;
 
   public AvroRecordFactory(final Schema schema, final JsonAvroConverter converter) {
     this.schema = schema;
     this.converter = converter;
+    this.recordConverter = new JsonToAvroRecordConverter(schema);
   }
 
+  /**
+   * Converts the record data directly into an Avro record. Records with values that the direct
+   * conversion does not handle are serialized and converted by the generic {@link JsonAvroConverter}
+   * instead.
+   */
   public GenericData.Record getAvroRecord(final UUID id, final AirbyteRecordMessage recordMessage) throws JsonProcessingException {
+    final GenericData.Record record = new GenericData.Record(schema);
+    record.put(JavaBaseConstants.COLUMN_NAME_AB_ID, id.toString());
+    record.put(JavaBaseConstants.COLUMN_NAME_EMITTED_AT, recordMessage.getEmittedAt());
+    try {
+      recordConverter.convertInto(recordMessage.getData(), record);
+      return record;
+    } catch (final UnsupportedValueException e) {
+      return getAvroRecordFromJsonBytes(id, recordMessage);
+    }
+  }
+
+  private GenericData.Record getAvroRecordFromJsonBytes(final UUID id, final AirbyteRecordMessage recordMessage) throws JsonProcessingException {
     final ObjectNode jsonRecord = MAPPER.createObjectNode();
     jsonRecord.put(JavaBaseConstants.COLUMN_NAME_AB_ID, id.toString());
     jsonRecord.put(JavaBaseConstants.COLUMN_NAME_EMITTED_AT, recordMessage.getEmittedAt());
@@ -0,0 +1,364 @@
+/*
+ * Copyright (c) 2021 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.destination.s3.avro;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.TemporalQuery;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.apache.avro.LogicalType;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericData;
+
+/**
+ * Converts Json records directly into Avro records of a schema produced by
+ * {@link JsonToAvroSchemaConverter}, without serializing them to bytes and parsing them again.
+ * <p>
+ * </p>
+ * The conversion is compiled once per schema into a tree of converters, one per schema node. It
+ * follows the rules of {@link AvroConstants#JSON_CONVERTER}:
+ * <ul>
+ * <li>Json field names are standardized with {@link AvroConstants#NAME_TRANSFORMER}.</li>
+ * <li>A value is converted to the first union branch that accepts its Json type; strings are not
+ * accepted by numeric branches and numbers are not accepted by string branches.</li>
+ * <li>Strings in date-time, date and time fields are converted to their logical type.</li>
+ * <li>Fields that are not in the schema, and the content of the Json additional properties fields,
+ * are collected into {@link AvroConstants#AVRO_EXTRA_PROPS_FIELD} as strings.</li>
+ * </ul>
+ * Values for which these rules are ambiguous, such as numbers in a logical type field, dates in
+ * non-ISO formats, or containers among the additional properties, are rejected with
+ * {@link UnsupportedValueException}, so that the caller can fall back to the generic converter.
+ */
+public class JsonToAvroRecordConverter {
+
+  private static final String LOGICAL_TYPE_UUID = "uuid";
+  private static final String LOGICAL_TYPE_DATE = "date";
+  private static final String LOGICAL_TYPE_TIME_MICROS = "time-micros";
+  private static final String LOGICAL_TYPE_TIMESTAMP_MICROS = "timestamp-micros";
+
+  private final RecordConverter recordConverter;
+
+  public JsonToAvroRecordConverter(final Schema schema) {
+    this.recordConverter = new RecordConverter(schema);
+  }
+
+  /**
+   * @param json Json object to convert
+   * @return a new record with the converted Json fields
+   * @throws UnsupportedValueException if the record has a value whose conversion is ambiguous
+   */
+  public GenericData.Record convert(final JsonNode json) {
+    return recordConverter.convert(json);
+  }
+
+  /**
+   * Converts the Json object into the given record, which must be of the schema of this converter.
+   * Fields set beforehand are kept, unless the Json object has a field with the same name.
+   *
+   * @throws UnsupportedValueException if the record has a value whose conversion is ambiguous
+   */
+  public void convertInto(final JsonNode json, final GenericData.Record record) {
+    recordConverter.convertInto(json, record);
+  }
+
+  /**
+   * Thrown when a value cannot be converted with certainty that the result matches the generic
+   * converter. It has no stack trace, as it is expected on the normal conversion path.
+   */
+  public static class UnsupportedValueException extends RuntimeException {
+
+    public UnsupportedValueException(final String message) {
+      super(message, null, false, false);
+    }
+
+  }
+
+  private interface ValueConverter {
+
+    Object convert(JsonNode value);
+
+  }
+
+  private static ValueConverter unsupported(final Schema schema, final String jsonType) {
+    return value -> {
+      throw new UnsupportedValueException(String.format("Cannot convert a Json %s to %s", jsonType, schema));
+    };
+  }
+
+  /**
+   * Picks the branch for each Json type once, in the order of the union. A non-union schema is
+   * handled as a union with a single branch.
+   */
+  private static final class UnionConverter implements ValueConverter {
+
+    private final ValueConverter nullConverter;
+    private final ValueConverter textConverter;
+    private final ValueConverter numberConverter;
+    private final ValueConverter booleanConverter;
+    private final ValueConverter objectConverter;
+    private final ValueConverter arrayConverter;
+
+    private UnionConverter(final Schema schema) {
+      final List<Schema> branches = schema.isUnion() ? schema.getTypes() : List.of(schema);
+      ValueConverter nullConverter = null;
+      ValueConverter textConverter = null;
+      ValueConverter numberConverter = null;
+      ValueConverter booleanConverter = null;
+      ValueConverter objectConverter = null;
+      ValueConverter arrayConverter = null;
+      for (final Schema branch : branches) {
+        final LogicalType logicalType = branch.getLogicalType();
+        switch (branch.getType()) {
+          case NULL -> nullConverter = nullConverter != null ? nullConverter : value -> null;
+          case STRING -> {
+            if (textConverter == null) {
+              textConverter = logicalType == null || LOGICAL_TYPE_UUID.equals(logicalType.getName())
+                  ? JsonNode::asText
+                  : unsupported(branch, "string");
+            }
+          }
+          case INT, LONG -> {
+            if (textConverter == null && logicalType != null) {
+              textConverter = logicalTypeTextConverter(branch);
+            }
+            if (numberConverter == null) {
+              numberConverter = logicalType != null
+                  ? unsupported(branch, "number")
+                  : branch.getType() == Schema.Type.INT ? JsonToAvroRecordConverter::toInt : JsonToAvroRecordConverter::toLong;
+            }
+          }
+          case FLOAT -> numberConverter = numberConverter != null ? numberConverter : value -> value.floatValue();
+          case DOUBLE -> numberConverter = numberConverter != null ? numberConverter : JsonNode::doubleValue;
+          case BOOLEAN -> booleanConverter = booleanConverter != null ? booleanConverter : JsonNode::booleanValue;
+          case RECORD -> objectConverter = objectConverter != null ? objectConverter : new RecordConverter(branch);
+          case ARRAY -> arrayConverter = arrayConverter != null ? arrayConverter : new ArrayConverter(branch);
+          default -> {
+            // maps only appear in the additional properties field, which is handled by the record converter;
+            // other types are never produced by the schema converter.
+          }
+        }
+      }
+      this.nullConverter = nullConverter != null ? nullConverter : unsupported(schema, "null");
+      this.textConverter = textConverter != null ? textConverter : unsupported(schema, "string");
+      this.numberConverter = numberConverter != null ? numberConverter : unsupported(schema, "number");
+      this.booleanConverter = booleanConverter != null ? booleanConverter : unsupported(schema, "boolean");
+      this.objectConverter = objectConverter != null ? objectConverter : unsupported(schema, "object");
+      this.arrayConverter = arrayConverter != null ? arrayConverter : unsupported(schema, "array");
+    }
+
+    @Override
+    public Object convert(final JsonNode value) {
+      return switch (value.getNodeType()) {
+        case NULL -> nullConverter.convert(value);
+        case STRING -> textConverter.convert(value);
+        case NUMBER -> numberConverter.convert(value);
+        case BOOLEAN -> booleanConverter.convert(value);
+        case OBJECT -> objectConverter.convert(value);
+        case ARRAY -> arrayConverter.convert(value);
+        default -> throw new UnsupportedValueException("Cannot convert a Json " + value.getNodeType());
+      };
+    }
+
+  }
+
+  private static ValueConverter logicalTypeTextConverter(final Schema schema) {
+    return switch (schema.getLogicalType().getName()) {
+      case LOGICAL_TYPE_TIMESTAMP_MICROS -> value -> {
+        final OffsetDateTime dateTime = parse(value, DateTimeFormatter.ISO_OFFSET_DATE_TIME, OffsetDateTime::from);
+        return TimeUnit.SECONDS.toMicros(dateTime.toEpochSecond()) + TimeUnit.NANOSECONDS.toMicros(dateTime.getNano());
+      };
+      case LOGICAL_TYPE_DATE -> value -> (int) parse(value, DateTimeFormatter.ISO_LOCAL_DATE, LocalDate::from).toEpochDay();
+      case LOGICAL_TYPE_TIME_MICROS -> value -> TimeUnit.NANOSECONDS.toMicros(
+          parse(value, DateTimeFormatter.ISO_LOCAL_TIME, LocalTime::from).toNanoOfDay());
+      default -> unsupported(schema, "string");
+    };
+  }
+
+  private static <T> T parse(final JsonNode value,
+                             final DateTimeFormatter formatter,
+                             final TemporalQuery<T> query) {
+    try {
+      return formatter.parse(value.asText(), query);
+    } catch (final DateTimeParseException e) {
+      throw new UnsupportedValueException("Not an ISO date or time: " + value.asText());
+    }
+  }
+
+  private static Object toInt(final JsonNode value) {
+    if (!value.isIntegralNumber() || !value.canConvertToInt()) {
+      throw new UnsupportedValueException("Not an int: " + value);
+    }
+    return value.intValue();
+  }
+
+  private static Object toLong(final JsonNode value) {
+    if (!value.isIntegralNumber() || !value.canConvertToLong()) {
+      throw new UnsupportedValueException("Not a long: " + value);
+    }
+    return value.longValue();
+  }
+
+  private static final class ArrayConverter implements ValueConverter {
+
+    private final ValueConverter elementConverter;
+
+    private ArrayConverter(final Schema schema) {
+      this.elementConverter = new UnionConverter(schema.getElementType());
+    }
+
+    @Override
+    public Object convert(final JsonNode value) {
+      final List<Object> elements = new ArrayList<>(value.size());
+      for (final JsonNode element : value) {
+        elements.add(elementConverter.convert(element));
+      }
+      return elements;
+    }
+
+  }
+
+  private static final class RecordConverter implements ValueConverter {
+
+    private static final FieldTarget ADDITIONAL_PROPERTY = new FieldTarget(-1, null);
+    private static final FieldTarget ADDITIONAL_PROPERTIES = new FieldTarget(-1, null);
+
+    private final Schema schema;
+    private final ValueConverter[] fieldConverters;
+    private final int additionalPropertiesPosition;
+    // Json field name -> target, for the names that the schema was generated from. It is not
+    // modified after construction, other names are resolved for every record.
+    private final Map<String, FieldTarget> fieldTargets = new HashMap<>();
+
+    private RecordConverter(final Schema schema) {
+      this.schema = schema;
+      final List<Schema.Field> fields = schema.getFields();
+      this.fieldConverters = new ValueConverter[fields.size()];
+      for (final Schema.Field field : fields) {
+        fieldConverters[field.pos()] = new UnionConverter(field.schema());
+      }
+      final Schema.Field additionalPropertiesField = schema.getField(AvroConstants.AVRO_EXTRA_PROPS_FIELD);
+      this.additionalPropertiesPosition = additionalPropertiesField == null ? -1 : additionalPropertiesField.pos();
+
+      for (final Schema.Field field : fields) {
+        if (field.pos() != additionalPropertiesPosition) {
+          addFieldTarget(field.name());
+          getOriginalName(field).ifPresent(this::addFieldTarget);
+        }
+      }
+      if (additionalPropertiesPosition >= 0) {
+        AvroConstants.JSON_EXTRA_PROPS_FIELDS.forEach(name -> fieldTargets.put(name, ADDITIONAL_PROPERTIES));
+      }
+    }
+
+    private void addFieldTarget(final String jsonFieldName) {
+      final Schema.Field field = schema.getField(AvroConstants.NAME_TRANSFORMER.getIdentifier(jsonFieldName));
+      if (field != null) {
+        fieldTargets.put(jsonFieldName, new FieldTarget(field.pos(), fieldConverters[field.pos()]));
+      }
+    }
+
+    /**
+     * @return the Json field name, if it was standardized into the name of the Avro field
+     */
+    private static Optional<String> getOriginalName(final Schema.Field field) {
+      final String prefix = AvroConstants.DOC_KEY_ORIGINAL_NAME + AvroConstants.DOC_KEY_VALUE_DELIMITER;
+      if (field.doc() == null || !field.doc().startsWith(prefix)) {
+        return Optional.empty();
+      }
+      return Optional.of(field.doc().substring(prefix.length()));
+    }
+
+    @Override
+    public GenericData.Record convert(final JsonNode value) {
+      final GenericData.Record record = new GenericData.Record(schema);
+      convertInto(value, record);
+      return record;
+    }
+
+    private void convertInto(final JsonNode value, final GenericData.Record record) {
+      Map<String, String> additionalProperties = null;
+      final Iterator<Map.Entry<String, JsonNode>> fields = value.fields();
+      while (fields.hasNext()) {
+        final Map.Entry<String, JsonNode> field = fields.next();
+        final FieldTarget cachedTarget = fieldTargets.get(field.getKey());
+        final FieldTarget target = cachedTarget != null ? cachedTarget : getFieldTarget(field.getKey());
+        if (target == ADDITIONAL_PROPERTIES) {
+          if (field.getValue().isNull()) {
+            continue;
+          }
+          if (!field.getValue().isObject()) {
+            throw new UnsupportedValueException("Additional properties field is not an object: " + field.getKey());
+          }
+          additionalProperties = additionalProperties == null ? new HashMap<>() : additionalProperties;
+          final Iterator<Map.Entry<String, JsonNode>> properties = field.getValue().fields();
+          while (properties.hasNext()) {
+            final Map.Entry<String, JsonNode> property = properties.next();
+            additionalProperties.put(property.getKey(), toAdditionalPropertyValue(property.getValue()));
+          }
+        } else if (target == ADDITIONAL_PROPERTY) {
+          additionalProperties = additionalProperties == null ? new HashMap<>() : additionalProperties;
+          additionalProperties.put(field.getKey(), toAdditionalPropertyValue(field.getValue()));
+        } else {
+          record.put(target.position, target.converter.convert(field.getValue()));
+        }
+      }
+      if (additionalProperties != null) {
+        record.put(additionalPropertiesPosition, additionalProperties);
+      }
+    }
+
+    private FieldTarget getFieldTarget(final String jsonFieldName) {
+      if (AvroConstants.JSON_EXTRA_PROPS_FIELDS.contains(jsonFieldName)) {
+        return checkAdditionalProperties(ADDITIONAL_PROPERTIES);
+      }
+      final Schema.Field field = schema.getField(AvroConstants.NAME_TRANSFORMER.getIdentifier(jsonFieldName));
+      if (field == null) {
+        return checkAdditionalProperties(ADDITIONAL_PROPERTY);
+      }
+      return new FieldTarget(field.pos(), fieldConverters[field.pos()]);
+    }
+
+    private FieldTarget checkAdditionalProperties(final FieldTarget target) {
+      if (additionalPropertiesPosition < 0) {
+        throw new UnsupportedValueException(String.format("Record %s has no additional properties field", schema.getFullName()));
+      }
+      return target;
+    }
+
+    private static String toAdditionalPropertyValue(final JsonNode value) {
+      if (value.isTextual()) {
+        return value.asText();
+      }
+      if (value.isNull() || value.isContainerNode() || value.isBigDecimal()) {
+        throw new UnsupportedValueException("Cannot convert additional property value: " + value);
+      }
+      return value.toString();
+    }
+
+  }
+
+  private static final class FieldTarget {
+
+    private final int position;
+    private final ValueConverter converter;
+
+    private FieldTarget(final int position, final ValueConverter converter) {
+      this.position = position;
+      this.converter = converter;
+    }
+
+  }
+
+}
@@ -4,6 +4,8 @@
 
 package io.airbyte.integrations.destination.s3.avro;
 
+import static io.airbyte.integrations.destination.s3.S3DestinationConstants.MAX_FILE_SIZE_MB_ARG_NAME;
+import static io.airbyte.integrations.destination.s3.S3DestinationConstants.MAX_RECORDS_PER_FILE_ARG_NAME;
 import static io.airbyte.integrations.destination.s3.S3DestinationConstants.PART_SIZE_MB_ARG_NAME;
 
 import com.fasterxml.jackson.databind.JsonNode;
@@ -15,10 +17,14 @@ public class S3AvroFormatConfig implements S3FormatConfig {
 
   private final CodecFactory codecFactory;
   private final Long partSize;
+  private final long maxFileSize;
+  private final long maxRecordsPerFile;
 
   public S3AvroFormatConfig(final JsonNode formatConfig) {
     this.codecFactory = parseCodecConfig(formatConfig.get("compression_codec"));
     this.partSize = formatConfig.get(PART_SIZE_MB_ARG_NAME) != null ? formatConfig.get(PART_SIZE_MB_ARG_NAME).asLong() : null;
+    this.maxFileSize = S3FormatConfig.withDefault(formatConfig, MAX_FILE_SIZE_MB_ARG_NAME, 0L) * 1024 * 1024;
+    this.maxRecordsPerFile = S3FormatConfig.withDefault(formatConfig, MAX_RECORDS_PER_FILE_ARG_NAME, 0L);
   }
 
   public static CodecFactory parseCodecConfig(final JsonNode compressionCodecConfig) {
@@ -90,6 +96,16 @@ public class S3AvroFormatConfig implements S3FormatConfig {
     return partSize;
   }
 
+  @Override
+  public long getMaxFileSize() {
+    return maxFileSize;
+  }
+
+  @Override
+  public long getMaxRecordsPerFile() {
+    return maxRecordsPerFile;
+  }
+
   @Override
   public S3Format getFormat() {
     return S3Format.AVRO;
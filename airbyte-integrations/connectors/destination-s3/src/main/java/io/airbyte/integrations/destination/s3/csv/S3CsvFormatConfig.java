@@ -4,6 +4,8 @@
 
 package io.airbyte.integrations.destination.s3.csv;
 
+import static io.airbyte.integrations.destination.s3.S3DestinationConstants.MAX_FILE_SIZE_MB_ARG_NAME;
+import static io.airbyte.integrations.destination.s3.S3DestinationConstants.MAX_RECORDS_PER_FILE_ARG_NAME;
 import static io.airbyte.integrations.destination.s3.S3DestinationConstants.PART_SIZE_MB_ARG_NAME;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
@@ -43,10 +45,14 @@ public class S3CsvFormatConfig implements S3FormatConfig {
 
   private final Flattening flattening;
   private final Long partSize;
+  private final long maxFileSize;
+  private final long maxRecordsPerFile;
 
   public S3CsvFormatConfig(final JsonNode formatConfig) {
     this.flattening = Flattening.fromValue(formatConfig.get("flattening").asText());
     this.partSize = formatConfig.get(PART_SIZE_MB_ARG_NAME) != null ? formatConfig.get(PART_SIZE_MB_ARG_NAME).asLong() : null;
+    this.maxFileSize = S3FormatConfig.withDefault(formatConfig, MAX_FILE_SIZE_MB_ARG_NAME, 0L) * 1024 * 1024;
+    this.maxRecordsPerFile = S3FormatConfig.withDefault(formatConfig, MAX_RECORDS_PER_FILE_ARG_NAME, 0L);
   }
 
   @Override
@@ -62,11 +68,23 @@ public class S3CsvFormatConfig implements S3FormatConfig {
     return partSize;
   }
 
+  @Override
+  public long getMaxFileSize() {
+    return maxFileSize;
+  }
+
+  @Override
+  public long getMaxRecordsPerFile() {
+    return maxRecordsPerFile;
+  }
+
   @Override
   public String toString() {
     return "S3CsvFormatConfig{" +
         "flattening=" + flattening +
         ", partSize=" + partSize +
+        ", maxFileSize=" + maxFileSize +
+        ", maxRecordsPerFile=" + maxRecordsPerFile +
         '}';
   }
 
@@ -7,6 +7,7 @@ package io.airbyte.integrations.destination.s3.csv;
 import alex.mojaki.s3upload.MultiPartOutputStream;
 import alex.mojaki.s3upload.StreamTransferManager;
 import com.amazonaws.services.s3.AmazonS3;
+import com.google.common.io.CountingOutputStream;
 import io.airbyte.integrations.destination.s3.S3DestinationConfig;
 import io.airbyte.integrations.destination.s3.S3Format;
 import io.airbyte.integrations.destination.s3.util.S3StreamTransferManagerHelper;
@@ -32,6 +33,7 @@ public class S3CsvWriter extends BaseS3Writer implements S3Writer {
   private final CsvSheetGenerator csvSheetGenerator;
   private final StreamTransferManager uploadManager;
   private final MultiPartOutputStream outputStream;
+  private final CountingOutputStream countingOutputStream;
   private final CSVPrinter csvPrinter;
 
   public S3CsvWriter(final S3DestinationConfig config,
@@ -39,13 +41,22 @@ public class S3CsvWriter extends BaseS3Writer implements S3Writer {
                      final ConfiguredAirbyteStream configuredStream,
                      final Timestamp uploadTimestamp)
       throws IOException {
+    this(config, s3Client, configuredStream, uploadTimestamp, 0);
+  }
+
+  public S3CsvWriter(final S3DestinationConfig config,
+                     final AmazonS3 s3Client,
+                     final ConfiguredAirbyteStream configuredStream,
+                     final Timestamp uploadTimestamp,
+                     final int partId)
+      throws IOException {
     super(config, s3Client, configuredStream);
 
     final S3CsvFormatConfig formatConfig = (S3CsvFormatConfig) config.getFormatConfig();
     this.csvSheetGenerator = CsvSheetGenerator.Factory.create(configuredStream.getStream().getJsonSchema(),
         formatConfig);
 
-    final String outputFilename = BaseS3Writer.getOutputFilename(uploadTimestamp, S3Format.CSV);
+    final String outputFilename = BaseS3Writer.getOutputFilename(uploadTimestamp, partId, S3Format.CSV);
     final String objectKey = String.join("/", outputPrefix, outputFilename);
 
     LOGGER.info("Full S3 path for stream '{}': s3://{}/{}", stream.getName(), config.getBucketName(),
@@ -55,7 +66,8 @@ public class S3CsvWriter extends BaseS3Writer implements S3Writer {
         config.getBucketName(), objectKey, s3Client, config.getFormatConfig().getPartSize());
     // We only need one output stream as we only have one input stream. This is reasonably performant.
     this.outputStream = uploadManager.getMultiPartOutputStreams().get(0);
-    this.csvPrinter = new CSVPrinter(new PrintWriter(outputStream, true, StandardCharsets.UTF_8),
+    this.countingOutputStream = new CountingOutputStream(outputStream);
+    this.csvPrinter = new CSVPrinter(new PrintWriter(countingOutputStream, true, StandardCharsets.UTF_8),
         CSVFormat.DEFAULT.withQuoteMode(QuoteMode.ALL)
             .withHeader(csvSheetGenerator.getHeaderRow().toArray(new String[0])));
   }
@@ -65,6 +77,11 @@ public class S3CsvWriter extends BaseS3Writer implements S3Writer {
     csvPrinter.printRecord(csvSheetGenerator.getDataRow(id, recordMessage));
   }
 
+  @Override
+  public long getOutputBytes() {
+    return countingOutputStream.getCount();
+  }
+
   @Override
   protected void closeWhenSucceed() throws IOException {
     csvPrinter.close();
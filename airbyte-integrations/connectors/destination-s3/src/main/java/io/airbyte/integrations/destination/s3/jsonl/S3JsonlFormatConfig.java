@@ -4,6 +4,8 @@
 
 package io.airbyte.integrations.destination.s3.jsonl;
 
+import static io.airbyte.integrations.destination.s3.S3DestinationConstants.MAX_FILE_SIZE_MB_ARG_NAME;
+import static io.airbyte.integrations.destination.s3.S3DestinationConstants.MAX_RECORDS_PER_FILE_ARG_NAME;
 import static io.airbyte.integrations.destination.s3.S3DestinationConstants.PART_SIZE_MB_ARG_NAME;
 
 import com.fasterxml.jackson.databind.JsonNode;
@@ -13,9 +15,13 @@ import io.airbyte.integrations.destination.s3.S3FormatConfig;
 public class S3JsonlFormatConfig implements S3FormatConfig {
 
   private final Long partSize;
+  private final long maxFileSize;
+  private final long maxRecordsPerFile;
 
   public S3JsonlFormatConfig(final JsonNode formatConfig) {
     this.partSize = formatConfig.get(PART_SIZE_MB_ARG_NAME) != null ? formatConfig.get(PART_SIZE_MB_ARG_NAME).asLong() : null;
+    this.maxFileSize = S3FormatConfig.withDefault(formatConfig, MAX_FILE_SIZE_MB_ARG_NAME, 0L) * 1024 * 1024;
+    this.maxRecordsPerFile = S3FormatConfig.withDefault(formatConfig, MAX_RECORDS_PER_FILE_ARG_NAME, 0L);
   }
 
   @Override
@@ -27,4 +33,14 @@ public class S3JsonlFormatConfig implements S3FormatConfig {
     return partSize;
   }
 
+  @Override
+  public long getMaxFileSize() {
+    return maxFileSize;
+  }
+
+  @Override
+  public long getMaxRecordsPerFile() {
+    return maxRecordsPerFile;
+  }
+
 }
@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2021 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.destination.s3.parquet;
+
+import java.io.IOException;
+import org.apache.parquet.io.OutputFile;
+import org.apache.parquet.io.PositionOutputStream;
+
+/**
+ * Exposes how many bytes the Parquet writer has handed to the underlying output file, so that the
+ * size of the row group still buffered in memory can be derived from the total data size.
+ */
+public class PositionTrackingOutputFile implements OutputFile {
+
+  private final OutputFile delegate;
+  private volatile PositionOutputStream outputStream;
+
+  public PositionTrackingOutputFile(final OutputFile delegate) {
+    this.delegate = delegate;
+  }
+
+  @Override
+  public PositionOutputStream create(final long blockSizeHint) throws IOException {
+    outputStream = delegate.create(blockSizeHint);
+    return outputStream;
+  }
+
+  @Override
+  public PositionOutputStream createOrOverwrite(final long blockSizeHint) throws IOException {
+    outputStream = delegate.createOrOverwrite(blockSizeHint);
+    return outputStream;
+  }
+
+  @Override
+  public boolean supportsBlockSize() {
+    return delegate.supportsBlockSize();
+  }
+
+  @Override
+  public long defaultBlockSize() {
+    return delegate.defaultBlockSize();
+  }
+
+  /**
+   * @return number of bytes written to the output file so far
+   */
+  public long getPos() throws IOException {
+    final PositionOutputStream stream = outputStream;
+    return stream == null ? 0 : stream.getPos();
+  }
+
+}
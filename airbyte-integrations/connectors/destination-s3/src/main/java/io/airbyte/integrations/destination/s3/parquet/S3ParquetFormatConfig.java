@@ -4,6 +4,9 @@
 
 package io.airbyte.integrations.destination.s3.parquet;
 
+import static io.airbyte.integrations.destination.s3.S3DestinationConstants.MAX_FILE_SIZE_MB_ARG_NAME;
+import static io.airbyte.integrations.destination.s3.S3DestinationConstants.MAX_RECORDS_PER_FILE_ARG_NAME;
+
 import com.fasterxml.jackson.databind.JsonNode;
 import io.airbyte.integrations.destination.s3.S3Format;
 import io.airbyte.integrations.destination.s3.S3FormatConfig;
@@ -17,6 +20,8 @@ public class S3ParquetFormatConfig implements S3FormatConfig {
   private final int pageSize;
   private final int dictionaryPageSize;
   private final boolean dictionaryEncoding;
+  private final long maxFileSize;
+  private final long maxRecordsPerFile;
 
   public S3ParquetFormatConfig(final JsonNode formatConfig) {
     final int blockSizeMb = S3FormatConfig.withDefault(formatConfig, "block_size_mb", S3ParquetConstants.DEFAULT_BLOCK_SIZE_MB);
@@ -32,6 +37,8 @@ public class S3ParquetFormatConfig implements S3FormatConfig {
     this.pageSize = pageSizeKb * 1024;
     this.dictionaryPageSize = dictionaryPageSizeKb * 1024;
     this.dictionaryEncoding = S3FormatConfig.withDefault(formatConfig, "dictionary_encoding", S3ParquetConstants.DEFAULT_DICTIONARY_ENCODING);
+    this.maxFileSize = S3FormatConfig.withDefault(formatConfig, MAX_FILE_SIZE_MB_ARG_NAME, 0L) * 1024 * 1024;
+    this.maxRecordsPerFile = S3FormatConfig.withDefault(formatConfig, MAX_RECORDS_PER_FILE_ARG_NAME, 0L);
   }
 
   @Override
@@ -69,6 +76,16 @@ public class S3ParquetFormatConfig implements S3FormatConfig {
     return dictionaryEncoding;
   }
 
+  @Override
+  public long getMaxFileSize() {
+    return maxFileSize;
+  }
+
+  @Override
+  public long getMaxRecordsPerFile() {
+    return maxRecordsPerFile;
+  }
+
   @Override
   public String toString() {
     return "S3ParquetFormatConfig{" +
@@ -78,6 +95,8 @@ public class S3ParquetFormatConfig implements S3FormatConfig {
         "pageSize=" + pageSize + ", " +
         "dictionaryPageSize=" + dictionaryPageSize + ", " +
         "dictionaryEncoding=" + dictionaryEncoding + ", " +
+        "maxFileSize=" + maxFileSize + ", " +
+        "maxRecordsPerFile=" + maxRecordsPerFile + ", " +
         '}';
   }
 
@@ -34,6 +34,7 @@ public class S3ParquetWriter extends BaseS3Writer implements S3Writer {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(S3ParquetWriter.class);
 
+  private final PositionTrackingOutputFile outputFile;
   private final ParquetWriter<Record> parquetWriter;
   private final AvroRecordFactory avroRecordFactory;
   private final Schema schema;
@@ -46,9 +47,20 @@ public class S3ParquetWriter extends BaseS3Writer implements S3Writer {
                          final Schema schema,
                          final JsonAvroConverter converter)
       throws URISyntaxException, IOException {
+    this(config, s3Client, configuredStream, uploadTimestamp, schema, converter, 0);
+  }
+
+  public S3ParquetWriter(final S3DestinationConfig config,
+                         final AmazonS3 s3Client,
+                         final ConfiguredAirbyteStream configuredStream,
+                         final Timestamp uploadTimestamp,
+                         final Schema schema,
+                         final JsonAvroConverter converter,
+                         final int partId)
+      throws URISyntaxException, IOException {
     super(config, s3Client, configuredStream);
 
-    this.outputFilename = BaseS3Writer.getOutputFilename(uploadTimestamp, S3Format.PARQUET);
+    this.outputFilename = BaseS3Writer.getOutputFilename(uploadTimestamp, partId, S3Format.PARQUET);
     final String objectKey = String.join("/", outputPrefix, outputFilename);
 
     LOGGER.info("Full S3 path for stream '{}': s3://{}/{}", stream.getName(), config.getBucketName(),
@@ -60,7 +72,8 @@ public class S3ParquetWriter extends BaseS3Writer implements S3Writer {
 
     final S3ParquetFormatConfig formatConfig = (S3ParquetFormatConfig) config.getFormatConfig();
     final Configuration hadoopConfig = getHadoopConfig(config);
-    this.parquetWriter = AvroParquetWriter.<GenericData.Record>builder(HadoopOutputFile.fromPath(path, hadoopConfig))
+    this.outputFile = new PositionTrackingOutputFile(HadoopOutputFile.fromPath(path, hadoopConfig));
+    this.parquetWriter = AvroParquetWriter.<GenericData.Record>builder(outputFile)
         .withSchema(schema)
         .withCompressionCodec(formatConfig.getCompressionCodec())
         .withRowGroupSize(formatConfig.getBlockSize())
@@ -108,6 +121,26 @@ public class S3ParquetWriter extends BaseS3Writer implements S3Writer {
     parquetWriter.write(avroRecordFactory.getAvroRecord(id, recordMessage));
   }
 
+  /**
+   * Includes the row group that is buffered in memory.
+   */
+  @Override
+  public long getOutputBytes() {
+    return parquetWriter.getDataSize();
+  }
+
+  /**
+   * The row group that has not been written to the output file yet.
+   */
+  @Override
+  public long getBufferedBytes() {
+    try {
+      return Math.max(0, parquetWriter.getDataSize() - outputFile.getPos());
+    } catch (final IOException e) {
+      return 0;
+    }
+  }
+
   @Override
   protected void closeWhenSucceed() throws IOException {
     parquetWriter.close();
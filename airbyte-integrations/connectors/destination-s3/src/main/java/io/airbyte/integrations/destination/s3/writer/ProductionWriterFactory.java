@@ -7,6 +7,7 @@ package io.airbyte.integrations.destination.s3.writer;
 import com.amazonaws.services.s3.AmazonS3;
 import io.airbyte.integrations.destination.s3.S3DestinationConfig;
 import io.airbyte.integrations.destination.s3.S3Format;
+import io.airbyte.integrations.destination.s3.S3FormatConfig;
 import io.airbyte.integrations.destination.s3.avro.AvroConstants;
 import io.airbyte.integrations.destination.s3.avro.JsonToAvroSchemaConverter;
 import io.airbyte.integrations.destination.s3.avro.S3AvroWriter;
@@ -30,30 +31,51 @@ public class ProductionWriterFactory implements S3WriterFactory {
                          final ConfiguredAirbyteStream configuredStream,
                          final Timestamp uploadTimestamp)
       throws Exception {
-    final S3Format format = config.getFormatConfig().getFormat();
+    final S3FormatConfig formatConfig = config.getFormatConfig();
+    final S3Format format = formatConfig.getFormat();
 
+    Schema avroSchema = null;
     if (format == S3Format.AVRO || format == S3Format.PARQUET) {
       final AirbyteStream stream = configuredStream.getStream();
       LOGGER.info("Json schema for stream {}: {}", stream.getName(), stream.getJsonSchema());
 
       final JsonToAvroSchemaConverter schemaConverter = new JsonToAvroSchemaConverter();
-      final Schema avroSchema = schemaConverter.getAvroSchema(stream.getJsonSchema(), stream.getName(), stream.getNamespace(), true);
+      avroSchema = schemaConverter.getAvroSchema(stream.getJsonSchema(), stream.getName(), stream.getNamespace(), true);
 
       LOGGER.info("Avro schema for stream {}: {}", stream.getName(), avroSchema.toString(false));
+    }
+
+    final Schema schema = avroSchema;
+    if (formatConfig.isRollingEnabled()) {
+      return new RollingS3Writer(configuredStream.getStream().getName(), formatConfig.getMaxFileSize(), formatConfig.getMaxRecordsPerFile(),
+          partId -> createFileWriter(config, s3Client, configuredStream, uploadTimestamp, schema, partId));
+    }
+    return createFileWriter(config, s3Client, configuredStream, uploadTimestamp, schema, 0);
+  }
+
+  private static S3Writer createFileWriter(final S3DestinationConfig config,
+                                           final AmazonS3 s3Client,
+                                           final ConfiguredAirbyteStream configuredStream,
+                                           final Timestamp uploadTimestamp,
+                                           final Schema avroSchema,
+                                           final int partId)
+      throws Exception {
+    final S3Format format = config.getFormatConfig().getFormat();
+
+    if (format == S3Format.AVRO) {
+      return new S3AvroWriter(config, s3Client, configuredStream, uploadTimestamp, avroSchema, AvroConstants.JSON_CONVERTER, partId);
+    }
 
-      if (format == S3Format.AVRO) {
-        return new S3AvroWriter(config, s3Client, configuredStream, uploadTimestamp, avroSchema, AvroConstants.JSON_CONVERTER);
-      } else {
-        return new S3ParquetWriter(config, s3Client, configuredStream, uploadTimestamp, avroSchema, AvroConstants.JSON_CONVERTER);
-      }
+    if (format == S3Format.PARQUET) {
+      return new S3ParquetWriter(config, s3Client, configuredStream, uploadTimestamp, avroSchema, AvroConstants.JSON_CONVERTER, partId);
     }
 
     if (format == S3Format.CSV) {
-      return new S3CsvWriter(config, s3Client, configuredStream, uploadTimestamp);
+      return new S3CsvWriter(config, s3Client, configuredStream, uploadTimestamp, partId);
     }
 
     if (format == S3Format.JSONL) {
-      return new S3JsonlWriter(config, s3Client, configuredStream, uploadTimestamp);
+      return new S3JsonlWriter(config, s3Client, configuredStream, uploadTimestamp, partId);
     }
 
     throw new RuntimeException("Unexpected S3 destination format: " + format);
@@ -0,0 +1,188 @@
+/*
+ * Copyright (c) 2021 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.destination.s3.writer;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import io.airbyte.protocol.models.AirbyteRecordMessage;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Writes a stream into a sequence of output files, continuing in a new file, with the next part id,
+ * once the current one reaches a maximum size or number of records.
+ * <p>
+ * </p>
+ * A full file is completed in the background while records go to the next one, so the upload of its
+ * last buffered part overlaps with writing. At most {@link #MAX_FILES_CLOSING} files per stream are
+ * completed at the same time, which bounds the memory held by their buffers. Files that were
+ * completed before a failure stay in place.
+ */
+public class RollingS3Writer implements S3Writer {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(RollingS3Writer.class);
+
+  private static final int MAX_FILES_CLOSING = 2;
+
+  /**
+   * Creates the writer of one output file of the stream.
+   */
+  @FunctionalInterface
+  public interface FileWriterFactory {
+
+    S3Writer create(int partId) throws Exception;
+
+  }
+
+  private final String streamName;
+  private final long maxFileSize;
+  private final long maxRecordsPerFile;
+  private final FileWriterFactory fileWriterFactory;
+  private final Deque<Future<?>> closingFiles = new ArrayDeque<>();
+  // one thread per file that may be closing, shut down when this writer is closed
+  private final ExecutorService closeService;
+
+  private S3Writer currentFile;
+  private int currentPartId;
+  private long currentFileRecords;
+
+  /**
+   * @param maxFileSize size in bytes after which a new file is started, or 0 for no limit
+   * @param maxRecordsPerFile number of records after which a new file is started, or 0 for no limit
+   */
+  public RollingS3Writer(final String streamName,
+                         final long maxFileSize,
+                         final long maxRecordsPerFile,
+                         final FileWriterFactory fileWriterFactory)
+      throws Exception {
+    this.streamName = streamName;
+    this.maxFileSize = maxFileSize;
+    this.maxRecordsPerFile = maxRecordsPerFile;
+    this.fileWriterFactory = fileWriterFactory;
+    this.closeService = Executors.newFixedThreadPool(MAX_FILES_CLOSING,
+        new ThreadFactoryBuilder().setNameFormat("s3-file-closer-" + streamName.replace("%", "%%") + "-%d").setDaemon(true).build());
+    this.currentPartId = 0;
+    this.currentFile = fileWriterFactory.create(currentPartId);
+  }
+
+  /**
+   * Prepares the output location through the writer of the first file.
+   */
+  @Override
+  public void initialize() throws IOException {
+    currentFile.initialize();
+  }
+
+  @Override
+  public void write(final UUID id, final AirbyteRecordMessage recordMessage) throws IOException {
+    if (isCurrentFileFull()) {
+      startNextFile();
+    }
+    currentFile.write(id, recordMessage);
+    currentFileRecords++;
+  }
+
+  @Override
+  public long getOutputBytes() {
+    return currentFile.getOutputBytes();
+  }
+
+  @Override
+  public long getBufferedBytes() {
+    return currentFile.getBufferedBytes();
+  }
+
+  /**
+   * Completes the current file early, so that its buffers are released once it is uploaded.
+   */
+  @Override
+  public boolean flushBuffers() throws IOException {
+    if (currentFileRecords > 0) {
+      startNextFile();
+    }
+    return true;
+  }
+
+  @Override
+  public void close(final boolean hasFailed) throws IOException {
+    IOException failure = null;
+    try {
+      currentFile.close(hasFailed);
+    } catch (final IOException e) {
+      failure = e;
+    }
+    try {
+      awaitClosingFiles(0);
+    } catch (final IOException e) {
+      if (failure == null) {
+        failure = e;
+      } else {
+        failure.addSuppressed(e);
+      }
+    } finally {
+      // files that are still closing after a failure are allowed to finish
+      closeService.shutdown();
+    }
+    if (failure != null) {
+      throw failure;
+    }
+  }
+
+  private boolean isCurrentFileFull() {
+    if (currentFileRecords == 0) {
+      return false;
+    }
+    return (maxRecordsPerFile > 0 && currentFileRecords >= maxRecordsPerFile)
+        || (maxFileSize > 0 && currentFile.getOutputBytes() >= maxFileSize);
+  }
+
+  private void startNextFile() throws IOException {
+    awaitClosingFiles(MAX_FILES_CLOSING - 1);
+
+    final S3Writer nextFile;
+    try {
+      nextFile = fileWriterFactory.create(currentPartId + 1);
+    } catch (final IOException e) {
+      throw e;
+    } catch (final Exception e) {
+      throw new IOException(String.format("Failed to create file %d of stream '%s'", currentPartId + 1, streamName), e);
+    }
+
+    final S3Writer fullFile = currentFile;
+    LOGGER.info("File {} of stream '{}' is full after {} records, continuing in a new file.", currentPartId, streamName, currentFileRecords);
+    closingFiles.add(closeService.submit(() -> {
+      fullFile.close(false);
+      return null;
+    }));
+    currentFile = nextFile;
+    currentPartId++;
+    currentFileRecords = 0;
+  }
+
+  private void awaitClosingFiles(final int maxClosingFiles) throws IOException {
+    while (closingFiles.size() > maxClosingFiles) {
+      try {
+        closingFiles.poll().get();
+      } catch (final InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new InterruptedIOException("Interrupted while completing files of stream " + streamName);
+      } catch (final ExecutionException e) {
+        if (e.getCause() instanceof IOException) {
+          throw (IOException) e.getCause();
+        }
+        throw new IOException(String.format("Failed to complete a file of stream '%s'", streamName), e.getCause());
+      }
+    }
+  }
+
+}
@@ -24,6 +24,32 @@ public interface S3Writer {
    */
   void write(UUID id, AirbyteRecordMessage recordMessage) throws IOException;
 
+  /**
+   * @return approximate number of bytes written to the output object so far, or 0 if the writer
+   *         does not track it
+   */
+  default long getOutputBytes() {
+    return 0;
+  }
+
+  /**
+   * @return approximate number of bytes the writer holds in memory and has not handed to the upload
+   *         yet, or 0 if the writer does not track it
+   */
+  default long getBufferedBytes() {
+    return 0;
+  }
+
+  /**
+   * Releases the memory buffered by the writer ahead of its regular flush, e.g. by completing the
+   * current output file.
+   *
+   * @return false if the writer cannot release its buffers early
+   */
+  default boolean flushBuffers() throws IOException {
+    return false;
+  }
+
   /**
    * Close the S3 writer for the stream.
    */
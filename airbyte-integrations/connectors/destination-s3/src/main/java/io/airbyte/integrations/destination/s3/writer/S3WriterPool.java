@@ -0,0 +1,308 @@
+/*
+ * Copyright (c) 2021 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.destination.s3.writer;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import io.airbyte.integrations.base.AirbyteStreamNameNamespacePair;
+import io.airbyte.protocol.models.AirbyteRecordMessage;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Writes the records of all streams of a sync into their {@link S3Writer}s from a pool of threads.
+ *
+ * <p>
+ * Each stream has a bounded queue, drained by at most one pool thread at a time, so the records of
+ * a stream are written in order and its writer is only used by one thread at a time. The consumer
+ * blocks while the queue of a stream is full. The first failure of a writer is rethrown on the
+ * consumer thread.
+ * </p>
+ * <p>
+ * The memory held by the writers, e.g. the row groups of Parquet files, is tracked against a global
+ * budget. Once it is exceeded, the writer with the largest buffers is asked to flush them early,
+ * which is possible when the output is split into part files. Other writers cannot flush early, so
+ * without part files the budget is only logged as exceeded. Queued records are bounded by the
+ * queue capacity in records, and their size is not counted against the budget.
+ * </p>
+ */
+public class S3WriterPool {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(S3WriterPool.class);
+
+  private static final int QUEUE_CAPACITY = 1_000;
+  private static final int MAX_RECORDS_PER_DRAIN = 1_000;
+  private static final long OFFER_TIMEOUT_MS = 100;
+
+  private final ExecutorService executorService;
+  private final int queueCapacity;
+  private final long memoryBudget;
+  private final Map<AirbyteStreamNameNamespacePair, StreamWriter> streamWriters = new HashMap<>();
+  private final AtomicReference<Exception> writeFailure = new AtomicReference<>();
+  private final AtomicLong totalBufferedBytes = new AtomicLong();
+  private final AtomicBoolean loggedBudgetExceeded = new AtomicBoolean();
+
+  private volatile boolean aborted = false;
+
+  // guarded by this
+  private long pendingRecords = 0;
+  private int scheduledStreams = 0;
+
+  /**
+   * @param numStreams number of streams in the sync, to size the pool of threads
+   */
+  public S3WriterPool(final int numStreams) {
+    this(Math.max(1, Math.min(numStreams, Runtime.getRuntime().availableProcessors())), QUEUE_CAPACITY,
+        Runtime.getRuntime().maxMemory() / 2);
+  }
+
+  @VisibleForTesting
+  S3WriterPool(final int numThreads, final int queueCapacity, final long memoryBudget) {
+    this.executorService = Executors.newFixedThreadPool(numThreads,
+        new ThreadFactoryBuilder().setNameFormat("s3-writer-%d").setDaemon(true).build());
+    this.queueCapacity = queueCapacity;
+    this.memoryBudget = memoryBudget;
+  }
+
+  public void add(final AirbyteStreamNameNamespacePair streamNamePair, final S3Writer writer) {
+    streamWriters.put(streamNamePair, new StreamWriter(streamNamePair, writer));
+  }
+
+  public boolean contains(final AirbyteStreamNameNamespacePair streamNamePair) {
+    return streamWriters.containsKey(streamNamePair);
+  }
+
+  /**
+   * Queues a record for the writer of its stream, blocking while the queue of the stream is full.
+   */
+  public void write(final AirbyteStreamNameNamespacePair streamNamePair, final UUID id, final AirbyteRecordMessage recordMessage)
+      throws Exception {
+    rethrowWriteFailure();
+    streamWriters.get(streamNamePair).enqueue(new QueuedRecord(id, recordMessage));
+  }
+
+  /**
+   * Waits until all queued records are written, unless the sync has failed, and closes all writers
+   * in parallel. Rethrows the first failure of a writer.
+   */
+  public void close(final boolean hasFailed) throws Exception {
+    aborted = hasFailed;
+    try {
+      awaitWritersIdle(!hasFailed);
+      final boolean failed = hasFailed || writeFailure.get() != null;
+
+      final List<Future<?>> closes = new ArrayList<>(streamWriters.size());
+      for (final StreamWriter streamWriter : streamWriters.values()) {
+        closes.add(executorService.submit(() -> {
+          streamWriter.writer.close(failed);
+          return null;
+        }));
+      }
+      for (final Future<?> close : closes) {
+        try {
+          close.get();
+        } catch (final ExecutionException e) {
+          fail(e.getCause());
+        }
+      }
+    } finally {
+      executorService.shutdownNow();
+    }
+    rethrowWriteFailure();
+  }
+
+  private void rethrowWriteFailure() throws Exception {
+    final Exception failure = writeFailure.get();
+    if (failure != null) {
+      throw failure;
+    }
+  }
+
+  private boolean isWriting() {
+    return !aborted && writeFailure.get() == null;
+  }
+
+  private void fail(final Throwable t) {
+    final Exception e = t instanceof Exception ? (Exception) t : new RuntimeException(t);
+    if (!writeFailure.compareAndSet(null, e) && writeFailure.get() != e) {
+      writeFailure.get().addSuppressed(e);
+    }
+    synchronized (this) {
+      notifyAll();
+    }
+  }
+
+  private synchronized void awaitWritersIdle(final boolean awaitQueuedRecords) throws InterruptedException {
+    while (scheduledStreams > 0 || (awaitQueuedRecords && pendingRecords > 0 && isWriting())) {
+      wait();
+    }
+  }
+
+  private synchronized void onRecordQueued() {
+    pendingRecords++;
+  }
+
+  private synchronized void onRecordsWritten(final int count) {
+    pendingRecords -= count;
+    if (pendingRecords == 0) {
+      notifyAll();
+    }
+  }
+
+  private synchronized void onStreamScheduled() {
+    scheduledStreams++;
+  }
+
+  private synchronized void onStreamDone() {
+    scheduledStreams--;
+    if (scheduledStreams == 0) {
+      notifyAll();
+    }
+  }
+
+  /**
+   * Asks the writer with the largest buffers to flush them when the total exceeds the budget.
+   */
+  private void enforceMemoryBudget() {
+    final long bufferedBytes = totalBufferedBytes.get();
+    if (bufferedBytes <= memoryBudget) {
+      return;
+    }
+    StreamWriter largest = null;
+    for (final StreamWriter streamWriter : streamWriters.values()) {
+      if (streamWriter.flushable && !streamWriter.flushRequested
+          && (largest == null || streamWriter.bufferedBytes > largest.bufferedBytes)) {
+        largest = streamWriter;
+      }
+    }
+    if (largest == null || largest.bufferedBytes == 0) {
+      if (loggedBudgetExceeded.compareAndSet(false, true)) {
+        LOGGER.warn("Writers buffer {} bytes, over the budget of {} bytes, but none of them can flush early.", bufferedBytes, memoryBudget);
+      }
+      return;
+    }
+    LOGGER.info("Writers buffer {} bytes, over the budget of {} bytes, flushing stream {} with {} bytes.",
+        bufferedBytes, memoryBudget, largest.streamNamePair, largest.bufferedBytes);
+    largest.flushRequested = true;
+    largest.schedule();
+  }
+
+  private static class QueuedRecord {
+
+    private final UUID id;
+    private final AirbyteRecordMessage recordMessage;
+
+    private QueuedRecord(final UUID id, final AirbyteRecordMessage recordMessage) {
+      this.id = id;
+      this.recordMessage = recordMessage;
+    }
+
+  }
+
+  private class StreamWriter implements Runnable {
+
+    private final AirbyteStreamNameNamespacePair streamNamePair;
+    private final S3Writer writer;
+    private final BlockingQueue<QueuedRecord> queue;
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+
+    private volatile long bufferedBytes = 0;
+    private volatile boolean flushRequested = false;
+    private volatile boolean flushable = true;
+
+    private StreamWriter(final AirbyteStreamNameNamespacePair streamNamePair, final S3Writer writer) {
+      this.streamNamePair = streamNamePair;
+      this.writer = writer;
+      this.queue = new ArrayBlockingQueue<>(queueCapacity);
+    }
+
+    private void enqueue(final QueuedRecord record) throws Exception {
+      onRecordQueued();
+      while (!queue.offer(record, OFFER_TIMEOUT_MS, TimeUnit.MILLISECONDS)) {
+        try {
+          rethrowWriteFailure();
+        } catch (final Exception e) {
+          onRecordsWritten(1);
+          throw e;
+        }
+      }
+      schedule();
+    }
+
+    private void schedule() {
+      if (!scheduled.compareAndSet(false, true)) {
+        return;
+      }
+      onStreamScheduled();
+      try {
+        executorService.execute(this);
+      } catch (final RejectedExecutionException e) {
+        scheduled.set(false);
+        onStreamDone();
+        fail(e);
+      }
+    }
+
+    @Override
+    public void run() {
+      try {
+        drain();
+      } catch (final Throwable t) {
+        LOGGER.error("Failed to write records of stream {}.", streamNamePair, t);
+        fail(t);
+      } finally {
+        scheduled.set(false);
+        // a record queued, or a flush requested, after the last check is picked up here.
+        if ((!queue.isEmpty() || flushRequested) && isWriting()) {
+          schedule();
+        }
+        onStreamDone();
+      }
+    }
+
+    private void drain() throws Exception {
+      int written = 0;
+      try {
+        QueuedRecord record;
+        while (written < MAX_RECORDS_PER_DRAIN && isWriting() && (record = queue.poll()) != null) {
+          writer.write(record.id, record.recordMessage);
+          written++;
+        }
+      } finally {
+        onRecordsWritten(written);
+      }
+
+      if (!isWriting()) {
+        return;
+      }
+      if (flushRequested) {
+        flushable = writer.flushBuffers();
+        flushRequested = false;
+      }
+      final long newBufferedBytes = writer.getBufferedBytes();
+      totalBufferedBytes.addAndGet(newBufferedBytes - bufferedBytes);
+      bufferedBytes = newBufferedBytes;
+      enforceMemoryBudget();
+    }
+
+  }
+
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) 2021 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.destination.s3.avro;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.airbyte.commons.jackson.MoreMappers;
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.commons.resources.MoreResources;
+import io.airbyte.commons.util.MoreIterators;
+import io.airbyte.integrations.base.JavaBaseConstants;
+import io.airbyte.integrations.destination.s3.avro.JsonToAvroRecordConverter.UnsupportedValueException;
+import io.airbyte.protocol.models.AirbyteRecordMessage;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Stream;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericData;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.ArgumentsProvider;
+import org.junit.jupiter.params.provider.ArgumentsSource;
+
+class JsonToAvroRecordConverterTest {
+
+  private static final ObjectWriter WRITER = MoreMappers.initMapper().writer();
+
+  // test cases with numbers, or non-ISO strings, in logical type fields, which are left to the generic
+  // converter.
+  private static final Set<String> CASES_WITH_AMBIGUOUS_VALUES = Set.of(
+      "record_with_airbyte_fields",
+      "field_with_combined_restriction",
+      "record_with_combined_restriction_field");
+
+  public static class ConversionTestCaseProvider implements ArgumentsProvider {
+
+    @Override
+    public Stream<? extends Arguments> provideArguments(final ExtensionContext context) throws Exception {
+      final JsonNode testCases = Jsons.deserialize(MoreResources.readResource("parquet/json_schema_converter/json_conversion_test_cases.json"));
+      return MoreIterators.toList(testCases.elements()).stream().map(testCase -> Arguments.of(
+          testCase.get("schemaName").asText(),
+          testCase.get("jsonObject"),
+          testCase.get("avroSchema"),
+          testCase.get("avroObject")));
+    }
+
+  }
+
+  @ParameterizedTest
+  @ArgumentsSource(ConversionTestCaseProvider.class)
+  public void testDirectConversion(final String schemaName,
+                                   final JsonNode jsonObject,
+                                   final JsonNode avroSchema,
+                                   final JsonNode avroObject) {
+    final JsonToAvroRecordConverter converter = new JsonToAvroRecordConverter(new Schema.Parser().parse(Jsons.serialize(avroSchema)));
+
+    if (CASES_WITH_AMBIGUOUS_VALUES.contains(schemaName)) {
+      assertThrows(UnsupportedValueException.class, () -> converter.convert(jsonObject));
+    } else {
+      assertEquals(
+          avroObject,
+          Jsons.deserialize(converter.convert(jsonObject).toString()),
+          String.format("Object conversion for %s failed", schemaName));
+    }
+  }
+
+  @Test
+  public void testWideNestedRecordMatchesGenericConverter() throws Exception {
+    final ObjectNode jsonSchema = objectSchema(30);
+    ((ObjectNode) jsonSchema.get("properties")).set("nested", objectSchema(10));
+    final Schema schema = new JsonToAvroSchemaConverter().getAvroSchema(jsonSchema, "wide_stream", "namespace", true);
+
+    final ObjectNode data = objectData(30);
+    data.set("nested", objectData(10));
+    data.put("not_in_schema", 42);
+    data.set("_ab_additional_properties", Jsons.jsonNode(Map.of("source_extra", "value")));
+
+    assertMatchesGenericConverter(schema, data);
+  }
+
+  @Test
+  public void testAmbiguousValuesFallBackToGenericConverter() throws Exception {
+    final JsonNode jsonSchema = Jsons.deserialize("{\"type\": \"object\", \"properties\": {"
+        + "\"created_at\": {\"type\": \"string\", \"format\": \"date-time\"},"
+        + "\"count\": {\"type\": \"integer\"}}}");
+    final Schema schema = new JsonToAvroSchemaConverter().getAvroSchema(jsonSchema, "stream", "namespace", true);
+
+    assertMatchesGenericConverter(schema, Jsons.deserialize("{\"created_at\": \"1634982000\", \"count\": 1}"));
+    assertMatchesGenericConverter(schema, Jsons.deserialize("{\"created_at\": \"2021-01-01 01:01:01\", \"count\": 2}"));
+    assertMatchesGenericConverter(schema, Jsons.deserialize("{\"created_at\": null, \"extra\": {\"nested\": true}}"));
+  }
+
+  @Test
+  public void testStandardizedAndUnknownFieldNamesMatchGenericConverter() throws Exception {
+    final JsonNode jsonSchema = Jsons.deserialize("{\"type\": \"object\", \"properties\": {"
+        + "\"first-name\": {\"type\": \"string\"},"
+        + "\"1st_login\": {\"type\": \"string\"}}}");
+    final Schema schema = new JsonToAvroSchemaConverter().getAvroSchema(jsonSchema, "stream", "namespace", true);
+
+    // every record has a field name that is not in the schema, and that is never seen again
+    for (int i = 0; i < 3; i++) {
+      final ObjectNode data = (ObjectNode) Jsons.emptyObject();
+      data.put("first-name", "name " + i);
+      data.put("1st_login", "login " + i);
+      data.put("unknown-" + i, "value " + i);
+      assertMatchesGenericConverter(schema, data);
+    }
+  }
+
+  private static void assertMatchesGenericConverter(final Schema schema, final JsonNode data) throws Exception {
+    final UUID id = UUID.randomUUID();
+    final AirbyteRecordMessage recordMessage = new AirbyteRecordMessage().withData(data).withEmittedAt(1634982000000L);
+
+    final GenericData.Record actual = new AvroRecordFactory(schema, AvroConstants.JSON_CONVERTER).getAvroRecord(id, recordMessage);
+
+    final ObjectNode jsonRecord = MoreMappers.initMapper().createObjectNode();
+    jsonRecord.put(JavaBaseConstants.COLUMN_NAME_AB_ID, id.toString());
+    jsonRecord.put(JavaBaseConstants.COLUMN_NAME_EMITTED_AT, recordMessage.getEmittedAt());
+    jsonRecord.setAll((ObjectNode) data);
+    final GenericData.Record expected = AvroConstants.JSON_CONVERTER.convertToGenericDataRecord(WRITER.writeValueAsBytes(jsonRecord), schema);
+
+    assertEquals(Jsons.deserialize(expected.toString()), Jsons.deserialize(actual.toString()));
+  }
+
+  private static ObjectNode objectSchema(final int width) {
+    final ObjectNode properties = (ObjectNode) Jsons.emptyObject();
+    for (int i = 0; i < width; i++) {
+      properties.set("string_" + i, Jsons.deserialize("{\"type\": [\"null\", \"string\"]}"));
+      properties.set("integer_" + i, Jsons.deserialize("{\"type\": \"integer\"}"));
+      properties.set("number_" + i, Jsons.deserialize("{\"type\": \"number\"}"));
+      properties.set("boolean_" + i, Jsons.deserialize("{\"type\": \"boolean\"}"));
+      properties.set("date_time_" + i, Jsons.deserialize("{\"type\": \"string\", \"format\": \"date-time\"}"));
+      properties.set("array_" + i, Jsons.deserialize("{\"type\": \"array\", \"items\": [{\"type\": \"string\"}, {\"type\": \"integer\"}]}"));
+    }
+    final ObjectNode schema = (ObjectNode) Jsons.deserialize("{\"type\": \"object\"}");
+    schema.set("properties", properties);
+    return schema;
+  }
+
+  private static ObjectNode objectData(final int width) {
+    final ObjectNode data = (ObjectNode) Jsons.emptyObject();
+    for (int i = 0; i < width; i++) {
+      data.put("string_" + i, i % 5 == 0 ? null : "value " + i);
+      data.put("integer_" + i, i * 1000);
+      data.put("number_" + i, i * 1.5);
+      data.put("boolean_" + i, i % 2 == 0);
+      data.put("date_time_" + i, String.format("2021-01-%02dT01:01:01.%03d+01:00", i % 28 + 1, i));
+      final ArrayNode array = data.putArray("array_" + i);
+      array.add("item " + i).add(i).addNull();
+    }
+    return data;
+  }
+
+}
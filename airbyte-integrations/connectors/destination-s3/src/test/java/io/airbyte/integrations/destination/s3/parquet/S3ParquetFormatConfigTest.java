@@ -6,6 +6,7 @@ package io.airbyte.integrations.destination.s3.parquet;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import io.airbyte.commons.json.Jsons;
@@ -35,6 +36,22 @@ class S3ParquetFormatConfigTest {
 
     assertEquals(CompressionCodecName.GZIP, config.getCompressionCodec());
     assertFalse(config.isDictionaryEncoding());
+    assertFalse(config.isRollingEnabled());
+  }
+
+  @Test
+  public void testMaxFileSizeAndRecordsPerFile() {
+    final JsonNode formatConfig = Jsons.deserialize("{\n"
+        + "\t\"block_size_mb\": 128,\n"
+        + "\t\"max_file_size_mb\": 200,\n"
+        + "\t\"max_records_per_file\": 1000\n"
+        + "}");
+
+    final S3ParquetFormatConfig config = new S3ParquetFormatConfig(formatConfig);
+
+    assertEquals(200L * 1024 * 1024, config.getMaxFileSize());
+    assertEquals(1000, config.getMaxRecordsPerFile());
+    assertTrue(config.isRollingEnabled());
   }
 
 }
@@ -20,4 +20,12 @@ class BaseS3WriterTest {
         BaseS3Writer.getOutputFilename(timestamp, S3Format.CSV));
   }
 
+  @Test
+  public void testGetOutputFilenameWithPartId() {
+    final Timestamp timestamp = new Timestamp(1471461319000L);
+    assertEquals(
+        "2016_08_17_1471461319000_12.parquet",
+        BaseS3Writer.getOutputFilename(timestamp, 12, S3Format.PARQUET));
+  }
+
 }
@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2021 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.destination.s3.writer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.airbyte.protocol.models.AirbyteRecordMessage;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class RollingS3WriterTest {
+
+  private static final AirbyteRecordMessage RECORD = new AirbyteRecordMessage();
+
+  private final List<S3Writer> files = new ArrayList<>();
+
+  private S3Writer createFile(final int partId) {
+    assertEquals(files.size(), partId);
+    final S3Writer file = mock(S3Writer.class);
+    files.add(file);
+    return file;
+  }
+
+  @Test
+  public void testRollsOverAfterMaxRecords() throws Exception {
+    final RollingS3Writer writer = new RollingS3Writer("stream", 0, 2, this::createFile);
+    writer.initialize();
+    for (int i = 0; i < 5; i++) {
+      writer.write(UUID.randomUUID(), RECORD);
+    }
+    writer.close(false);
+
+    assertEquals(3, files.size());
+    verify(files.get(0)).initialize();
+    verify(files.get(0), times(2)).write(any(), any());
+    verify(files.get(1), times(2)).write(any(), any());
+    verify(files.get(2), times(1)).write(any(), any());
+    for (final S3Writer file : files) {
+      verify(file).close(false);
+    }
+  }
+
+  @Test
+  public void testRollsOverAfterMaxFileSize() throws Exception {
+    final RollingS3Writer writer = new RollingS3Writer("stream", 100, 0, partId -> {
+      final S3Writer file = createFile(partId);
+      when(file.getOutputBytes()).thenReturn(partId == 0 ? 100L : 10L);
+      return file;
+    });
+    writer.write(UUID.randomUUID(), RECORD);
+    writer.write(UUID.randomUUID(), RECORD);
+    writer.write(UUID.randomUUID(), RECORD);
+    writer.close(false);
+
+    assertEquals(2, files.size());
+    verify(files.get(0), times(1)).write(any(), any());
+    verify(files.get(1), times(2)).write(any(), any());
+  }
+
+  @Test
+  public void testFailureToCompleteFullFileIsRethrown() throws Exception {
+    final IOException failure = new IOException("upload failed");
+    final RollingS3Writer writer = new RollingS3Writer("stream", 0, 1, partId -> {
+      final S3Writer file = createFile(partId);
+      if (partId == 0) {
+        doThrow(failure).when(file).close(false);
+      }
+      return file;
+    });
+    writer.write(UUID.randomUUID(), RECORD);
+    writer.write(UUID.randomUUID(), RECORD);
+
+    assertSame(failure, assertThrows(IOException.class, () -> writer.close(false)));
+    verify(files.get(1)).close(false);
+    verify(files.get(1), never()).close(true);
+  }
+
+}
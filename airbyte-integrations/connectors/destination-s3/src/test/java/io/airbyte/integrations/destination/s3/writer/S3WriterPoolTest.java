@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 2021 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.destination.s3.writer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.airbyte.integrations.base.AirbyteStreamNameNamespacePair;
+import io.airbyte.protocol.models.AirbyteRecordMessage;
+import java.io.IOException;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.junit.jupiter.api.Test;
+
+class S3WriterPoolTest {
+
+  private static final AirbyteStreamNameNamespacePair STREAM_1 = new AirbyteStreamNameNamespacePair("stream_1", "namespace");
+  private static final AirbyteStreamNameNamespacePair STREAM_2 = new AirbyteStreamNameNamespacePair("stream_2", "namespace");
+
+  /**
+   * Records the records it receives, and buffers one byte per record until its buffers are flushed.
+   */
+  private static class RecordingWriter implements S3Writer {
+
+    private final List<Long> records = new CopyOnWriteArrayList<>();
+    private final boolean flushable;
+    private volatile long bufferedBytes = 0;
+    private volatile int flushes = 0;
+    private volatile Boolean closedWithFailure = null;
+
+    private RecordingWriter(final boolean flushable) {
+      this.flushable = flushable;
+    }
+
+    @Override
+    public void initialize() {}
+
+    @Override
+    public void write(final UUID id, final AirbyteRecordMessage recordMessage) throws IOException {
+      if (recordMessage.getEmittedAt() < 0) {
+        throw new IOException("invalid record");
+      }
+      records.add(recordMessage.getEmittedAt());
+      bufferedBytes++;
+    }
+
+    @Override
+    public long getBufferedBytes() {
+      return bufferedBytes;
+    }
+
+    @Override
+    public boolean flushBuffers() {
+      if (flushable) {
+        flushes++;
+        bufferedBytes = 0;
+      }
+      return flushable;
+    }
+
+    @Override
+    public void close(final boolean hasFailed) {
+      closedWithFailure = hasFailed;
+    }
+
+  }
+
+  @Test
+  public void testRecordsOfEachStreamAreWrittenInOrder() throws Exception {
+    final RecordingWriter writer1 = new RecordingWriter(false);
+    final RecordingWriter writer2 = new RecordingWriter(false);
+    final S3WriterPool pool = new S3WriterPool(2, 10, Long.MAX_VALUE);
+    pool.add(STREAM_1, writer1);
+    pool.add(STREAM_2, writer2);
+
+    for (long i = 0; i < 1_000; i++) {
+      pool.write(i % 3 == 0 ? STREAM_1 : STREAM_2, UUID.randomUUID(), new AirbyteRecordMessage().withEmittedAt(i));
+    }
+    pool.close(false);
+
+    assertEquals(334, writer1.records.size());
+    assertEquals(666, writer2.records.size());
+    assertAscending(writer1.records);
+    assertAscending(writer2.records);
+    assertEquals(false, writer1.closedWithFailure);
+    assertEquals(false, writer2.closedWithFailure);
+  }
+
+  @Test
+  public void testWriteFailureIsRethrownAndWritersAreClosedAsFailed() throws Exception {
+    final RecordingWriter writer1 = new RecordingWriter(false);
+    final RecordingWriter writer2 = new RecordingWriter(false);
+    final S3WriterPool pool = new S3WriterPool(2, 10, Long.MAX_VALUE);
+    pool.add(STREAM_1, writer1);
+    pool.add(STREAM_2, writer2);
+
+    pool.write(STREAM_2, UUID.randomUUID(), new AirbyteRecordMessage().withEmittedAt(1L));
+    pool.write(STREAM_1, UUID.randomUUID(), new AirbyteRecordMessage().withEmittedAt(-1L));
+
+    final Exception failure = assertThrows(IOException.class, () -> pool.close(false));
+    assertEquals("invalid record", failure.getMessage());
+    assertEquals(true, writer1.closedWithFailure);
+    assertEquals(true, writer2.closedWithFailure);
+  }
+
+  @Test
+  public void testLargestFlushableWriterIsFlushedOverMemoryBudget() throws Exception {
+    final RecordingWriter flushableWriter = new RecordingWriter(true);
+    final RecordingWriter unflushableWriter = new RecordingWriter(false);
+    final S3WriterPool pool = new S3WriterPool(1, 10, 50);
+    pool.add(STREAM_1, flushableWriter);
+    pool.add(STREAM_2, unflushableWriter);
+
+    for (long i = 0; i < 200; i++) {
+      pool.write(STREAM_1, UUID.randomUUID(), new AirbyteRecordMessage().withEmittedAt(i));
+    }
+    pool.close(false);
+
+    assertEquals(200, flushableWriter.records.size());
+    assertTrue(flushableWriter.flushes > 0);
+  }
+
+  @Test
+  public void testWriteAfterFailureIsRejected() throws Exception {
+    final RecordingWriter writer = new RecordingWriter(false);
+    final S3WriterPool pool = new S3WriterPool(1, 1, Long.MAX_VALUE);
+    pool.add(STREAM_1, writer);
+
+    pool.write(STREAM_1, UUID.randomUUID(), new AirbyteRecordMessage().withEmittedAt(-1L));
+    final IOException failure = assertThrows(IOException.class, () -> {
+      for (long i = 0; i < 1_000; i++) {
+        pool.write(STREAM_1, UUID.randomUUID(), new AirbyteRecordMessage().withEmittedAt(i));
+        Thread.sleep(1);
+      }
+    });
+    assertSame(failure, assertThrows(IOException.class, () -> pool.close(true)));
+  }
+
+  private static void assertAscending(final List<Long> values) {
+    for (int i = 1; i < values.size(); i++) {
+      assertTrue(values.get(i - 1) < values.get(i));
+    }
+  }
+
+}
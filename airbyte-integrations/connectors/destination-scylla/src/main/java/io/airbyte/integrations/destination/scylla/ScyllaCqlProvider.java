@@ -10,21 +10,29 @@ import com.datastax.driver.core.BoundStatement;
 import com.datastax.driver.core.Cluster;
 import com.datastax.driver.core.DataType;
 import com.datastax.driver.core.PreparedStatement;
+import com.datastax.driver.core.ResultSet;
 import com.datastax.driver.core.Session;
 import com.datastax.driver.core.querybuilder.QueryBuilder;
 import com.datastax.driver.core.schemabuilder.SchemaBuilder;
-import com.datastax.driver.core.utils.UUIDs;
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.MoreExecutors;
 import io.airbyte.integrations.base.JavaBaseConstants;
+import io.airbyte.integrations.destination.RecordIdGenerator;
 import java.io.Closeable;
 import java.time.Instant;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -35,6 +43,9 @@ public class ScyllaCqlProvider implements Closeable {
 
   private static final int N_THREADS = Runtime.getRuntime().availableProcessors();
 
+  // maximum number of asynchronous inserts waiting for a response, writers block once it is reached
+  private static final int MAX_IN_FLIGHT_WRITES = 256;
+
   private final ScyllaConfig scyllaConfig;
 
   private final Cluster cluster;
@@ -49,6 +60,14 @@ public class ScyllaCqlProvider implements Closeable {
 
   private final String columnTimestamp;
 
+  private final Map<String, PreparedStatement> insertStatements;
+
+  private final Semaphore inFlightWrites;
+
+  private final AtomicReference<Throwable> writeFailure;
+
+  private final AtomicBoolean closed;
+
   public ScyllaCqlProvider(ScyllaConfig scyllaConfig) {
     this.scyllaConfig = scyllaConfig;
     var sessionTuple = ScyllaSessionPool.initSession(scyllaConfig);
@@ -59,6 +78,10 @@ public class ScyllaCqlProvider implements Closeable {
     this.columnId = nameTransformer.outputColumn(JavaBaseConstants.COLUMN_NAME_AB_ID);
     this.columnData = nameTransformer.outputColumn(JavaBaseConstants.COLUMN_NAME_DATA);
     this.columnTimestamp = nameTransformer.outputColumn(JavaBaseConstants.COLUMN_NAME_EMITTED_AT);
+    this.insertStatements = new ConcurrentHashMap<>();
+    this.inFlightWrites = new Semaphore(MAX_IN_FLIGHT_WRITES);
+    this.writeFailure = new AtomicReference<>();
+    this.closed = new AtomicBoolean(false);
   }
 
   public void createKeyspaceIfNotExists(String keyspace) {
@@ -92,11 +115,64 @@ public class ScyllaCqlProvider implements Closeable {
   }
 
   public void insert(String keyspace, String table, String data) {
-    var insert = QueryBuilder.insertInto(keyspace, table)
-        .value(columnId, UUIDs.random())
-        .value(columnData, data)
-        .value(columnTimestamp, Instant.now().toEpochMilli());
-    session.execute(insert);
+    session.execute(prepareInsert(keyspace, table).bind(RecordIdGenerator.nextId(), data, new Date()));
+  }
+
+  /*
+   * Sends the insert without waiting for its response. At most MAX_IN_FLIGHT_WRITES inserts are
+   * pending at any time, after that the caller blocks until one of them completes. A failed insert is
+   * rethrown by the next call to insertAsync or flush.
+   *
+   * Records are not grouped into batches: every record has its own partition key, and batches that
+   * span partitions only add load on the coordinator.
+   */
+  public void insertAsync(String keyspace, String table, String data) throws InterruptedException {
+    rethrowWriteFailure();
+    var statement = prepareInsert(keyspace, table).bind(RecordIdGenerator.nextId(), data, new Date());
+    inFlightWrites.acquire();
+    try {
+      Futures.addCallback(session.executeAsync(statement), new FutureCallback<>() {
+
+        @Override
+        public void onSuccess(ResultSet result) {
+          inFlightWrites.release();
+        }
+
+        @Override
+        public void onFailure(Throwable error) {
+          writeFailure.compareAndSet(null, error);
+          inFlightWrites.release();
+        }
+
+      }, MoreExecutors.directExecutor());
+    } catch (RuntimeException e) {
+      inFlightWrites.release();
+      throw e;
+    }
+  }
+
+  /*
+   * Waits until all inserts sent with insertAsync have completed and rethrows the first failure.
+   */
+  public void flush() throws InterruptedException {
+    inFlightWrites.acquire(MAX_IN_FLIGHT_WRITES);
+    inFlightWrites.release(MAX_IN_FLIGHT_WRITES);
+    rethrowWriteFailure();
+  }
+
+  private void rethrowWriteFailure() {
+    var failure = writeFailure.get();
+    if (failure != null) {
+      throw new IllegalStateException("Error while inserting data", failure);
+    }
+  }
+
+  private PreparedStatement prepareInsert(String keyspace, String table) {
+    return insertStatements.computeIfAbsent(keyspace + "." + table, k -> session.prepare(
+        QueryBuilder.insertInto(keyspace, table)
+            .value(columnId, QueryBuilder.bindMarker())
+            .value(columnData, QueryBuilder.bindMarker())
+            .value(columnTimestamp, QueryBuilder.bindMarker())));
   }
 
   public List<Triplet<UUID, String, Instant>> select(String keyspace, String table) {
@@ -168,6 +244,13 @@ public class ScyllaCqlProvider implements Closeable {
 
   @Override
   public void close() {
+    // closing again would wait forever on the write permits taken below, and release the shared,
+    // reference counted session a second time
+    if (!closed.compareAndSet(false, true)) {
+      return;
+    }
+    // let pending inserts complete before the session is closed, their failures no longer matter here
+    inFlightWrites.acquireUninterruptibly(MAX_IN_FLIGHT_WRITES);
     // gracefully shutdown executor service
     executorService.shutdown();
     // close scylla session
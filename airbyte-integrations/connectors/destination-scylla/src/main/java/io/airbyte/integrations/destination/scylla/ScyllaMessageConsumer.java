@@ -55,7 +55,7 @@ public class ScyllaMessageConsumer extends FailureTrackingAirbyteMessageConsumer
   }
 
   @Override
-  protected void acceptTracked(AirbyteMessage message) {
+  protected void acceptTracked(AirbyteMessage message) throws Exception {
     if (message.getType() == AirbyteMessage.Type.RECORD) {
       var messageRecord = message.getRecord();
       var streamConfig =
@@ -64,7 +64,7 @@ public class ScyllaMessageConsumer extends FailureTrackingAirbyteMessageConsumer
         throw new IllegalArgumentException("Unrecognized destination stream");
       }
       var data = Jsons.serialize(messageRecord.getData());
-      scyllaCqlProvider.insert(streamConfig.getKeyspace(), streamConfig.getTempTableName(), data);
+      scyllaCqlProvider.insertAsync(streamConfig.getKeyspace(), streamConfig.getTempTableName(), data);
     } else if (message.getType() == AirbyteMessage.Type.STATE) {
       this.lastMessage = message;
     } else {
@@ -73,36 +73,40 @@ public class ScyllaMessageConsumer extends FailureTrackingAirbyteMessageConsumer
   }
 
   @Override
-  protected void close(boolean hasFailed) {
-    if (!hasFailed) {
-      scyllaStreams.forEach((k, v) -> {
-        try {
-          scyllaCqlProvider.createTableIfNotExists(v.getKeyspace(), v.getTableName());
-          switch (v.getDestinationSyncMode()) {
-            case APPEND -> {
-              scyllaCqlProvider.copy(v.getKeyspace(), v.getTempTableName(), v.getTableName());
-            }
-            case OVERWRITE -> {
-              scyllaCqlProvider.truncate(v.getKeyspace(), v.getTableName());
-              scyllaCqlProvider.copy(v.getKeyspace(), v.getTempTableName(), v.getTableName());
+  protected void close(boolean hasFailed) throws Exception {
+    try {
+      if (!hasFailed) {
+        // the state message may only be emitted once every insert before it is acknowledged
+        scyllaCqlProvider.flush();
+        scyllaStreams.forEach((k, v) -> {
+          try {
+            scyllaCqlProvider.createTableIfNotExists(v.getKeyspace(), v.getTableName());
+            switch (v.getDestinationSyncMode()) {
+              case APPEND -> {
+                scyllaCqlProvider.copy(v.getKeyspace(), v.getTempTableName(), v.getTableName());
+              }
+              case OVERWRITE -> {
+                scyllaCqlProvider.truncate(v.getKeyspace(), v.getTableName());
+                scyllaCqlProvider.copy(v.getKeyspace(), v.getTempTableName(), v.getTableName());
+              }
+              default -> throw new UnsupportedOperationException("Unsupported destination sync mode");
             }
-            default -> throw new UnsupportedOperationException("Unsupported destination sync mode");
+          } catch (Exception e) {
+            LOGGER.error("Error while copying data to table {}: ", v.getTableName(), e);
           }
+        });
+        outputRecordCollector.accept(lastMessage);
+      }
+    } finally {
+      scyllaStreams.forEach((k, v) -> {
+        try {
+          scyllaCqlProvider.dropTableIfExists(v.getKeyspace(), v.getTempTableName());
         } catch (Exception e) {
-          LOGGER.error("Error while copying data to table {}: ", v.getTableName(), e);
+          LOGGER.error("Error while deleting temp table {} with reason: ", v.getTempTableName(), e);
         }
       });
-      outputRecordCollector.accept(lastMessage);
+      scyllaCqlProvider.close();
     }
-
-    scyllaStreams.forEach((k, v) -> {
-      try {
-        scyllaCqlProvider.dropTableIfExists(v.getKeyspace(), v.getTempTableName());
-      } catch (Exception e) {
-        LOGGER.error("Error while deleting temp table {} with reason: ", v.getTempTableName(), e);
-      }
-    });
-    scyllaCqlProvider.close();
   }
 
 }
@@ -7,8 +7,10 @@ package io.airbyte.integrations.destination.scylla;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
 
 import com.datastax.driver.core.exceptions.InvalidQueryException;
+import java.time.Duration;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
@@ -23,12 +25,14 @@ class ScyllaCqlProviderTest {
 
   private ScyllaCqlProvider scyllaCqlProvider;
 
+  private ScyllaConfig scyllaConfig;
+
   private ScyllaNameTransformer nameTransformer;
 
   @BeforeAll
   void setup() {
     var scyllaContainer = ScyllaContainerInitializr.initContainer();
-    var scyllaConfig = TestDataFactory.scyllaConfig(
+    this.scyllaConfig = TestDataFactory.scyllaConfig(
         scyllaContainer.getHost(),
         scyllaContainer.getFirstMappedPort());
     this.scyllaCqlProvider = new ScyllaCqlProvider(scyllaConfig);
@@ -74,6 +78,26 @@ class ScyllaCqlProviderTest {
 
   }
 
+  @Test
+  void testInsertAsync() throws InterruptedException {
+    // given
+    for (int i = 0; i < 1000; i++) {
+      scyllaCqlProvider.insertAsync(SCYLLA_KEYSPACE, SCYLLA_TABLE, "{\"property\":\"data" + i + "\"}");
+    }
+    scyllaCqlProvider.flush();
+
+    // when
+    var resultSet = scyllaCqlProvider.select(SCYLLA_KEYSPACE, SCYLLA_TABLE);
+
+    // then
+    assertThat(resultSet)
+        .isNotNull()
+        .hasSize(1000)
+        .anyMatch(r -> r.value2().equals("{\"property\":\"data0\"}"))
+        .anyMatch(r -> r.value2().equals("{\"property\":\"data999\"}"));
+
+  }
+
   @Test
   void testTruncate() {
     // given
@@ -104,6 +128,21 @@ class ScyllaCqlProviderTest {
     assertThrows(InvalidQueryException.class, () -> scyllaCqlProvider.select(SCYLLA_KEYSPACE, table));
   }
 
+  @Test
+  void testCloseTwice() {
+    // given
+    var otherCqlProvider = new ScyllaCqlProvider(scyllaConfig);
+
+    // when
+    assertTimeoutPreemptively(Duration.ofSeconds(10), () -> {
+      otherCqlProvider.close();
+      otherCqlProvider.close();
+    });
+
+    // then the session shared with the other provider is still open
+    assertDoesNotThrow(() -> scyllaCqlProvider.select(SCYLLA_KEYSPACE, SCYLLA_TABLE));
+  }
+
   @Test
   void testCopy() {
     // given
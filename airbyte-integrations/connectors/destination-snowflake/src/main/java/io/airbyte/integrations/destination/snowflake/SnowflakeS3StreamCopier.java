@@ -42,15 +42,21 @@ public class SnowflakeS3StreamCopier extends S3StreamCopier {
                                      final String tableName,
                                      final S3DestinationConfig s3Config)
       throws SQLException {
+    // COPY treats a plain S3 path as a key prefix, which would also match the later staging files of
+    // this stream, so the file is named explicitly.
+    final int fileNameStart = s3FileLocation.lastIndexOf('/') + 1;
     final var copyQuery = String.format(
         "COPY INTO %s.%s FROM '%s' "
             + "CREDENTIALS=(aws_key_id='%s' aws_secret_key='%s') "
-            + "file_format = (type = csv field_delimiter = ',' skip_header = 0 FIELD_OPTIONALLY_ENCLOSED_BY = '\"');",
+            + "FILES = ('%s') "
+            + "file_format = (type = csv compression = %s field_delimiter = ',' skip_header = 0 FIELD_OPTIONALLY_ENCLOSED_BY = '\"');",
         schema,
         tableName,
-        s3FileLocation,
+        s3FileLocation.substring(0, fileNameStart),
         s3Config.getAccessKeyId(),
-        s3Config.getSecretAccessKey());
+        s3Config.getSecretAccessKey(),
+        s3FileLocation.substring(fileNameStart),
+        isStagingFileCompressed() ? "gzip" : "none");
 
     database.execute(copyQuery);
   }
@@ -19,6 +19,7 @@ import static io.airbyte.db.jdbc.JdbcConstants.JDBC_COLUMN_TABLE_NAME;
 import static io.airbyte.db.jdbc.JdbcConstants.JDBC_COLUMN_TYPE_NAME;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import io.airbyte.commons.functional.CheckedConsumer;
@@ -33,12 +34,19 @@ import io.airbyte.db.jdbc.JdbcStreamingQueryConfiguration;
 import io.airbyte.integrations.base.Source;
 import io.airbyte.integrations.source.jdbc.dto.JdbcPrivilegeDto;
 import io.airbyte.integrations.source.relationaldb.AbstractRelationalDbSource;
+import io.airbyte.integrations.source.relationaldb.ParallelTableReadIterator;
 import io.airbyte.integrations.source.relationaldb.TableInfo;
+import io.airbyte.protocol.models.AirbyteMessage;
+import io.airbyte.protocol.models.CatalogHelpers;
 import io.airbyte.protocol.models.CommonField;
+import io.airbyte.protocol.models.ConfiguredAirbyteCatalog;
+import io.airbyte.protocol.models.ConfiguredAirbyteStream;
 import io.airbyte.protocol.models.JsonSchemaPrimitive;
+import io.airbyte.protocol.models.SyncMode;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.time.Instant;
 import java.util.AbstractMap.SimpleImmutableEntry;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -47,6 +55,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -62,6 +71,8 @@ import org.slf4j.LoggerFactory;
 public abstract class AbstractJdbcSource<Datatype> extends AbstractRelationalDbSource<Datatype, JdbcDatabase> implements Source {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(AbstractJdbcSource.class);
+  // the connection pool of the database holds 5 connections, one is left for the other queries.
+  public static final int MAX_PARALLEL_TABLE_READS = 4;
 
   protected final String driverClass;
   protected final JdbcStreamingQueryConfiguration jdbcStreamingQueryConfiguration;
@@ -277,6 +288,49 @@ public abstract class AbstractJdbcSource<Datatype> extends AbstractRelationalDbS
     });
   }
 
+  /**
+   * Reads all the rows of the incremental streams of the catalog, several tables at a time, for the
+   * CDC sources that take the initial snapshot through JDBC instead of through debezium.
+   *
+   * @param parallelism number of tables read at once, at most {@link #MAX_PARALLEL_TABLE_READS}
+   * @param recordDecorator adds the CDC metadata columns to the data of each record
+   */
+  protected AutoCloseableIterator<AirbyteMessage> getParallelSnapshotIterator(final JdbcDatabase database,
+                                                                              final ConfiguredAirbyteCatalog catalog,
+                                                                              final Map<String, TableInfo<CommonField<Datatype>>> tableNameToTable,
+                                                                              final Instant emittedAt,
+                                                                              final int parallelism,
+                                                                              final Consumer<ObjectNode> recordDecorator) {
+    final List<AutoCloseableIterator<AirbyteMessage>> tableIterators = new ArrayList<>();
+    for (final ConfiguredAirbyteStream airbyteStream : catalog.getStreams()) {
+      if (airbyteStream.getSyncMode() != SyncMode.INCREMENTAL) {
+        continue;
+      }
+      final String streamName = airbyteStream.getStream().getName();
+      final String namespace = airbyteStream.getStream().getNamespace();
+      final String fullyQualifiedTableName = getFullyQualifiedTableName(namespace, streamName);
+      if (!tableNameToTable.containsKey(fullyQualifiedTableName)) {
+        LOGGER.info("Skipping stream {} because it is not in the source", fullyQualifiedTableName);
+        continue;
+      }
+
+      final TableInfo<CommonField<Datatype>> table = tableNameToTable.get(fullyQualifiedTableName);
+      final Set<String> selectedFieldsInCatalog = CatalogHelpers.getTopLevelFieldNames(airbyteStream);
+      final List<String> selectedDatabaseFields = table.getFields()
+          .stream()
+          .map(CommonField::getName)
+          .filter(selectedFieldsInCatalog::contains)
+          .collect(Collectors.toList());
+      tableIterators.add(AutoCloseableIterators.transform(
+          getFullRefreshStream(database, streamName, namespace, selectedDatabaseFields, table, emittedAt),
+          message -> {
+            recordDecorator.accept((ObjectNode) message.getRecord().getData());
+            return message;
+          }));
+    }
+    return new ParallelTableReadIterator(tableIterators, Math.min(parallelism, MAX_PARALLEL_TABLE_READS));
+  }
+
   @Override
   public JdbcDatabase createDatabase(final JsonNode config) throws SQLException {
     final JsonNode jdbcConfig = toDatabaseConfig(config);
@@ -5,11 +5,14 @@
 package io.airbyte.integrations.source.mysql;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import com.google.common.collect.ImmutableMap;
+import io.airbyte.commons.json.Jsons;
 import io.airbyte.db.jdbc.JdbcDatabase;
 import io.airbyte.integrations.debezium.CdcTargetPosition;
 import io.airbyte.integrations.debezium.internals.SnapshotMetadata;
 import java.sql.SQLException;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.stream.Collectors;
 import org.slf4j.Logger;
@@ -45,6 +48,16 @@ public class MySqlCdcTargetPosition implements CdcTargetPosition {
     return "FileName: " + fileName + ", Position : " + position;
   }
 
+  /**
+   * @param serverName the debezium engine and server name, which is the database name
+   * @return the debezium offset that resumes streaming the binlog from this position
+   */
+  public Map<String, String> toOffset(final String serverName) {
+    final String key = Jsons.serialize(List.of(serverName, ImmutableMap.of("server", serverName)));
+    final String value = Jsons.serialize(ImmutableMap.of("file", fileName, "pos", position));
+    return ImmutableMap.of(key, value);
+  }
+
   public static MySqlCdcTargetPosition targetPosition(final JdbcDatabase database) {
     try {
       final List<MySqlCdcTargetPosition> masterStatus = database.resultSetQuery(
@@ -15,14 +15,17 @@ import com.mysql.cj.MysqlType;
 import io.airbyte.commons.functional.CheckedConsumer;
 import io.airbyte.commons.json.Jsons;
 import io.airbyte.commons.util.AutoCloseableIterator;
+import io.airbyte.commons.util.AutoCloseableIterators;
 import io.airbyte.db.jdbc.JdbcDatabase;
 import io.airbyte.integrations.base.IntegrationRunner;
 import io.airbyte.integrations.base.Source;
 import io.airbyte.integrations.base.ssh.SshWrappedSource;
 import io.airbyte.integrations.debezium.AirbyteDebeziumHandler;
+import io.airbyte.integrations.debezium.internals.DebeziumEventUtils;
 import io.airbyte.integrations.source.jdbc.AbstractJdbcSource;
 import io.airbyte.integrations.source.relationaldb.StateManager;
 import io.airbyte.integrations.source.relationaldb.TableInfo;
+import io.airbyte.integrations.source.relationaldb.models.CdcState;
 import io.airbyte.protocol.models.AirbyteCatalog;
 import io.airbyte.protocol.models.AirbyteMessage;
 import io.airbyte.protocol.models.AirbyteStream;
@@ -35,6 +38,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Properties;
 import java.util.Set;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -176,12 +180,18 @@ public class MySqlSource extends AbstractJdbcSource<MysqlType> implements Source
                                                                              final Instant emittedAt) {
     final JsonNode sourceConfig = database.getSourceConfig();
     if (isCdc(sourceConfig) && shouldUseCDC(catalog)) {
+      final MySqlCdcSavedInfoFetcher savedInfoFetcher = new MySqlCdcSavedInfoFetcher(stateManager.getCdcStateManager().getCdcState());
+      final int initialLoadParallelism = getInitialLoadParallelism(sourceConfig);
+      if (savedInfoFetcher.getSavedOffset() == null && initialLoadParallelism > 1) {
+        return getParallelSnapshotIterators(database, catalog, tableNameToTable, stateManager, emittedAt, initialLoadParallelism);
+      }
+
       final AirbyteDebeziumHandler handler =
           new AirbyteDebeziumHandler(sourceConfig, MySqlCdcTargetPosition.targetPosition(database), MySqlCdcProperties.getDebeziumProperties(),
               catalog, true);
 
-      return handler.getIncrementalIterators(new MySqlCdcSavedInfoFetcher(stateManager.getCdcStateManager().getCdcState()),
-          new MySqlCdcStateHandler(stateManager), new MySqlCdcConnectorMetadataInjector(), emittedAt);
+      return handler.getIncrementalIterators(savedInfoFetcher, new MySqlCdcStateHandler(stateManager), new MySqlCdcConnectorMetadataInjector(),
+          emittedAt);
     } else {
       LOGGER.info("using CDC: {}", false);
       return super.getIncrementalIterators(database, catalog, tableNameToTable, stateManager,
@@ -189,6 +199,50 @@ public class MySqlSource extends AbstractJdbcSource<MysqlType> implements Source
     }
   }
 
+  /**
+   * Takes the initial snapshot of the tables through JDBC, several tables at a time, instead of
+   * through the single threaded debezium snapshot, and then streams the binlog from the position
+   * recorded before the snapshot started. Debezium only recovers the schema history then, and the
+   * changes made while the tables were read are streamed after their rows, with later positions.
+   */
+  private List<AutoCloseableIterator<AirbyteMessage>> getParallelSnapshotIterators(final JdbcDatabase database,
+                                                                                   final ConfiguredAirbyteCatalog catalog,
+                                                                                   final Map<String, TableInfo<CommonField<MysqlType>>> tableNameToTable,
+                                                                                   final StateManager stateManager,
+                                                                                   final Instant emittedAt,
+                                                                                   final int parallelism) {
+    final JsonNode sourceConfig = database.getSourceConfig();
+    final MySqlCdcTargetPosition snapshotPosition = MySqlCdcTargetPosition.targetPosition(database);
+    if (snapshotPosition.fileName == null) {
+      throw new RuntimeException("Could not read the binlog position, the initial snapshot can not be taken in parallel.");
+    }
+    LOGGER.info("Taking the initial snapshot of the tables in parallel, as of binlog position {}", snapshotPosition);
+
+    final MySqlCdcConnectorMetadataInjector metadataInjector = new MySqlCdcConnectorMetadataInjector();
+    final JsonNode snapshotSource = Jsons.jsonNode(ImmutableMap.of("file", snapshotPosition.fileName, "pos", snapshotPosition.position));
+    final AutoCloseableIterator<AirbyteMessage> snapshotIterator = getParallelSnapshotIterator(database, catalog, tableNameToTable, emittedAt,
+        parallelism, data -> DebeziumEventUtils.addSnapshotMetadata(data, snapshotSource, metadataInjector, emittedAt));
+
+    // the target position is only taken once the tables have been read.
+    final AutoCloseableIterator<AirbyteMessage> streamIterator = AutoCloseableIterators.lazyIterator(() -> {
+      final Properties properties = MySqlCdcProperties.getDebeziumProperties();
+      // https://debezium.io/documentation/reference/1.4/connectors/mysql.html#mysql-property-snapshot-mode
+      properties.setProperty("snapshot.mode", "schema_only_recovery");
+      final AirbyteDebeziumHandler handler =
+          new AirbyteDebeziumHandler(sourceConfig, MySqlCdcTargetPosition.targetPosition(database), properties, catalog, true);
+      final CdcState snapshotState = new CdcState().withState(Jsons.jsonNode(ImmutableMap.of(
+          MYSQL_CDC_OFFSET, snapshotPosition.toOffset(sourceConfig.get("database").asText()))));
+      return AutoCloseableIterators.concatWithEagerClose(handler.getIncrementalIterators(new MySqlCdcSavedInfoFetcher(snapshotState),
+          new MySqlCdcStateHandler(stateManager), metadataInjector, emittedAt));
+    });
+
+    return List.of(snapshotIterator, streamIterator);
+  }
+
+  private static int getInitialLoadParallelism(final JsonNode config) {
+    return config.hasNonNull("initial_load_parallelism") ? config.get("initial_load_parallelism").asInt() : 1;
+  }
+
   @Override
   public Set<String> getExcludedInternalNameSpaces() {
     return Set.of(
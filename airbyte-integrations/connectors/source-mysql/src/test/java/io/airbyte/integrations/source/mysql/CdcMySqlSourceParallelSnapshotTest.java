@@ -0,0 +1,209 @@
+/*
+ * Copyright (c) 2021 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.source.mysql;
+
+import static io.airbyte.integrations.debezium.internals.DebeziumEventUtils.CDC_DELETED_AT;
+import static io.airbyte.integrations.debezium.internals.DebeziumEventUtils.CDC_UPDATED_AT;
+import static io.airbyte.integrations.source.mysql.MySqlSource.CDC_LOG_FILE;
+import static io.airbyte.integrations.source.mysql.MySqlSource.CDC_LOG_POS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Lists;
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.commons.util.AutoCloseableIterator;
+import io.airbyte.commons.util.AutoCloseableIterators;
+import io.airbyte.db.Database;
+import io.airbyte.db.Databases;
+import io.airbyte.integrations.source.mysql.MySqlSource.ReplicationMethod;
+import io.airbyte.protocol.models.AirbyteMessage;
+import io.airbyte.protocol.models.AirbyteMessage.Type;
+import io.airbyte.protocol.models.AirbyteRecordMessage;
+import io.airbyte.protocol.models.AirbyteStateMessage;
+import io.airbyte.protocol.models.CatalogHelpers;
+import io.airbyte.protocol.models.ConfiguredAirbyteCatalog;
+import io.airbyte.protocol.models.ConfiguredAirbyteStream;
+import io.airbyte.protocol.models.DestinationSyncMode;
+import io.airbyte.protocol.models.Field;
+import io.airbyte.protocol.models.JsonSchemaPrimitive;
+import io.airbyte.protocol.models.SyncMode;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.jooq.Record;
+import org.jooq.SQLDialect;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.containers.MySQLContainer;
+
+/**
+ * Runs CDC syncs with the initial snapshot taken through JDBC, several tables at a time, including
+ * changes around the handoff from the table reads to the binlog.
+ */
+class CdcMySqlSourceParallelSnapshotTest {
+
+  private static final String MODELS_STREAM_NAME = "models";
+  private static final String MAKES_STREAM_NAME = "makes";
+  // number of rows in each table before each test
+  private static final int RECORDS_PER_TABLE = 3;
+
+  private MySQLContainer<?> container;
+  private JsonNode config;
+  private ConfiguredAirbyteCatalog catalog;
+
+  @BeforeEach
+  void setup() {
+    container = new MySQLContainer<>("mysql:8.0");
+    container.start();
+
+    config = Jsons.jsonNode(ImmutableMap.builder()
+        .put("host", container.getHost())
+        .put("port", container.getFirstMappedPort())
+        .put("database", container.getDatabaseName())
+        .put("username", container.getUsername())
+        .put("password", container.getPassword())
+        .put("replication_method", ReplicationMethod.CDC)
+        .put("initial_load_parallelism", 2)
+        .build());
+    catalog = new ConfiguredAirbyteCatalog().withStreams(List.of(
+        configuredStream(MODELS_STREAM_NAME),
+        configuredStream(MAKES_STREAM_NAME)));
+
+    executeQuery("GRANT SELECT, RELOAD, SHOW DATABASES, REPLICATION SLAVE, REPLICATION CLIENT ON *.* TO " + container.getUsername() + "@'%';");
+    executeQuery("CREATE TABLE models(id INTEGER PRIMARY KEY, name VARCHAR(200));");
+    executeQuery("INSERT INTO models (id, name) VALUES (1, 'Fiesta'), (2, 'Focus'), (3, 'Ranger');");
+    executeQuery("CREATE TABLE makes(id INTEGER PRIMARY KEY, name VARCHAR(200));");
+    executeQuery("INSERT INTO makes (id, name) VALUES (1, 'Ford'), (2, 'Mercedes'), (3, 'Fiat');");
+  }
+
+  @AfterEach
+  void tearDown() {
+    container.close();
+  }
+
+  @Test
+  void testFirstSyncReadsTablesAsOfRecordedPosition() throws Exception {
+    final MySqlCdcTargetPosition position = currentPosition();
+    final List<AirbyteMessage> messages = AutoCloseableIterators.toListAndClose(new MySqlSource().read(config, catalog, null));
+
+    final List<AirbyteRecordMessage> records = extractRecords(messages);
+    assertEquals(2 * RECORDS_PER_TABLE, records.size());
+    for (final AirbyteRecordMessage record : records) {
+      assertEquals(position, positionOf(record));
+      assertFalse(record.getData().get(CDC_UPDATED_AT).isNull());
+      assertTrue(record.getData().get(CDC_DELETED_AT).isNull());
+    }
+    final List<AirbyteStateMessage> states = extractStates(messages);
+    assertFalse(states.isEmpty());
+
+    // the next sync streams the binlog from the last state of the first one.
+    final List<AirbyteMessage> secondSync =
+        AutoCloseableIterators.toListAndClose(new MySqlSource().read(config, catalog, states.get(states.size() - 1).getData()));
+    assertEquals(List.of(), extractRecords(secondSync));
+    assertFalse(extractStates(secondSync).isEmpty());
+  }
+
+  @Test
+  void testRowChangedBeforeTablesAreReadIsEmittedTwice() throws Exception {
+    // the binlog position is recorded when the read starts, the tables are read once it is consumed.
+    final AutoCloseableIterator<AirbyteMessage> read = new MySqlSource().read(config, catalog, null);
+    executeQuery("UPDATE models SET name = 'Explorer' WHERE id = 1;");
+    final List<AirbyteRecordMessage> records = recordsWithId(AutoCloseableIterators.toListAndClose(read), MODELS_STREAM_NAME, 1);
+
+    // the row as read, at the recorded position, then the change, at a later one.
+    assertEquals(2, records.size());
+    assertEquals("Explorer", records.get(0).getData().get("name").asText());
+    assertEquals("Explorer", records.get(1).getData().get("name").asText());
+    assertTrue(isAfter(positionOf(records.get(1)), positionOf(records.get(0))));
+  }
+
+  @Test
+  void testRowInsertedAfterTablesAreReadIsStreamed() throws Exception {
+    final AutoCloseableIterator<AirbyteMessage> read = new MySqlSource().read(config, catalog, null);
+    final List<AirbyteMessage> messages = new ArrayList<>();
+    while (messages.size() < 2 * RECORDS_PER_TABLE) {
+      final AirbyteMessage message = read.next();
+      assertEquals(Type.RECORD, message.getType());
+      messages.add(message);
+    }
+    final MySqlCdcTargetPosition snapshotPosition = positionOf(messages.get(0).getRecord());
+
+    // the rows of both tables have all been read, the binlog is not streamed yet.
+    executeQuery("INSERT INTO models (id, name) VALUES (4, 'Punto');");
+    read.forEachRemaining(messages::add);
+    read.close();
+
+    final List<AirbyteRecordMessage> records = recordsWithId(messages, MODELS_STREAM_NAME, 4);
+    assertEquals(1, records.size());
+    assertEquals("Punto", records.get(0).getData().get("name").asText());
+    assertTrue(isAfter(positionOf(records.get(0)), snapshotPosition));
+  }
+
+  private ConfiguredAirbyteStream configuredStream(final String streamName) {
+    return new ConfiguredAirbyteStream()
+        .withSyncMode(SyncMode.INCREMENTAL)
+        .withDestinationSyncMode(DestinationSyncMode.APPEND_DEDUP)
+        .withStream(CatalogHelpers.createAirbyteStream(
+            streamName,
+            container.getDatabaseName(),
+            Field.of("id", JsonSchemaPrimitive.NUMBER),
+            Field.of("name", JsonSchemaPrimitive.STRING))
+            .withSourceDefinedCursor(true)
+            .withSourceDefinedPrimaryKey(List.of(List.of("id")))
+            .withSupportedSyncModes(Lists.newArrayList(SyncMode.FULL_REFRESH, SyncMode.INCREMENTAL)));
+  }
+
+  private MySqlCdcTargetPosition currentPosition() throws Exception {
+    try (final Database database = createDatabase()) {
+      final Record masterStatus = database.query(ctx -> ctx.fetch("SHOW MASTER STATUS;").get(0));
+      return new MySqlCdcTargetPosition(masterStatus.get("File", String.class), masterStatus.get("Position", Integer.class));
+    }
+  }
+
+  private void executeQuery(final String query) {
+    try (final Database database = createDatabase()) {
+      database.query(ctx -> ctx.execute(query));
+    } catch (final Exception e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  private Database createDatabase() {
+    return Databases.createDatabase(
+        "root",
+        "test",
+        String.format("jdbc:mysql://%s:%s/%s", container.getHost(), container.getFirstMappedPort(), container.getDatabaseName()),
+        MySqlSource.DRIVER_CLASS,
+        SQLDialect.MYSQL);
+  }
+
+  private static MySqlCdcTargetPosition positionOf(final AirbyteRecordMessage record) {
+    return new MySqlCdcTargetPosition(record.getData().get(CDC_LOG_FILE).asText(), record.getData().get(CDC_LOG_POS).asInt());
+  }
+
+  private static boolean isAfter(final MySqlCdcTargetPosition position, final MySqlCdcTargetPosition other) {
+    final int fileComparison = position.fileName.compareTo(other.fileName);
+    return fileComparison > 0 || (fileComparison == 0 && position.position > other.position);
+  }
+
+  private static List<AirbyteRecordMessage> extractRecords(final List<AirbyteMessage> messages) {
+    return messages.stream().filter(message -> message.getType() == Type.RECORD).map(AirbyteMessage::getRecord).collect(Collectors.toList());
+  }
+
+  private static List<AirbyteStateMessage> extractStates(final List<AirbyteMessage> messages) {
+    return messages.stream().filter(message -> message.getType() == Type.STATE).map(AirbyteMessage::getState).collect(Collectors.toList());
+  }
+
+  private static List<AirbyteRecordMessage> recordsWithId(final List<AirbyteMessage> messages, final String streamName, final int id) {
+    return extractRecords(messages).stream()
+        .filter(record -> record.getStream().equals(streamName) && record.getData().get("id").asInt() == id)
+        .collect(Collectors.toList());
+  }
+
+}
@@ -25,6 +25,10 @@ public class PostgresCdcTargetPosition implements CdcTargetPosition {
     this.targetLsn = targetLsn;
   }
 
+  PgLsn getTargetLsn() {
+    return targetLsn;
+  }
+
   @Override
   public boolean equals(final Object obj) {
     if (obj instanceof PostgresCdcTargetPosition) {
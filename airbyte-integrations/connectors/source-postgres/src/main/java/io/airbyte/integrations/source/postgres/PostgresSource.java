@@ -16,16 +16,20 @@ import com.google.common.collect.ImmutableMap;
 import io.airbyte.commons.functional.CheckedConsumer;
 import io.airbyte.commons.json.Jsons;
 import io.airbyte.commons.util.AutoCloseableIterator;
+import io.airbyte.commons.util.AutoCloseableIterators;
+import io.airbyte.db.PgLsn;
 import io.airbyte.db.jdbc.JdbcDatabase;
 import io.airbyte.db.jdbc.PostgresJdbcStreamingQueryConfiguration;
 import io.airbyte.integrations.base.IntegrationRunner;
 import io.airbyte.integrations.base.Source;
 import io.airbyte.integrations.base.ssh.SshWrappedSource;
 import io.airbyte.integrations.debezium.AirbyteDebeziumHandler;
+import io.airbyte.integrations.debezium.internals.DebeziumEventUtils;
 import io.airbyte.integrations.source.jdbc.AbstractJdbcSource;
 import io.airbyte.integrations.source.jdbc.dto.JdbcPrivilegeDto;
 import io.airbyte.integrations.source.relationaldb.StateManager;
 import io.airbyte.integrations.source.relationaldb.TableInfo;
+import io.airbyte.integrations.source.relationaldb.models.CdcState;
 import io.airbyte.protocol.models.AirbyteCatalog;
 import io.airbyte.protocol.models.AirbyteConnectionStatus;
 import io.airbyte.protocol.models.AirbyteMessage;
@@ -37,9 +41,11 @@ import java.sql.JDBCType;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.time.Instant;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Properties;
 import java.util.Set;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -192,16 +198,66 @@ public class PostgresSource extends AbstractJdbcSource<JDBCType> implements Sour
      */
     final JsonNode sourceConfig = database.getSourceConfig();
     if (isCdc(sourceConfig)) {
+      final PostgresCdcSavedInfoFetcher savedInfoFetcher = new PostgresCdcSavedInfoFetcher(stateManager.getCdcStateManager().getCdcState());
+      final int initialLoadParallelism = getInitialLoadParallelism(sourceConfig);
+      if (savedInfoFetcher.getSavedOffset() == null && initialLoadParallelism > 1) {
+        return getParallelSnapshotIterators(database, catalog, tableNameToTable, stateManager, emittedAt, initialLoadParallelism);
+      }
+
       final AirbyteDebeziumHandler handler = new AirbyteDebeziumHandler(sourceConfig, PostgresCdcTargetPosition.targetPosition(database),
           PostgresCdcProperties.getDebeziumProperties(sourceConfig), catalog, false);
-      return handler.getIncrementalIterators(new PostgresCdcSavedInfoFetcher(stateManager.getCdcStateManager().getCdcState()),
-          new PostgresCdcStateHandler(stateManager), new PostgresCdcConnectorMetadataInjector(), emittedAt);
+      return handler.getIncrementalIterators(savedInfoFetcher, new PostgresCdcStateHandler(stateManager), new PostgresCdcConnectorMetadataInjector(),
+          emittedAt);
 
     } else {
       return super.getIncrementalIterators(database, catalog, tableNameToTable, stateManager, emittedAt);
     }
   }
 
+  /**
+   * Takes the initial snapshot of the tables through JDBC, several tables at a time, instead of
+   * through the single threaded debezium snapshot, and then streams the WAL from the LSN recorded
+   * before the snapshot started. The changes made while the tables were read are streamed after
+   * their rows, with later LSNs.
+   */
+  private List<AutoCloseableIterator<AirbyteMessage>> getParallelSnapshotIterators(final JdbcDatabase database,
+                                                                                   final ConfiguredAirbyteCatalog catalog,
+                                                                                   final Map<String, TableInfo<CommonField<JDBCType>>> tableNameToTable,
+                                                                                   final StateManager stateManager,
+                                                                                   final Instant emittedAt,
+                                                                                   final int parallelism) {
+    final JsonNode sourceConfig = database.getSourceConfig();
+    final PgLsn snapshotLsn = PostgresCdcTargetPosition.targetPosition(database).getTargetLsn();
+    LOGGER.info("Taking the initial snapshot of the tables in parallel, as of lsn {}", snapshotLsn);
+
+    final PostgresCdcConnectorMetadataInjector metadataInjector = new PostgresCdcConnectorMetadataInjector();
+    final JsonNode snapshotSource = Jsons.jsonNode(ImmutableMap.of("lsn", snapshotLsn.asLong()));
+    final AutoCloseableIterator<AirbyteMessage> snapshotIterator = getParallelSnapshotIterator(database, catalog, tableNameToTable, emittedAt,
+        parallelism, data -> DebeziumEventUtils.addSnapshotMetadata(data, snapshotSource, metadataInjector, emittedAt));
+
+    // the target position is only taken once the tables have been read.
+    final AutoCloseableIterator<AirbyteMessage> streamIterator = AutoCloseableIterators.lazyIterator(() -> {
+      final Properties properties = PostgresCdcProperties.getDebeziumProperties(sourceConfig);
+      // https://debezium.io/documentation/reference/1.4/connectors/postgresql.html#postgresql-property-snapshot-mode
+      properties.setProperty("snapshot.mode", "never");
+      final AirbyteDebeziumHandler handler =
+          new AirbyteDebeziumHandler(sourceConfig, PostgresCdcTargetPosition.targetPosition(database), properties, catalog, false);
+      final String serverName = sourceConfig.get("database").asText();
+      final CdcState snapshotState = new CdcState().withState(Jsons.jsonNode(ImmutableMap.of(
+          Jsons.serialize(List.of(serverName, ImmutableMap.of("server", serverName))),
+          Jsons.serialize(ImmutableMap.of("lsn", snapshotLsn.asLong(), "ts_usec", ChronoUnit.MICROS.between(Instant.EPOCH, emittedAt))))));
+      return AutoCloseableIterators.concatWithEagerClose(handler.getIncrementalIterators(new PostgresCdcSavedInfoFetcher(snapshotState),
+          new PostgresCdcStateHandler(stateManager), metadataInjector, emittedAt));
+    });
+
+    return List.of(snapshotIterator, streamIterator);
+  }
+
+  private static int getInitialLoadParallelism(final JsonNode config) {
+    final JsonNode replicationMethod = config.get("replication_method");
+    return replicationMethod.hasNonNull("initial_load_parallelism") ? replicationMethod.get("initial_load_parallelism").asInt() : 1;
+  }
+
   @VisibleForTesting
   static boolean isCdc(final JsonNode config) {
     final boolean isCdc = config.hasNonNull("replication_method")
@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2021 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.source.postgres;
+
+import static io.airbyte.integrations.source.postgres.PostgresSource.CDC_LSN;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.airbyte.commons.util.AutoCloseableIterator;
+import io.airbyte.commons.util.AutoCloseableIterators;
+import io.airbyte.protocol.models.AirbyteMessage;
+import io.airbyte.protocol.models.AirbyteMessage.Type;
+import io.airbyte.protocol.models.AirbyteRecordMessage;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Runs the CDC tests with the initial snapshot taken through JDBC, several tables at a time. The
+ * inherited tests cover syncs whose data does not change while the tables are read, the tests below
+ * cover changes around the handoff from the table reads to the WAL.
+ */
+class CdcPostgresSourceParallelSnapshotTest extends CdcPostgresSourceTest {
+
+  // number of rows in the models table before each test
+  private static final int MODEL_RECORD_COUNT = 6;
+
+  @Override
+  protected String getPluginName() {
+    return "pgoutput";
+  }
+
+  @Override
+  protected int getInitialLoadParallelism() {
+    return 2;
+  }
+
+  @Test
+  void testRowChangedBeforeTablesAreReadIsEmittedTwice() throws Exception {
+    // the WAL position is recorded when the read starts, the tables are read once it is consumed.
+    final AutoCloseableIterator<AirbyteMessage> read = getSource().read(getConfig(), CONFIGURED_CATALOG, null);
+    executeQuery(String.format("UPDATE %s.%s SET %s = 'Explorer' WHERE %s = 11", MODELS_SCHEMA, MODELS_STREAM_NAME, COL_MODEL, COL_ID));
+    final List<AirbyteRecordMessage> records = recordsWithId(AutoCloseableIterators.toListAndClose(read), 11);
+
+    // the row as read, at the recorded position, then the change, at a later one.
+    assertEquals(2, records.size());
+    assertEquals("Explorer", records.get(0).getData().get(COL_MODEL).asText());
+    assertEquals("Explorer", records.get(1).getData().get(COL_MODEL).asText());
+    assertTrue(records.get(1).getData().get(CDC_LSN).asLong() > records.get(0).getData().get(CDC_LSN).asLong());
+  }
+
+  @Test
+  void testRowInsertedAfterTablesAreReadIsStreamed() throws Exception {
+    final AutoCloseableIterator<AirbyteMessage> read = getSource().read(getConfig(), CONFIGURED_CATALOG, null);
+    final List<AirbyteMessage> messages = new ArrayList<>();
+    while (messages.size() < MODEL_RECORD_COUNT) {
+      final AirbyteMessage message = read.next();
+      assertEquals(Type.RECORD, message.getType());
+      messages.add(message);
+    }
+    final long snapshotLsn = messages.get(0).getRecord().getData().get(CDC_LSN).asLong();
+
+    // the rows of the table have all been read, the WAL is not streamed yet.
+    executeQuery(String.format("INSERT INTO %s.%s (%s, %s, %s) VALUES (17, 3, 'Punto')", MODELS_SCHEMA, MODELS_STREAM_NAME, COL_ID, COL_MAKE_ID,
+        COL_MODEL));
+    read.forEachRemaining(messages::add);
+    read.close();
+
+    final List<AirbyteRecordMessage> records = recordsWithId(messages, 17);
+    assertEquals(1, records.size());
+    assertEquals("Punto", records.get(0).getData().get(COL_MODEL).asText());
+    assertTrue(records.get(0).getData().get(CDC_LSN).asLong() > snapshotLsn);
+  }
+
+  private static List<AirbyteRecordMessage> recordsWithId(final List<AirbyteMessage> messages, final int id) {
+    return messages.stream()
+        .filter(message -> message.getType() == Type.RECORD)
+        .map(AirbyteMessage::getRecord)
+        .filter(record -> record.getData().get(COL_ID).asInt() == id)
+        .collect(Collectors.toList());
+  }
+
+}
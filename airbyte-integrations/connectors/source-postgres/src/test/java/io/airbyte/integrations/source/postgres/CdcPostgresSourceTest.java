@@ -54,6 +54,10 @@ abstract class CdcPostgresSourceTest extends CdcSourceTest {
 
   protected abstract String getPluginName();
 
+  protected int getInitialLoadParallelism() {
+    return 1;
+  }
+
   @AfterEach
   void tearDown() throws Exception {
     database.close();
@@ -92,6 +96,7 @@ abstract class CdcPostgresSourceTest extends CdcSourceTest {
         .put("replication_slot", SLOT_NAME_BASE + "_" + dbName)
         .put("publication", PUBLICATION)
         .put("plugin", getPluginName())
+        .put("initial_load_parallelism", getInitialLoadParallelism())
         .build());
 
     return Jsons.jsonNode(ImmutableMap.builder()
@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2021 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.source.relationaldb;
+
+import com.google.common.collect.AbstractIterator;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import io.airbyte.commons.util.AutoCloseableIterator;
+import io.airbyte.protocol.models.AirbyteMessage;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Reads several tables at once: each table iterator is drained by one of at most
+ * {@code parallelism} threads into a bounded queue, from which the messages are emitted, so that the
+ * records of the tables are interleaved. The first failure of a table read is rethrown by the
+ * iterator, and closing the iterator stops the reads that are still running.
+ */
+public class ParallelTableReadIterator extends AbstractIterator<AirbyteMessage> implements AutoCloseableIterator<AirbyteMessage> {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(ParallelTableReadIterator.class);
+  private static final int DEFAULT_QUEUE_CAPACITY = 10_000;
+  private static final long POLL_TIMEOUT_MILLIS = 100;
+
+  private final List<AutoCloseableIterator<AirbyteMessage>> tableIterators;
+  private final int parallelism;
+  private final BlockingQueue<AirbyteMessage> queue;
+  private final AtomicInteger remainingTables;
+  private final AtomicReference<Exception> failure = new AtomicReference<>();
+  private final AtomicBoolean isClosing = new AtomicBoolean(false);
+
+  private ExecutorService executor;
+
+  public ParallelTableReadIterator(final List<AutoCloseableIterator<AirbyteMessage>> tableIterators, final int parallelism) {
+    this(tableIterators, parallelism, DEFAULT_QUEUE_CAPACITY);
+  }
+
+  public ParallelTableReadIterator(final List<AutoCloseableIterator<AirbyteMessage>> tableIterators,
+                                   final int parallelism,
+                                   final int queueCapacity) {
+    this.tableIterators = tableIterators;
+    this.parallelism = Math.max(1, Math.min(parallelism, tableIterators.size()));
+    this.queue = new ArrayBlockingQueue<>(queueCapacity);
+    this.remainingTables = new AtomicInteger(tableIterators.size());
+  }
+
+  @Override
+  protected AirbyteMessage computeNext() {
+    if (executor == null) {
+      start();
+    }
+    try {
+      while (true) {
+        final AirbyteMessage next = queue.poll(POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+        if (next != null) {
+          return next;
+        }
+        if (failure.get() != null) {
+          throw new RuntimeException(failure.get());
+        }
+        // a table read puts its last message in the queue before it is counted as done.
+        if (remainingTables.get() == 0 && queue.isEmpty()) {
+          return endOfData();
+        }
+      }
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new RuntimeException(e);
+    }
+  }
+
+  private void start() {
+    LOGGER.info("Reading {} tables, {} at a time.", tableIterators.size(), parallelism);
+    executor = Executors.newFixedThreadPool(parallelism, new ThreadFactoryBuilder()
+        .setNameFormat("table-read-%d")
+        .setDaemon(true)
+        .build());
+    for (final AutoCloseableIterator<AirbyteMessage> tableIterator : tableIterators) {
+      executor.execute(() -> readTable(tableIterator));
+    }
+    executor.shutdown();
+  }
+
+  private void readTable(final AutoCloseableIterator<AirbyteMessage> tableIterator) {
+    try (tableIterator) {
+      while (!isClosing.get() && tableIterator.hasNext()) {
+        final AirbyteMessage message = tableIterator.next();
+        // waits while the consumer is behind, unless the iterator is closed.
+        while (!queue.offer(message, POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+          if (isClosing.get()) {
+            return;
+          }
+        }
+      }
+    } catch (final Exception e) {
+      failure.compareAndSet(null, e);
+      isClosing.set(true);
+    } finally {
+      remainingTables.decrementAndGet();
+    }
+  }
+
+  @Override
+  public void close() throws Exception {
+    isClosing.set(true);
+    if (executor == null) {
+      for (final AutoCloseableIterator<AirbyteMessage> tableIterator : tableIterators) {
+        tableIterator.close();
+      }
+      return;
+    }
+    // the table reads that are still running close their iterator once they see the flag.
+    executor.awaitTermination(5, TimeUnit.MINUTES);
+    if (failure.get() != null) {
+      throw failure.get();
+    }
+  }
+
+}
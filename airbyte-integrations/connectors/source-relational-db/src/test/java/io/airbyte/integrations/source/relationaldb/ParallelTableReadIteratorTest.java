@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2021 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.source.relationaldb;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.commons.util.AutoCloseableIterator;
+import io.airbyte.commons.util.AutoCloseableIterators;
+import io.airbyte.protocol.models.AirbyteMessage;
+import io.airbyte.protocol.models.AirbyteMessage.Type;
+import io.airbyte.protocol.models.AirbyteRecordMessage;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class ParallelTableReadIteratorTest {
+
+  @Test
+  void testAllTablesAreRead() throws Exception {
+    final List<AutoCloseableIterator<AirbyteMessage>> tables = List.of(table("a", 100), table("b", 50), table("c", 0), table("d", 10));
+
+    final List<AirbyteMessage> messages = AutoCloseableIterators.toListAndClose(new ParallelTableReadIterator(tables, 2, 5));
+
+    assertEquals(160, messages.size());
+    assertEquals(Set.of("a", "b", "d"), messages.stream().map(message -> message.getRecord().getStream()).collect(Collectors.toSet()));
+    // the records of a table keep their order.
+    assertEquals(IntStream.range(0, 100).boxed().collect(Collectors.toList()), messages.stream()
+        .filter(message -> message.getRecord().getStream().equals("a"))
+        .map(message -> message.getRecord().getData().get("id").asInt())
+        .collect(Collectors.toList()));
+  }
+
+  @Test
+  void testTableReadFailureIsRethrown() {
+    final Iterator<AirbyteMessage> failingTable = new Iterator<>() {
+
+      @Override
+      public boolean hasNext() {
+        return true;
+      }
+
+      @Override
+      public AirbyteMessage next() {
+        throw new IllegalStateException("connection lost");
+      }
+
+    };
+    final ParallelTableReadIterator iterator = new ParallelTableReadIterator(
+        List.of(table("a", 10_000), AutoCloseableIterators.fromIterator(failingTable)), 2, 5);
+
+    final RuntimeException exception = assertThrows(RuntimeException.class, () -> iterator.forEachRemaining(message -> {}));
+    assertTrue(exception.getCause() instanceof IllegalStateException);
+    assertThrows(IllegalStateException.class, iterator::close);
+  }
+
+  @Test
+  void testCloseStopsTheTableReads() throws Exception {
+    final AtomicBoolean closed = new AtomicBoolean(false);
+    final AutoCloseableIterator<AirbyteMessage> table = AutoCloseableIterators.fromIterator(records("a", 10_000).iterator(), () -> closed.set(true));
+    final ParallelTableReadIterator iterator = new ParallelTableReadIterator(List.of(table), 1, 5);
+
+    iterator.next();
+    iterator.close();
+
+    assertTrue(closed.get());
+  }
+
+  private static AutoCloseableIterator<AirbyteMessage> table(final String name, final int recordCount) {
+    return AutoCloseableIterators.fromIterator(records(name, recordCount).iterator());
+  }
+
+  private static List<AirbyteMessage> records(final String name, final int recordCount) {
+    final List<AirbyteMessage> records = new ArrayList<>();
+    for (int i = 0; i < recordCount; i++) {
+      records.add(new AirbyteMessage()
+          .withType(Type.RECORD)
+          .withRecord(new AirbyteRecordMessage().withStream(name).withData(Jsons.jsonNode(Map.of("id", i)))));
+    }
+    return records;
+  }
+
+}
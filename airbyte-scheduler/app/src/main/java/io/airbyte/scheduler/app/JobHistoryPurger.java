@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2021 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.scheduler.app;
+
+import io.airbyte.config.Configs.WorkerEnvironment;
+import io.airbyte.config.JobHistoryRetentionConfig;
+import io.airbyte.config.helpers.LogClientSingleton;
+import io.airbyte.config.helpers.LogConfigs;
+import io.airbyte.metrics.MetricSingleton;
+import io.airbyte.scheduler.persistence.JobPersistence;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The job history purger is responsible for limiting the retention of jobs in the database, along
+ * with their logs in cloud storage. The jobs out of the retention are deleted in small batches, each
+ * in its own short transaction, followed by the logs of their attempts. A purge stops once its time
+ * budget is spent and leaves the remaining jobs, the most recent ones, to the next purge.
+ */
+public class JobHistoryPurger implements Runnable {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(JobHistoryPurger.class);
+
+  private final JobHistoryRetentionConfig config;
+  private final JobPersistence jobPersistence;
+  private final LogClientSingleton logClient;
+  private final WorkerEnvironment workerEnvironment;
+  private final LogConfigs logConfigs;
+  private final MetricSingleton metrics;
+  private final Supplier<Instant> timeSupplier;
+
+  public JobHistoryPurger(final JobHistoryRetentionConfig config,
+                          final JobPersistence jobPersistence,
+                          final LogClientSingleton logClient,
+                          final WorkerEnvironment workerEnvironment,
+                          final LogConfigs logConfigs,
+                          final MetricSingleton metrics,
+                          final Supplier<Instant> timeSupplier) {
+    this.config = config;
+    this.jobPersistence = jobPersistence;
+    this.logClient = logClient;
+    this.workerEnvironment = workerEnvironment;
+    this.logConfigs = logConfigs;
+    this.metrics = metrics;
+    this.timeSupplier = timeSupplier;
+  }
+
+  @Override
+  public void run() {
+    final Instant start = timeSupplier.get();
+    final Instant deadline = start.plus(config.getMaxPurgeDuration());
+
+    final LocalDateTime asOfDate = LocalDateTime.ofInstant(start, ZoneId.systemDefault());
+    // the connections that can have jobs to purge are listed once, each batch only ranks their jobs.
+    final Set<String> scopesWithExcessiveJobs;
+    final Set<String> scopesWithExpiredJobs;
+    try {
+      scopesWithExcessiveJobs = jobPersistence.listScopesWithExcessiveJobs(config);
+      scopesWithExpiredJobs = jobPersistence.listScopesWithExpiredJobs(config, asOfDate);
+    } catch (final IOException e) {
+      throw new RuntimeException("failed to list the connections with jobs to purge", e);
+    }
+
+    int purgedJobs = 0;
+    int deletedLogs = 0;
+    int failedLogDeletes = 0;
+    // each batch is listed after the previous one is deleted, so only one batch of ids is held at once.
+    List<Long> batch;
+    do {
+      if (!timeSupplier.get().isBefore(deadline)) {
+        LOGGER.info("Job history purge ran out of time, the remaining jobs are left to the next purge.");
+        break;
+      }
+
+      try {
+        batch = jobPersistence.listJobIdsToPurge(config, asOfDate, scopesWithExcessiveJobs, scopesWithExpiredJobs, config.getPurgeBatchSize());
+      } catch (final IOException e) {
+        throw new RuntimeException("failed to list the jobs to purge", e);
+      }
+      if (batch.isEmpty()) {
+        break;
+      }
+
+      final List<Path> logPaths;
+      try {
+        logPaths = jobPersistence.deleteJobs(batch);
+      } catch (final IOException e) {
+        throw new RuntimeException("failed to delete jobs " + batch, e);
+      }
+      purgedJobs += batch.size();
+
+      // the jobs are already gone, so logs that fail to be deleted are only reported.
+      try {
+        logClient.deleteJobLogs(workerEnvironment, logConfigs, logPaths);
+        deletedLogs += logPaths.size();
+      } catch (final RuntimeException e) {
+        LOGGER.error("Failed to delete the logs of jobs {}", batch, e);
+        failedLogDeletes += logPaths.size();
+      }
+      // a partial batch was the last one.
+    } while (batch.size() == config.getPurgeBatchSize());
+
+    final Duration duration = Duration.between(start, timeSupplier.get());
+    LOGGER.info("Job History Purge Summary. Purged jobs: {}, Deleted attempt logs: {}, Failed attempt log deletes: {}, Duration: {}",
+        purgedJobs,
+        deletedLogs,
+        failedLogDeletes,
+        duration);
+    metrics.incrementCounter("job_history_purged_jobs", purgedJobs, "number of jobs deleted by the job history purge");
+    metrics.incrementCounter("job_history_deleted_attempt_logs", deletedLogs, "number of attempt logs deleted by the job history purge");
+    metrics.incrementCounter("job_history_failed_attempt_log_deletes", failedLogDeletes,
+        "number of attempt logs the job history purge failed to delete");
+    metrics.recordTime("job_history_purge_duration_seconds", duration.toMillis() / 1000.0, "duration of the job history purge");
+  }
+
+}
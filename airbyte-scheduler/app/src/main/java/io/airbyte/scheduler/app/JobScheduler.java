@@ -20,7 +20,9 @@ import io.airbyte.validation.json.JsonValidationException;
 import java.io.IOException;
 import java.time.Instant;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.UUID;
 import java.util.function.BiPredicate;
 import java.util.stream.Collectors;
 import org.slf4j.Logger;
@@ -80,8 +82,13 @@ public class JobScheduler implements Runnable {
     LOGGER.debug("Total active connections: {}", activeConnections.size());
     LOGGER.debug("Time to retrieve all connections: {} ms", queryEnd - start);
 
+    final Map<UUID, Job> previousJobs = jobPersistence.getLastReplicationJobs(activeConnections.stream()
+        .map(StandardSync::getConnectionId)
+        .collect(Collectors.toSet()));
+    LOGGER.debug("Time to retrieve the last jobs: {} ms", System.currentTimeMillis() - queryEnd);
+
     for (final StandardSync connection : activeConnections) {
-      final Optional<Job> previousJobOptional = jobPersistence.getLastReplicationJob(connection.getConnectionId());
+      final Optional<Job> previousJobOptional = Optional.ofNullable(previousJobs.get(connection.getConnectionId()));
 
       if (scheduleJobPredicate.test(previousJobOptional, connection)) {
         jobFactory.create(connection.getConnectionId());
@@ -5,7 +5,6 @@
 package io.airbyte.scheduler.app;
 
 import com.google.common.annotations.VisibleForTesting;
-import com.google.common.collect.Sets;
 import io.airbyte.commons.concurrency.LifecycledCallable;
 import io.airbyte.commons.enums.Enums;
 import io.airbyte.config.Configs.WorkerEnvironment;
@@ -21,12 +20,12 @@ import io.airbyte.scheduler.persistence.JobNotifier;
 import io.airbyte.scheduler.persistence.JobPersistence;
 import io.airbyte.scheduler.persistence.job_tracker.JobTracker;
 import io.airbyte.scheduler.persistence.job_tracker.JobTracker.JobState;
+import java.io.IOException;
 import java.nio.file.Path;
-import java.util.Optional;
-import java.util.Set;
+import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.ExecutorService;
-import java.util.function.Consumer;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.slf4j.MDC;
@@ -44,8 +43,10 @@ public class JobSubmitter implements Runnable {
   private final LogConfigs logConfigs;
   private final ConfigRepository configRepository;
 
-  // See attemptJobSubmit() to understand the need for this Concurrent Set.
-  private final Set<Long> runningJobs = Sets.newConcurrentHashSet();
+  private final int maxConcurrentJobs;
+
+  // jobs submitted by this scheduler whose execution has not finished yet.
+  private final AtomicInteger inFlightJobs = new AtomicInteger();
 
   public JobSubmitter(final ExecutorService threadPool,
                       final JobPersistence persistence,
@@ -54,7 +55,8 @@ public class JobSubmitter implements Runnable {
                       final JobNotifier jobNotifier,
                       final WorkerEnvironment workerEnvironment,
                       final LogConfigs logConfigs,
-                      final ConfigRepository configRepository) {
+                      final ConfigRepository configRepository,
+                      final int maxConcurrentJobs) {
     this.threadPool = threadPool;
     this.persistence = persistence;
     this.temporalWorkerRunFactory = temporalWorkerRunFactory;
@@ -63,6 +65,7 @@ public class JobSubmitter implements Runnable {
     this.workerEnvironment = workerEnvironment;
     this.logConfigs = logConfigs;
     this.configRepository = configRepository;
+    this.maxConcurrentJobs = maxConcurrentJobs;
   }
 
   @Override
@@ -71,46 +74,38 @@ public class JobSubmitter implements Runnable {
       LOGGER.debug("Running job-submitter...");
       final var start = System.currentTimeMillis();
 
-      final Optional<Job> nextJob = persistence.getNextJob();
-
-      nextJob.ifPresent(attemptJobSubmit());
+      // only claim as many jobs as there are free worker threads, so that claimed jobs do not wait in the
+      // thread pool queue while they are already marked as running.
+      final List<Job> claimedJobs = persistence.claimNextJobs(maxConcurrentJobs - inFlightJobs.get());
+      for (final Job job : claimedJobs) {
+        attemptJobSubmit(job);
+      }
 
       final var end = System.currentTimeMillis();
-      LOGGER.debug("Completed Job-Submitter. Time taken: {} ms", end - start);
+      LOGGER.debug("Completed Job-Submitter. Submitted {} jobs. Time taken: {} ms", claimedJobs.size(), end - start);
     } catch (final Throwable e) {
       LOGGER.error("Job Submitter Error", e);
     }
   }
 
   /**
-   * Since job submission and job execution happen in two separate thread pools, and job execution is
-   * what removes a job from the submission queue, it is possible for a job to be submitted multiple
-   * times.
-   * <p>
-   * This synchronised block guarantees only a single thread can utilise the concurrent set to decide
-   * whether a job should be submitted. This job id is added here, and removed in the finish block of
-   * {@link #submitJob(Job)}.
-   * <p>
-   * Since {@link JobPersistence#getNextJob()} returns the next queued job, this solution cause
-   * head-of-line blocking as the JobSubmitter tries to submit the same job. However, this suggests
-   * the Worker Pool needs more workers and is inevitable when dealing with pending jobs.
-   * <p>
-   * See https://github.com/airbytehq/airbyte/issues/4378 for more info.
+   * Jobs are claimed through {@link JobPersistence#claimNextJobs(int)}, which sets them to running in
+   * the same transaction, so a job is only ever handed to a single submission.
    */
-  synchronized private Consumer<Job> attemptJobSubmit() {
-    return job -> {
-      if (!runningJobs.contains(job.getId())) {
-        runningJobs.add(job.getId());
-        trackSubmission(job);
-        submitJob(job);
-        final var pending = SchedulerApp.PENDING_JOBS.decrementAndGet();
-        LOGGER.info("Job-Submitter Summary. Submitted job with scope {}", job.getScope());
-        LOGGER.debug("Pending jobs: {}", pending);
-      } else {
-        LOGGER.info("Attempting to submit already running job {}. There are probably too many queued jobs.", job.getId());
-        LOGGER.debug("Pending jobs: {}", SchedulerApp.PENDING_JOBS.get());
-      }
-    };
+  private void attemptJobSubmit(final Job job) throws IOException {
+    trackSubmission(job);
+    try {
+      submitJob(job);
+    } catch (final RuntimeException e) {
+      // the attempt is only created once the job runs, so there is no attempt to fail. put the job back
+      // in the queue instead of leaving it running without a worker.
+      LOGGER.error("Could not submit claimed job {}", job.getId(), e);
+      persistence.resetJob(job.getId());
+      return;
+    }
+    final var pending = SchedulerApp.PENDING_JOBS.decrementAndGet();
+    LOGGER.info("Job-Submitter Summary. Submitted job with scope {}", job.getScope());
+    LOGGER.debug("Pending jobs: {}", pending);
   }
 
   @VisibleForTesting
@@ -123,6 +118,17 @@ public class JobSubmitter implements Runnable {
     // persistence to control what the attempt number should be while still allowing us to declare it
     // before the lifecycle begins.
     final int attemptNumber = job.getAttempts().size();
+    inFlightJobs.incrementAndGet();
+    try {
+      submitToThreadPool(job, workerRun, attemptNumber);
+    } catch (final RuntimeException e) {
+      // the callable never runs, so its finish hook does not free the slot.
+      inFlightJobs.decrementAndGet();
+      throw e;
+    }
+  }
+
+  private void submitToThreadPool(final Job job, final WorkerRun workerRun, final int attemptNumber) {
     threadPool.submit(new LifecycledCallable.Builder<>(workerRun)
         .setOnStart(() -> {
           // TODO(Issue-4204): This should save the fully qualified job path.
@@ -162,7 +168,7 @@ public class JobSubmitter implements Runnable {
           trackCompletion(job, io.airbyte.workers.JobStatus.FAILED);
         })
         .setOnFinish(() -> {
-          runningJobs.remove(job.getId());
+          inFlightJobs.decrementAndGet();
           LOGGER.debug("Job id {} cleared", job.getId());
           MDC.clear();
         })
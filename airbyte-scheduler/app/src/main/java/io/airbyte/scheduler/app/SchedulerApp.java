@@ -62,6 +62,11 @@ import org.slf4j.MDC;
  * submitter thread pool. This pool does the work of submitting jobs to temporal - the size of this
  * pool determines the number of concurrent jobs that can be run. This is controlled via the
  * SUBMITTER_NUM_THREADS variable of EnvConfigs.
+ * <p>
+ * Only a single scheduler may run against a jobs database. Jobs do not record which scheduler runs
+ * them, so at startup every running job is treated as a zombie left by the previous scheduler,
+ * including jobs that another scheduler is still running. Jobs that were claimed but never started,
+ * which are RUNNING without any attempt, are put back in the queue and the others are failed.
  */
 public class SchedulerApp {
 
@@ -78,6 +83,7 @@ public class SchedulerApp {
   private final JobPersistence jobPersistence;
   private final ConfigRepository configRepository;
   private final JobCleaner jobCleaner;
+  private final JobHistoryPurger jobHistoryPurger;
   private final JobNotifier jobNotifier;
   private final TemporalClient temporalClient;
   private final int submitterNumThreads;
@@ -90,6 +96,7 @@ public class SchedulerApp {
                       final JobPersistence jobPersistence,
                       final ConfigRepository configRepository,
                       final JobCleaner jobCleaner,
+                      final JobHistoryPurger jobHistoryPurger,
                       final JobNotifier jobNotifier,
                       final TemporalClient temporalClient,
                       final Integer submitterNumThreads,
@@ -101,6 +108,7 @@ public class SchedulerApp {
     this.jobPersistence = jobPersistence;
     this.configRepository = configRepository;
     this.jobCleaner = jobCleaner;
+    this.jobHistoryPurger = jobHistoryPurger;
     this.jobNotifier = jobNotifier;
     this.temporalClient = temporalClient;
     this.submitterNumThreads = submitterNumThreads;
@@ -124,7 +132,7 @@ public class SchedulerApp {
         jobPersistence,
         temporalWorkerRunFactory,
         new JobTracker(configRepository, jobPersistence, trackingClient),
-        jobNotifier, workerEnvironment, logConfigs, configRepository);
+        jobNotifier, workerEnvironment, logConfigs, configRepository, submitterNumThreads);
 
     final Map<String, String> mdc = MDC.getCopyOfContextMap();
 
@@ -155,7 +163,7 @@ public class SchedulerApp {
         () -> {
           MDC.setContextMap(mdc);
           jobCleaner.run();
-          jobPersistence.purgeJobHistory();
+          jobHistoryPurger.run();
         },
         CLEANING_DELAY.toSeconds(),
         CLEANING_DELAY.toSeconds(),
@@ -167,6 +175,16 @@ public class SchedulerApp {
 
   private void cleanupZombies(final JobPersistence jobPersistence, final JobNotifier jobNotifier) throws IOException {
     for (final Job zombieJob : jobPersistence.listJobsWithStatus(JobStatus.RUNNING)) {
+      if (zombieJob.getAttemptsCount() == 0) {
+        // claimed by the submitter before the restart, but never started.
+        LOGGER.warn("zombie clean up - job was put back in the queue. job id: {}, type: {}, scope: {}",
+            zombieJob.getId(),
+            zombieJob.getConfigType(),
+            zombieJob.getScope());
+        jobPersistence.resetJob(zombieJob.getId());
+        continue;
+      }
+
       jobNotifier.failJob("zombie job was failed", zombieJob);
 
       final int currentAttemptNumber = zombieJob.getAttemptsCount() - 1;
@@ -262,12 +280,22 @@ public class SchedulerApp {
     final Map<String, String> mdc = MDC.getCopyOfContextMap();
     MetricSingleton.initializeMonitoringServiceDaemon("8082", mdc, configs.getPublishMetrics());
 
+    final JobHistoryPurger jobHistoryPurger = new JobHistoryPurger(
+        configs.getJobHistoryRetentionConfig(),
+        jobPersistence,
+        LogClientSingleton.getInstance(),
+        configs.getWorkerEnvironment(),
+        configs.getLogConfigs(),
+        MetricSingleton.getInstance(),
+        Instant::now);
+
     LOGGER.info("Launching scheduler...");
     new SchedulerApp(
         workspaceRoot,
         jobPersistence,
         configRepository,
         jobCleaner,
+        jobHistoryPurger,
         jobNotifier,
         temporalClient,
         Integer.parseInt(configs.getSubmitterNumThreads()),
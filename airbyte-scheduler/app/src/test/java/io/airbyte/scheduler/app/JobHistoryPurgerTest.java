@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2021 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.scheduler.app;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+import io.airbyte.config.Configs.WorkerEnvironment;
+import io.airbyte.config.JobHistoryRetentionConfig;
+import io.airbyte.config.helpers.LogClientSingleton;
+import io.airbyte.config.helpers.LogConfigs;
+import io.airbyte.metrics.MetricSingleton;
+import io.airbyte.scheduler.persistence.JobPersistence;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class JobHistoryPurgerTest {
+
+  private static final Instant NOW = Instant.now();
+  private static final Duration MAX_PURGE_DURATION = Duration.ofMinutes(10);
+  private static final JobHistoryRetentionConfig CONFIG = new JobHistoryRetentionConfig(30, 10, 500, 2, MAX_PURGE_DURATION);
+  private static final List<Path> FIRST_LOG_PATHS = List.of(Path.of("/workspace/1/0/logs.log"), Path.of("/workspace/2/0/logs.log"));
+  private static final List<Path> SECOND_LOG_PATHS = List.of(Path.of("/workspace/3/0/logs.log"));
+  private static final Set<String> SCOPES_WITH_EXCESSIVE_JOBS = Set.of("connection");
+  private static final Set<String> SCOPES_WITH_EXPIRED_JOBS = Set.of("connection", "old_connection");
+
+  private JobPersistence jobPersistence;
+  private LogClientSingleton logClient;
+  private LogConfigs logConfigs;
+  private MetricSingleton metrics;
+  private Supplier<Instant> timeSupplier;
+  private JobHistoryPurger jobHistoryPurger;
+
+  @SuppressWarnings("unchecked")
+  @BeforeEach
+  void setup() throws IOException {
+    jobPersistence = mock(JobPersistence.class);
+    logClient = mock(LogClientSingleton.class);
+    logConfigs = mock(LogConfigs.class);
+    metrics = mock(MetricSingleton.class);
+    timeSupplier = mock(Supplier.class);
+    when(timeSupplier.get()).thenReturn(NOW);
+
+    when(jobPersistence.listScopesWithExcessiveJobs(CONFIG)).thenReturn(SCOPES_WITH_EXCESSIVE_JOBS);
+    when(jobPersistence.listScopesWithExpiredJobs(eq(CONFIG), any())).thenReturn(SCOPES_WITH_EXPIRED_JOBS);
+    // each batch is listed once the previous one is deleted.
+    when(jobPersistence.listJobIdsToPurge(eq(CONFIG), any(), eq(SCOPES_WITH_EXCESSIVE_JOBS), eq(SCOPES_WITH_EXPIRED_JOBS), eq(2)))
+        .thenReturn(List.of(1L, 2L))
+        .thenReturn(List.of(3L));
+    when(jobPersistence.deleteJobs(List.of(1L, 2L))).thenReturn(FIRST_LOG_PATHS);
+    when(jobPersistence.deleteJobs(List.of(3L))).thenReturn(SECOND_LOG_PATHS);
+
+    jobHistoryPurger = new JobHistoryPurger(CONFIG, jobPersistence, logClient, WorkerEnvironment.KUBERNETES, logConfigs, metrics, timeSupplier);
+  }
+
+  @Test
+  void testPurgeInBatches() throws IOException {
+    jobHistoryPurger.run();
+
+    verify(jobPersistence).listScopesWithExcessiveJobs(CONFIG);
+    verify(jobPersistence).listScopesWithExpiredJobs(eq(CONFIG), any());
+    // the second batch is not full, so it is the last one.
+    verify(jobPersistence, times(2)).listJobIdsToPurge(eq(CONFIG), any(), eq(SCOPES_WITH_EXCESSIVE_JOBS), eq(SCOPES_WITH_EXPIRED_JOBS), eq(2));
+    verify(jobPersistence).deleteJobs(List.of(1L, 2L));
+    verify(jobPersistence).deleteJobs(List.of(3L));
+    verifyNoMoreInteractions(jobPersistence);
+    verify(logClient).deleteJobLogs(WorkerEnvironment.KUBERNETES, logConfigs, FIRST_LOG_PATHS);
+    verify(logClient).deleteJobLogs(WorkerEnvironment.KUBERNETES, logConfigs, SECOND_LOG_PATHS);
+    verify(metrics).incrementCounter(eq("job_history_purged_jobs"), eq(3.0), anyString());
+    verify(metrics).incrementCounter(eq("job_history_deleted_attempt_logs"), eq(3.0), anyString());
+    verify(metrics).incrementCounter(eq("job_history_failed_attempt_log_deletes"), eq(0.0), anyString());
+  }
+
+  @Test
+  void testPurgeStopsWhenOutOfTime() throws IOException {
+    // start, first batch, second batch, end of the purge
+    when(timeSupplier.get()).thenReturn(NOW, NOW, NOW.plus(MAX_PURGE_DURATION), NOW.plus(MAX_PURGE_DURATION));
+
+    jobHistoryPurger.run();
+
+    verify(jobPersistence).listScopesWithExcessiveJobs(CONFIG);
+    verify(jobPersistence).listScopesWithExpiredJobs(eq(CONFIG), any());
+    verify(jobPersistence).listJobIdsToPurge(eq(CONFIG), any(), eq(SCOPES_WITH_EXCESSIVE_JOBS), eq(SCOPES_WITH_EXPIRED_JOBS), eq(2));
+    verify(jobPersistence).deleteJobs(List.of(1L, 2L));
+    verifyNoMoreInteractions(jobPersistence);
+    verify(metrics).incrementCounter(eq("job_history_purged_jobs"), eq(2.0), anyString());
+    verify(metrics).recordTime(eq("job_history_purge_duration_seconds"), eq((double) MAX_PURGE_DURATION.toSeconds()), anyString());
+  }
+
+  @Test
+  void testPurgeStopsWhenNoJobIsLeft() throws IOException {
+    when(jobPersistence.listJobIdsToPurge(eq(CONFIG), any(), eq(SCOPES_WITH_EXCESSIVE_JOBS), eq(SCOPES_WITH_EXPIRED_JOBS), eq(2)))
+        .thenReturn(List.of(1L, 2L))
+        .thenReturn(List.of());
+
+    jobHistoryPurger.run();
+
+    verify(jobPersistence, times(2)).listJobIdsToPurge(eq(CONFIG), any(), eq(SCOPES_WITH_EXCESSIVE_JOBS), eq(SCOPES_WITH_EXPIRED_JOBS), eq(2));
+    verify(jobPersistence).deleteJobs(List.of(1L, 2L));
+    verify(metrics).incrementCounter(eq("job_history_purged_jobs"), eq(2.0), anyString());
+  }
+
+  @Test
+  void testFailedLogDeleteDoesNotStopPurge() throws IOException {
+    doThrow(new RuntimeException("storage unavailable"))
+        .when(logClient).deleteJobLogs(WorkerEnvironment.KUBERNETES, logConfigs, FIRST_LOG_PATHS);
+
+    jobHistoryPurger.run();
+
+    verify(jobPersistence).deleteJobs(List.of(3L));
+    verify(logClient).deleteJobLogs(WorkerEnvironment.KUBERNETES, logConfigs, SECOND_LOG_PATHS);
+    verify(metrics).incrementCounter(eq("job_history_purged_jobs"), eq(3.0), anyString());
+    verify(metrics).incrementCounter(eq("job_history_deleted_attempt_logs"), eq(1.0), anyString());
+    verify(metrics).incrementCounter(eq("job_history_failed_attempt_log_deletes"), eq(2.0), anyString());
+    verify(metrics).recordTime(eq("job_history_purge_duration_seconds"), anyDouble(), anyString());
+  }
+
+}
@@ -28,7 +28,9 @@ import io.airbyte.validation.json.JsonValidationException;
 import java.io.IOException;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -91,8 +93,8 @@ class JobSchedulerTest {
 
   @Test
   public void testScheduleJob() throws JsonValidationException, ConfigNotFoundException, IOException {
-    when(jobPersistence.getLastReplicationJob(STANDARD_SYNC.getConnectionId()))
-        .thenReturn(java.util.Optional.of(previousJob));
+    when(jobPersistence.getLastReplicationJobs(Set.of(STANDARD_SYNC.getConnectionId())))
+        .thenReturn(Map.of(STANDARD_SYNC.getConnectionId(), previousJob));
     when(scheduleJobPredicate.test(Optional.of(previousJob), STANDARD_SYNC)).thenReturn(true);
     when(jobFactory.create(STANDARD_SYNC.getConnectionId())).thenReturn(JOB_ID);
     setConfigMocks();
@@ -101,14 +103,14 @@ class JobSchedulerTest {
 
     verifyConfigCalls();
     verify(scheduleJobPredicate).test(Optional.of(previousJob), STANDARD_SYNC);
-    verify(jobPersistence).getLastReplicationJob(STANDARD_SYNC.getConnectionId());
+    verify(jobPersistence).getLastReplicationJobs(Set.of(STANDARD_SYNC.getConnectionId()));
     verify(jobFactory).create(STANDARD_SYNC.getConnectionId());
   }
 
   @Test
   public void testScheduleJobNoPreviousJob() throws JsonValidationException, ConfigNotFoundException, IOException {
-    when(jobPersistence.getLastReplicationJob(STANDARD_SYNC.getConnectionId()))
-        .thenReturn(java.util.Optional.empty());
+    when(jobPersistence.getLastReplicationJobs(Set.of(STANDARD_SYNC.getConnectionId())))
+        .thenReturn(Map.of());
     when(scheduleJobPredicate.test(Optional.empty(), STANDARD_SYNC)).thenReturn(true);
     when(jobFactory.create(STANDARD_SYNC.getConnectionId())).thenReturn(JOB_ID);
     setConfigMocks();
@@ -117,14 +119,14 @@ class JobSchedulerTest {
 
     verifyConfigCalls();
     verify(scheduleJobPredicate).test(Optional.empty(), STANDARD_SYNC);
-    verify(jobPersistence).getLastReplicationJob(STANDARD_SYNC.getConnectionId());
+    verify(jobPersistence).getLastReplicationJobs(Set.of(STANDARD_SYNC.getConnectionId()));
     verify(jobFactory).create(STANDARD_SYNC.getConnectionId());
   }
 
   @Test
   public void testDoNotScheduleJob() throws JsonValidationException, ConfigNotFoundException, IOException {
-    when(jobPersistence.getLastReplicationJob(STANDARD_SYNC.getConnectionId()))
-        .thenReturn(java.util.Optional.of(previousJob));
+    when(jobPersistence.getLastReplicationJobs(Set.of(STANDARD_SYNC.getConnectionId())))
+        .thenReturn(Map.of(STANDARD_SYNC.getConnectionId(), previousJob));
     when(scheduleJobPredicate.test(Optional.of(previousJob), STANDARD_SYNC)).thenReturn(false);
     setConfigMocks();
 
@@ -132,7 +134,7 @@ class JobSchedulerTest {
 
     verifyConfigCalls();
     verify(scheduleJobPredicate).test(Optional.of(previousJob), STANDARD_SYNC);
-    verify(jobPersistence).getLastReplicationJob(STANDARD_SYNC.getConnectionId());
+    verify(jobPersistence).getLastReplicationJobs(Set.of(STANDARD_SYNC.getConnectionId()));
     verify(jobFactory, never()).create(STANDARD_SYNC.getConnectionId());
   }
 
@@ -146,7 +148,7 @@ class JobSchedulerTest {
 
     verify(configRepository).listStandardSyncs();
     verify(scheduleJobPredicate, never()).test(Optional.of(previousJob), STANDARD_SYNC);
-    verify(jobPersistence, never()).getLastReplicationJob(standardSync.getConnectionId());
+    verify(jobPersistence).getLastReplicationJobs(Set.of());
     verify(jobFactory, never()).create(standardSync.getConnectionId());
   }
 
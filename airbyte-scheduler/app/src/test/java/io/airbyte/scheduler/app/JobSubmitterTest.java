@@ -11,7 +11,6 @@ import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
-import static org.mockito.Mockito.atLeast;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
@@ -45,10 +44,15 @@ import io.airbyte.workers.OutputAndStatus;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
@@ -63,6 +67,7 @@ public class JobSubmitterTest {
   private static final OutputAndStatus<JobOutput> FAILED_OUTPUT = new OutputAndStatus<>(JobStatus.FAILED);
   private static final long JOB_ID = 1L;
   private static final int ATTEMPT_NUMBER = 12;
+  private static final int MAX_CONCURRENT_JOBS = 2;
 
   private JobPersistence persistence;
   private TemporalWorkerRunFactory workerRunFactory;
@@ -91,7 +96,7 @@ public class JobSubmitterTest {
 
     persistence = mock(JobPersistence.class);
     this.logPath = jobRoot.resolve(LogClientSingleton.LOG_FILENAME);
-    when(persistence.getNextJob()).thenReturn(Optional.of(job));
+    when(persistence.claimNextJobs(anyInt())).thenReturn(List.of(job));
     when(persistence.createAttempt(JOB_ID, logPath)).thenReturn(ATTEMPT_NUMBER);
     jobNotifier = mock(JobNotifier.class);
 
@@ -105,7 +110,8 @@ public class JobSubmitterTest {
         jobNotifier,
         WorkerEnvironment.DOCKER,
         LogConfigs.EMPTY,
-        configRepository));
+        configRepository,
+        MAX_CONCURRENT_JOBS));
   }
 
   @Test
@@ -120,7 +126,7 @@ public class JobSubmitterTest {
 
   @Test
   public void testPersistenceNoJob() throws Exception {
-    doReturn(Optional.empty()).when(persistence).getNextJob();
+    doReturn(List.of()).when(persistence).claimNextJobs(anyInt());
 
     jobSubmitter.run();
 
@@ -261,70 +267,109 @@ public class JobSubmitterTest {
   }
 
   @Nested
-  class OnlyOneJobIdRunning {
+  class ClaimingJobs {
 
-    /**
-     * See {@link JobSubmitter#attemptJobSubmit()} to understand why we need to test that only one job
-     * id can be successfully submited at once.
-     */
     @Test
-    public void testOnlyOneJobCanBeSubmittedAtOnce() throws Exception {
-      final var jobDone = new AtomicReference<>(false);
-      when(workerRun.call()).thenAnswer((a) -> {
-        Thread.sleep(5000);
-        jobDone.set(true);
+    public void testOnlyFreeThreadsAreFilled() throws Exception {
+      final Job job2 = mock(Job.class, RETURNS_DEEP_STUBS);
+      when(job2.getId()).thenReturn(JOB_ID + 1);
+      when(job2.getAttempts().size()).thenReturn(ATTEMPT_NUMBER);
+      when(workerRunFactory.create(job2)).thenReturn(workerRun);
+      when(persistence.createAttempt(anyLong(), any())).thenReturn(ATTEMPT_NUMBER);
+      when(persistence.claimNextJobs(MAX_CONCURRENT_JOBS)).thenReturn(List.of(job, job2));
+      when(persistence.claimNextJobs(0)).thenReturn(List.of());
+      final CountDownLatch release = new CountDownLatch(1);
+      when(workerRun.call()).thenAnswer(a -> {
+        release.await();
         return SUCCESS_OUTPUT;
       });
 
-      // Simulate the same job being submitted over and over again.
-      final var simulatedJobSubmitterPool = Executors.newFixedThreadPool(10);
-      while (!jobDone.get()) {
-        // This sleep mimics our SchedulerApp loop.
-        Thread.sleep(1000);
-        simulatedJobSubmitterPool.submit(() -> {
-          if (!jobDone.get()) {
-            jobSubmitter.run();
-          }
-        });
-      }
-
-      simulatedJobSubmitterPool.shutdownNow();
-      // This is expected to be called at least once due to the various threads.
-      verify(persistence, atLeast(2)).getNextJob();
-      // Assert that the job is actually only submitted once.
-      verify(jobSubmitter, Mockito.times(1)).submitJob(Mockito.any());
+      final ExecutorService threadPool = Executors.newFixedThreadPool(MAX_CONCURRENT_JOBS);
+      final JobSubmitter submitter = spy(new JobSubmitter(
+          threadPool,
+          persistence,
+          workerRunFactory,
+          jobTracker,
+          jobNotifier,
+          WorkerEnvironment.DOCKER,
+          LogConfigs.EMPTY,
+          configRepository,
+          MAX_CONCURRENT_JOBS));
+
+      // both jobs are dispatched in a single tick.
+      submitter.run();
+      verify(submitter).submitJob(job);
+      verify(submitter).submitJob(job2);
+
+      // no thread is free until they finish.
+      submitter.run();
+      verify(persistence).claimNextJobs(0);
+
+      release.countDown();
+      threadPool.shutdown();
+      assertTrue(threadPool.awaitTermination(10, TimeUnit.SECONDS));
+
+      submitter.run();
+      verify(persistence, Mockito.times(2)).claimNextJobs(MAX_CONCURRENT_JOBS);
     }
 
     @Test
-    public void testSuccessShouldUnlockId() throws Exception {
+    public void testSuccessShouldFreeThread() throws Exception {
       when(workerRun.call()).thenReturn(SUCCESS_OUTPUT);
 
       jobSubmitter.run();
-
-      // This sleep mimics our SchedulerApp loop.
-      Thread.sleep(1000);
-
-      // If the id was not removed, the second call would not trigger submitJob().
       jobSubmitter.run();
 
-      verify(persistence, Mockito.times(2)).getNextJob();
+      // if the job was still counted as running, the second call would claim fewer jobs.
+      verify(persistence, Mockito.times(2)).claimNextJobs(MAX_CONCURRENT_JOBS);
       verify(jobSubmitter, Mockito.times(2)).submitJob(Mockito.any());
     }
 
     @Test
-    public void testFailureShouldUnlockId() throws Exception {
+    public void testFailureShouldFreeThread() throws Exception {
       when(workerRun.call()).thenThrow(new RuntimeException());
 
+      jobSubmitter.run();
       jobSubmitter.run();
 
-      // This sleep mimics our SchedulerApp loop.
-      Thread.sleep(1000);
+      verify(persistence, Mockito.times(2)).claimNextJobs(MAX_CONCURRENT_JOBS);
+      verify(jobSubmitter, Mockito.times(2)).submitJob(Mockito.any());
+    }
+
+    @Test
+    public void testSubmissionErrorReleasesClaim() throws Exception {
+      doThrow(new RuntimeException()).when(workerRunFactory).create(job);
 
-      // If the id was not removed, the second call would not trigger submitJob().
       jobSubmitter.run();
 
-      verify(persistence, Mockito.times(2)).getNextJob();
-      verify(jobSubmitter, Mockito.times(2)).submitJob(Mockito.any());
+      // no attempt was created, so the job goes straight back to pending.
+      verify(persistence).resetJob(JOB_ID);
+      verify(persistence, never()).createAttempt(anyLong(), any());
+      verify(persistence, never()).failAttempt(anyLong(), anyInt());
+    }
+
+    @Test
+    public void testRejectedSubmissionShouldFreeThread() throws Exception {
+      final ExecutorService threadPool = mock(ExecutorService.class);
+      when(threadPool.submit(any(Callable.class))).thenThrow(new RejectedExecutionException());
+      final JobSubmitter submitter = new JobSubmitter(
+          threadPool,
+          persistence,
+          workerRunFactory,
+          jobTracker,
+          jobNotifier,
+          WorkerEnvironment.DOCKER,
+          LogConfigs.EMPTY,
+          configRepository,
+          MAX_CONCURRENT_JOBS);
+
+      submitter.run();
+      submitter.run();
+
+      // if the rejected job was still counted as running, the second call would claim fewer jobs.
+      verify(persistence, Mockito.times(2)).claimNextJobs(MAX_CONCURRENT_JOBS);
+      verify(persistence, Mockito.times(2)).resetJob(JOB_ID);
+      verify(persistence, never()).failAttempt(anyLong(), anyInt());
     }
 
   }
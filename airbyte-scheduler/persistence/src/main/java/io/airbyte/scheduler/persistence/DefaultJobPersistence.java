@@ -21,6 +21,7 @@ import io.airbyte.commons.text.Sqls;
 import io.airbyte.commons.version.AirbyteVersion;
 import io.airbyte.config.JobConfig;
 import io.airbyte.config.JobConfig.ConfigType;
+import io.airbyte.config.JobHistoryRetentionConfig;
 import io.airbyte.config.JobOutput;
 import io.airbyte.db.Database;
 import io.airbyte.db.ExceptionWrappingDatabase;
@@ -33,6 +34,7 @@ import io.airbyte.scheduler.models.Job;
 import io.airbyte.scheduler.models.JobStatus;
 import java.io.IOException;
 import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
 import java.time.Instant;
 import java.time.LocalDateTime;
@@ -40,8 +42,10 @@ import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Base64;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
@@ -68,11 +72,6 @@ import org.slf4j.LoggerFactory;
 
 public class DefaultJobPersistence implements JobPersistence {
 
-  // not static because job history test case manipulates these.
-  private final int JOB_HISTORY_MINIMUM_AGE_IN_DAYS;
-  private final int JOB_HISTORY_MINIMUM_RECENCY;
-  private final int JOB_HISTORY_EXCESSIVE_NUMBER_OF_JOBS;
-
   private static final Logger LOGGER = LoggerFactory.getLogger(DefaultJobPersistence.class);
   private static final Set<String> SYSTEM_SCHEMA = Set
       .of("pg_toast", "information_schema", "pg_catalog", "import_backup", "pg_internal",
@@ -104,6 +103,35 @@ public class DefaultJobPersistence implements JobPersistence {
           + "attempts.ended_at AS attempt_ended_at\n"
           + "FROM jobs LEFT OUTER JOIN attempts ON jobs.id = attempts.job_id ";
 
+  // a job waits while another job of its scope is running or incomplete.
+  private static final String NO_ACTIVE_JOB_IN_SCOPE =
+      "NOT EXISTS ( SELECT 1 FROM jobs AS active_jobs WHERE active_jobs.scope = jobs.scope AND active_jobs.status IN ('running', 'incomplete') ) ";
+
+  // the same job columns as BASE_JOB_SELECT_AND_JOIN, for queries that load the attempts separately.
+  private static final String JOB_SELECT =
+      "SELECT\n"
+          + "jobs.id AS job_id,\n"
+          + "jobs.config_type AS config_type,\n"
+          + "jobs.scope AS scope,\n"
+          + "jobs.config AS config,\n"
+          + "jobs.status AS job_status,\n"
+          + "jobs.started_at AS job_started_at,\n"
+          + "jobs.created_at AS job_created_at,\n"
+          + "jobs.updated_at AS job_updated_at\n"
+          + "FROM jobs ";
+
+  private static final String ATTEMPT_SELECT =
+      "SELECT\n"
+          + "attempts.job_id AS job_id,\n"
+          + "attempts.attempt_number AS attempt_number,\n"
+          + "attempts.log_path AS log_path,\n"
+          + "attempts.output AS attempt_output,\n"
+          + "attempts.status AS attempt_status,\n"
+          + "attempts.created_at AS attempt_created_at,\n"
+          + "attempts.updated_at AS attempt_updated_at,\n"
+          + "attempts.ended_at AS attempt_ended_at\n"
+          + "FROM attempts ";
+
   private static final String AIRBYTE_METADATA_TABLE = "airbyte_metadata";
   public static final String ORDER_BY_JOB_TIME_ATTEMPT_TIME =
       "ORDER BY jobs.created_at DESC, jobs.id DESC, attempts.created_at ASC, attempts.id ASC ";
@@ -112,20 +140,13 @@ public class DefaultJobPersistence implements JobPersistence {
   private final Supplier<Instant> timeSupplier;
 
   @VisibleForTesting
-  DefaultJobPersistence(final Database jobDatabase,
-                        final Supplier<Instant> timeSupplier,
-                        final int minimumAgeInDays,
-                        final int excessiveNumberOfJobs,
-                        final int minimumRecencyCount) {
+  DefaultJobPersistence(final Database jobDatabase, final Supplier<Instant> timeSupplier) {
     this.jobDatabase = new ExceptionWrappingDatabase(jobDatabase);
     this.timeSupplier = timeSupplier;
-    JOB_HISTORY_MINIMUM_AGE_IN_DAYS = minimumAgeInDays;
-    JOB_HISTORY_EXCESSIVE_NUMBER_OF_JOBS = excessiveNumberOfJobs;
-    JOB_HISTORY_MINIMUM_RECENCY = minimumRecencyCount;
   }
 
   public DefaultJobPersistence(final Database jobDatabase) {
-    this(jobDatabase, Instant::now, 30, 500, 10);
+    this(jobDatabase, Instant::now);
   }
 
   /**
@@ -342,15 +363,62 @@ public class DefaultJobPersistence implements JobPersistence {
 
   @Override
   public List<Job> listJobs(final Set<ConfigType> configTypes, final String configId, final int pagesize, final int offset) throws IOException {
-    return jobDatabase.query(ctx -> getJobsFromResult(ctx.fetch(
-        BASE_JOB_SELECT_AND_JOIN + "WHERE " +
-            "CAST(config_type AS VARCHAR) in " + Sqls.toSqlInFragment(configTypes) + " " +
-            "AND scope = ? " +
-            ORDER_BY_JOB_TIME_ATTEMPT_TIME +
-            "LIMIT ? OFFSET ?",
+    return jobDatabase.query(ctx -> getJobsWithAttempts(ctx, ctx.fetch(
+        JOB_SELECT + "WHERE " +
+            "scope = ? AND " +
+            "config_type IN " + Sqls.toSqlInFragment(configTypes) + " " +
+            "ORDER BY created_at DESC, id DESC LIMIT ? OFFSET ?",
         configId, pagesize, offset)));
   }
 
+  @Override
+  public JobPage listJobs(final Set<ConfigType> configTypes, final String configId, final int pagesize, final Optional<String> cursor)
+      throws IOException {
+    // keyset pagination: the page starts right after the position held by the cursor, in
+    // (created_at, id) order.
+    final Optional<Object[]> position = cursor.map(DefaultJobPersistence::decodeJobCursor);
+    final String afterCondition = position.isPresent() ? "AND (created_at, id) < (?, ?) " : "";
+    final Object[] bindings = position
+        .map(createdAtAndId -> new Object[] {configId, createdAtAndId[0], createdAtAndId[1], pagesize})
+        .orElse(new Object[] {configId, pagesize});
+    return jobDatabase.query(ctx -> {
+      final Result<Record> jobRecords = ctx.fetch(
+          JOB_SELECT + "WHERE " +
+              "scope = ? AND " +
+              "config_type IN " + Sqls.toSqlInFragment(configTypes) + " " +
+              afterCondition +
+              "ORDER BY created_at DESC, id DESC LIMIT ?",
+          bindings);
+      final Optional<String> nextCursor = jobRecords.size() == pagesize && !jobRecords.isEmpty()
+          ? Optional.of(encodeJobCursor(jobRecords.get(jobRecords.size() - 1)))
+          : Optional.empty();
+      return new JobPage(getJobsWithAttempts(ctx, jobRecords), nextCursor);
+    });
+  }
+
+  // the cursor keeps created_at to the microsecond, as stored, since the epoch seconds of the job
+  // model would skip the jobs created later in the same second.
+  private static String encodeJobCursor(final Record jobRecord) {
+    final Instant createdAt = jobRecord.get("job_created_at", LocalDateTime.class).toInstant(ZoneOffset.UTC);
+    final String position = ChronoUnit.MICROS.between(Instant.EPOCH, createdAt) + ":" + jobRecord.get("job_id", Long.class);
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(position.getBytes(StandardCharsets.UTF_8));
+  }
+
+  // returns the created_at and id bindings of the position held by the cursor.
+  private static Object[] decodeJobCursor(final String cursor) {
+    try {
+      final String[] position = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split(":");
+      if (position.length != 2) {
+        throw new IllegalArgumentException("Invalid job cursor: " + cursor);
+      }
+      final Instant createdAt = Instant.EPOCH.plus(Long.parseLong(position[0]), ChronoUnit.MICROS);
+      return new Object[] {LocalDateTime.ofInstant(createdAt, ZoneOffset.UTC), Long.parseLong(position[1])};
+    } catch (final NumberFormatException e) {
+      // Base64 decoding errors are already IllegalArgumentExceptions.
+      throw new IllegalArgumentException("Invalid job cursor: " + cursor, e);
+    }
+  }
+
   @Override
   public List<Job> listJobsWithStatus(final JobStatus status) throws IOException {
     return listJobsWithStatus(Sets.newHashSet(ConfigType.values()), status);
@@ -360,8 +428,8 @@ public class DefaultJobPersistence implements JobPersistence {
   public List<Job> listJobsWithStatus(final Set<ConfigType> configTypes, final JobStatus status) throws IOException {
     return jobDatabase.query(ctx -> getJobsFromResult(ctx
         .fetch(BASE_JOB_SELECT_AND_JOIN + "WHERE " +
-            "CAST(config_type AS VARCHAR) IN " + Sqls.toSqlInFragment(configTypes) + " AND " +
-            "CAST(jobs.status AS VARCHAR) = ? " +
+            "jobs.status = CAST(? AS JOB_STATUS) AND " +
+            "jobs.config_type IN " + Sqls.toSqlInFragment(configTypes) + " " +
             ORDER_BY_JOB_TIME_ATTEMPT_TIME,
             Sqls.toSqlName(status))));
   }
@@ -374,16 +442,37 @@ public class DefaultJobPersistence implements JobPersistence {
   @Override
   public Optional<Job> getLastReplicationJob(final UUID connectionId) throws IOException {
     return jobDatabase.query(ctx -> ctx
-        .fetch(BASE_JOB_SELECT_AND_JOIN + "WHERE " +
-            "CAST(jobs.config_type AS VARCHAR) in " + Sqls.toSqlInFragment(Job.REPLICATION_TYPES) + " AND " +
+        .fetch("SELECT id FROM jobs WHERE " +
             "scope = ? AND " +
-            "CAST(jobs.status AS VARCHAR) <> ? " +
-            "ORDER BY jobs.created_at DESC LIMIT 1",
+            "config_type IN " + Sqls.toSqlInFragment(Job.REPLICATION_TYPES) + " AND " +
+            "status <> CAST(? AS JOB_STATUS) " +
+            "ORDER BY created_at DESC, id DESC LIMIT 1",
             connectionId.toString(),
             Sqls.toSqlName(JobStatus.CANCELLED))
         .stream()
         .findFirst()
-        .flatMap(r -> getJobOptional(ctx, r.get("job_id", Long.class))));
+        .flatMap(r -> getJobOptional(ctx, r.get("id", Long.class))));
+  }
+
+  @Override
+  public Map<UUID, Job> getLastReplicationJobs(final Set<UUID> connectionIds) throws IOException {
+    if (connectionIds.isEmpty()) {
+      return Map.of();
+    }
+    final String[] scopes = connectionIds.stream().map(UUID::toString).toArray(String[]::new);
+    // DISTINCT ON keeps the first row of each scope, i.e. its most recent job.
+    return jobDatabase.query(ctx -> getJobsFromResult(ctx
+        .fetch(BASE_JOB_SELECT_AND_JOIN + "WHERE jobs.id IN ( " +
+            "SELECT DISTINCT ON (scope) id FROM jobs WHERE " +
+            "scope = ANY(?) AND " +
+            "config_type IN " + Sqls.toSqlInFragment(Job.REPLICATION_TYPES) + " AND " +
+            "status <> CAST(? AS JOB_STATUS) " +
+            "ORDER BY scope, created_at DESC, id DESC ) " +
+            ORDER_BY_JOB_TIME_ATTEMPT_TIME,
+            scopes,
+            Sqls.toSqlName(JobStatus.CANCELLED)))
+        .stream()
+        .collect(Collectors.toMap(job -> UUID.fromString(job.getScope()), job -> job)));
   }
 
   @Override
@@ -393,13 +482,48 @@ public class DefaultJobPersistence implements JobPersistence {
     // 2. job is excluded if another job of the same scope is already running
     // 3. job is excluded if another job of the same scope is already incomplete
     return jobDatabase.query(ctx -> ctx
-        .fetch(BASE_JOB_SELECT_AND_JOIN + "WHERE " +
-            "CAST(jobs.status AS VARCHAR) = 'pending' AND " +
-            "jobs.scope NOT IN ( SELECT scope FROM jobs WHERE status = 'running' OR status = 'incomplete' ) " +
+        .fetch("SELECT id FROM jobs WHERE " +
+            "jobs.status = 'pending' AND " +
+            NO_ACTIVE_JOB_IN_SCOPE +
             "ORDER BY jobs.created_at ASC LIMIT 1")
         .stream()
         .findFirst()
-        .flatMap(r -> getJobOptional(ctx, r.get("job_id", Long.class))));
+        .flatMap(r -> getJobOptional(ctx, r.get("id", Long.class))));
+  }
+
+  @Override
+  public List<Job> claimNextJobs(final int limit) throws IOException {
+    if (limit <= 0) {
+      return List.of();
+    }
+    final LocalDateTime now = LocalDateTime.ofInstant(timeSupplier.get(), ZoneOffset.UTC);
+    // same rules as getNextJob, keeping the oldest pending job of each scope. rows locked by a
+    // concurrent claim are skipped, and a row that it claimed in the meantime is re-read and fails the
+    // status check, so two claims never return the same job or two jobs of the same scope.
+    return jobDatabase.transaction(ctx -> {
+      final Long[] jobIds = ctx
+          .fetch("SELECT id FROM jobs WHERE " +
+              "jobs.status = 'pending' AND " +
+              "jobs.id IN ( SELECT DISTINCT ON (scope) id FROM jobs WHERE status = 'pending' ORDER BY scope, created_at ASC, id ASC ) AND " +
+              NO_ACTIVE_JOB_IN_SCOPE +
+              "ORDER BY jobs.created_at ASC, jobs.id ASC LIMIT ? FOR UPDATE SKIP LOCKED",
+              limit)
+          .stream()
+          .map(r -> r.get("id", Long.class))
+          .toArray(Long[]::new);
+      if (jobIds.length == 0) {
+        return List.<Job>of();
+      }
+
+      ctx.execute(
+          "UPDATE jobs SET status = CAST(? as JOB_STATUS), updated_at = ? WHERE id = ANY(?)",
+          Sqls.toSqlName(JobStatus.RUNNING),
+          now,
+          jobIds);
+      return getJobsFromResult(ctx.fetch(BASE_JOB_SELECT_AND_JOIN + "WHERE jobs.id = ANY(?) " +
+          "ORDER BY jobs.created_at ASC, jobs.id ASC, attempts.created_at ASC, attempts.id ASC",
+          (Object) jobIds));
+    });
   }
 
   @Override
@@ -407,18 +531,23 @@ public class DefaultJobPersistence implements JobPersistence {
     final LocalDateTime timeConvertedIntoLocalDateTime = LocalDateTime.ofInstant(attemptEndedAtTimestamp, ZoneOffset.UTC);
     return jobDatabase.query(ctx -> getJobsFromResult(ctx
         .fetch(BASE_JOB_SELECT_AND_JOIN + "WHERE " +
-            "CAST(config_type AS VARCHAR) =  ? AND " +
-            " attempts.ended_at > ? ORDER BY jobs.created_at ASC, attempts.created_at ASC", Sqls.toSqlName(configType),
-            timeConvertedIntoLocalDateTime)));
+            "attempts.ended_at > ? AND " +
+            "jobs.config_type = CAST(? AS JOB_CONFIG_TYPE) " +
+            "ORDER BY jobs.created_at ASC, attempts.created_at ASC",
+            timeConvertedIntoLocalDateTime,
+            Sqls.toSqlName(configType))));
   }
 
   @Override
   public List<AttemptWithJobInfo> listAttemptsWithJobInfo(final ConfigType configType, final Instant attemptEndedAtTimestamp) throws IOException {
     final LocalDateTime timeConvertedIntoLocalDateTime = LocalDateTime.ofInstant(attemptEndedAtTimestamp, ZoneOffset.UTC);
     return jobDatabase.query(ctx -> getAttemptsWithJobsFromResult(ctx.fetch(
-        BASE_JOB_SELECT_AND_JOIN + "WHERE " + "CAST(config_type AS VARCHAR) =  ? AND " + " attempts.ended_at > ? ORDER BY attempts.ended_at ASC",
-        Sqls.toSqlName(configType),
-        timeConvertedIntoLocalDateTime)));
+        BASE_JOB_SELECT_AND_JOIN + "WHERE " +
+            "attempts.ended_at > ? AND " +
+            "jobs.config_type = CAST(? AS JOB_CONFIG_TYPE) " +
+            "ORDER BY attempts.ended_at ASC",
+        timeConvertedIntoLocalDateTime,
+        Sqls.toSqlName(configType))));
   }
 
   // Retrieves only Job information from the record, without any attempt info
@@ -473,6 +602,20 @@ public class DefaultJobPersistence implements JobPersistence {
     return jobs;
   }
 
+  // loads the attempts of a page of jobs with a single query, instead of joining them into the query
+  // of the page, which returns a row per attempt.
+  private static List<Job> getJobsWithAttempts(final DSLContext ctx, final Result<Record> jobRecords) {
+    final List<Job> jobs = jobRecords.stream().map(DefaultJobPersistence::getJobFromRecord).collect(Collectors.toList());
+    if (jobs.isEmpty()) {
+      return jobs;
+    }
+
+    final Map<Long, Job> jobsById = jobs.stream().collect(Collectors.toMap(Job::getId, job -> job));
+    ctx.fetch(ATTEMPT_SELECT + "WHERE job_id = ANY(?) ORDER BY created_at ASC, id ASC", (Object) jobsById.keySet().toArray(new Long[0]))
+        .forEach(record -> jobsById.get(record.get("job_id", Long.class)).getAttempts().add(getAttemptFromRecord(record)));
+    return jobs;
+  }
+
   @VisibleForTesting
   static Optional<Job> getJobFromResult(final Result<Record> result) {
     return getJobsFromResult(result).stream().findFirst();
@@ -599,23 +742,71 @@ public class DefaultJobPersistence implements JobPersistence {
   }
 
   @Override
-  public void purgeJobHistory() {
-    purgeJobHistory(LocalDateTime.now());
+  public Set<String> listScopesWithExcessiveJobs(final JobHistoryRetentionConfig retentionConfig) throws IOException {
+    return jobDatabase.query(ctx -> ctx.fetch("SELECT scope FROM jobs GROUP BY scope HAVING COUNT(*) > ?",
+        retentionConfig.getExcessiveJobsPerConnection()))
+        .stream()
+        .map(r -> r.get("scope", String.class))
+        .collect(Collectors.toSet());
   }
 
-  @VisibleForTesting
-  public void purgeJobHistory(final LocalDateTime asOfDate) {
-    try {
-      final String JOB_HISTORY_PURGE_SQL = MoreResources.readResource("job_history_purge.sql");
-      // interval '?' days cannot use a ? bind, so we're using %d instead.
-      final String sql = String.format(JOB_HISTORY_PURGE_SQL, (JOB_HISTORY_MINIMUM_AGE_IN_DAYS - 1));
-      final Integer rows = jobDatabase.query(ctx -> ctx.execute(sql,
-          asOfDate.format(DateTimeFormatter.ofPattern("YYYY-MM-dd")),
-          JOB_HISTORY_EXCESSIVE_NUMBER_OF_JOBS,
-          JOB_HISTORY_MINIMUM_RECENCY));
-    } catch (final IOException e) {
-      throw new RuntimeException(e);
+  @Override
+  public Set<String> listScopesWithExpiredJobs(final JobHistoryRetentionConfig retentionConfig, final LocalDateTime asOfDate)
+      throws IOException {
+    return jobDatabase.query(ctx -> ctx.fetch("SELECT DISTINCT scope FROM jobs WHERE created_at < ?",
+        expiredJobsCreatedBefore(retentionConfig, asOfDate)))
+        .stream()
+        .map(r -> r.get("scope", String.class))
+        .collect(Collectors.toSet());
+  }
+
+  @Override
+  public List<Long> listJobIdsToPurge(final JobHistoryRetentionConfig retentionConfig,
+                                      final LocalDateTime asOfDate,
+                                      final Set<String> scopesWithExcessiveJobs,
+                                      final Set<String> scopesWithExpiredJobs,
+                                      final int limit)
+      throws IOException {
+    final Set<String> scopes = Sets.union(scopesWithExcessiveJobs, scopesWithExpiredJobs);
+    if (scopes.isEmpty()) {
+      return List.of();
     }
+    final String[] scopesToRank = scopes.toArray(new String[0]);
+    final String jobHistoryPurgeSql = MoreResources.readResource("job_history_purge.sql");
+    return jobDatabase.query(ctx -> ctx.fetch(jobHistoryPurgeSql,
+        scopesToRank,
+        expiredJobsCreatedBefore(retentionConfig, asOfDate),
+        scopesWithExcessiveJobs.toArray(new String[0]),
+        retentionConfig.getMinimumJobsPerConnection(),
+        scopesToRank,
+        limit))
+        .stream()
+        .map(r -> r.get("id", Long.class))
+        .collect(Collectors.toList());
+  }
+
+  // jobs created on the day they reach the minimum age are still kept.
+  private static LocalDateTime expiredJobsCreatedBefore(final JobHistoryRetentionConfig retentionConfig, final LocalDateTime asOfDate) {
+    return asOfDate.toLocalDate().atStartOfDay().minusDays(retentionConfig.getMinimumAgeInDays() - 1);
+  }
+
+  @Override
+  public List<Path> deleteJobs(final List<Long> jobIds) throws IOException {
+    if (jobIds.isEmpty()) {
+      return List.of();
+    }
+
+    final Long[] ids = jobIds.toArray(new Long[0]);
+    return jobDatabase.transaction(ctx -> {
+      final List<Path> logPaths = ctx.fetch("DELETE FROM attempts WHERE job_id = ANY(?) RETURNING log_path", (Object) ids)
+          .stream()
+          .map(r -> r.get("log_path", String.class))
+          .filter(Objects::nonNull)
+          .map(Path::of)
+          .collect(Collectors.toList());
+      ctx.execute("DELETE FROM jobs WHERE id = ANY(?)", (Object) ids);
+      return logPaths;
+    });
   }
 
   private List<String> listAllTables(final String schema) throws IOException {
@@ -0,0 +1,36 @@
+/*
+ * Copyright (c) 2021 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.scheduler.persistence;
+
+import io.airbyte.scheduler.models.Job;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * A page of jobs listed with a cursor, see
+ * {@link JobPersistence#listJobs(java.util.Set, String, int, Optional)}.
+ */
+public class JobPage {
+
+  private final List<Job> jobs;
+  private final Optional<String> nextCursor;
+
+  public JobPage(final List<Job> jobs, final Optional<String> nextCursor) {
+    this.jobs = jobs;
+    this.nextCursor = nextCursor;
+  }
+
+  public List<Job> getJobs() {
+    return jobs;
+  }
+
+  /**
+   * @return cursor of the next page, empty if this page is not full
+   */
+  public Optional<String> getNextCursor() {
+    return nextCursor;
+  }
+
+}
@@ -7,6 +7,7 @@ package io.airbyte.scheduler.persistence;
 import com.fasterxml.jackson.databind.JsonNode;
 import io.airbyte.config.JobConfig;
 import io.airbyte.config.JobConfig.ConfigType;
+import io.airbyte.config.JobHistoryRetentionConfig;
 import io.airbyte.db.instance.jobs.JobsDatabaseSchema;
 import io.airbyte.scheduler.models.AttemptWithJobInfo;
 import io.airbyte.scheduler.models.Job;
@@ -14,6 +15,7 @@ import io.airbyte.scheduler.models.JobStatus;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.time.Instant;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -133,6 +135,18 @@ public interface JobPersistence {
    */
   List<Job> listJobs(Set<JobConfig.ConfigType> configTypes, String configId, int limit, int offset) throws IOException;
 
+  /**
+   * Same as {@link #listJobs(Set, String, int, int)}, paging with a cursor instead of an offset, so
+   * that a deep page costs as much as the first one. The cursor holds the position of the last job
+   * of the previous page, so it stays valid when that job is deleted.
+   *
+   * @param cursor next cursor of the previous page, empty for the first page
+   * @return page of jobs in descending order by created_at and id
+   * @throws IOException - what you do when you IO
+   * @throws IllegalArgumentException if the cursor was not returned by this method
+   */
+  JobPage listJobs(Set<JobConfig.ConfigType> configTypes, String configId, int limit, Optional<String> cursor) throws IOException;
+
   /**
    *
    * @param configType The type of job
@@ -152,8 +166,33 @@ public interface JobPersistence {
 
   Optional<Job> getLastReplicationJob(UUID connectionId) throws IOException;
 
+  /**
+   * Same as {@link #getLastReplicationJob(UUID)} for many connections at once, in a single query.
+   *
+   * @param connectionIds connections to look up
+   * @return last replication job of each connection that has one, keyed by connection id
+   * @throws IOException exception due to interaction with persistence
+   */
+  Map<UUID, Job> getLastReplicationJobs(Set<UUID> connectionIds) throws IOException;
+
   Optional<Job> getNextJob() throws IOException;
 
+  /**
+   * Claim the oldest pending jobs that are eligible to run, following the same rules as
+   * {@link #getNextJob()}, and set them to RUNNING so that no other caller claims them. At most one
+   * job is claimed per scope. Concurrent calls never claim the same job.
+   * <p>
+   * A claimed job has no attempt until it starts running, so until then it is listed as RUNNING
+   * without any attempt. Claiming does not record which scheduler claimed the job: the claims are
+   * safe between concurrent callers, but a job claimed by a scheduler that stopped stays RUNNING
+   * until a scheduler starts and cleans up the zombie jobs.
+   *
+   * @param limit maximum number of jobs to claim
+   * @return claimed jobs, oldest first
+   * @throws IOException exception due to interaction with persistence
+   */
+  List<Job> claimNextJobs(int limit) throws IOException;
+
   /**
    * @param configType The type of job
    * @param attemptEndedAtTimestamp The timestamp after which you want the attempts
@@ -205,8 +244,56 @@ public interface JobPersistence {
   void importDatabase(String airbyteVersion, Map<JobsDatabaseSchema, Stream<JsonNode>> data) throws IOException;
 
   /**
-   * Purges job history while ensuring that the latest saved-state information is maintained.
+   * List the scopes, i.e. connections, that have an excessive number of jobs. A purge lists them
+   * once, before it deletes any job, so that deleting the jobs of a scope does not take it back under
+   * the limit halfway through the purge.
+   *
+   * @param retentionConfig retention rules
+   * @return scopes with more jobs than the excessive number of jobs per connection
+   */
+  Set<String> listScopesWithExcessiveJobs(JobHistoryRetentionConfig retentionConfig) throws IOException;
+
+  /**
+   * List the scopes, i.e. connections, that have jobs older than the minimum age. A purge lists them
+   * once, along with the scopes with excessive jobs, so that each batch only ranks the jobs of the
+   * scopes that can have jobs to purge.
+   *
+   * @param retentionConfig retention rules
+   * @param asOfDate date from which the age of the jobs is computed
+   * @return scopes with jobs older than the minimum age
+   */
+  Set<String> listScopesWithExpiredJobs(JobHistoryRetentionConfig retentionConfig, LocalDateTime asOfDate) throws IOException;
+
+  /**
+   * List the oldest jobs that are out of the job history retention. A job is out of the retention
+   * once it is older than the minimum age, or once its connection has an excessive number of jobs,
+   * unless it is one of the most recent jobs of its connection or it holds the latest saved state of
+   * its connection. A purge calls this once per batch, after it deleted the previous batch.
+   *
+   * @param retentionConfig retention rules
+   * @param asOfDate date from which the age of the jobs is computed
+   * @param scopesWithExcessiveJobs scopes listed by
+   *        {@link #listScopesWithExcessiveJobs(JobHistoryRetentionConfig)} when the purge started
+   * @param scopesWithExpiredJobs scopes listed by
+   *        {@link #listScopesWithExpiredJobs(JobHistoryRetentionConfig, LocalDateTime)} when the purge
+   *        started, the jobs of the other scopes are not purged
+   * @param limit maximum number of job ids to return
+   * @return ids of the jobs to purge, oldest first
+   */
+  List<Long> listJobIdsToPurge(JobHistoryRetentionConfig retentionConfig,
+                               LocalDateTime asOfDate,
+                               Set<String> scopesWithExcessiveJobs,
+                               Set<String> scopesWithExpiredJobs,
+                               int limit)
+      throws IOException;
+
+  /**
+   * Delete jobs and their attempts in one transaction. Callers should keep the number of jobs small,
+   * to keep the transaction short.
+   *
+   * @param jobIds ids of the jobs to delete
+   * @return log paths of the deleted attempts
    */
-  void purgeJobHistory();
+  List<Path> deleteJobs(List<Long> jobIds) throws IOException;
 
 }
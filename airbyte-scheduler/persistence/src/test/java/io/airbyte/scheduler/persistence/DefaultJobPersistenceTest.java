@@ -24,6 +24,7 @@ import io.airbyte.commons.text.Sqls;
 import io.airbyte.config.JobConfig;
 import io.airbyte.config.JobConfig.ConfigType;
 import io.airbyte.config.JobGetSpecConfig;
+import io.airbyte.config.JobHistoryRetentionConfig;
 import io.airbyte.config.JobOutput;
 import io.airbyte.config.JobSyncConfig;
 import io.airbyte.db.Database;
@@ -39,18 +40,23 @@ import io.airbyte.validation.json.JsonValidationException;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.sql.SQLException;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -164,7 +170,7 @@ class DefaultJobPersistenceTest {
     timeSupplier = mock(Supplier.class);
     when(timeSupplier.get()).thenReturn(NOW);
 
-    jobPersistence = new DefaultJobPersistence(jobDatabase, timeSupplier, 30, 500, 10);
+    jobPersistence = new DefaultJobPersistence(jobDatabase, timeSupplier);
   }
 
   @AfterEach
@@ -315,7 +321,7 @@ class DefaultJobPersistenceTest {
     final Instant now = Instant.parse("2021-01-01T00:00:00Z");
     final Supplier<Instant> timeSupplier = incrementingSecondSupplier(now);
 
-    jobPersistence = new DefaultJobPersistence(jobDatabase, timeSupplier, 30, 500, 10);
+    jobPersistence = new DefaultJobPersistence(jobDatabase, timeSupplier);
     final long syncJobId = jobPersistence.enqueueJob(SCOPE, SYNC_JOB_CONFIG).orElseThrow();
     final int syncJobAttemptNumber0 = jobPersistence.createAttempt(syncJobId, LOG_PATH);
     jobPersistence.failAttempt(syncJobId, syncJobAttemptNumber0);
@@ -380,7 +386,7 @@ class DefaultJobPersistenceTest {
   void testListAttemptsWithJobInfo() throws IOException {
     final Instant now = Instant.parse("2021-01-01T00:00:00Z");
     final Supplier<Instant> timeSupplier = incrementingSecondSupplier(now);
-    jobPersistence = new DefaultJobPersistence(jobDatabase, timeSupplier, 30, 500, 10);
+    jobPersistence = new DefaultJobPersistence(jobDatabase, timeSupplier);
 
     final long job1 = jobPersistence.enqueueJob(SCOPE + "-1", SYNC_JOB_CONFIG).orElseThrow();
     final long job2 = jobPersistence.enqueueJob(SCOPE + "-2", SYNC_JOB_CONFIG).orElseThrow();
@@ -769,6 +775,47 @@ class DefaultJobPersistenceTest {
       assertEquals(Optional.of(expected), actual);
     }
 
+    @Test
+    @DisplayName("Should return the job with the highest id if several were created at the same time")
+    public void testGetLastSyncJobForConnectionIdSameCreatedAt() throws IOException {
+      final long jobId1 = jobPersistence.enqueueJob(SCOPE, SYNC_JOB_CONFIG).orElseThrow();
+      jobPersistence.succeedAttempt(jobId1, jobPersistence.createAttempt(jobId1, LOG_PATH));
+      final long jobId2 = jobPersistence.enqueueJob(SCOPE, SYNC_JOB_CONFIG).orElseThrow();
+
+      final Optional<Job> actual = jobPersistence.getLastReplicationJob(CONNECTION_ID);
+      final Job expected = createJob(jobId2, SYNC_JOB_CONFIG, JobStatus.PENDING, Collections.emptyList(), NOW.getEpochSecond());
+
+      assertEquals(Optional.of(expected), actual);
+      assertEquals(Map.of(CONNECTION_ID, expected), jobPersistence.getLastReplicationJobs(Set.of(CONNECTION_ID)));
+    }
+
+    @Test
+    @DisplayName("Should return the last job of each connection in one lookup")
+    public void testGetLastSyncJobsForConnectionIds() throws IOException {
+      final UUID otherConnectionId = UUID.randomUUID();
+      final UUID connectionWithoutJobId = UUID.randomUUID();
+      final long jobId1 = jobPersistence.enqueueJob(SCOPE, SYNC_JOB_CONFIG).orElseThrow();
+      jobPersistence.succeedAttempt(jobId1, jobPersistence.createAttempt(jobId1, LOG_PATH));
+      final long otherJobId = jobPersistence.enqueueJob(otherConnectionId.toString(), SYNC_JOB_CONFIG).orElseThrow();
+      jobPersistence.succeedAttempt(otherJobId, jobPersistence.createAttempt(otherJobId, LOG_PATH));
+
+      final Instant afterNow = NOW.plusSeconds(1000);
+      when(timeSupplier.get()).thenReturn(afterNow);
+      final long jobId2 = jobPersistence.enqueueJob(SCOPE, SYNC_JOB_CONFIG).orElseThrow();
+      // cancelled jobs are skipped, as for a single connection.
+      final long cancelledJobId = jobPersistence.enqueueJob(otherConnectionId.toString(), SYNC_JOB_CONFIG).orElseThrow();
+      jobPersistence.cancelJob(cancelledJobId);
+
+      final Map<UUID, Job> actual = jobPersistence.getLastReplicationJobs(Set.of(CONNECTION_ID, otherConnectionId, connectionWithoutJobId));
+
+      final Map<UUID, Job> expected = Map.of(
+          CONNECTION_ID, createJob(jobId2, SYNC_JOB_CONFIG, JobStatus.PENDING, Collections.emptyList(), afterNow.getEpochSecond()),
+          otherConnectionId, createJob(otherJobId, SYNC_JOB_CONFIG, JobStatus.SUCCEEDED,
+              List.of(createAttempt(0L, otherJobId, AttemptStatus.SUCCEEDED, LOG_PATH)), NOW.getEpochSecond(), otherConnectionId.toString()));
+      assertEquals(expected, actual);
+      assertEquals(Map.of(), jobPersistence.getLastReplicationJobs(Set.of()));
+    }
+
   }
 
   @Nested
@@ -905,6 +952,74 @@ class DefaultJobPersistenceTest {
 
   }
 
+  @Nested
+  @DisplayName("When claiming next jobs")
+  class ClaimNextJobs {
+
+    @Test
+    @DisplayName("Should claim the oldest pending job of each scope in a single call")
+    public void testClaimOldestPendingJobPerScope() throws IOException {
+      final long jobId = createJobAt(NOW);
+      createJobAt(NOW.plusSeconds(1000));
+      when(timeSupplier.get()).thenReturn(NOW.plusSeconds(2000));
+      final long otherJobId = jobPersistence.enqueueJob(SPEC_SCOPE, SPEC_JOB_CONFIG).orElseThrow();
+
+      final List<Job> actual = jobPersistence.claimNextJobs(10);
+
+      assertEquals(List.of(jobId, otherJobId), actual.stream().map(Job::getId).collect(Collectors.toList()));
+      assertEquals(JobStatus.RUNNING, jobPersistence.getJob(jobId).getStatus());
+      assertEquals(JobStatus.RUNNING, jobPersistence.getJob(otherJobId).getStatus());
+      // the remaining job of the scope waits until the claimed one is done.
+      assertTrue(jobPersistence.claimNextJobs(10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should claim at most the requested number of jobs")
+    public void testClaimUpToLimit() throws IOException {
+      final long jobId = jobPersistence.enqueueJob(SPEC_SCOPE, SPEC_JOB_CONFIG).orElseThrow();
+      final long jobId2 = jobPersistence.enqueueJob(CHECK_SCOPE, CHECK_JOB_CONFIG).orElseThrow();
+
+      assertTrue(jobPersistence.claimNextJobs(0).isEmpty());
+      assertEquals(List.of(jobId), jobPersistence.claimNextJobs(1).stream().map(Job::getId).collect(Collectors.toList()));
+      assertEquals(List.of(jobId2), jobPersistence.claimNextJobs(1).stream().map(Job::getId).collect(Collectors.toList()));
+    }
+
+    @Test
+    @DisplayName("Should not claim a pending job if a job with same scope is incomplete")
+    public void testClaimSkipsScopeWithIncompleteJob() throws IOException {
+      final long jobId = createJobAt(NOW.minusSeconds(1000));
+      jobPersistence.failAttempt(jobId, jobPersistence.createAttempt(jobId, LOG_PATH));
+      createJobAt(NOW);
+
+      assertTrue(jobPersistence.claimNextJobs(10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should hand each job to a single claimer when claiming concurrently")
+    public void testConcurrentClaimsDoNotOverlap() throws Exception {
+      final Set<Long> jobIds = new HashSet<>();
+      for (int i = 0; i < 40; i++) {
+        jobIds.add(jobPersistence.enqueueJob(UUID.randomUUID().toString(), SYNC_JOB_CONFIG).orElseThrow());
+      }
+
+      final ExecutorService executor = Executors.newFixedThreadPool(4);
+      final List<Future<List<Job>>> claims = new ArrayList<>();
+      for (int i = 0; i < 4; i++) {
+        final JobPersistence claimer = new DefaultJobPersistence(jobDatabase, timeSupplier);
+        claims.add(executor.submit(() -> claimer.claimNextJobs(40)));
+      }
+      final List<Long> claimedIds = new ArrayList<>();
+      for (final Future<List<Job>> claim : claims) {
+        claim.get().forEach(job -> claimedIds.add(job.getId()));
+      }
+      executor.shutdown();
+
+      assertEquals(jobIds.size(), claimedIds.size());
+      assertEquals(jobIds, new HashSet<>(claimedIds));
+    }
+
+  }
+
   @Nested
   @DisplayName("When listing jobs, use paged results")
   class ListJobs {
@@ -943,6 +1058,62 @@ class DefaultJobPersistenceTest {
       }
     }
 
+    @Test
+    @DisplayName("Should walk through every job once when paging with a cursor")
+    public void testListJobsByCursor() throws IOException {
+      final List<Long> ids = new ArrayList<Long>();
+      for (int i = 0; i < 25; i++) {
+        // several jobs are created in the same second, and jobs created at the same time are ordered by id.
+        when(timeSupplier.get()).thenReturn(NOW.plusMillis(100 * (i / 2)));
+        final long jobId = jobPersistence.enqueueJob(CONNECTION_ID.toString(), SPEC_JOB_CONFIG).orElseThrow();
+        jobPersistence.failAttempt(jobId, jobPersistence.createAttempt(jobId, LOG_PATH));
+        ids.add(0, jobId);
+      }
+      final int pagesize = 10;
+
+      final List<Long> actualIds = new ArrayList<>();
+      Optional<String> cursor = Optional.empty();
+      do {
+        final JobPage page = jobPersistence.listJobs(Set.of(SPEC_JOB_CONFIG.getConfigType()), CONNECTION_ID.toString(), pagesize, cursor);
+        page.getJobs().forEach(job -> {
+          assertEquals(1, job.getAttemptsCount());
+          actualIds.add(job.getId());
+        });
+        cursor = page.getNextCursor();
+      } while (cursor.isPresent());
+
+      assertEquals(ids, actualIds);
+    }
+
+    @Test
+    @DisplayName("Should continue after the cursor position when the last job of the page was deleted")
+    public void testListJobsByCursorAfterDeletedJob() throws IOException {
+      final List<Long> ids = new ArrayList<Long>();
+      for (int i = 0; i < 4; i++) {
+        when(timeSupplier.get()).thenReturn(NOW.plusSeconds(i));
+        ids.add(0, jobPersistence.enqueueJob(CONNECTION_ID.toString(), SPEC_JOB_CONFIG).orElseThrow());
+      }
+      final Set<ConfigType> configTypes = Set.of(SPEC_JOB_CONFIG.getConfigType());
+
+      final JobPage firstPage = jobPersistence.listJobs(configTypes, CONNECTION_ID.toString(), 2, Optional.empty());
+      assertEquals(ids.subList(0, 2), firstPage.getJobs().stream().map(Job::getId).collect(Collectors.toList()));
+      jobPersistence.deleteJobs(List.of(ids.get(1)));
+
+      final JobPage secondPage = jobPersistence.listJobs(configTypes, CONNECTION_ID.toString(), 2, firstPage.getNextCursor());
+      assertEquals(ids.subList(2, 4), secondPage.getJobs().stream().map(Job::getId).collect(Collectors.toList()));
+    }
+
+    @Test
+    @DisplayName("Should reject a cursor that it did not return")
+    public void testListJobsByInvalidCursor() {
+      final Set<ConfigType> configTypes = Set.of(SPEC_JOB_CONFIG.getConfigType());
+
+      assertThrows(IllegalArgumentException.class,
+          () -> jobPersistence.listJobs(configTypes, CONNECTION_ID.toString(), 2, Optional.of("not a cursor")));
+      assertThrows(IllegalArgumentException.class,
+          () -> jobPersistence.listJobs(configTypes, CONNECTION_ID.toString(), 2, Optional.of("123")));
+    }
+
     @Test
     @DisplayName("Should list all jobs")
     public void testListJobs() throws IOException {
@@ -1173,8 +1344,8 @@ class DefaultJobPersistenceTest {
     }
 
     /**
-     * Testing job history deletion is sensitive to exactly how the constants are configured for
-     * controlling deletion logic. Thus, the test case injects overrides for those constants, testing a
+     * Testing job history deletion is sensitive to exactly how the retention is configured for
+     * controlling deletion logic. Thus, the test case injects its own retention config, testing a
      * comprehensive set of combinations to make sure that the logic is robust to reasonable
      * configurations. Extreme configurations such as zero-day retention period are not covered.
      *
@@ -1197,11 +1368,11 @@ class DefaultJobPersistenceTest {
      *
      * @param numJobs How many test jobs to generate; make this enough that all other parameters are
      *        fully included, for predictable results.
-     * @param tooManyJobs Takes the place of DefaultJobPersistence.JOB_HISTORY_EXCESSIVE_NUMBER_OF_JOBS
+     * @param tooManyJobs Takes the place of JobHistoryRetentionConfig#getExcessiveJobsPerConnection
      *        - how many jobs are needed before it ignores date-based age of job when doing deletions.
-     * @param ageCutoff Takes the place of DefaultJobPersistence.JOB_HISTORY_MINIMUM_AGE_IN_DAYS -
+     * @param ageCutoff Takes the place of JobHistoryRetentionConfig#getMinimumAgeInDays -
      *        retention period in days for the most recent jobs; older than this gets deleted.
-     * @param recencyCutoff Takes the place of DefaultJobPersistence.JOB_HISTORY_MINIMUM_RECENCY -
+     * @param recencyCutoff Takes the place of JobHistoryRetentionConfig#getMinimumJobsPerConnection -
      *        retention period in number of jobs; at least this many jobs will be retained after
      *        deletion (provided enough existed in the first place).
      * @param lastStatePosition How far back in the list is the job with the latest saved state. This
@@ -1240,9 +1411,9 @@ class DefaultJobPersistenceTest {
       // Decoys - these jobs will help mess up bad sql queries, even though they shouldn't be deleted.
       final String DECOY_SCOPE = UUID.randomUUID().toString();
 
-      // Reconfigure constants to test various combinations of tuning knobs and make sure all work.
-      final DefaultJobPersistence jobPersistence =
-          new DefaultJobPersistence(jobDatabase, timeSupplier, ageCutoff, tooManyJobs, recencyCutoff);
+      // Configure the retention to test various combinations of tuning knobs and make sure all work.
+      final JobHistoryRetentionConfig retentionConfig =
+          new JobHistoryRetentionConfig(ageCutoff, recencyCutoff, tooManyJobs, 7, Duration.ofMinutes(10));
 
       final LocalDateTime fakeNow = LocalDateTime.of(2021, 6, 20, 0, 0);
 
@@ -1269,8 +1440,16 @@ class DefaultJobPersistenceTest {
       assertTrue(lastJobWithState.getAttempts().get(0).getOutput() != null,
           goalOfTestScenario + " - missing saved state on job that was supposed to have it.");
 
-      // Execute the job history purge and check what jobs are left.
-      ((DefaultJobPersistence) jobPersistence).purgeJobHistory(fakeNow);
+      // Execute the job history purge in several batches and check what jobs are left.
+      final Set<String> scopesWithExcessiveJobs = jobPersistence.listScopesWithExcessiveJobs(retentionConfig);
+      final Set<String> scopesWithExpiredJobs = jobPersistence.listScopesWithExpiredJobs(retentionConfig, fakeNow);
+      List<Long> batch;
+      do {
+        batch = jobPersistence.listJobIdsToPurge(retentionConfig, fakeNow, scopesWithExcessiveJobs, scopesWithExpiredJobs,
+            retentionConfig.getPurgeBatchSize());
+        assertTrue(batch.size() <= retentionConfig.getPurgeBatchSize());
+        jobPersistence.deleteJobs(batch);
+      } while (!batch.isEmpty());
       final List<Job> afterPurge = jobPersistence.listJobs(ConfigType.SYNC, CURRENT_SCOPE, 9999, 0);
 
       // Test - contains expected number of jobs and no more than that
@@ -1285,6 +1464,24 @@ class DefaultJobPersistenceTest {
       assertTrue(afterPurge.contains(lastJobWithState), goalOfTestScenario + " - Missing last job with saved state after deletion.");
     }
 
+    @Test
+    @DisplayName("Should delete the attempts of the deleted jobs and return their log paths")
+    void testDeleteJobs() throws IOException, SQLException {
+      final long jobId = jobPersistence.enqueueJob(SCOPE, SPEC_JOB_CONFIG).orElseThrow();
+      jobPersistence.failAttempt(jobId, jobPersistence.createAttempt(jobId, LOG_PATH));
+      jobPersistence.createAttempt(jobId, LOG_PATH.resolve("1"));
+      final long keptJobId = jobPersistence.enqueueJob(CHECK_SCOPE, CHECK_JOB_CONFIG).orElseThrow();
+      jobPersistence.createAttempt(keptJobId, LOG_PATH.resolve("2"));
+
+      final List<Path> logPaths = jobPersistence.deleteJobs(List.of(jobId));
+
+      assertEquals(Set.of(LOG_PATH, LOG_PATH.resolve("1")), new HashSet<>(logPaths));
+      assertEquals(0, jobDatabase.query(ctx -> ctx.fetchCount(JOBS, JOBS.ID.eq(jobId))));
+      assertEquals(0, jobDatabase.query(ctx -> ctx.fetchCount(ATTEMPTS, ATTEMPTS.JOB_ID.eq(jobId))));
+      assertEquals(1, jobPersistence.getJob(keptJobId).getAttemptsCount());
+      assertEquals(List.of(), jobPersistence.deleteJobs(List.of()));
+    }
+
     private Job addStateToJob(final Job job) throws IOException, SQLException {
       persistAttemptForJobHistoryTesting(job, LOG_PATH.toString(),
           LocalDateTime.ofEpochSecond(job.getCreatedAtInSecond(), 0, ZoneOffset.UTC), true);
@@ -10,16 +10,20 @@ import io.airbyte.api.model.JobInfoRead;
 import io.airbyte.api.model.JobListRequestBody;
 import io.airbyte.api.model.JobReadList;
 import io.airbyte.api.model.JobWithAttemptsRead;
+import io.airbyte.api.model.Pagination;
 import io.airbyte.commons.enums.Enums;
 import io.airbyte.config.Configs.WorkerEnvironment;
 import io.airbyte.config.JobConfig;
 import io.airbyte.config.JobConfig.ConfigType;
 import io.airbyte.config.helpers.LogConfigs;
 import io.airbyte.scheduler.models.Job;
+import io.airbyte.scheduler.persistence.JobPage;
 import io.airbyte.scheduler.persistence.JobPersistence;
 import io.airbyte.server.converters.JobConverter;
+import io.airbyte.server.errors.BadObjectSchemaKnownException;
 import java.io.IOException;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -44,16 +48,30 @@ public class JobHistoryHandler {
         .map(type -> Enums.convertTo(type, JobConfig.ConfigType.class))
         .collect(Collectors.toSet());
     final String configId = request.getConfigId();
+    final Pagination pagination = request.getPagination();
+    final int pageSize = (pagination != null && pagination.getPageSize() != null) ? pagination.getPageSize() : DEFAULT_PAGE_SIZE;
 
-    final List<JobWithAttemptsRead> jobReads = jobPersistence.listJobs(configTypes,
-        configId,
-        (request.getPagination() != null && request.getPagination().getPageSize() != null) ? request.getPagination().getPageSize()
-            : DEFAULT_PAGE_SIZE,
-        (request.getPagination() != null && request.getPagination().getRowOffset() != null) ? request.getPagination().getRowOffset() : 0)
+    // a row offset is still honored when no cursor is given, for clients that page by offset.
+    if (pagination != null && pagination.getCursor() == null && pagination.getRowOffset() != null) {
+      return new JobReadList().jobs(toJobReads(jobPersistence.listJobs(configTypes, configId, pageSize, pagination.getRowOffset())));
+    }
+
+    final JobPage page;
+    try {
+      page = jobPersistence.listJobs(configTypes, configId, pageSize, Optional.ofNullable(pagination).map(Pagination::getCursor));
+    } catch (final IllegalArgumentException e) {
+      throw new BadObjectSchemaKnownException(String.format("Invalid pagination cursor: %s", pagination.getCursor()), e);
+    }
+    return new JobReadList()
+        .jobs(toJobReads(page.getJobs()))
+        .nextCursor(page.getNextCursor().orElse(null));
+  }
+
+  private List<JobWithAttemptsRead> toJobReads(final List<Job> jobs) {
+    return jobs
         .stream()
         .map(attempt -> jobConverter.getJobWithAttemptsRead(attempt))
         .collect(Collectors.toList());
-    return new JobReadList().jobs(jobReads);
   }
 
   public JobInfoRead getJobInfo(final JobIdRequestBody jobIdRequestBody) throws IOException {
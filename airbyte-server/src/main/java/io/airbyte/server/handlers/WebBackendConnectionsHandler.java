@@ -29,6 +29,7 @@ import io.airbyte.api.model.JobWithAttemptsRead;
 import io.airbyte.api.model.OperationCreate;
 import io.airbyte.api.model.OperationReadList;
 import io.airbyte.api.model.OperationUpdate;
+import io.airbyte.api.model.Pagination;
 import io.airbyte.api.model.SourceDiscoverSchemaRead;
 import io.airbyte.api.model.SourceIdRequestBody;
 import io.airbyte.api.model.SourceRead;
@@ -154,7 +155,9 @@ public class WebBackendConnectionsHandler {
   private JobReadList getSyncJobs(final ConnectionRead connectionRead) throws IOException {
     final JobListRequestBody jobListRequestBody = new JobListRequestBody()
         .configId(connectionRead.getConnectionId().toString())
-        .configTypes(Collections.singletonList(JobConfigType.SYNC));
+        .configTypes(Collections.singletonList(JobConfigType.SYNC))
+        // only one sync job of a connection can be running, and it is the latest one.
+        .pagination(new Pagination().pageSize(1));
     return jobHistoryHandler.listJobsFor(jobListRequestBody);
   }
 
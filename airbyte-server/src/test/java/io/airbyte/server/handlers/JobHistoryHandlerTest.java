@@ -5,6 +5,8 @@
 package io.airbyte.server.handlers;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -31,12 +33,15 @@ import io.airbyte.scheduler.models.Attempt;
 import io.airbyte.scheduler.models.AttemptStatus;
 import io.airbyte.scheduler.models.Job;
 import io.airbyte.scheduler.models.JobStatus;
+import io.airbyte.scheduler.persistence.JobPage;
 import io.airbyte.scheduler.persistence.JobPersistence;
+import io.airbyte.server.errors.BadObjectSchemaKnownException;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -182,6 +187,52 @@ public class JobHistoryHandlerTest {
       assertEquals(expectedJobReadList, jobReadList);
     }
 
+    @Test
+    @DisplayName("Should page with the cursor returned by the previous page")
+    public void testListJobsWithCursor() throws IOException {
+      final Set<ConfigType> configTypes = Set.of(Enums.convertTo(CONFIG_TYPE_FOR_API, ConfigType.class));
+      final var olderJobId = JOB_ID - 100;
+      final var olderJob = new Job(olderJobId, JOB_CONFIG.getConfigType(), JOB_CONFIG_ID, JOB_CONFIG, Collections.emptyList(), JobStatus.FAILED,
+          null, CREATED_AT - 1000, CREATED_AT - 1000);
+
+      when(jobPersistence.listJobs(configTypes, JOB_CONFIG_ID, 1, Optional.empty()))
+          .thenReturn(new JobPage(List.of(testJob), Optional.of("first-cursor")));
+      when(jobPersistence.listJobs(configTypes, JOB_CONFIG_ID, 1, Optional.of("first-cursor")))
+          .thenReturn(new JobPage(List.of(olderJob), Optional.of("second-cursor")));
+      when(jobPersistence.listJobs(configTypes, JOB_CONFIG_ID, 1, Optional.of("second-cursor")))
+          .thenReturn(new JobPage(List.of(), Optional.empty()));
+
+      final var requestBody = new JobListRequestBody()
+          .configTypes(Collections.singletonList(CONFIG_TYPE_FOR_API))
+          .configId(JOB_CONFIG_ID)
+          .pagination(new Pagination().pageSize(1));
+      final JobReadList firstPage = jobHistoryHandler.listJobsFor(requestBody);
+      assertEquals(List.of(JOB_ID), firstPage.getJobs().stream().map(job -> job.getJob().getId()).collect(Collectors.toList()));
+
+      requestBody.getPagination().cursor(firstPage.getNextCursor());
+      final JobReadList secondPage = jobHistoryHandler.listJobsFor(requestBody);
+      assertEquals(List.of(olderJobId), secondPage.getJobs().stream().map(job -> job.getJob().getId()).collect(Collectors.toList()));
+
+      requestBody.getPagination().cursor(secondPage.getNextCursor());
+      final JobReadList lastPage = jobHistoryHandler.listJobsFor(requestBody);
+      assertTrue(lastPage.getJobs().isEmpty());
+      assertNull(lastPage.getNextCursor());
+    }
+
+    @Test
+    @DisplayName("Should reject a malformed cursor")
+    public void testListJobsWithInvalidCursor() throws IOException {
+      final Set<ConfigType> configTypes = Set.of(Enums.convertTo(CONFIG_TYPE_FOR_API, ConfigType.class));
+      when(jobPersistence.listJobs(configTypes, JOB_CONFIG_ID, JobHistoryHandler.DEFAULT_PAGE_SIZE, Optional.of("not-a-cursor")))
+          .thenThrow(new IllegalArgumentException("Invalid job cursor: not-a-cursor"));
+      final var requestBody = new JobListRequestBody()
+          .configTypes(Collections.singletonList(CONFIG_TYPE_FOR_API))
+          .configId(JOB_CONFIG_ID)
+          .pagination(new Pagination().cursor("not-a-cursor"));
+
+      assertThrows(BadObjectSchemaKnownException.class, () -> jobHistoryHandler.listJobsFor(requestBody));
+    }
+
   }
 
   @Test
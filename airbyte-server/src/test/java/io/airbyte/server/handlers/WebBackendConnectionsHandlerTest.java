@@ -39,6 +39,7 @@ import io.airbyte.api.model.NamespaceDefinitionType;
 import io.airbyte.api.model.OperationRead;
 import io.airbyte.api.model.OperationReadList;
 import io.airbyte.api.model.OperationUpdate;
+import io.airbyte.api.model.Pagination;
 import io.airbyte.api.model.ResourceRequirements;
 import io.airbyte.api.model.SourceDiscoverSchemaRead;
 import io.airbyte.api.model.SourceIdRequestBody;
@@ -152,6 +153,7 @@ class WebBackendConnectionsHandlerTest {
     final JobListRequestBody jobListRequestBody = new JobListRequestBody();
     jobListRequestBody.setConfigTypes(Collections.singletonList(JobConfigType.SYNC));
     jobListRequestBody.setConfigId(connectionRead.getConnectionId().toString());
+    jobListRequestBody.setPagination(new Pagination().pageSize(1));
     when(jobHistoryHandler.listJobsFor(jobListRequestBody)).thenReturn(jobReadList);
 
     expected = new WebBackendConnectionRead()